@@ -0,0 +1,120 @@
+#!/bin/bash
+
+# 🔎 Vérification des plans d'exécution des requêtes chaudes
+# Auteur: Halmaoui Abdellah
+# Date: Novembre 2025
+#
+# Lance EXPLAIN sur la forme SQL de chaque requête des DAO (variantes A, F)
+# et des repositories (variantes C, D, E) et vérifie qu'elle utilise l'index
+# attendu (migrations db/migration), sans parcours séquentiel de la table item.
+# Code de retour 1 si un plan ne correspond pas.
+#
+# À lancer sur le jeu de données généré (100 000 items) : sur quelques
+# dizaines de lignes, PostgreSQL préfère à juste titre un parcours séquentiel.
+#
+# Usage: ./explain_hot_queries.sh
+# Variables: PSQL (défaut "psql -h localhost -U postgres -d benchmark_db"),
+#            PGPASSWORD (défaut postgres), CATEGORY_ID (défaut : une catégorie
+#            non vide), ANALYZE=1 pour afficher EXPLAIN (ANALYZE, BUFFERS)
+
+# Couleurs
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+PSQL="${PSQL:-psql -h localhost -U postgres -d benchmark_db}"
+export PGPASSWORD="${PGPASSWORD:-postgres}"
+FAILURES=0
+
+sql() {
+    $PSQL -X -q -A -t -c "$1"
+}
+
+echo "🔎 PLANS D'EXÉCUTION DES REQUÊTES CHAUDES"
+echo "========================================="
+
+if ! sql "SELECT 1" > /dev/null; then
+    echo -e "${RED}❌ Base non accessible ($PSQL)${NC}"
+    exit 1
+fi
+CATEGORY_ID="${CATEGORY_ID:-$(sql "SELECT category_id FROM item LIMIT 1")}"
+echo "   $(sql "SELECT count(*) FROM item") items, catégorie testée : $CATEGORY_ID"
+echo ""
+
+# Vérifie qu'une requête utilise l'index attendu
+#   $1 : libellé, $2 : index attendu, $3 : requête
+check() {
+    local plan
+    plan=$(sql "EXPLAIN $1" 2>&1)
+    if grep -q "Seq Scan on item" <<< "$plan" || ! grep -q "$2" <<< "$plan"; then
+        echo -e "${RED}❌ $3${NC} (attendu : $2)"
+        sed 's/^/      /' <<< "$plan"
+        FAILURES=$((FAILURES + 1))
+    else
+        echo -e "${GREEN}✅ $3${NC} → $(grep -o "Index[A-Za-z ]* Scan[A-Za-z ]* using [a-z_]*" <<< "$plan" | head -1)"
+    fi
+    if [ "${ANALYZE:-0}" = "1" ]; then
+        sql "EXPLAIN (ANALYZE, BUFFERS) $1" | sed 's/^/      /'
+    fi
+}
+
+C=$CATEGORY_ID
+
+echo "📂 Par catégorie"
+check "SELECT i.*, c.* FROM item i JOIN category c ON c.id = i.category_id WHERE i.category_id = $C ORDER BY i.id OFFSET 0 ROWS FETCH FIRST 10 ROWS ONLY" \
+    item_category_id_id_idx "page OFFSET (findByCategoryId)"
+check "SELECT i.*, c.* FROM item i JOIN category c ON c.id = i.category_id WHERE i.category_id = $C AND i.id > 0 ORDER BY i.id FETCH FIRST 10 ROWS ONLY" \
+    item_category_id_id_idx "page keyset (findByCategoryIdAfter)"
+check "SELECT count(i.id) FROM item i WHERE i.category_id = $C" \
+    item_category_id_id_idx "comptage (countByCategoryId)"
+check "SELECT i.id, i.updated_at FROM item i WHERE i.category_id = $C ORDER BY i.id OFFSET 0 ROWS FETCH FIRST 10 ROWS ONLY" \
+    "Index Only Scan using item_category_id_id_idx" "sondes de version (findVersionsByCategoryId)"
+check "DELETE FROM item WHERE category_id = $C" \
+    item_category_id_id_idx "suppression des items d'une catégorie"
+
+echo ""
+echo "📄 Pages globales"
+check "SELECT i.* FROM item i ORDER BY i.id OFFSET 1000 ROWS FETCH FIRST 10 ROWS ONLY" \
+    "Index" "page OFFSET (findAll / findSliceBy)"
+check "SELECT i.* FROM item i WHERE i.id > 1000 ORDER BY i.id FETCH FIRST 10 ROWS ONLY" \
+    "Index" "page keyset (findAllAfter)"
+check "SELECT i.id, i.updated_at FROM item i ORDER BY i.id OFFSET 1000 ROWS FETCH FIRST 10 ROWS ONLY" \
+    "Index Only Scan using item_id_updated_at_idx" "sondes de version (findVersionsBy)"
+check "SELECT i.* FROM item i ORDER BY i.price, i.id FETCH FIRST 10 ROWS ONLY" \
+    item_price_id_idx "tri par prix"
+check "SELECT i.* FROM item i ORDER BY i.updated_at DESC, i.id DESC FETCH FIRST 10 ROWS ONLY" \
+    item_updated_at_id_idx "tri par date de mise à jour"
+check "SELECT i.* FROM item i ORDER BY i.stock DESC, i.id DESC FETCH FIRST 10 ROWS ONLY" \
+    item_stock_id_idx "tri par stock"
+check "SELECT i.* FROM item i WHERE i.price >= 100 AND i.price <= 200 ORDER BY i.price, i.id OFFSET 0 ROWS FETCH FIRST 11 ROWS ONLY" \
+    item_price_id_idx "recherche par prix, triée"
+check "SELECT i.* FROM item i WHERE i.stock > 0 ORDER BY i.updated_at DESC, i.id DESC OFFSET 0 ROWS FETCH FIRST 11 ROWS ONLY" \
+    item_updated_at_id_idx "recherche en stock, plus récents"
+
+echo ""
+echo "🔎 Recherche plein texte"
+check "SELECT i.id, ts_rank(i.search_vector, q) FROM item i, websearch_to_tsquery('english', 'leather chair') q WHERE i.search_vector @@ q" \
+    item_search_vector_idx "recherche plein texte (GET /items/search)"
+
+echo ""
+echo "🔑 Accès par clé"
+check "SELECT i.*, c.* FROM item i JOIN category c ON c.id = i.category_id WHERE i.id = 42" \
+    item_pkey "item par id (findById)"
+check "SELECT i.id, i.updated_at FROM item i WHERE i.id = 42" \
+    "item_" "version par id (findVersionById)"
+check "SELECT i.*, c.* FROM item i JOIN category c ON c.id = i.category_id WHERE i.id IN (1, 2, 3, 4, 5, 6, 7, 8)" \
+    item_pkey "multi-get par id"
+check "SELECT i.*, c.* FROM item i JOIN category c ON c.id = i.category_id WHERE i.sku IN ('ITEM_1', 'ITEM_2', 'ITEM_3', 'ITEM_4')" \
+    item_sku_key "multi-get par SKU"
+
+echo ""
+echo -e "${YELLOW}ℹ️  Parcours complets attendus, non vérifiés : export (ORDER BY id sans limite),"
+echo -e "   totaux par catégorie (GROUP BY category_id), comptage global${NC}"
+echo ""
+
+if [ "$FAILURES" -gt 0 ]; then
+    echo -e "${RED}❌ $FAILURES plan(s) inattendu(s)${NC}"
+    exit 1
+fi
+echo -e "${GREEN}✅ Tous les plans utilisent l'index attendu${NC}"
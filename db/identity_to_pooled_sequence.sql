@@ -0,0 +1,38 @@
+-- =====================================================================
+-- Migration : colonnes IDENTITY -> séquences poolées (pooled-lo)
+-- =====================================================================
+-- À exécuter une fois sur une base créée avant le passage à
+-- PooledSequenceGenerator (tables item/category en GENERATED ... AS IDENTITY) :
+--
+--   psql -h localhost -U postgres -d benchmark_db -f db/identity_to_pooled_sequence.sql
+--
+-- L'INCREMENT BY des séquences doit être égal à benchmark.id.allocation_size
+-- (50 par défaut). Pour changer la taille d'allocation, modifier aussi
+-- l'incrément : ALTER SEQUENCE item_seq INCREMENT BY <n>;
+-- =====================================================================
+
+BEGIN;
+
+-- 1. Supprimer l'identité (et sa séquence implicite item_id_seq / category_id_seq)
+ALTER TABLE category ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE item ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- 2. Créer les séquences utilisées par Hibernate
+CREATE SEQUENCE IF NOT EXISTS category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE category_seq INCREMENT BY 50;
+ALTER SEQUENCE item_seq INCREMENT BY 50;
+
+-- 3. Repartir après le plus grand identifiant existant
+--    (pooled-lo : le prochain nextval est la borne basse du bloc suivant)
+SELECT setval('category_seq', COALESCE((SELECT max(id) FROM category), 0) + 1, false);
+SELECT setval('item_seq', COALESCE((SELECT max(id) FROM item), 0) + 1, false);
+
+-- 4. Les INSERT hors Hibernate (psql, COPY sans id) continuent de fonctionner :
+--    chaque ligne consomme un bloc entier, sans collision avec les blocs d'Hibernate
+ALTER TABLE category ALTER COLUMN id SET DEFAULT nextval('category_seq');
+ALTER TABLE item ALTER COLUMN id SET DEFAULT nextval('item_seq');
+ALTER SEQUENCE category_seq OWNED BY category.id;
+ALTER SEQUENCE item_seq OWNED BY item.id;
+
+COMMIT;
@@ -0,0 +1,27 @@
+-- =====================================================================
+-- V1 : tables item / category et leurs séquences poolées
+-- =====================================================================
+-- Schéma commun aux variantes A à F, identique à celui que Hibernate
+-- générait en ddl-auto=update. Sans effet sur une base existante.
+-- =====================================================================
+
+CREATE SEQUENCE IF NOT EXISTS category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS category (
+    id bigint NOT NULL PRIMARY KEY,
+    code varchar(32) NOT NULL UNIQUE,
+    name varchar(128) NOT NULL,
+    updated_at timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS item (
+    id bigint NOT NULL PRIMARY KEY,
+    sku varchar(64) NOT NULL UNIQUE,
+    name varchar(128) NOT NULL,
+    description text,
+    price numeric(10, 2) NOT NULL,
+    stock integer NOT NULL,
+    updated_at timestamp(6),
+    category_id bigint NOT NULL REFERENCES category (id)
+);
@@ -0,0 +1,22 @@
+-- =====================================================================
+-- V2 : index des requêtes chaudes
+-- =====================================================================
+-- PostgreSQL n'indexe pas les clés étrangères : sans ces index, chaque
+-- page, comptage ou suppression par catégorie parcourt toute la table item.
+-- Vérification des plans : db/explain_hot_queries.sh
+-- =====================================================================
+
+-- Pages et comptages par catégorie (WHERE category_id = ? ORDER BY id
+-- LIMIT / OFFSET, keyset id > ?, count(*)), suppression des items d'une
+-- catégorie. updated_at inclus : les sondes de version d'une page de
+-- catégorie (id, updated_at) sont servies par un parcours d'index seul.
+CREATE INDEX IF NOT EXISTS item_category_id_id_idx ON item (category_id, id) INCLUDE (updated_at);
+
+-- Sondes de version des pages globales (SELECT id, updated_at ... ORDER BY id)
+-- en parcours d'index seul, sans lecture du tas.
+CREATE UNIQUE INDEX IF NOT EXISTS item_id_updated_at_idx ON item (id) INCLUDE (updated_at);
+
+-- Tris et filtres par prix ou date de mise à jour, départagés par id pour
+-- un ordre stable et une pagination keyset.
+CREATE INDEX IF NOT EXISTS item_price_id_idx ON item (price, id);
+CREATE INDEX IF NOT EXISTS item_updated_at_id_idx ON item (updated_at, id);
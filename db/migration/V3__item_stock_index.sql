@@ -0,0 +1,9 @@
+-- =====================================================================
+-- V3 : index du tri par stock
+-- =====================================================================
+-- Recherche d'items (GET /items?sort=stock,desc, ?inStock=) : comme
+-- (price, id) et (updated_at, id), l'index livre les K premières lignes
+-- dans l'ordre demandé, sans trier toutes les lignes retenues.
+-- =====================================================================
+
+CREATE INDEX IF NOT EXISTS item_stock_id_idx ON item (stock, id);
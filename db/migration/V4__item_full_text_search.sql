@@ -0,0 +1,22 @@
+-- =====================================================================
+-- V4 : recherche plein texte des items
+-- =====================================================================
+-- GET /items/search?q= (variantes A et C). Le vecteur est une colonne
+-- générée : PostgreSQL le recalcule à chaque écriture de name ou de
+-- description, sans trigger ni code applicatif, et les entités existantes
+-- n'ont pas à le mapper (les INSERT et UPDATE ne le citent jamais).
+-- Le nom pèse plus que la description (poids A et B de ts_rank).
+-- Configuration 'english' : racinisation et mots vides anglais, la même
+-- que celle des requêtes (websearch_to_tsquery('english', ?)).
+-- L'ajout de la colonne réécrit la table : une fois, au premier démarrage.
+-- =====================================================================
+
+ALTER TABLE item ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- Index inversé : WHERE search_vector @@ requête ne lit que les items
+-- contenant les lexèmes cherchés.
+CREATE INDEX IF NOT EXISTS item_search_vector_idx ON item USING gin (search_vector);
@@ -0,0 +1,107 @@
+#!/bin/bash
+
+# 📤 Benchmark de l'export en flux GET /items/export
+# Auteur: Halmaoui Abdellah
+# Date: Novembre 2025
+#
+# Mesure le débit de l'export complet du catalogue (lignes/s, Mo/s) en NDJSON
+# et en tableau JSON, et échantillonne le tas du serveur pendant l'export :
+# avec un curseur serveur, le tas maximal doit rester du même ordre quel que
+# soit le nombre de lignes (100k ou 10M).
+#
+# Usage: ./export_benchmark.sh [BASE_URL]
+#   BASE_URL : http://localhost:8080 (A ou application de base), :8081 (C), :8082 (D)
+# Variables: RUNS (défaut 3), FORMATS (défaut "ndjson json"),
+#            METRICS_URL (défaut BASE_URL/actuator/prometheus, ou BASE_URL/metrics
+#            pour la variante A), SAMPLE_INTERVAL en secondes (défaut 0.5)
+#
+# Jeu de 10M lignes : démarrer l'application de base avec
+#   --benchmark.seed.items=10000000 (chargement COPY), ou la variante A avec
+#   -Dbenchmark.seed.items=10000000, puis lancer ce script sur chaque variante.
+
+# Couleurs
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+BASE_URL="${1:-http://localhost:8080}"
+RUNS="${RUNS:-3}"
+FORMATS="${FORMATS:-ndjson json}"
+SAMPLE_INTERVAL="${SAMPLE_INTERVAL:-0.5}"
+
+echo "📤 BENCHMARK EXPORT EN FLUX"
+echo "=========================="
+echo "   Cible : $BASE_URL/items/export ($RUNS exports par format)"
+echo ""
+
+if ! curl -s -o /dev/null "$BASE_URL/items?size=1"; then
+    echo -e "${RED}❌ Serveur non accessible sur $BASE_URL${NC}"
+    exit 1
+fi
+echo -e "${GREEN}✅ Serveur accessible${NC}"
+
+# Point de métriques Prometheus : Actuator (Spring) ou /metrics (variante A)
+if [ -z "$METRICS_URL" ]; then
+    if curl -sf -o /dev/null "$BASE_URL/actuator/prometheus"; then
+        METRICS_URL="$BASE_URL/actuator/prometheus"
+    else
+        METRICS_URL="$BASE_URL/metrics"
+    fi
+fi
+
+# Tas utilisé (octets) : somme de jvm_memory_used_bytes{area="heap"} sur tous les pools
+heap_used() {
+    curl -s "$METRICS_URL" \
+        | awk '/^jvm_memory_used_bytes\{.*area="heap"/ { sum += $NF } END { printf "%.0f\n", sum }'
+}
+
+if [ "$(heap_used)" = "0" ]; then
+    echo "⚠️  Métriques JVM indisponibles sur $METRICS_URL : le tas ne sera pas mesuré"
+    SAMPLE_HEAP=false
+else
+    echo -e "${GREEN}✅ Métriques JVM : $METRICS_URL${NC}"
+    SAMPLE_HEAP=true
+fi
+echo ""
+
+# Nombre de lignes (et chauffe) : un export NDJSON complet compté ligne à ligne
+echo "🔢 Comptage des lignes (export de chauffe)..."
+ROWS=$(curl -s "$BASE_URL/items/export?format=ndjson" | wc -l)
+echo "   $ROWS items"
+echo ""
+
+printf "%-8s %5s %12s %12s %12s %14s\n" "Format" "Run" "Durée (s)" "Lignes/s" "Mo/s" "Tas max (Mo)"
+printf "%-8s %5s %12s %12s %12s %14s\n" "------" "---" "---------" "--------" "----" "------------"
+for format in $FORMATS; do
+    for ((run = 1; run <= RUNS; run++)); do
+        samples=$(mktemp)
+        if $SAMPLE_HEAP; then
+            (while true; do heap_used >> "$samples"; sleep "$SAMPLE_INTERVAL"; done) &
+            sampler=$!
+        fi
+
+        read -r code seconds bytes < <(curl -s -o /dev/null \
+            -w '%{http_code} %{time_total} %{size_download}\n' "$BASE_URL/items/export?format=$format")
+
+        if $SAMPLE_HEAP; then
+            kill "$sampler" 2>/dev/null
+            wait "$sampler" 2>/dev/null
+            heap_mb=$(sort -n "$samples" | tail -1 | awk '{ printf "%.1f", $1 / 1048576 }')
+        else
+            heap_mb="n/a"
+        fi
+        rm -f "$samples"
+
+        if [ "$code" != "200" ]; then
+            echo -e "${RED}❌ $format : HTTP $code${NC}"
+            continue
+        fi
+        rows_per_s=$(awk -v r="$ROWS" -v s="$seconds" 'BEGIN { printf "%.0f", r / s }')
+        mb_per_s=$(awk -v b="$bytes" -v s="$seconds" 'BEGIN { printf "%.1f", b / 1048576 / s }')
+        printf "%-8s %5s %12.2f %12s %12s %14s\n" "$format" "$run" "$seconds" "$rows_per_s" "$mb_per_s" "$heap_mb"
+    done
+done
+
+echo ""
+echo -e "${BLUE}💡 Comparer le tas max entre un jeu de 100k et de 10M lignes : il doit rester stable, seul le débit compte.${NC}"
@@ -0,0 +1,129 @@
+#!/bin/bash
+
+# 🔎 Benchmark recherche plein texte (tsvector + GIN)
+# Auteur: Halmaoui Abdellah
+# Date: Novembre 2025
+#
+# Mesure la latence de GET /items/search?q= (classement, surlignage,
+# pagination keyset) côté client (curl) et, si psql est disponible, côté base
+# (Execution Time d'EXPLAIN ANALYZE sur la même requête SQL), avec le nombre
+# d'items trouvés.
+#
+# L'index GIN sur la colonne générée search_vector ne lit que les items qui
+# contiennent les mots cherchés ; tous sont ensuite classés (ts_rank), puis
+# seule la page renvoyée est surlignée (ts_headline). Le temps base croît donc
+# avec le nombre de résultats, pas avec la taille de la table. La colonne
+# « Sans index » mesure la même requête en parcours complet de la table.
+#
+# Jeu de données : 100k items (jeu par défaut des variantes A et C)
+#
+# Usage: ./fulltext_search_benchmark.sh [BASE_URL]
+#   BASE_URL : http://localhost:8080 (A) ou :8081 (C)
+# Variables: SIZE (défaut 20), RUNS (défaut 20), PSQL (défaut
+#   "psql -h localhost -U postgres -d benchmark_db"), PGPASSWORD (défaut postgres)
+
+# Couleurs
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+BASE_URL="${1:-http://localhost:8080}"
+SIZE="${SIZE:-20}"
+RUNS="${RUNS:-20}"
+PSQL="${PSQL:-psql -h localhost -U postgres -d benchmark_db}"
+export PGPASSWORD="${PGPASSWORD:-postgres}"
+
+echo "🔎 BENCHMARK RECHERCHE PLEIN TEXTE"
+echo "=================================="
+echo "   Cible : $BASE_URL/items/search (size=$SIZE, $RUNS requêtes par mesure)"
+echo ""
+
+status=$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL/items/search?q=chair&size=1")
+if [ "$status" != "200" ]; then
+    echo -e "${RED}❌ GET /items/search indisponible sur $BASE_URL (HTTP $status)${NC}"
+    exit 1
+fi
+echo -e "${GREEN}✅ Serveur accessible${NC}"
+if $PSQL -X -q -A -t -c "SELECT 1" > /dev/null 2>&1; then
+    DB=1
+    echo -e "${GREEN}✅ Base accessible : $($PSQL -X -q -A -t -c "SELECT count(*) FROM item") items${NC}"
+else
+    DB=0
+    echo "   (psql indisponible : temps base non mesurés)"
+fi
+echo ""
+
+# Latence moyenne (ms) d'une recherche sur RUNS requêtes, après 3 requêtes de chauffe
+#   $1 : texte cherché, $2 : curseur (vide pour la première page)
+average_ms() {
+    local i total=0 t
+    for i in 1 2 3; do search "$1" "$2" -o /dev/null; done
+    for ((i = 0; i < RUNS; i++)); do
+        t=$(search "$1" "$2" -o /dev/null -w '%{time_total}')
+        total=$(echo "$total + $t" | bc -l)
+    done
+    echo "scale=2; $total * 1000 / $RUNS" | bc -l
+}
+
+search() {
+    local q=$1 after=$2
+    shift 2
+    curl -s -G "$BASE_URL/items/search" --data-urlencode "q=$q" --data-urlencode "after=$after" \
+        --data "size=$SIZE" "$@"
+}
+
+# Requête SQL de l'application, le texte cherché en littéral
+search_sql() {
+    local q=${1//\'/\'\'}
+    echo "SELECT i.*, hit.rank, ts_headline('english', i.name, hit.tsq, 'StartSel=<mark>, StopSel=</mark>, HighlightAll=true'),
+        ts_headline('english', coalesce(i.description, ''), hit.tsq, 'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5')
+        FROM (SELECT id, ts_rank(search_vector, tsq) AS rank, tsq FROM item, websearch_to_tsquery('english', '$q') tsq
+              WHERE search_vector @@ tsq ORDER BY rank DESC, id DESC LIMIT $((SIZE + 1))) hit
+        JOIN item i ON i.id = hit.id ORDER BY hit.rank DESC, hit.id DESC"
+}
+
+# Temps d'exécution base (ms) d'une recherche, index GIN utilisable ou non
+#   $1 : texte cherché, $2 : 1 pour interdire l'index (parcours complet)
+db_ms() {
+    [ "$DB" = "1" ] || { echo "-"; return; }
+    local settings=""
+    [ "$2" = "1" ] && settings="SET enable_bitmapscan = off;"
+    $PSQL -X -q -A -t -c "$settings EXPLAIN (ANALYZE) $(search_sql "$1")" | grep -o 'Execution Time: [0-9.]*' | grep -o '[0-9.]*$'
+}
+
+hits() {
+    [ "$DB" = "1" ] || { echo "-"; return; }
+    local q=${1//\'/\'\'}
+    $PSQL -X -q -A -t -c "SELECT count(*) FROM item WHERE search_vector @@ websearch_to_tsquery('english', '$q')"
+}
+
+# Libellé | texte cherché
+QUERIES=(
+    "un mot du nom|chair"
+    "deux mots du nom|leather chair"
+    "expression exacte|\"bronze watch\""
+    "alternative|keyboard or lamp"
+    "exclusion|lamp -steel"
+    "mot de la description|dolor"
+    "mot racinisé (chairs)|chairs"
+    "aucun résultat|zeppelin"
+)
+
+printf "%-26s %10s %12s %12s %14s\n" "Recherche" "Résultats" "HTTP (ms)" "Base (ms)" "Sans index (ms)"
+printf "%-26s %10s %12s %12s %14s\n" "---------" "---------" "---------" "---------" "---------------"
+for entry in "${QUERIES[@]}"; do
+    IFS='|' read -r label q <<< "$entry"
+    printf "%-26s %10s %12s %12s %14s\n" "$label" "$(hits "$q")" "$(average_ms "$q" "")" \
+        "$(db_ms "$q" 0)" "$(db_ms "$q" 1)"
+done
+
+# Page suivante : même coût que la première, la base reprend après (rang, id)
+cursor=$(search "chair" "" | grep -o '"nextCursor":"[^"]*"' | cut -d'"' -f4)
+if [ -n "$cursor" ]; then
+    printf "%-26s %10s %12s\n" "chair, page 2 (curseur)" "" "$(average_ms "chair" "$cursor")"
+fi
+
+echo ""
+echo -e "${BLUE}💡 Le temps base suit le nombre de résultats (tous sont classés), pas la taille de la table ;"
+echo -e "   la colonne Sans index montre le coût d'un parcours complet avec évaluation de chaque vecteur.${NC}"
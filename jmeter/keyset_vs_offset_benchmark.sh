@@ -0,0 +1,92 @@
+#!/bin/bash
+
+# 📏 Benchmark pagination OFFSET vs keyset (curseur)
+# Auteur: Halmaoui Abdellah
+# Date: Novembre 2025
+#
+# Mesure la latence d'une page à différentes profondeurs (page 0 → 10 000)
+# en mode OFFSET (?page=N&size=S) et en mode keyset (?after=<curseur>&size=S).
+# Le mode OFFSET doit se dégrader avec la profondeur, le mode keyset rester plat.
+#
+# Usage: ./keyset_vs_offset_benchmark.sh [BASE_URL] [CHEMIN]
+#   BASE_URL : http://localhost:8080 (A), :8081 (C), :8082 (D)
+#   CHEMIN   : /items (défaut) ou /categories/1/items
+# Variables: SIZE (défaut 10), RUNS (défaut 20), PAGES (défaut "0 10 100 1000 5000 10000")
+#
+# Les identifiants sont supposés denses à partir de 1 (jeu de données généré) :
+# le curseur de la page N encode alors l'identifiant N*SIZE. Pour un chemin
+# filtré par catégorie, le curseur est obtenu en parcourant les pages.
+
+# Couleurs
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+BASE_URL="${1:-http://localhost:8080}"
+RESOURCE_PATH="${2:-/items}"
+SIZE="${SIZE:-10}"
+RUNS="${RUNS:-20}"
+PAGES="${PAGES:-0 10 100 1000 5000 10000}"
+
+echo "📏 BENCHMARK PAGINATION OFFSET vs KEYSET"
+echo "========================================"
+echo "   Cible : $BASE_URL$RESOURCE_PATH (size=$SIZE, $RUNS requêtes par mesure)"
+echo ""
+
+if ! curl -s -o /dev/null "$BASE_URL$RESOURCE_PATH?size=1"; then
+    echo -e "${RED}❌ Serveur non accessible sur $BASE_URL${NC}"
+    exit 1
+fi
+echo -e "${GREEN}✅ Serveur accessible${NC}"
+echo ""
+
+# Encode un identifiant comme le fait CursorPage (Base64 URL, sans padding)
+encode_cursor() {
+    printf '%s' "$1" | base64 | tr '+/' '-_' | tr -d '='
+}
+
+# Curseur de la page N : calculé pour /items, obtenu par parcours sinon
+cursor_for_page() {
+    local page=$1
+    if [ "$page" -eq 0 ]; then
+        echo ""
+    elif [ "$RESOURCE_PATH" = "/items" ]; then
+        encode_cursor $((page * SIZE))
+    else
+        local cursor="" i
+        for ((i = 0; i < page; i++)); do
+            cursor=$(curl -s "$BASE_URL$RESOURCE_PATH?after=$cursor&size=$SIZE" \
+                | grep -o '"nextCursor":"[^"]*"' | cut -d'"' -f4)
+            [ -z "$cursor" ] && break
+        done
+        echo "$cursor"
+    fi
+}
+
+# Latence moyenne (ms) d'une URL sur RUNS requêtes, après 3 requêtes de chauffe
+average_ms() {
+    local url=$1 i total=0 t
+    for i in 1 2 3; do curl -s -o /dev/null "$url"; done
+    for ((i = 0; i < RUNS; i++)); do
+        t=$(curl -s -o /dev/null -w '%{time_total}' "$url")
+        total=$(echo "$total + $t" | bc -l)
+    done
+    echo "scale=2; $total * 1000 / $RUNS" | bc -l
+}
+
+printf "%-10s %15s %15s\n" "Page" "OFFSET (ms)" "Keyset (ms)"
+printf "%-10s %15s %15s\n" "----" "-----------" "-----------"
+for page in $PAGES; do
+    offset_ms=$(average_ms "$BASE_URL$RESOURCE_PATH?page=$page&size=$SIZE")
+    cursor=$(cursor_for_page "$page")
+    if [ "$page" -gt 0 ] && [ -z "$cursor" ]; then
+        keyset_ms="n/a"
+    else
+        keyset_ms=$(average_ms "$BASE_URL$RESOURCE_PATH?after=$cursor&size=$SIZE")
+    fi
+    printf "%-10s %15s %15s\n" "$page" "$offset_ms" "$keyset_ms"
+done
+
+echo ""
+echo -e "${BLUE}💡 Le mode keyset doit rester stable quelle que soit la page ; le mode OFFSET croît avec la profondeur.${NC}"
@@ -0,0 +1,89 @@
+#!/bin/bash
+
+# 🧺 Benchmark du multi-get GET /items?ids=... face à N GET /items/{id}
+# Auteur: Halmaoui Abdellah
+# Date: Novembre 2025
+#
+# Pour chaque taille de lot N, mesure le temps mural de N requêtes
+# GET /items/{id} (une seule connexion keep-alive, comme un client bien
+# réglé) et celui d'une requête GET /items?ids=... portant les mêmes N
+# identifiants, puis affiche le gain.
+#
+# Usage: ./multiget_benchmark.sh [BASE_URL]
+#   BASE_URL : http://localhost:8080 (A ou application de base), :8081 (C)
+# Variables: RUNS (défaut 5), SIZES (défaut "10 50 100")
+
+# Couleurs
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+BASE_URL="${1:-http://localhost:8080}"
+RUNS="${RUNS:-5}"
+SIZES="${SIZES:-10 50 100}"
+
+echo "🧺 BENCHMARK MULTI-GET"
+echo "====================="
+echo "   Cible : $BASE_URL/items ($RUNS mesures par taille de lot)"
+echo ""
+
+if ! curl -s -o /dev/null "$BASE_URL/items?size=1"; then
+    echo -e "${RED}❌ Serveur non accessible sur $BASE_URL${NC}"
+    exit 1
+fi
+echo -e "${GREEN}✅ Serveur accessible${NC}"
+
+# Identifiants existants, pris dans l'export NDJSON (un item par ligne)
+max_size=$(printf '%s\n' $SIZES | sort -n | tail -1)
+mapfile -t ALL_IDS < <(curl -s "$BASE_URL/items/export?format=ndjson" \
+    | sed -n 's/^{"id":\([0-9]*\).*/\1/p' | shuf -n "$max_size")
+if [ "${#ALL_IDS[@]}" -lt "$max_size" ]; then
+    echo -e "${RED}❌ Seulement ${#ALL_IDS[@]} items disponibles, $max_size nécessaires${NC}"
+    exit 1
+fi
+echo "   ${#ALL_IDS[@]} identifiants tirés au hasard"
+echo ""
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+printf "%-6s %16s %16s %10s\n" "N" "N GET (ms)" "Multi-get (ms)" "Gain"
+printf "%-6s %16s %16s %10s\n" "-" "----------" "--------------" "----"
+for n in $SIZES; do
+    ids=("${ALL_IDS[@]:0:$n}")
+    urls=()
+    for id in "${ids[@]}"; do
+        urls+=("$BASE_URL/items/$id")
+    done
+    list=$(IFS=,; echo "${ids[*]}")
+
+    # Chauffe (cache d'items, JIT) pour les deux formes
+    curl -s "${urls[@]}" > /dev/null
+    curl -s -o /dev/null "$BASE_URL/items?ids=$list"
+
+    single_total=0
+    multi_total=0
+    for ((run = 1; run <= RUNS; run++)); do
+        start=$(now_ms)
+        curl -s "${urls[@]}" > /dev/null
+        single_total=$((single_total + $(now_ms) - start))
+
+        start=$(now_ms)
+        code=$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL/items?ids=$list")
+        multi_total=$((multi_total + $(now_ms) - start))
+        if [ "$code" != "200" ]; then
+            echo -e "${RED}❌ Multi-get de $n items : HTTP $code${NC}"
+            exit 1
+        fi
+    done
+
+    single_ms=$(awk -v t="$single_total" -v r="$RUNS" 'BEGIN { printf "%.1f", t / r }')
+    multi_ms=$(awk -v t="$multi_total" -v r="$RUNS" 'BEGIN { printf "%.1f", t / r }')
+    gain=$(awk -v s="$single_total" -v m="$multi_total" 'BEGIN { if (m > 0) printf "x%.1f", s / m; else print "n/a" }')
+    printf "%-6s %16s %16s %10s\n" "$n" "$single_ms" "$multi_ms" "$gain"
+done
+
+echo ""
+echo -e "${BLUE}💡 Au-delà de quelques milliers d'identifiants, utiliser POST /items/lookup ({\"ids\":[...]}) plutôt que la query string.${NC}"
@@ -0,0 +1,97 @@
+#!/bin/bash
+
+# 🔀 Benchmark recherche filtrée et triée (top-K par index)
+# Auteur: Halmaoui Abdellah
+# Date: Novembre 2025
+#
+# Mesure la latence des premières pages triées (?sort=price|stock|updatedAt)
+# et filtrées (?minPrice=&maxPrice=&inStock=&updatedAfter=) de GET /items,
+# côté client (curl) et, si psql est disponible, côté base (Execution Time
+# d'EXPLAIN ANALYZE sur la même requête SQL).
+#
+# Grâce aux index (price, id), (stock, id) et (updated_at, id), la base lit les
+# K premières entrées de l'index au lieu de trier toutes les lignes : le temps
+# base doit rester sous la milliseconde à 1 million d'items. La colonne
+# « Sans index » mesure la même requête index désactivés (tri complet).
+#
+# Jeu de données : 1 million d'items, par exemple en variante A
+#   -Dbenchmark.seed.items=1000000 -Dbenchmark.seed.categories=2000
+#
+# Usage: ./sorted_search_benchmark.sh [BASE_URL]
+#   BASE_URL : http://localhost:8080 (A) ou :8081 (C)
+# Variables: SIZE (défaut 20), RUNS (défaut 20), PSQL (défaut
+#   "psql -h localhost -U postgres -d benchmark_db"), PGPASSWORD (défaut postgres)
+
+# Couleurs
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+BASE_URL="${1:-http://localhost:8080}"
+SIZE="${SIZE:-20}"
+RUNS="${RUNS:-20}"
+PSQL="${PSQL:-psql -h localhost -U postgres -d benchmark_db}"
+export PGPASSWORD="${PGPASSWORD:-postgres}"
+
+echo "🔀 BENCHMARK RECHERCHE FILTRÉE ET TRIÉE"
+echo "======================================="
+echo "   Cible : $BASE_URL/items (size=$SIZE, $RUNS requêtes par mesure)"
+echo ""
+
+if ! curl -s -o /dev/null "$BASE_URL/items?size=1"; then
+    echo -e "${RED}❌ Serveur non accessible sur $BASE_URL${NC}"
+    exit 1
+fi
+echo -e "${GREEN}✅ Serveur accessible${NC}"
+if $PSQL -X -q -A -t -c "SELECT 1" > /dev/null 2>&1; then
+    DB=1
+    echo -e "${GREEN}✅ Base accessible : $($PSQL -X -q -A -t -c "SELECT count(*) FROM item") items${NC}"
+else
+    DB=0
+    echo "   (psql indisponible : temps base non mesurés)"
+fi
+echo ""
+
+# Latence moyenne (ms) d'une URL sur RUNS requêtes, après 3 requêtes de chauffe
+average_ms() {
+    local url=$1 i total=0 t
+    for i in 1 2 3; do curl -s -o /dev/null "$url"; done
+    for ((i = 0; i < RUNS; i++)); do
+        t=$(curl -s -o /dev/null -w '%{time_total}' "$url")
+        total=$(echo "$total + $t" | bc -l)
+    done
+    echo "scale=2; $total * 1000 / $RUNS" | bc -l
+}
+
+# Temps d'exécution base (ms) d'une requête SQL, index utilisables ou non
+#   $1 : requête, $2 : 1 pour interdire les parcours d'index (tri complet)
+db_ms() {
+    [ "$DB" = "1" ] || { echo "-"; return; }
+    local settings=""
+    [ "$2" = "1" ] && settings="SET enable_indexscan = off; SET enable_indexonlyscan = off; SET enable_bitmapscan = off;"
+    $PSQL -X -q -A -t -c "$settings EXPLAIN (ANALYZE) $1" | grep -o 'Execution Time: [0-9.]*' | grep -o '[0-9.]*$'
+}
+
+# Libellé | paramètres HTTP | requête SQL équivalente
+QUERIES=(
+    "prix croissant|sort=price|SELECT * FROM item ORDER BY price, id LIMIT $SIZE"
+    "prix décroissant|sort=price,desc|SELECT * FROM item ORDER BY price DESC, id DESC LIMIT $SIZE"
+    "stock décroissant|sort=stock,desc|SELECT * FROM item ORDER BY stock DESC, id DESC LIMIT $SIZE"
+    "plus récents|sort=updatedAt,desc|SELECT * FROM item ORDER BY updated_at DESC, id DESC LIMIT $SIZE"
+    "prix 100-200, triés|minPrice=100&maxPrice=200&sort=price|SELECT * FROM item WHERE price >= 100 AND price <= 200 ORDER BY price, id LIMIT $SIZE"
+    "en stock, récents|inStock=true&sort=updatedAt,desc|SELECT * FROM item WHERE stock > 0 ORDER BY updated_at DESC, id DESC LIMIT $SIZE"
+    "prix décroissant, page 50|sort=price,desc&page=50|SELECT * FROM item ORDER BY price DESC, id DESC OFFSET $((50 * SIZE)) LIMIT $SIZE"
+)
+
+printf "%-28s %12s %12s %14s\n" "Requête" "HTTP (ms)" "Base (ms)" "Sans index (ms)"
+printf "%-28s %12s %12s %14s\n" "-------" "---------" "---------" "---------------"
+for entry in "${QUERIES[@]}"; do
+    IFS='|' read -r label params sql <<< "$entry"
+    http_ms=$(average_ms "$BASE_URL/items?$params&size=$SIZE")
+    printf "%-28s %12s %12s %14s\n" "$label" "$http_ms" "$(db_ms "$sql" 0)" "$(db_ms "$sql" 1)"
+done
+
+echo ""
+echo -e "${BLUE}💡 La colonne Base doit rester sous la milliseconde (lecture des K premières entrées d'index) ;"
+echo -e "   la colonne Sans index montre le coût d'un tri de toutes les lignes retenues.${NC}"
@@ -6,7 +6,7 @@
 
 echo "╔═══════════════════════════════════════════════════════════════╗"
 echo "║  🚀 BENCHMARK MASTER RUNNER - Web Services REST Performance   ║"
-echo "║  Tests JMeter sur les 3 variantes d'implémentation           ║"
+echo "║  Tests JMeter sur les 5 variantes d'implémentation           ║"
 echo "╚═══════════════════════════════════════════════════════════════╝"
 echo ""
 
@@ -30,7 +30,7 @@ echo ""
 # ============================================================================
 # ÉTAPE 1: Vérification des pré-requis
 # ============================================================================
-echo -e "${BLUE}[ÉTAPE 1/4]${NC} 🔍 Vérification des pré-requis..."
+echo -e "${BLUE}[ÉTAPE 1/6]${NC} 🔍 Vérification des pré-requis..."
 echo ""
 
 # Vérifier JMeter
@@ -41,7 +41,7 @@ if ! command -v jmeter &> /dev/null; then
 fi
 echo -e "${GREEN}✅ JMeter détecté ($(jmeter -v 2>&1 | head -n 1))${NC}"
 
-# Vérifier que les 3 serveurs sont accessibles
+# Vérifier que les 5 serveurs sont accessibles
 echo ""
 echo "🔍 Vérification de l'accessibilité des serveurs..."
 echo ""
@@ -49,6 +49,8 @@ echo ""
 VARIANT_A_RUNNING=false
 VARIANT_C_RUNNING=false
 VARIANT_D_RUNNING=false
+VARIANT_E_RUNNING=false
+VARIANT_F_RUNNING=false
 
 # Variant A (Jersey + Hibernate) - Port 8080
 if curl -s "http://localhost:8080/items" > /dev/null 2>&1; then
@@ -74,16 +76,34 @@ else
     echo -e "${YELLOW}⚠️  Variant D non accessible sur http://localhost:8082${NC}"
 fi
 
+# Variant E (Spring WebFlux + R2DBC) - Port 8083
+if curl -s "http://localhost:8083/items" > /dev/null 2>&1; then
+    echo -e "${GREEN}✅ Variant E (Spring WebFlux + R2DBC) accessible sur http://localhost:8083${NC}"
+    VARIANT_E_RUNNING=true
+else
+    echo -e "${YELLOW}⚠️  Variant E non accessible sur http://localhost:8083${NC}"
+fi
+
+# Variant F (JDK HttpServer + JDBC) - Port 8084
+if curl -s "http://localhost:8084/items" > /dev/null 2>&1; then
+    echo -e "${GREEN}✅ Variant F (JDK HttpServer + JDBC) accessible sur http://localhost:8084${NC}"
+    VARIANT_F_RUNNING=true
+else
+    echo -e "${YELLOW}⚠️  Variant F non accessible sur http://localhost:8084${NC}"
+fi
+
 echo ""
 
 # Déterminer quels tests exécuter
-if ! $VARIANT_A_RUNNING && ! $VARIANT_C_RUNNING && ! $VARIANT_D_RUNNING; then
+if ! $VARIANT_A_RUNNING && ! $VARIANT_C_RUNNING && ! $VARIANT_D_RUNNING && ! $VARIANT_E_RUNNING && ! $VARIANT_F_RUNNING; then
     echo -e "${RED}❌ ERREUR: Aucun variant n'est accessible!${NC}"
     echo ""
     echo "Veuillez démarrer au moins un variant:"
     echo "  - Variant A: cd variant-a && ./run.sh"
     echo "  - Variant C: cd variant-c && mvn spring-boot:run"
     echo "  - Variant D: cd variant-d && mvn spring-boot:run"
+    echo "  - Variant E: cd variant4 && mvn spring-boot:run"
+    echo "  - Variant F: cd variant5 && ./run.sh"
     exit 1
 fi
 
@@ -94,7 +114,7 @@ echo ""
 # ÉTAPE 2: Tests Variant A (Jersey + Hibernate)
 # ============================================================================
 if $VARIANT_A_RUNNING; then
-    echo -e "${BLUE}[ÉTAPE 2/4]${NC} 🔥 Tests JMeter - Variant A (Jersey + Hibernate)"
+    echo -e "${BLUE}[ÉTAPE 2/6]${NC} 🔥 Tests JMeter - Variant A (Jersey + Hibernate)"
     echo "══════════════════════════════════════════════════════════════"
     echo ""
 
@@ -116,7 +136,7 @@ if $VARIANT_A_RUNNING; then
     cd ..
     echo ""
 else
-    echo -e "${YELLOW}[ÉTAPE 2/4] ⏭️  Tests Variant A ignorés (serveur non accessible)${NC}"
+    echo -e "${YELLOW}[ÉTAPE 2/6] ⏭️  Tests Variant A ignorés (serveur non accessible)${NC}"
     echo ""
 fi
 
@@ -124,7 +144,7 @@ fi
 # ÉTAPE 3: Tests Variant C (Spring MVC + Hibernate)
 # ============================================================================
 if $VARIANT_C_RUNNING; then
-    echo -e "${BLUE}[ÉTAPE 3/4]${NC} 🔥 Tests JMeter - Variant C (Spring MVC + Hibernate)"
+    echo -e "${BLUE}[ÉTAPE 3/6]${NC} 🔥 Tests JMeter - Variant C (Spring MVC + Hibernate)"
     echo "══════════════════════════════════════════════════════════════"
     echo ""
 
@@ -146,7 +166,7 @@ if $VARIANT_C_RUNNING; then
     cd ..
     echo ""
 else
-    echo -e "${YELLOW}[ÉTAPE 3/4] ⏭️  Tests Variant C ignorés (serveur non accessible)${NC}"
+    echo -e "${YELLOW}[ÉTAPE 3/6] ⏭️  Tests Variant C ignorés (serveur non accessible)${NC}"
     echo ""
 fi
 
@@ -154,7 +174,7 @@ fi
 # ÉTAPE 4: Tests Variant D (Spring Data REST)
 # ============================================================================
 if $VARIANT_D_RUNNING; then
-    echo -e "${BLUE}[ÉTAPE 4/4]${NC} 🔥 Tests JMeter - Variant D (Spring Data REST)"
+    echo -e "${BLUE}[ÉTAPE 4/6]${NC} 🔥 Tests JMeter - Variant D (Spring Data REST)"
     echo "══════════════════════════════════════════════════════════════"
     echo ""
 
@@ -176,7 +196,67 @@ if $VARIANT_D_RUNNING; then
     cd ..
     echo ""
 else
-    echo -e "${YELLOW}[ÉTAPE 4/4] ⏭️  Tests Variant D ignorés (serveur non accessible)${NC}"
+    echo -e "${YELLOW}[ÉTAPE 4/6] ⏭️  Tests Variant D ignorés (serveur non accessible)${NC}"
+    echo ""
+fi
+
+# ============================================================================
+# ÉTAPE 5: Tests Variant E (Spring WebFlux + R2DBC)
+# ============================================================================
+if $VARIANT_E_RUNNING; then
+    echo -e "${BLUE}[ÉTAPE 5/6]${NC} 🔥 Tests JMeter - Variant E (Spring WebFlux + R2DBC)"
+    echo "══════════════════════════════════════════════════════════════"
+    echo ""
+
+    cd variant4 || exit 1
+
+    if [ -f "jmeter_tests.sh" ]; then
+        ./jmeter_tests.sh
+
+        # Copier les résultats dans le dossier global
+        if [ -d "jmeter-results" ]; then
+            mkdir -p "../$RESULTS_DIR/variant-e"
+            cp -r jmeter-results/* "../$RESULTS_DIR/variant-e/"
+            echo -e "${GREEN}✅ Résultats Variant E copiés dans $RESULTS_DIR/variant-e/${NC}"
+        fi
+    else
+        echo -e "${RED}❌ Script jmeter_tests.sh introuvable pour Variant E${NC}"
+    fi
+
+    cd ..
+    echo ""
+else
+    echo -e "${YELLOW}[ÉTAPE 5/6] ⏭️  Tests Variant E ignorés (serveur non accessible)${NC}"
+    echo ""
+fi
+
+# ============================================================================
+# ÉTAPE 6: Tests Variant F (JDK HttpServer + JDBC)
+# ============================================================================
+if $VARIANT_F_RUNNING; then
+    echo -e "${BLUE}[ÉTAPE 6/6]${NC} 🔥 Tests JMeter - Variant F (JDK HttpServer + JDBC)"
+    echo "══════════════════════════════════════════════════════════════"
+    echo ""
+
+    cd variant5 || exit 1
+
+    if [ -f "jmeter_tests.sh" ]; then
+        ./jmeter_tests.sh
+
+        # Copier les résultats dans le dossier global
+        if [ -d "jmeter-results" ]; then
+            mkdir -p "../$RESULTS_DIR/variant-f"
+            cp -r jmeter-results/* "../$RESULTS_DIR/variant-f/"
+            echo -e "${GREEN}✅ Résultats Variant F copiés dans $RESULTS_DIR/variant-f/${NC}"
+        fi
+    else
+        echo -e "${RED}❌ Script jmeter_tests.sh introuvable pour Variant F${NC}"
+    fi
+
+    cd ..
+    echo ""
+else
+    echo -e "${YELLOW}[ÉTAPE 6/6] ⏭️  Tests Variant F ignorés (serveur non accessible)${NC}"
     echo ""
 fi
 
@@ -220,6 +300,20 @@ SUMMARY_FILE="$RESULTS_DIR/SUMMARY.txt"
         echo "  ⏭️  Variant D (Spring Data REST) - Non testé"
     fi
 
+    if $VARIANT_E_RUNNING; then
+        echo "  ✅ Variant E (Spring WebFlux + R2DBC) - Port 8083"
+        echo "     └─ Résultats: $RESULTS_DIR/variant-e/"
+    else
+        echo "  ⏭️  Variant E (Spring WebFlux + R2DBC) - Non testé"
+    fi
+
+    if $VARIANT_F_RUNNING; then
+        echo "  ✅ Variant F (JDK HttpServer + JDBC) - Port 8084"
+        echo "     └─ Résultats: $RESULTS_DIR/variant-f/"
+    else
+        echo "  ⏭️  Variant F (JDK HttpServer + JDBC) - Non testé"
+    fi
+
     echo ""
     echo "═══════════════════════════════════════════════════════════════"
     echo "SCÉNARIOS EXÉCUTÉS:"
@@ -248,6 +342,16 @@ SUMMARY_FILE="$RESULTS_DIR/SUMMARY.txt"
         echo "  - $RESULTS_DIR/variant-d/*_html/index.html"
     fi
 
+    if $VARIANT_E_RUNNING; then
+        echo "Variant E:"
+        echo "  - $RESULTS_DIR/variant-e/*_html/index.html"
+    fi
+
+    if $VARIANT_F_RUNNING; then
+        echo "Variant F:"
+        echo "  - $RESULTS_DIR/variant-f/*_html/index.html"
+    fi
+
     echo ""
     echo "═══════════════════════════════════════════════════════════════"
     echo "PROCHAINES ÉTAPES:"
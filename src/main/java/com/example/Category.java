@@ -1,11 +1,18 @@
 package com.example;
 
+import com.example.config.CacheRegions;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +28,14 @@ import java.util.List;
  * </p>
  * 
  * <p>
+ * Category proxies are initialized in batches ({@link BatchSize}), so an entity
+ * code path touching the categories of several items issues one query per batch
+ * instead of one per item. Categories are also kept in the second-level cache
+ * ({@link CacheRegions#CATEGORY}), so loading a category by identifier no
+ * longer reaches PostgreSQL once it has been read.
+ * </p>
+ * 
+ * <p>
  * <b>Database Table:</b> category
  * </p>
  * 
@@ -33,14 +48,19 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY)
+@BatchSize(size = 50)
 public class Category {
 
     /**
      * Unique identifier for the category.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the category_seq sequence (see PooledSequenceGenerator).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "category_seq")
+    @GenericGenerator(name = "category_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "category_seq"))
     private Long id;
 
     /**
@@ -77,6 +97,7 @@ public class Category {
      * </p>
      */
     @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JsonIgnoreProperties("category") // Éviter la sérialisation infinie
     private List<Item> items; // Relation inverse : Liste des items
 
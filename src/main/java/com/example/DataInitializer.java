@@ -1,6 +1,7 @@
 package com.example;
 
 import com.example.service.DataGeneratorService;
+import com.example.service.ItemTotals;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -28,20 +29,28 @@ public class DataInitializer implements CommandLineRunner {
      */
     private final DataGeneratorService dataGeneratorService;
 
+    /**
+     * Cached item totals, loaded once the data is in place.
+     */
+    private final ItemTotals itemTotals;
+
     /**
      * Constructor for dependency injection.
      * 
      * @param dataGeneratorService the service that generates test data
+     * @param itemTotals           the cached item totals
      */
-    public DataInitializer(DataGeneratorService dataGeneratorService) {
+    public DataInitializer(DataGeneratorService dataGeneratorService, ItemTotals itemTotals) {
         this.dataGeneratorService = dataGeneratorService;
+        this.itemTotals = itemTotals;
     }
 
     /**
      * Callback method executed after the application context is loaded.
      * <p>
      * This method triggers the generation of test data by calling the
-     * DataGeneratorService. It runs automatically on application startup.
+     * DataGeneratorService, then loads the cached item totals. It runs
+     * automatically on application startup.
      * </p>
      * 
      * @param args command-line arguments passed to the application
@@ -50,5 +59,7 @@ public class DataInitializer implements CommandLineRunner {
     @Override
     public void run(String... args) throws Exception {
         dataGeneratorService.generateData();
+        // Le seeding contourne les contrôleurs : on recharge les totaux
+        itemTotals.reconcile();
     }
 }
\ No newline at end of file
@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -25,13 +28,22 @@ import java.time.LocalDateTime;
  * <p>
  * <b>Database Table:</b> item
  * </p>
+ * <p>
+ * The root application recreates its schema at startup
+ * ({@code ddl-auto=create-drop}); the indexes of the shared migrations
+ * ({@code db/migration/V2__hot_query_indexes.sql}) are declared here so that
+ * the generated schema has them too.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
  * @since 2025
  */
 @Entity
-@Table(name = "item")
+@Table(name = "item", indexes = {
+        @Index(name = "item_category_id_id_idx", columnList = "category_id, id"),
+        @Index(name = "item_price_id_idx", columnList = "price, id"),
+        @Index(name = "item_updated_at_id_idx", columnList = "updated_at, id") })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -39,10 +51,12 @@ public class Item {
 
     /**
      * Unique identifier for the item.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the item_seq sequence (see PooledSequenceGenerator).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "item_seq")
+    @GenericGenerator(name = "item_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "item_seq"))
     private Long id;
 
     /**
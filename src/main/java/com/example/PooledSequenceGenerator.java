@@ -0,0 +1,76 @@
+package com.example;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence-backed identifier generator with a configurable pooled optimizer.
+ * <p>
+ * Unlike {@code GenerationType.IDENTITY}, which forces Hibernate to execute
+ * each INSERT immediately to read back the key (and therefore disables JDBC
+ * batching), this generator reserves blocks of identifiers from a PostgreSQL
+ * sequence. With the default {@code pooled-lo} optimizer and an allocation size
+ * of 50, a single {@code nextval} round trip covers 50 inserts, and the inserts
+ * themselves can be grouped into JDBC batches.
+ * </p>
+ *
+ * <p>
+ * The strategy is switchable through Hibernate settings:
+ * </p>
+ * <ul>
+ * <li>{@value #ALLOCATION_SIZE_SETTING} - block size (default 50); it must match
+ * the {@code INCREMENT BY} of the database sequence</li>
+ * <li>{@value #OPTIMIZER_SETTING} - {@code pooled-lo} (default), {@code pooled}
+ * or {@code none}; an allocation size of 1 always falls back to
+ * {@code none}, i.e. one {@code nextval} per row</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Setting holding the number of identifiers reserved per sequence call.
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "benchmark.id.allocation_size";
+
+    /**
+     * Setting holding the Hibernate optimizer strategy name.
+     */
+    public static final String OPTIMIZER_SETTING = "benchmark.id.optimizer";
+
+    /**
+     * Default number of identifiers reserved per sequence call.
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    /**
+     * Applies the configured allocation size and optimizer before delegating to
+     * the standard sequence generator configuration.
+     *
+     * @param type            identifier type
+     * @param parameters      generator parameters from the mapping
+     * @param serviceRegistry registry giving access to the Hibernate settings
+     * @throws MappingException if the generator cannot be configured
+     */
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry)
+            throws MappingException {
+        ConfigurationService settings = serviceRegistry.getService(ConfigurationService.class);
+        int allocationSize = settings.getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER,
+                DEFAULT_ALLOCATION_SIZE);
+        String optimizer = settings.getSetting(OPTIMIZER_SETTING, StandardConverters.STRING, "pooled-lo");
+
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(Math.max(1, allocationSize)));
+        parameters.setProperty(OPT_PARAM, allocationSize > 1 ? optimizer : "none");
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
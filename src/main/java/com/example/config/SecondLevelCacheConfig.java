@@ -0,0 +1,66 @@
+package com.example.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+/**
+ * JCache (Caffeine) backing of the Hibernate second-level and query caches.
+ * <p>
+ * The cache manager is created here from {@code classpath:caffeine.conf} and
+ * handed to Hibernate, so region policies are read the same way from the IDE
+ * and from the packaged jar. Hit, miss, put, removal and eviction counts of
+ * every region are exported to Prometheus ({@code cache_gets_total},
+ * {@code cache_evictions_total}...).
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Creates the cache manager holding the second-level cache regions.
+     *
+     * @return a Caffeine cache manager configured from {@code caffeine.conf}
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("classpath:caffeine.conf"), getClass().getClassLoader());
+    }
+
+    /**
+     * Hands the cache manager to Hibernate's JCache region factory.
+     *
+     * @param hibernateCacheManager the second-level cache manager
+     * @return the Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Binds the statistics of every region to the meter registry.
+     *
+     * @param hibernateCacheManager the second-level cache manager
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> CacheRegions.ALL.forEach(region ->
+                // Crée la région depuis caffeine.conf si Hibernate ne l'a pas encore ouverte
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region)));
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.controller;
 
 import com.example.Category;
-import com.example.Item; // Importation de Item pour la méthode getItemsByCategoryId
+import com.example.dto.CategorySummary;
+import com.example.dto.CursorPage;
+import com.example.dto.ItemSummary;
 import com.example.repository.CategoryRepository;
+import com.example.repository.ItemRepository;
+import com.example.service.ItemTotals;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,6 +32,13 @@ import java.util.Optional;
  * </p>
  * 
  * <p>
+ * Read endpoints answer conditional GETs with 304. Category summaries come
+ * from the query cache and are their own version probe: a matching
+ * {@code If-None-Match} only skips their serialization. The items
+ * sub-resource is probed like {@code GET /items}.
+ * </p>
+ * 
+ * <p>
  * <b>Base Path:</b> /categories
  * </p>
  * 
@@ -34,48 +50,83 @@ import java.util.Optional;
 @RequestMapping("/categories")
 public class CategoryController {
 
+    /**
+     * Order of the item pages of a category.
+     */
+    private static final Sort BY_ID = Sort.by("id");
+
     /**
      * Repository for Category entity data access.
      */
     private final CategoryRepository categoryRepository;
 
+    /**
+     * Repository for the items sub-resource.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Cached item totals, used for the items sub-resource.
+     */
+    private final ItemTotals itemTotals;
+
     /**
      * Constructor for dependency injection.
      * 
      * @param categoryRepository the repository for category data access
+     * @param itemRepository     the repository for item data access
+     * @param itemTotals         the cached item totals
      */
-    public CategoryController(CategoryRepository categoryRepository) {
+    public CategoryController(CategoryRepository categoryRepository, ItemRepository itemRepository,
+            ItemTotals itemTotals) {
         this.categoryRepository = categoryRepository;
+        this.itemRepository = itemRepository;
+        this.itemTotals = itemTotals;
     }
 
     /**
      * Retrieves all categories with pagination support.
+     * <p>
+     * Categories are returned as {@link CategorySummary} projections carrying
+     * their item count, computed by the same GROUP BY query: the page costs two
+     * statements (page and COUNT) whatever its size, and no item is loaded.
+     * </p>
      * 
-     * @param page the page number (zero-based), default is 0
-     * @param size the number of items per page, default is 10
+     * @param page    the page number (zero-based), default is 0
+     * @param size    the number of items per page, default is 10
+     * @param request the current request, for its preconditions
      * @return ResponseEntity containing a page of categories with HTTP 200 OK
-     *         status
+     *         status, or HTTP 304 NOT MODIFIED if the client copy is current
      */
     // GET /categories?page=&size=
     @GetMapping
-    public ResponseEntity<Page<Category>> getAllCategories(@RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<Page<CategorySummary>> getAllCategories(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest request) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Category> categories = categoryRepository.findAll(pageable);
+        Page<CategorySummary> categories = categoryRepository.findSummaries(pageable);
+        if (Validators.notModified(request, Validators.summaryPageTag(categories), -1)) {
+            return null;
+        }
         return new ResponseEntity<>(categories, HttpStatus.OK);
     }
 
     /**
-     * Retrieves a specific category by its ID.
+     * Retrieves a specific category by its ID, with its item count.
      * 
-     * @param id the unique identifier of the category
+     * @param id      the unique identifier of the category
+     * @param request the current request, for its preconditions
      * @return ResponseEntity containing the category with HTTP 200 OK if found,
+     *         HTTP 304 NOT MODIFIED if the client copy is current,
      *         or HTTP 404 NOT FOUND if the category doesn't exist
      */
     // GET /categories/{id}
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
-        Optional<Category> category = categoryRepository.findById(id);
+    public ResponseEntity<CategorySummary> getCategoryById(@PathVariable Long id, ServletWebRequest request) {
+        Optional<CategorySummary> category = categoryRepository.findSummaryById(id);
+        if (category.isPresent() && Validators.notModified(request, Validators.summaryTag(category.get()), -1)) {
+            return null;
+        }
         return category.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
@@ -99,19 +150,22 @@ public class CategoryController {
      * 
      * @param id       the unique identifier of the category to update
      * @param category the updated category data (from request body)
-     * @return ResponseEntity containing the updated category with HTTP 200 OK if
-     *         successful,
+     * @return ResponseEntity containing the updated category summary with HTTP
+     *         200 OK if successful,
      *         or HTTP 404 NOT FOUND if the category doesn't exist
      */
     // PUT /categories/{id}
     @PutMapping("/{id}")
-    public ResponseEntity<Category> updateCategory(@PathVariable Long id, @RequestBody Category category) {
+    public ResponseEntity<CategorySummary> updateCategory(@PathVariable Long id, @RequestBody Category category) {
         if (!categoryRepository.existsById(id)) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
         category.setId(id); // Assurez-vous que l'ID de la catégorie à mettre à jour est correct
-        Category updatedCategory = categoryRepository.save(category);
-        return new ResponseEntity<>(updatedCategory, HttpStatus.OK);
+        categoryRepository.save(category);
+        // Réponse lue comme GET /categories/{id} : la collection items n'est jamais chargée
+        return categoryRepository.findSummaryById(id)
+                .map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -137,26 +191,78 @@ public class CategoryController {
      * This endpoint demonstrates the inverse relationship between Category and Item
      * entities.
      * It uses a custom repository method to efficiently fetch items for a given
-     * category.
+     * category, as {@link ItemSummary} projections read in a single SELECT.
      * </p>
      * 
-     * @param id   the unique identifier of the category
-     * @param page the page number (zero-based), default is 0
-     * @param size the number of items per page, default is 10
+     * @param id        the unique identifier of the category
+     * @param page      the page number (zero-based), default is 0
+     * @param size      the number of items per page, default is 10
+     * @param withCount whether to include totals, default is true; false returns
+     *                  a slice
+     * @param request   the current request, for its preconditions
      * @return ResponseEntity containing a page of items with HTTP 200 OK if the
-     *         category exists,
+     *         category exists, HTTP 304 NOT MODIFIED if the client copy is
+     *         current,
      *         or HTTP 404 NOT FOUND if the category doesn't exist
      */
     // GET /categories/{id}/items (association inverse avec pagination)
+    // Le total vient des compteurs en mémoire (ItemTotals), pas d'un COUNT(*)
     @GetMapping("/{id}/items")
-    public ResponseEntity<Page<Item>> getItemsByCategoryId(@PathVariable Long id,
+    public ResponseEntity<Slice<ItemSummary>> getItemsByCategoryId(@PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            ServletWebRequest request) {
         if (!categoryRepository.existsById(id)) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Item> items = categoryRepository.findItemsByCategoryId(id, pageable);
+        Pageable pageable = PageRequest.of(page, size, BY_ID);
+        long total = withCount ? itemTotals.totalForCategory(id) : -1;
+        boolean conditional = Validators.isConditional(request);
+        if (conditional && Validators.notModified(request,
+                Validators.pageTag("items", itemRepository.findVersionsByCategoryId(id, pageable), total), -1)) {
+            return null;
+        }
+        Slice<ItemSummary> items = itemRepository.findSummariesByCategoryId(id, pageable);
+        if (!conditional) {
+            Validators.addValidators(request, Validators.pageTag("items", items.map(ItemSummary::rowVersion), total),
+                    -1);
+        }
+        if (withCount) {
+            items = new PageImpl<>(items.getContent(), pageable, total);
+        }
         return new ResponseEntity<>(items, HttpStatus.OK);
     }
+
+    /**
+     * Retrieves the items of a category by keyset pagination.
+     * 
+     * @param id    the unique identifier of the category
+     * @param after the cursor of the previous page, empty for the first page
+     * @param size  the number of items per page, default is 10
+     * @return ResponseEntity containing the page and its next cursor with HTTP
+     *         200 OK, HTTP 400 BAD REQUEST if the cursor is invalid, or HTTP 404
+     *         NOT FOUND if the category doesn't exist
+     */
+    // GET /categories/{id}/items?after=... (pagination par curseur)
+    @GetMapping(value = "/{id}/items", params = "after")
+    public ResponseEntity<CursorPage<ItemSummary>> getItemsByCategoryIdAfter(@PathVariable Long id,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (!categoryRepository.existsById(id)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        List<ItemSummary> items = itemRepository.findSummariesByCategoryIdAfter(id, afterId,
+                PageRequest.ofSize(size + 1));
+        return new ResponseEntity<>(CursorPage.of(items, size, ItemSummary::id), HttpStatus.OK);
+    }
 }
@@ -1,15 +1,45 @@
 package com.example.controller;
 
 import com.example.Item;
+import com.example.dto.BatchResult;
+import com.example.dto.BulkReport;
+import com.example.dto.CursorPage;
+import com.example.dto.ItemChange;
+import com.example.dto.ItemLookup;
+import com.example.dto.ItemSummary;
+import com.example.dto.LookupResult;
+import com.example.dto.RowVersion;
 import com.example.repository.ItemRepository;
-import org.springframework.data.domain.Page;
+import com.example.service.ItemBatchService;
+import com.example.service.ItemIngestService;
+import com.example.service.ItemTotals;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * REST Controller for managing Item resources.
@@ -23,6 +53,54 @@ import java.util.Optional;
  * </p>
  * 
  * <p>
+ * Listings are paginated with OFFSET ({@code ?page=&size=}) or, when an
+ * {@code ?after=} cursor is passed, by keyset: the cost of a keyset page does
+ * not grow with its depth. An empty cursor returns the first page, and each
+ * page carries the {@code nextCursor} of the following one.
+ * </p>
+ * 
+ * <p>
+ * OFFSET pages no longer run a COUNT query: totals come from the cached
+ * {@link ItemTotals}, kept current by the write endpoints, and
+ * {@code ?withCount=false} returns a slice without any total. Lists return
+ * {@link ItemSummary} projections, so each page is a single SELECT.
+ * </p>
+ * 
+ * <p>
+ * Open-session-in-view is disabled: every endpoint loads what it serializes
+ * (projection or entity graph) before returning, so the database connection is
+ * released before the JSON is written.
+ * </p>
+ * 
+ * <p>
+ * {@code GET /items/{id}} and the OFFSET pages answer conditional GETs: a
+ * version probe reads the identifiers and update times of the rows, and a
+ * matching {@code If-None-Match} / {@code If-Modified-Since} gets a 304 before
+ * anything is loaded or serialized. OFFSET pages are ordered by identifier so
+ * that the probe reads exactly the rows of the page.
+ * </p>
+ * 
+ * <p>
+ * {@code GET /items/export} streams every item summary in a single response,
+ * written row by row while a server-side cursor reads them. Conversely,
+ * {@code POST /items/bulk} inserts an NDJSON upload in bounded chunks as it is
+ * read.
+ * </p>
+ * 
+ * <p>
+ * {@code GET /items?ids=1,2,3} and {@code GET /items?skus=a,b} (or
+ * {@code POST /items/lookup} for long lists) return several items, with their
+ * category, in one request and one {@code IN} query. Items come back in
+ * request order, followed by the keys that matched nothing.
+ * </p>
+ * 
+ * <p>
+ * {@code PATCH /items/batch} and {@code DELETE /items/batch} change or delete
+ * up to {@code benchmark.batch.max-items} items in one transaction, sent as a
+ * single JDBC batch (see {@link ItemBatchService}), with an outcome per item.
+ * </p>
+ * 
+ * <p>
  * <b>Base Path:</b> /items
  * </p>
  * 
@@ -34,49 +112,258 @@ import java.util.Optional;
 @RequestMapping("/items")
 public class ItemController {
 
+    /**
+     * Order of OFFSET pages.
+     */
+    private static final Sort BY_ID = Sort.by("id");
+
     /**
      * Repository for Item entity data access.
      */
     private final ItemRepository itemRepository;
 
+    /**
+     * Cached item totals.
+     */
+    private final ItemTotals itemTotals;
+
+    /**
+     * Read-only transaction around the export cursor.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * JSON mapper of the application, for exports.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Bulk ingest of NDJSON uploads.
+     */
+    private final ItemIngestService itemIngestService;
+
+    /**
+     * Largest key list of a multi-get.
+     */
+    private final int lookupMaxKeys;
+
+    /**
+     * Batched writes of items.
+     */
+    private final ItemBatchService itemBatchService;
+
+    /**
+     * Largest batch of {@code PATCH} / {@code DELETE /items/batch}.
+     */
+    private final int batchMaxItems;
+
     /**
      * Constructor for dependency injection.
      * 
-     * @param itemRepository the repository for item data access
+     * @param itemRepository     the repository for item data access
+     * @param itemTotals         the cached item totals
+     * @param transactionManager the JPA transaction manager
+     * @param objectMapper       the application JSON mapper
+     * @param itemIngestService  the bulk ingest service
+     * @param lookupMaxKeys      largest key list of a multi-get
+     * @param itemBatchService   the batched write service
+     * @param batchMaxItems      largest batched write
      */
-    public ItemController(ItemRepository itemRepository) {
+    public ItemController(ItemRepository itemRepository, ItemTotals itemTotals,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            ItemIngestService itemIngestService, @Value("${benchmark.lookup.max-keys:1000}") int lookupMaxKeys,
+            ItemBatchService itemBatchService, @Value("${benchmark.batch.max-items:5000}") int batchMaxItems) {
         this.itemRepository = itemRepository;
+        this.itemTotals = itemTotals;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.itemIngestService = itemIngestService;
+        this.lookupMaxKeys = lookupMaxKeys;
+        this.itemBatchService = itemBatchService;
+        this.batchMaxItems = batchMaxItems;
     }
 
     /**
      * Retrieves all items with pagination support.
      * 
-     * @param page the page number (zero-based), default is 0
-     * @param size the number of items per page, default is 10
-     * @return ResponseEntity containing a page of items with HTTP 200 OK status
+     * @param page      the page number (zero-based), default is 0
+     * @param size      the number of items per page, default is 10
+     * @param withCount whether to include totals, default is true; false returns
+     *                  a slice
+     * @param request   the current request, for its preconditions
+     * @return ResponseEntity containing a page of items with HTTP 200 OK status,
+     *         or HTTP 304 NOT MODIFIED if the client copy is current
      */
-    // GET /items?page=&size=
+    // GET /items?page=&size=&withCount=
     @GetMapping
-    public ResponseEntity<Page<Item>> getAllItems(@RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Item> items = itemRepository.findAll(pageable);
+    public ResponseEntity<Slice<ItemSummary>> getAllItems(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            ServletWebRequest request) {
+        Pageable pageable = PageRequest.of(page, size, BY_ID);
+        long total = withCount ? itemTotals.total() : -1;
+        boolean conditional = Validators.isConditional(request);
+        if (conditional && Validators.notModified(request,
+                Validators.pageTag("items", itemRepository.findVersionsBy(pageable), total), -1)) {
+            return null; // 304 : rien n'est chargé ni sérialisé
+        }
+        Slice<ItemSummary> items = itemRepository.findSummariesBy(pageable);
+        if (!conditional) {
+            Validators.addValidators(request, Validators.pageTag("items", items.map(ItemSummary::rowVersion), total),
+                    -1);
+        }
+        if (withCount) {
+            items = new PageImpl<>(items.getContent(), pageable, total);
+        }
         return new ResponseEntity<>(items, HttpStatus.OK);
     }
 
+    /**
+     * Exports every item summary in identifier order, as NDJSON (default) or as
+     * one JSON array.
+     * <p>
+     * The body is written on an MVC async thread, inside a read-only
+     * transaction that holds one connection until the last row; heap usage
+     * stays flat whatever the catalog size. A client that disconnects stops the
+     * export at its next write.
+     * </p>
+     * 
+     * @param format {@code ndjson} or {@code json}
+     * @return ResponseEntity streaming the items with HTTP 200 OK, or HTTP 400
+     *         BAD REQUEST for an unknown format
+     */
+    // GET /items/export?format=ndjson|json
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(defaultValue = "ndjson") String format) {
+        MediaType mediaType = ExportWriter.mediaType(format);
+        if (mediaType == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean array = MediaType.APPLICATION_JSON.equals(mediaType);
+        StreamingResponseBody body = output -> {
+            try (ExportWriter writer = new ExportWriter(objectMapper, output, array)) {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<ItemSummary> items = itemRepository.streamSummaries()) {
+                        items.forEach(writer::write);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+
+    /**
+     * Retrieves several items by ID (multi-get).
+     * 
+     * @param ids  the IDs, comma-separated
+     * @param skus must be absent
+     * @return ResponseEntity containing the items in request order and the
+     *         missing IDs with HTTP 200 OK, or HTTP 400 BAD REQUEST for an
+     *         empty or oversized list
+     */
+    // GET /items?ids=1,2,3
+    @GetMapping(params = "ids")
+    public ResponseEntity<LookupResult<Item, Long>> getItemsByIds(@RequestParam List<Long> ids,
+            @RequestParam(required = false) List<String> skus) {
+        if (skus != null || !validKeys(ids)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(lookupByIds(ids), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves several items by SKU (multi-get).
+     * 
+     * @param skus the SKUs, comma-separated
+     * @return ResponseEntity containing the items in request order and the
+     *         missing SKUs with HTTP 200 OK, or HTTP 400 BAD REQUEST for an
+     *         empty or oversized list
+     */
+    // GET /items?skus=a,b
+    @GetMapping(params = { "skus", "!ids" })
+    public ResponseEntity<LookupResult<Item, String>> getItemsBySkus(@RequestParam List<String> skus) {
+        if (!validKeys(skus)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(lookupBySkus(skus), HttpStatus.OK);
+    }
+
+    /**
+     * Multi-get for key lists too long for a query string.
+     * 
+     * @param lookup the IDs or the SKUs, not both
+     * @return ResponseEntity containing the items in request order and the
+     *         missing keys with HTTP 200 OK, or HTTP 400 BAD REQUEST for an
+     *         empty or oversized list
+     */
+    // POST /items/lookup
+    @PostMapping("/lookup")
+    public ResponseEntity<LookupResult<Item, ?>> lookupItems(@RequestBody ItemLookup lookup) {
+        boolean byId = lookup.ids() != null;
+        if (byId == (lookup.skus() != null) || !validKeys(byId ? lookup.ids() : lookup.skus())) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(byId ? lookupByIds(lookup.ids()) : lookupBySkus(lookup.skus()), HttpStatus.OK);
+    }
+
+    /**
+     * Checks the key list of a multi-get: not empty, at most
+     * {@code benchmark.lookup.max-keys} keys, no null key.
+     */
+    private boolean validKeys(List<?> keys) {
+        return !keys.isEmpty() && keys.size() <= lookupMaxKeys && !keys.contains(null);
+    }
+
+    private LookupResult<Item, Long> lookupByIds(List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids); // doublons ignorés, ordre de la requête conservé
+        Map<Long, Item> found = itemRepository.findWithCategoryByIdIn(keys).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return LookupResult.of(keys, found);
+    }
+
+    private LookupResult<Item, String> lookupBySkus(List<String> skus) {
+        Set<String> keys = new LinkedHashSet<>(skus);
+        Map<String, Item> found = itemRepository.findWithCategoryBySkuIn(keys).stream()
+                .collect(Collectors.toMap(Item::getSku, Function.identity()));
+        return LookupResult.of(keys, found);
+    }
+
     /**
      * Retrieves a specific item by its ID.
      * 
-     * @param id the unique identifier of the item
+     * @param id      the unique identifier of the item
+     * @param request the current request, for its preconditions
      * @return ResponseEntity containing the item with HTTP 200 OK if found,
+     *         HTTP 304 NOT MODIFIED if the client copy is current,
      *         or HTTP 404 NOT FOUND if the item doesn't exist
      */
     // GET /items/{id}
     @GetMapping("/{id}")
-    public ResponseEntity<Item> getItemById(@PathVariable Long id) {
-        Optional<Item> item = itemRepository.findById(id);
-        return item.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
-                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    public ResponseEntity<Item> getItemById(@PathVariable Long id, ServletWebRequest request) {
+        boolean conditional = Validators.isConditional(request);
+        if (conditional) {
+            Optional<RowVersion> version = itemRepository.findVersionById(id);
+            if (version.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            if (Validators.notModified(request, Validators.entityTag(version.get()),
+                    Validators.lastModified(version.get()))) {
+                return null;
+            }
+        }
+        // Catégorie chargée dans la même requête (entity graph), pas de proxy à sérialiser
+        Optional<Item> item = itemRepository.findWithCategoryById(id);
+        if (item.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (!conditional) {
+            RowVersion version = Validators.version(item.get());
+            Validators.addValidators(request, Validators.entityTag(version), Validators.lastModified(version));
+        }
+        return new ResponseEntity<>(item.get(), HttpStatus.OK);
     }
 
     /**
@@ -90,21 +377,71 @@ public class ItemController {
      * @param categoryId the ID of the category to filter by
      * @param page       the page number (zero-based), default is 0
      * @param size       the number of items per page, default is 10
-     * @return ResponseEntity containing a page of items with HTTP 200 OK status
+     * @param withCount  whether to include totals, default is true; false
+     *                   returns a slice
+     * @param request    the current request, for its preconditions
+     * @return ResponseEntity containing a page of items with HTTP 200 OK status,
+     *         or HTTP 304 NOT MODIFIED if the client copy is current
      */
     // GET /items?categoryId=...
     // Utilise la méthode anti-N+1 du repository pour charger la catégorie avec
     // l'item
-    @GetMapping(params = "categoryId")
-    public ResponseEntity<Page<Item>> getItemsByCategoryId(@RequestParam Long categoryId,
+    @GetMapping(params = { "categoryId", "!after" })
+    public ResponseEntity<Slice<ItemSummary>> getItemsByCategoryId(@RequestParam Long categoryId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        // Utilisation de la méthode avec fetch join pour éviter le problème N+1
-        Page<Item> items = itemRepository.findByCategoryIdWithCategory(categoryId, pageable);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            ServletWebRequest request) {
+        Pageable pageable = PageRequest.of(page, size, BY_ID);
+        long total = withCount ? itemTotals.totalForCategory(categoryId) : -1;
+        boolean conditional = Validators.isConditional(request);
+        if (conditional && Validators.notModified(request,
+                Validators.pageTag("items", itemRepository.findVersionsByCategoryId(categoryId, pageable), total),
+                -1)) {
+            return null;
+        }
+        // Projection avec jointure sur la catégorie : une seule requête, pas de N+1
+        Slice<ItemSummary> items = itemRepository.findSummariesByCategoryId(categoryId, pageable);
+        if (!conditional) {
+            Validators.addValidators(request, Validators.pageTag("items", items.map(ItemSummary::rowVersion), total),
+                    -1);
+        }
+        if (withCount) {
+            items = new PageImpl<>(items.getContent(), pageable, total);
+        }
         return new ResponseEntity<>(items, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves items by keyset pagination, optionally filtered by category.
+     * 
+     * @param after      the cursor of the previous page, empty for the first page
+     * @param size       the number of items per page, default is 10
+     * @param categoryId optional category filter
+     * @return ResponseEntity containing the page and its next cursor with HTTP
+     *         200 OK, or HTTP 400 BAD REQUEST if the cursor is invalid
+     */
+    // GET /items?after=...&size=... (pagination par curseur)
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<ItemSummary>> getItemsAfter(@RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId) {
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Pageable limit = PageRequest.ofSize(size + 1); // une ligne de plus pour savoir s'il reste une page
+        List<ItemSummary> items = categoryId != null
+                ? itemRepository.findSummariesByCategoryIdAfter(categoryId, afterId, limit)
+                : itemRepository.findSummariesAfter(afterId, limit);
+        return new ResponseEntity<>(CursorPage.of(items, size, ItemSummary::id), HttpStatus.OK);
+    }
+
     /**
      * Creates a new item.
      * 
@@ -116,11 +453,38 @@ public class ItemController {
     @PostMapping
     public ResponseEntity<Item> createItem(@RequestBody Item item) {
         Item savedItem = itemRepository.save(item);
+        itemTotals.itemAdded(categoryIdOf(savedItem));
         return new ResponseEntity<>(savedItem, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates items in bulk from an NDJSON upload, one item per line:
+     * {@code {"sku":..,"name":..,"price":..,"stock":..,"categoryId":..}}.
+     * <p>
+     * The body is read as it arrives and inserted in chunks of
+     * {@code benchmark.bulk.chunk-size} rows, one transaction each, so memory
+     * stays bounded whatever the upload size. Rejected lines (malformed JSON,
+     * invalid values, duplicate SKU) are counted and described in the report;
+     * they do not stop the ingest.
+     * </p>
+     * 
+     * @param body the request body
+     * @return ResponseEntity containing the ingest report with HTTP 200 OK
+     *         status
+     * @throws IOException if the upload is interrupted
+     */
+    // POST /items/bulk
+    @PostMapping(path = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkReport> bulkCreateItems(InputStream body) throws IOException {
+        return ResponseEntity.ok(itemIngestService.ingest(body));
+    }
+
     /**
      * Updates an existing item.
+     * <p>
+     * The merged entity only references its category through a lazy proxy, so
+     * the response is reloaded with the category fetched.
+     * </p>
      * 
      * @param id   the unique identifier of the item to update
      * @param item the updated item data (from request body)
@@ -131,12 +495,15 @@ public class ItemController {
     // PUT /items/{id}
     @PutMapping("/{id}")
     public ResponseEntity<Item> updateItem(@PathVariable Long id, @RequestBody Item item) {
-        if (!itemRepository.existsById(id)) {
+        Optional<Item> existing = itemRepository.findById(id);
+        if (existing.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
+        Long previousCategoryId = categoryIdOf(existing.get()); // lu avant le merge
         item.setId(id); // Assurez-vous que l'ID de l'item à mettre à jour est correct
         Item updatedItem = itemRepository.save(item);
-        return new ResponseEntity<>(updatedItem, HttpStatus.OK);
+        itemTotals.itemMoved(previousCategoryId, categoryIdOf(updatedItem));
+        return new ResponseEntity<>(itemRepository.findWithCategoryById(id).orElse(updatedItem), HttpStatus.OK);
     }
 
     /**
@@ -149,10 +516,58 @@ public class ItemController {
     // DELETE /items/{id}
     @DeleteMapping("/{id}")
     public ResponseEntity<HttpStatus> deleteItem(@PathVariable Long id) {
-        if (!itemRepository.existsById(id)) {
+        Optional<Item> existing = itemRepository.findById(id);
+        if (existing.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        itemRepository.deleteById(id);
+        itemRepository.delete(existing.get());
+        itemTotals.itemRemoved(categoryIdOf(existing.get()));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Applies partial changes to several items:
+     * {@code [{"id":1,"price":9.99},{"id":2,"stock":0,"name":".."}]}.
+     * 
+     * @param changes changes, in request order
+     * @return ResponseEntity with an outcome per change ({@code updated},
+     *         {@code not_found} or {@code invalid}) and HTTP 200 OK status, or
+     *         HTTP 400 BAD REQUEST for an empty or oversized batch
+     */
+    // PATCH /items/batch
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResult> updateItems(@RequestBody List<ItemChange> changes) {
+        if (changes.isEmpty() || changes.size() > batchMaxItems) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemBatchService.updateItems(changes));
+    }
+
+    /**
+     * Deletes several items: {@code [1,2,3]}.
+     * 
+     * @param ids identifiers, in request order
+     * @return ResponseEntity with an outcome per identifier ({@code deleted} or
+     *         {@code not_found}) and HTTP 200 OK status, or HTTP 400 BAD
+     *         REQUEST for an empty or oversized batch
+     */
+    // DELETE /items/batch
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResult> deleteItems(@RequestBody List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > batchMaxItems) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemBatchService.deleteItems(ids));
+    }
+
+    /**
+     * Returns the category identifier of an item without initializing a lazy
+     * category proxy.
+     * 
+     * @param item the item
+     * @return the category ID, or null if the item has no category
+     */
+    private static Long categoryIdOf(Item item) {
+        return item.getCategory() != null ? item.getCategory().getId() : null;
+    }
 }
@@ -0,0 +1,217 @@
+package com.example.controller;
+
+import com.example.Item;
+import com.example.dto.CategorySummary;
+import com.example.dto.RowVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+/**
+ * HTTP validators ({@code ETag}, {@code Last-Modified}) built from row versions
+ * for the conditional GETs of the controllers.
+ * <p>
+ * A single entity gets a strong ETag made of its identifier and update time,
+ * plus a {@code Last-Modified} date. A page gets a weak ETag digesting the
+ * versions of its rows, its total and whether a next page exists; it has no
+ * {@code Last-Modified}, since a deletion can change a page without raising its
+ * newest timestamp.
+ * </p>
+ * <p>
+ * Version probes only pay off when the client sent {@code If-None-Match} or
+ * {@code If-Modified-Since} ({@link #isConditional(ServletWebRequest)}): a
+ * 304 then skips loading the rows. Any other GET loads its rows once and
+ * builds the same validators from them ({@link #addValidators}).
+ * </p>
+ * <p>
+ * Category summaries carry their item count, which changes without touching
+ * the category row: their tags also digest the count, and they are never sent
+ * with a {@code Last-Modified} date.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class Validators {
+
+    /**
+     * Sent with every validated response: clients and proxies keep the
+     * representation but revalidate it on each use.
+     */
+    private static final String NO_CACHE = CacheControl.noCache().getHeaderValue();
+
+    private Validators() {
+    }
+
+    /**
+     * Builds the strong ETag of an entity.
+     * 
+     * @param version entity version
+     * @return the ETag, e.g. {@code "42-5f1d3a2b7c000"}
+     */
+    static String entityTag(RowVersion version) {
+        return "\"" + version.id() + "-" + Long.toHexString(epochMicros(version.updatedAt())) + "\"";
+    }
+
+    /**
+     * Returns the {@code Last-Modified} time of an entity.
+     * 
+     * @param version entity version
+     * @return the update time in epoch milliseconds, -1 if it is unknown
+     */
+    static long lastModified(RowVersion version) {
+        return version.updatedAt() != null ? epochMicros(version.updatedAt()) / 1_000 : -1;
+    }
+
+    /**
+     * Returns the version of a loaded item: the latest update of the item and
+     * of its category, as read by the version probes.
+     * 
+     * @param item item, with its category loaded
+     * @return the item version
+     */
+    static RowVersion version(Item item) {
+        LocalDateTime updatedAt = item.getUpdatedAt();
+        if (item.getCategory() != null && item.getCategory().getUpdatedAt() != null
+                && (updatedAt == null || item.getCategory().getUpdatedAt().isAfter(updatedAt))) {
+            updatedAt = item.getCategory().getUpdatedAt();
+        }
+        return new RowVersion(item.getId(), updatedAt);
+    }
+
+    /**
+     * Builds the weak ETag of a page.
+     * 
+     * @param kind  resource kind, so that equal versions of different tables
+     *              give different tags
+     * @param rows  versions of the page rows, in page order
+     * @param total total returned with the page, -1 for a slice
+     * @return the ETag
+     */
+    static String pageTag(String kind, Slice<RowVersion> rows, long total) {
+        MessageDigest digest = sha256();
+        digest.update(kind.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2);
+        for (RowVersion row : rows) {
+            buffer.clear();
+            buffer.putLong(row.id()).putLong(epochMicros(row.updatedAt()));
+            digest.update(buffer.array());
+        }
+        buffer.clear();
+        buffer.putLong(rows.getNumberOfElements()).putLong(total);
+        digest.update(buffer.array());
+        digest.update((byte) (rows.hasNext() ? 1 : 0));
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Builds the strong ETag of a category summary.
+     * 
+     * @param category category summary
+     * @return the ETag, e.g. {@code "7-5f1d3a2b7c000-120"}
+     */
+    static String summaryTag(CategorySummary category) {
+        return "\"" + category.id() + "-" + Long.toHexString(epochMicros(category.updatedAt())) + "-"
+                + category.itemCount() + "\"";
+    }
+
+    /**
+     * Builds the weak ETag of a page of category summaries.
+     * 
+     * @param categories page of category summaries
+     * @return the ETag
+     */
+    static String summaryPageTag(Page<CategorySummary> categories) {
+        MessageDigest digest = sha256();
+        digest.update("categories".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 3);
+        for (CategorySummary category : categories) {
+            buffer.clear();
+            buffer.putLong(category.id()).putLong(epochMicros(category.updatedAt())).putLong(category.itemCount());
+            digest.update(buffer.array());
+        }
+        buffer.clear();
+        buffer.putLong(categories.getNumberOfElements()).putLong(categories.getTotalElements()).putLong(0L);
+        digest.update(buffer.array());
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} / {@code If-Modified-Since} against the
+     * current validators, which are added to the response either way.
+     * 
+     * @param request      current request
+     * @param etag         current ETag
+     * @param lastModified current update time in epoch milliseconds, -1 if
+     *                     unknown
+     * @return {@code true} if the response was turned into a 304 and the
+     *         handler must return {@code null}
+     */
+    static boolean notModified(ServletWebRequest request, String etag, long lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+        }
+        return lastModified >= 0 ? request.checkNotModified(etag, lastModified) : request.checkNotModified(etag);
+    }
+
+    /**
+     * Tells whether a request carries {@code If-None-Match} or
+     * {@code If-Modified-Since}, the only case where a version probe can save
+     * loading the rows.
+     * 
+     * @param request current request
+     * @return {@code true} if the request is conditional
+     */
+    static boolean isConditional(ServletWebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Adds the validators of a representation loaded without preconditions to
+     * the response.
+     * 
+     * @param request      current request
+     * @param etag         ETag of the representation
+     * @param lastModified update time in epoch milliseconds, -1 if unknown
+     */
+    static void addValidators(ServletWebRequest request, String etag, long lastModified) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (lastModified >= 0) {
+                response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+            }
+        }
+    }
+
+    private static long epochMicros(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Answer of a batched write ({@code PATCH} or {@code DELETE /items/batch}):
+ * one outcome per requested item, in request order, and their counts.
+ *
+ * @param succeeded number of items changed or deleted
+ * @param failed    number of entries rejected or without an item
+ * @param results   outcome of every entry, in request order
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record BatchResult(int succeeded, int failed, List<Outcome> results) {
+
+    /**
+     * Outcome of a change whose item was found and written.
+     */
+    public static final String UPDATED = "updated";
+
+    /**
+     * Outcome of a deleted item.
+     */
+    public static final String DELETED = "deleted";
+
+    /**
+     * Outcome of an identifier without item.
+     */
+    public static final String NOT_FOUND = "not_found";
+
+    /**
+     * Outcome of an entry rejected before reaching the database.
+     */
+    public static final String INVALID = "invalid";
+
+    /**
+     * Outcome of one entry.
+     *
+     * @param id      item identifier
+     * @param status  {@code updated}, {@code deleted}, {@code not_found} or
+     *                {@code invalid}
+     * @param message reason of an {@code invalid} outcome
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Outcome(Long id, String status, String message) {
+    }
+
+    /**
+     * Counts the outcomes of a batch.
+     *
+     * @param results outcome of every entry, in request order
+     * @return the batch result
+     */
+    public static BatchResult of(List<Outcome> results) {
+        int succeeded = 0;
+        for (Outcome outcome : results) {
+            if (UPDATED.equals(outcome.status()) || DELETED.equals(outcome.status())) {
+                succeeded++;
+            }
+        }
+        return new BatchResult(succeeded, results.size() - succeeded, results);
+    }
+}
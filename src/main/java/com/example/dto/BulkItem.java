@@ -0,0 +1,21 @@
+package com.example.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of a bulk ingest ({@code POST /items/bulk}): the fields of a new
+ * item, with its category given by identifier. Other properties on the line
+ * (such as the {@code id} of an exported item) are ignored.
+ *
+ * @param sku        stock keeping unit, unique
+ * @param name       item name
+ * @param price      unit price
+ * @param stock      quantity in stock
+ * @param categoryId identifier of an existing category, or {@code null} for an
+ *                   item without category
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record BulkItem(String sku, String name, BigDecimal price, Integer stock, Long categoryId) {
+}
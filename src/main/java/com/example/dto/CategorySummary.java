@@ -0,0 +1,23 @@
+package com.example.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of a category for list and detail endpoints.
+ * <p>
+ * Filled directly by a JPQL constructor expression, so serializing it never
+ * touches the lazy {@code items} collection of the entity; the number of items
+ * is aggregated by the same query ({@code LEFT JOIN ... GROUP BY}).
+ * </p>
+ *
+ * @param id        category identifier
+ * @param code      unique category code
+ * @param name      display name
+ * @param updatedAt timestamp of the last update
+ * @param itemCount number of items in the category
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record CategorySummary(Long id, String code, String name, LocalDateTime updatedAt, long itemCount) {
+}
@@ -0,0 +1,82 @@
+package com.example.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a keyset (seek) paginated listing.
+ * <p>
+ * Unlike OFFSET pagination, where page {@code n} forces the database to scan
+ * and discard {@code n * size} rows, keyset pagination resumes right after the
+ * last identifier returned ({@code WHERE id > :afterId ORDER BY id}), so every
+ * page costs the same whatever its depth. The position is handed to clients as
+ * an opaque {@code nextCursor} token to pass back as {@code ?after=}; it is
+ * {@code null} on the last page.
+ * </p>
+ *
+ * @param content    rows of this page
+ * @param size       requested page size
+ * @param nextCursor cursor of the next page, {@code null} if there is none
+ * @param <T>        row type
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor) {
+
+    /**
+     * Builds a page from a query that fetched up to {@code size + 1} rows; the
+     * extra row only signals that a next page exists and is dropped.
+     *
+     * @param rows rows fetched with a limit of {@code size + 1}
+     * @param size requested page size
+     * @param idOf extracts the seek key from a row
+     * @param <T>  row type
+     * @return the page with its next cursor
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, ToLongFunction<T> idOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, size, null);
+        }
+        List<T> content = new ArrayList<>(rows.subList(0, size));
+        return new CursorPage<>(content, size, encode(idOf.applyAsLong(content.get(size - 1))));
+    }
+
+    /**
+     * Encodes the last identifier of a page as an opaque cursor.
+     *
+     * @param lastId identifier of the last row returned
+     * @return URL-safe cursor token
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a cursor received as {@code ?after=}. An empty cursor starts from
+     * the first page.
+     *
+     * @param cursor cursor token, possibly empty
+     * @return identifier to seek after (0 for the first page)
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            long lastId = Long.parseLong(value);
+            if (lastId < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model of an item for list endpoints.
+ * <p>
+ * Filled directly by a JPQL constructor expression joining the category, so a
+ * page of items is always one SELECT, with no lazy proxy to initialize during
+ * serialization. The JSON shape matches the entity's: the category is nested
+ * with its identifier, code and name.
+ * </p>
+ * <p>
+ * Each row also carries its version, the latest update of the item and of its
+ * category, so that a page read without preconditions builds its validators
+ * without a separate version probe. It is not serialized.
+ * </p>
+ *
+ * @param id        item identifier
+ * @param sku       stock keeping unit
+ * @param name      item name
+ * @param price     unit price
+ * @param stock     quantity in stock
+ * @param updatedAt timestamp of the last update
+ * @param versionAt latest update of the item and of its category
+ * @param category  category of the item, {@code null} if it has none
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemSummary(Long id, String sku, String name, BigDecimal price, Integer stock,
+        LocalDateTime updatedAt, @JsonIgnore LocalDateTime versionAt, CategoryRef category) {
+
+    /**
+     * Flat constructor used by the JPQL constructor expressions.
+     *
+     * @param id           item identifier
+     * @param sku          stock keeping unit
+     * @param name         item name
+     * @param price        unit price
+     * @param stock        quantity in stock
+     * @param updatedAt    timestamp of the last update
+     * @param versionAt    latest update of the item and of its category
+     * @param categoryId   category identifier, {@code null} if the item has none
+     * @param categoryCode category code
+     * @param categoryName category name
+     */
+    public ItemSummary(Long id, String sku, String name, BigDecimal price, Integer stock,
+            LocalDateTime updatedAt, LocalDateTime versionAt, Long categoryId, String categoryCode,
+            String categoryName) {
+        this(id, sku, name, price, stock, updatedAt, versionAt,
+                categoryId != null ? new CategoryRef(categoryId, categoryCode, categoryName) : null);
+    }
+
+    /**
+     * Returns the version of the row, as read by the version probes.
+     *
+     * @return the row version
+     */
+    public RowVersion rowVersion() {
+        return new RowVersion(id, versionAt);
+    }
+
+    /**
+     * Category reference embedded in an item.
+     *
+     * @param id   category identifier
+     * @param code category code
+     * @param name category name
+     */
+    public record CategoryRef(Long id, String code, String name) {
+    }
+}
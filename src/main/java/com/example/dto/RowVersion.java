@@ -0,0 +1,21 @@
+package com.example.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version stamp of one row: its identifier and last update time.
+ * <p>
+ * Conditional GETs read these stamps through narrow projection queries to
+ * build their validators ({@code ETag}, {@code Last-Modified}), so a request
+ * answered with 304 Not Modified never loads nor serializes the entity.
+ * </p>
+ *
+ * @param id        row identifier
+ * @param updatedAt timestamp of the last update, {@code null} for rows written
+ *                  outside Hibernate
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record RowVersion(Long id, LocalDateTime updatedAt) {
+}
@@ -2,12 +2,19 @@ package com.example.repository;
 
 import com.example.Category;
 import com.example.Item;
+import com.example.config.CacheRegions;
+import com.example.dto.CategorySummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * Repository interface for Category entity data access.
  * <p>
@@ -15,6 +22,12 @@ import org.springframework.stereotype.Repository;
  * and custom query methods for Category entities. It includes optimized queries
  * for retrieving related items with pagination support.
  * </p>
+ * <p>
+ * Read endpoints use {@link CategorySummary} projections, which carry the item
+ * count instead of the lazy {@code items} collection. They are kept in the
+ * Hibernate query cache ({@link CacheRegions#CATEGORY_QUERIES}) until a
+ * category or an item is written.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -39,4 +52,47 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // Méthode pour récupérer les items d'une catégorie avec pagination
     @Query("SELECT i FROM Item i WHERE i.category.id = :categoryId")
     Page<Item> findItemsByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * Select clause of the {@link CategorySummary} projections: category columns
+     * plus the number of items, aggregated in the same statement.
+     */
+    String SUMMARY_SELECT = "SELECT new com.example.dto.CategorySummary(c.id, c.code, c.name, c.updatedAt, COUNT(i)) "
+            + "FROM Category c LEFT JOIN c.items i";
+
+    /**
+     * GROUP BY clause matching {@link #SUMMARY_SELECT}.
+     */
+    String SUMMARY_GROUP_BY = " GROUP BY c.id, c.code, c.name, c.updatedAt";
+
+    /**
+     * Retrieves a page of category summaries with their item counts.
+     * <p>
+     * One SELECT with a {@code LEFT JOIN ... GROUP BY} plus the COUNT of the page
+     * metadata, whatever the page size; ordering by identifier lets PostgreSQL
+     * aggregate only the categories of the requested page.
+     * </p>
+     * 
+     * @param pageable pagination information (page number, size)
+     * @return a page of category summaries
+     */
+    // Nombre d'items agrégé dans la même requête (plus de chargement de la collection items)
+    @Query(value = SUMMARY_SELECT + SUMMARY_GROUP_BY + " ORDER BY c.id",
+            countQuery = "SELECT COUNT(c) FROM Category c")
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES) },
+            forCounting = true)
+    Page<CategorySummary> findSummaries(Pageable pageable);
+
+    /**
+     * Retrieves the summary of one category with its item count.
+     * 
+     * @param id the ID of the category
+     * @return the category summary, or empty if the category doesn't exist
+     */
+    @Query(SUMMARY_SELECT + " WHERE c.id = :id" + SUMMARY_GROUP_BY)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES) })
+    Optional<CategorySummary> findSummaryById(Long id);
 }
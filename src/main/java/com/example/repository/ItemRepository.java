@@ -1,11 +1,25 @@
 package com.example.repository;
 
 import com.example.Item;
+import com.example.config.CacheRegions;
+import com.example.dto.ItemSummary;
+import com.example.dto.RowVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Item entity data access.
@@ -15,6 +29,19 @@ import org.springframework.stereotype.Repository;
  * with fetch joins to prevent N+1 query problems when loading related
  * categories.
  * </p>
+ * <p>
+ * List endpoints read {@link ItemSummary} projections rather than entities:
+ * each page is a single SELECT whatever its size. Category-filtered pages and
+ * per-category counts also go through the Hibernate query cache (see
+ * {@link CacheRegions}).
+ * </p>
+ * <p>
+ * The {@link RowVersion} queries are the version probes of conditional GETs,
+ * run only for requests carrying preconditions; the summaries carry the same
+ * version for the other requests. An item representation embeds its category,
+ * so the version of a row is the latest update of the item and of its
+ * category.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -24,6 +51,65 @@ import org.springframework.stereotype.Repository;
 // @RepositoryRestResource(collectionResourceRel = "items", path = "items")
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    /**
+     * Version of an item row: the latest update of the item and its category.
+     */
+    String VERSION_AT = "case when c.updatedAt > i.updatedAt then c.updatedAt else i.updatedAt end";
+
+    /**
+     * Select clause shared by the list queries: an {@link ItemSummary} built by a
+     * constructor expression, with the category columns and the row version
+     * read through a join in the same statement.
+     */
+    String SUMMARY_SELECT = "select new com.example.dto.ItemSummary(i.id, i.sku, i.name, i.price, i.stock, "
+            + "i.updatedAt, " + VERSION_AT + ", c.id, c.code, c.name) from Item i left join i.category c";
+
+    /**
+     * Rows fetched per round trip by {@link #streamSummaries()}.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Select clause of the version probes: the item identifier and its
+     * version.
+     */
+    String VERSION_SELECT = "select new com.example.dto.RowVersion(i.id, " + VERSION_AT + ") "
+            + "from Item i left join i.category c";
+
+    /**
+     * Finds an item by its ID with its category loaded in the same query.
+     * <p>
+     * Single-item endpoints serialize the entity after the transaction has
+     * ended (open-session-in-view is disabled), so the category must not be
+     * left as a lazy proxy.
+     * </p>
+     * 
+     * @param id the ID of the item
+     * @return the item with its category, or empty if it doesn't exist
+     */
+    @EntityGraph(attributePaths = "category")
+    Optional<Item> findWithCategoryById(Long id);
+
+    /**
+     * Finds several items by ID in a single query, with their category fetched
+     * in the same SELECT (multi-get).
+     * 
+     * @param ids the IDs to look up
+     * @return the items found, in no particular order
+     */
+    @EntityGraph(attributePaths = "category")
+    List<Item> findWithCategoryByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds several items by SKU in a single query, with their category
+     * fetched in the same SELECT (multi-get).
+     * 
+     * @param skus the SKUs to look up
+     * @return the items found, in no particular order
+     */
+    @EntityGraph(attributePaths = "category")
+    List<Item> findWithCategoryBySkuIn(Collection<String> skus);
+
     /**
      * Finds items by category ID with pagination.
      * <p>
@@ -55,4 +141,164 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     // Variante anti-N+1 pour le filtre par categoryId avec fetch join
     @Query("select i from Item i join fetch i.category where i.category.id = :categoryId")
     Page<Item> findByCategoryIdWithCategory(Long categoryId, Pageable pageable);
+
+    /**
+     * Retrieves a page of item summaries without a COUNT query: Spring Data
+     * fetches one extra row to tell whether a next page exists. Totals, when
+     * requested, come from {@code ItemTotals}.
+     * 
+     * @param pageable pagination information (page number, size, sorting)
+     * @return a slice of item summaries
+     */
+    @Query(SUMMARY_SELECT)
+    Slice<ItemSummary> findSummariesBy(Pageable pageable);
+
+    /**
+     * Retrieves a page of the item summaries of a category without a COUNT
+     * query.
+     * 
+     * @param categoryId the ID of the category to filter by
+     * @param pageable   pagination information (page number, size, sorting)
+     * @return a slice of item summaries
+     */
+    @Query(SUMMARY_SELECT + " where c.id = :categoryId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    Slice<ItemSummary> findSummariesByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * Reads the version of an item without loading it.
+     * 
+     * @param id the ID of the item
+     * @return the item version, or empty if the item doesn't exist
+     */
+    @Query(VERSION_SELECT + " where i.id = :id")
+    Optional<RowVersion> findVersionById(Long id);
+
+    /**
+     * Reads the versions of the rows of {@link #findSummariesBy(Pageable)} for
+     * the same pageable.
+     * 
+     * @param pageable pagination information (page number, size, sorting)
+     * @return a slice of item versions
+     */
+    @Query(VERSION_SELECT)
+    Slice<RowVersion> findVersionsBy(Pageable pageable);
+
+    /**
+     * Reads the versions of the rows of
+     * {@link #findSummariesByCategoryId(Long, Pageable)}, through the same query
+     * cache region.
+     * 
+     * @param categoryId the ID of the category to filter by
+     * @param pageable   pagination information (page number, size, sorting)
+     * @return a slice of item versions
+     */
+    @Query(VERSION_SELECT + " where c.id = :categoryId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    Slice<RowVersion> findVersionsByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * Counts the items of a category.
+     * 
+     * @param categoryId the ID of the category
+     * @return the number of items in the category
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEM_COUNTS) })
+    long countByCategoryId(Long categoryId);
+
+    /**
+     * Counts the items of every category in a single GROUP BY query, used to
+     * reconcile the cached totals. Items without category are grouped under a
+     * {@code null} identifier.
+     * 
+     * @return rows of {@code [categoryId, count]}
+     */
+    // Un seul parcours de la table pour tous les compteurs
+    @Query("select i.category.id, count(i) from Item i group by i.category.id")
+    List<Object[]> countGroupByCategory();
+
+    /**
+     * Returns the planner estimate of the item row count
+     * ({@code pg_class.reltuples}), maintained by VACUUM and ANALYZE: a catalog
+     * lookup whatever the table size, but lagging behind recent writes.
+     * 
+     * @return the estimated row count, -1 if the table was never analyzed
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('item' AS regclass)",
+            nativeQuery = true)
+    Long estimateCount();
+
+    /**
+     * Deletes several items with a single statement, without loading them.
+     * <p>
+     * The identifiers are bound as one array, so every batch size shares the
+     * same prepared statement. Hibernate does not see the rows go: the caller
+     * evicts the query cache regions reading {@code item} once the transaction
+     * commits.
+     * </p>
+     * 
+     * @param ids the IDs of the items to delete
+     * @return rows of {@code [id, categoryId]} of the items actually deleted
+     */
+    // Un seul aller-retour : ni SELECT préalable ni DELETE par item
+    @Transactional
+    @Query(value = "DELETE FROM item WHERE id = ANY(CAST(:ids AS bigint[])) RETURNING id, category_id",
+            nativeQuery = true)
+    List<Object[]> deleteAllByIdReturning(Long[] ids);
+
+    /**
+     * Finds the item summaries following a given identifier (keyset
+     * pagination).
+     * <p>
+     * The seek predicate {@code id > :afterId} is resolved on the primary key
+     * index, so a deep page costs the same as the first one, whereas OFFSET makes
+     * the database read and discard every preceding row. Only the size of
+     * {@code limit} is used and no COUNT query is issued.
+     * </p>
+     * 
+     * @param afterId the identifier of the last item already returned (0 for the
+     *                first page)
+     * @param limit   maximum number of items to return
+     * @return item summaries ordered by identifier
+     */
+    // Pagination par clé (seek) : coût constant quelle que soit la profondeur
+    @Query(SUMMARY_SELECT + " where i.id > :afterId order by i.id")
+    List<ItemSummary> findSummariesAfter(long afterId, Pageable limit);
+
+    /**
+     * Finds the item summaries of a category following a given identifier,
+     * seeking on {@code (category_id, id)}.
+     * 
+     * @param categoryId the ID of the category to filter by
+     * @param afterId    the identifier of the last item already returned (0 for
+     *                   the first page)
+     * @param limit      maximum number of items to return
+     * @return item summaries of the category ordered by identifier
+     */
+    @Query(SUMMARY_SELECT + " where c.id = :categoryId and i.id > :afterId order by i.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    List<ItemSummary> findSummariesByCategoryIdAfter(Long categoryId, long afterId, Pageable limit);
+
+    /**
+     * Streams every item summary in identifier order, for the catalog export.
+     * <p>
+     * The rows come from a server-side cursor that fetches
+     * {@value #EXPORT_FETCH_SIZE} rows per round trip instead of materializing
+     * the result list; projections are not managed entities, so nothing piles
+     * up in the persistence context. The stream must be consumed and closed
+     * inside a transaction, which PostgreSQL also requires to honor the fetch
+     * size.
+     * </p>
+     * 
+     * @return stream of all item summaries, to be closed by the caller
+     */
+    // Curseur serveur : mémoire constante quel que soit le nombre de lignes
+    @Query(SUMMARY_SELECT + " order by i.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<ItemSummary> streamSummaries();
 }
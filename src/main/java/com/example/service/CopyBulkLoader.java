@@ -0,0 +1,360 @@
+package com.example.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+/**
+ * Bulk loader streaming generated seed data into PostgreSQL through the
+ * driver's {@link CopyManager}.
+ * <p>
+ * Rows are rendered as CSV by several producer threads into fixed-size chunks
+ * and handed over through a bounded queue to one or more {@code COPY ... FROM
+ * STDIN} streams, each running on its own connection. This bypasses the
+ * persistence context entirely: no entity is ever instantiated and memory
+ * stays bounded by {@code queueCapacity * chunkRows} rows.
+ * </p>
+ *
+ * <p>
+ * Identifiers are written explicitly ({@code 1..n}) and the {@code category_seq}
+ * / {@code item_seq} sequences are moved past them afterwards, so entities
+ * persisted later through {@link com.example.PooledSequenceGenerator} never
+ * collide with loaded rows.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class CopyBulkLoader {
+
+    /**
+     * Logger for tracking load progress and throughput.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CopyBulkLoader.class);
+
+    /**
+     * COPY statement for the category table (CSV format).
+     */
+    private static final String COPY_CATEGORY_SQL =
+            "COPY category (id, code, name, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * COPY statement for the item table (CSV format).
+     */
+    private static final String COPY_ITEM_SQL =
+            "COPY item (id, sku, name, price, stock, category_id, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Marker telling a COPY stream that no more chunks will be produced.
+     */
+    private static final byte[] END_OF_DATA = new byte[0];
+
+    /**
+     * Data source providing the connections used by the COPY streams.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Template used to realign the identifier sequences after a load.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Number of threads rendering CSV rows.
+     */
+    private final int producers;
+
+    /**
+     * Number of concurrent COPY streams (one connection each).
+     */
+    private final int streams;
+
+    /**
+     * Maximum number of rendered chunks waiting to be copied.
+     */
+    private final int queueCapacity;
+
+    /**
+     * Number of rows rendered into a single chunk.
+     */
+    private final int chunkRows;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param dataSource    data source used to open the COPY connections
+     * @param jdbcTemplate  template used to realign the identifier sequences
+     * @param producers     number of producer threads
+     * @param streams       number of concurrent COPY streams
+     * @param queueCapacity capacity of the chunk queue
+     * @param chunkRows     number of rows per chunk
+     */
+    public CopyBulkLoader(DataSource dataSource, JdbcTemplate jdbcTemplate,
+            @Value("${benchmark.seed.copy.producers:4}") int producers,
+            @Value("${benchmark.seed.copy.streams:2}") int streams,
+            @Value("${benchmark.seed.copy.queue-capacity:16}") int queueCapacity,
+            @Value("${benchmark.seed.copy.chunk-rows:5000}") int chunkRows) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.producers = Math.max(1, producers);
+        this.streams = Math.max(1, streams);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.chunkRows = Math.max(1, chunkRows);
+    }
+
+    /**
+     * Loads {@code count} categories through a single COPY stream and returns
+     * their identifiers.
+     *
+     * @param dataset factory generating the category rows
+     * @param count   number of categories to generate
+     * @return identifiers of the loaded categories, in generation order
+     */
+    public long[] loadCategories(DatasetFactory dataset, int count) {
+        String now = LocalDateTime.now().toString();
+        StringBuilder csv = new StringBuilder(count * 48);
+        for (int i = 0; i < count; i++) {
+            csv.append(i + 1).append(',');
+            appendCsv(csv, dataset.categoryCode(i)).append(',');
+            appendCsv(csv, dataset.categoryName(i)).append(',');
+            csv.append(now).append('\n');
+        }
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            CopyIn copyIn = copyManager.copyIn(COPY_CATEGORY_SQL);
+            byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            copyIn.endCopy();
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY of categories failed", e);
+        }
+        logThroughput("catégories", count, System.nanoTime() - start);
+        advanceSequence("category_seq", count);
+
+        return LongStream.rangeClosed(1, count).toArray();
+    }
+
+    /**
+     * Loads {@code totalItems} items, spreading them over the given categories
+     * according to the dataset's category distribution.
+     * <p>
+     * The row range is split into chunks claimed by the producer threads; each
+     * chunk is rendered to UTF-8 CSV and queued. The COPY streams drain the queue
+     * concurrently and commit independently once all chunks are written. If any
+     * stream fails, producers stop and the first failure is rethrown.
+     * </p>
+     *
+     * @param dataset     factory generating the item rows
+     * @param categoryIds identifiers of the categories, in generation order
+     * @param totalItems  number of items to generate
+     * @return number of rows written
+     */
+    public long loadItems(DatasetFactory dataset, long[] categoryIds, int totalItems) {
+        if (categoryIds.length == 0) {
+            throw new IllegalArgumentException("At least one category is required to load items");
+        }
+        BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int chunkCount = (totalItems + chunkRows - 1) / chunkRows;
+        String now = LocalDateTime.now().toString();
+
+        ExecutorService producerPool = Executors.newFixedThreadPool(producers);
+        ExecutorService streamPool = Executors.newFixedThreadPool(streams);
+        long start = System.nanoTime();
+        try {
+            List<Future<Long>> copyStreams = new ArrayList<>(streams);
+            for (int s = 0; s < streams; s++) {
+                copyStreams.add(streamPool.submit(() -> copyStream(queue, failure)));
+            }
+
+            List<Future<?>> producerTasks = new ArrayList<>(producers);
+            for (int p = 0; p < producers; p++) {
+                producerTasks.add(producerPool.submit(() -> {
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunkCount && failure.get() == null) {
+                        int from = chunk * chunkRows;
+                        int to = Math.min(totalItems, from + chunkRows);
+                        enqueue(queue, renderItems(dataset, categoryIds, from, to, now), failure);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : producerTasks) {
+                await(task, failure);
+            }
+            for (int s = 0; s < streams; s++) {
+                enqueue(queue, END_OF_DATA, failure);
+            }
+
+            long rows = 0;
+            for (Future<Long> stream : copyStreams) {
+                Long written = await(stream, failure);
+                rows += written != null ? written : 0;
+            }
+            if (failure.get() != null) {
+                throw new IllegalStateException("COPY of items failed", failure.get());
+            }
+            logThroughput("items", rows, System.nanoTime() - start);
+            advanceSequence("item_seq", totalItems);
+            return rows;
+        } finally {
+            producerPool.shutdownNow();
+            streamPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Drains chunks from the queue into one COPY stream until the end marker is
+     * received.
+     *
+     * @param queue   queue of rendered chunks
+     * @param failure shared failure holder
+     * @return number of rows written by this stream
+     * @throws Exception if the COPY operation fails or the thread is interrupted
+     */
+    private long copyStream(BlockingQueue<byte[]> queue, AtomicReference<Throwable> failure) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            CopyIn copyIn = copyManager.copyIn(COPY_ITEM_SQL);
+            try {
+                while (true) {
+                    byte[] chunk = queue.poll(1, TimeUnit.SECONDS);
+                    if (failure.get() != null) {
+                        copyIn.cancelCopy();
+                        return 0;
+                    }
+                    if (chunk == END_OF_DATA) {
+                        return copyIn.endCopy();
+                    }
+                    if (chunk != null) {
+                        copyIn.writeToCopy(chunk, 0, chunk.length);
+                    }
+                }
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Renders items {@code [from, to)} as UTF-8 CSV.
+     */
+    private static byte[] renderItems(DatasetFactory dataset, long[] categoryIds, int from, int to, String now) {
+        StringBuilder csv = new StringBuilder((to - from) * 96);
+        for (int i = from; i < to; i++) {
+            DatasetFactory.ItemRow row = dataset.item(i);
+            csv.append(i + 1L).append(',');
+            csv.append(row.sku()).append(',');
+            appendCsv(csv, row.name()).append(',');
+            csv.append(row.priceCents() / 100).append('.');
+            long fraction = row.priceCents() % 100;
+            if (fraction < 10) {
+                csv.append('0');
+            }
+            csv.append(fraction).append(',');
+            csv.append(row.stock()).append(',');
+            csv.append(categoryIds[row.categoryIndex()]).append(',');
+            csv.append(now).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Moves a sequence past the identifiers written explicitly by COPY.
+     */
+    private void advanceSequence(String sequence, long lastId) {
+        if (lastId > 0) {
+            jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?)", Long.class, sequence, lastId);
+        }
+    }
+
+    /**
+     * Appends a value as a quoted CSV field, doubling embedded quotes.
+     */
+    private static StringBuilder appendCsv(StringBuilder csv, String value) {
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    /**
+     * Puts a chunk on the queue, giving up as soon as a stream has failed so
+     * producers never block forever on a full queue.
+     */
+    private static void enqueue(BlockingQueue<byte[]> queue, byte[] chunk, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                if (queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Waits for a task, recording its failure instead of throwing.
+     */
+    private static <T> T await(Future<T> task, AtomicReference<Throwable> failure) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+        return null;
+    }
+
+    /**
+     * Logs the number of rows loaded and the resulting rows/s rate.
+     */
+    private static void logThroughput(String what, long rows, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        logger.info("COPY: {} {} chargés en {} s ({} lignes/s)", rows, what,
+                String.format(Locale.ROOT, "%.2f", seconds),
+                String.format(Locale.ROOT, "%.0f", rows / Math.max(seconds, 1e-9)));
+    }
+}
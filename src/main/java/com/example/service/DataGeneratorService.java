@@ -4,26 +4,29 @@ import com.example.Category;
 import com.example.Item;
 import com.example.repository.CategoryRepository;
 import com.example.repository.ItemRepository;
-import com.github.javafaker.Faker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Service responsible for generating test data for performance benchmarking.
  * <p>
- * This service uses the JavaFaker library to generate realistic test data
- * including
- * categories and items. It creates a large dataset (2000 categories and 100,000
- * items)
- * suitable for performance testing and benchmarking REST API implementations.
+ * Rows come from a seeded {@link DatasetFactory}: the same seed always yields
+ * the same dataset, whatever the number of threads. By default it creates 2000
+ * categories and 100,000 items; both sizes are configurable and the generator
+ * scales to millions of items.
  * </p>
  * 
  * <p>
@@ -31,12 +34,19 @@ import java.util.concurrent.ThreadLocalRandom;
  * </p>
  * <ul>
  * <li>Checks if data already exists to avoid duplication</li>
- * <li>Generates 2000 categories with unique codes and names</li>
- * <li>Generates 100,000 items with random attributes and category
- * associations</li>
- * <li>Uses batch processing to optimize memory usage and database
- * performance</li>
+ * <li>Generates categories with unique codes and names</li>
+ * <li>Generates items with random attributes, assigned to categories according
+ * to the configured skew ({@code uniform}, {@code zipf} or {@code hot})</li>
+ * <li>Fans the work out over several workers writing independent chunks</li>
  * </ul>
+ *
+ * <p>
+ * Two seeding modes are available through {@code benchmark.seed.mode}:
+ * {@code jpa} persists entities through the repositories, while {@code copy}
+ * (the default) streams rows straight into PostgreSQL with
+ * {@link CopyBulkLoader}, which is orders of magnitude faster for large
+ * datasets.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -50,6 +60,11 @@ public class DataGeneratorService {
      */
     private static final Logger logger = LoggerFactory.getLogger(DataGeneratorService.class);
 
+    /**
+     * Number of items persisted per transaction in the {@code jpa} mode.
+     */
+    private static final int JPA_CHUNK_SIZE = 1000;
+
     /**
      * Repository for Category entity persistence.
      */
@@ -61,42 +76,87 @@ public class DataGeneratorService {
     private final ItemRepository itemRepository;
 
     /**
-     * Faker instance configured for French locale to generate realistic test data.
+     * COPY-based loader used when {@code benchmark.seed.mode=copy}.
+     */
+    private final CopyBulkLoader copyBulkLoader;
+
+    /**
+     * Transaction template wrapping each chunk of the repository-based mode.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Seeding mode: {@code copy} or {@code jpa}.
+     */
+    private final String mode;
+
+    /**
+     * Number of categories to generate.
+     */
+    private final int categoryCount;
+
+    /**
+     * Number of items to generate.
+     */
+    private final int itemCount;
+
+    /**
+     * Number of concurrent workers in the {@code jpa} mode.
      */
-    private final Faker faker = new Faker(Locale.of("fr"));
+    private final int workers;
+
+    /**
+     * Seeded factory producing the rows.
+     */
+    private final DatasetFactory dataset;
 
     /**
      * Constructor for dependency injection.
      * 
-     * @param categoryRepository repository for category data access
-     * @param itemRepository     repository for item data access
+     * @param categoryRepository  repository for category data access
+     * @param itemRepository      repository for item data access
+     * @param copyBulkLoader      COPY-based bulk loader
+     * @param transactionTemplate template wrapping the repository-based mode
+     * @param mode                seeding mode ({@code copy} or {@code jpa})
+     * @param categoryCount       number of categories to generate
+     * @param itemCount           number of items to generate
+     * @param workers             number of concurrent workers in the jpa mode
+     * @param seed                dataset seed
+     * @param skew                category distribution ({@code uniform}, {@code zipf}, {@code hot})
+     * @param zipfExponent        exponent of the Zipf distribution
+     * @param hotCategories       number of hot categories for the hot distribution
+     * @param hotFraction         share of items going to hot categories
      */
-    public DataGeneratorService(CategoryRepository categoryRepository, ItemRepository itemRepository) {
+    public DataGeneratorService(CategoryRepository categoryRepository, ItemRepository itemRepository,
+            CopyBulkLoader copyBulkLoader, TransactionTemplate transactionTemplate,
+            @Value("${benchmark.seed.mode:copy}") String mode,
+            @Value("${benchmark.seed.categories:2000}") int categoryCount,
+            @Value("${benchmark.seed.items:100000}") int itemCount,
+            @Value("${benchmark.seed.workers:4}") int workers,
+            @Value("${benchmark.seed.seed:42}") long seed,
+            @Value("${benchmark.seed.skew:uniform}") String skew,
+            @Value("${benchmark.seed.zipf-exponent:1.0}") double zipfExponent,
+            @Value("${benchmark.seed.hot-categories:20}") int hotCategories,
+            @Value("${benchmark.seed.hot-fraction:0.8}") double hotFraction) {
         this.categoryRepository = categoryRepository;
         this.itemRepository = itemRepository;
+        this.copyBulkLoader = copyBulkLoader;
+        this.transactionTemplate = transactionTemplate;
+        this.mode = mode;
+        this.categoryCount = categoryCount;
+        this.itemCount = itemCount;
+        this.workers = Math.max(1, workers);
+        this.dataset = new DatasetFactory(seed,
+                CategorySampler.of(skew, categoryCount, zipfExponent, hotCategories, hotFraction));
     }
 
     /**
      * Generates test data for categories and items if the database is empty.
      * <p>
-     * This method is transactional to ensure data consistency. It performs the
-     * following steps:
-     * </p>
-     * <ol>
-     * <li>Checks if data already exists - skips generation if found</li>
-     * <li>Generates 2000 categories with unique codes and department names</li>
-     * <li>Generates 100,000 items with random SKUs, names, prices, and stock
-     * quantities</li>
-     * <li>Associates each item with a random category</li>
-     * <li>Saves data in batches of 1000 items to optimize memory usage</li>
-     * </ol>
-     * 
-     * <p>
-     * <b>Performance Note:</b> This method may take several minutes to complete
-     * due to the large volume of data being generated.
+     * Checks if data already exists and skips generation if found. Otherwise
+     * dispatches to the configured seeding mode and logs the overall rows/s.
      * </p>
      */
-    @Transactional
     public void generateData() {
         if (categoryRepository.count() > 0 || itemRepository.count() > 0) {
             // Idempotent guard: skip generation when seed data is already present to avoid duplicates
@@ -104,50 +164,92 @@ public class DataGeneratorService {
             return;
         }
 
-        logger.info("Début de la génération des données...");
+        logger.info("Début de la génération des données (mode {}, répartition {})...", mode,
+                dataset.getCategorySampler());
+        long start = System.nanoTime();
+        if ("copy".equalsIgnoreCase(mode)) {
+            long[] categoryIds = copyBulkLoader.loadCategories(dataset, categoryCount);
+            copyBulkLoader.loadItems(dataset, categoryIds, itemCount);
+        } else {
+            generateWithRepositories();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        logger.info("Génération de données terminée en {} s ({} lignes/s).",
+                String.format(Locale.ROOT, "%.2f", seconds),
+                String.format(Locale.ROOT, "%.0f", (categoryCount + itemCount) / Math.max(seconds, 1e-9)));
+    }
 
+    /**
+     * Generates categories and items through the JPA repositories.
+     * <p>
+     * Categories are saved first in one transaction. Items are then split into
+     * chunks of {@value #JPA_CHUNK_SIZE} claimed by {@code workers} virtual
+     * threads; each chunk is saved in its own transaction, so the persistence
+     * context never holds more than one chunk per worker.
+     * </p>
+     */
+    private void generateWithRepositories() {
         // 1. Générer les catégories
-        logger.info("Génération de 2000 catégories...");
-        List<Category> categories = new ArrayList<>();
-        for (int i = 0; i < 2000; i++) {
+        logger.info("Génération de {} catégories...", categoryCount);
+        List<Category> categories = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
             Category category = new Category();
-            String department = faker.commerce().department().replaceAll("[^a-zA-Z0-9.-]", "").toLowerCase();
-            if (department.length() > 25) {
-                department = department.substring(0, 25);
-            }
-            category.setCode(department + "_" + i);
-            category.setName(faker.commerce().department());
+            category.setCode(dataset.categoryCode(i));
+            category.setName(dataset.categoryName(i));
             categories.add(category);
         }
-        categoryRepository.saveAll(categories);
-        logger.info("2000 catégories générées avec succès.");
-
-        // 2. Générer les items
-        logger.info("Génération de 100 000 items...");
-        List<Item> items = new ArrayList<>();
-        for (int i = 0; i < 100000; i++) {
-            Item item = new Item();
-            item.setSku(faker.code().ean13());
-            item.setName(faker.commerce().productName());
-            item.setPrice(BigDecimal.valueOf(faker.number().randomDouble(2, 1, 1000)));
-            item.setStock(faker.number().numberBetween(0, 1000));
-            // Associer à une catégorie aléatoire
-            item.setCategory(categories.get(ThreadLocalRandom.current().nextInt(0, categories.size())));
-            items.add(item);
-
-            // Sauvegarder par lots pour éviter une consommation de mémoire excessive
-            if (items.size() % 1000 == 0) {
-                itemRepository.saveAll(items);
-                items.clear();
-                // Emit progress log every batch to monitor long-running insert phase without flooding logs
-                logger.info("{} items générés...", i + 1);
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.saveAll(categories));
+        logger.info("{} catégories générées avec succès.", categoryCount);
+
+        // 2. Générer les items par lots, répartis sur plusieurs workers
+        logger.info("Génération de {} items ({} workers)...", itemCount, workers);
+        int chunkCount = (itemCount + JPA_CHUNK_SIZE - 1) / JPA_CHUNK_SIZE;
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger savedChunks = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                tasks.add(executor.submit(() -> {
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                        int from = chunk * JPA_CHUNK_SIZE;
+                        int to = Math.min(itemCount, from + JPA_CHUNK_SIZE);
+                        List<Item> items = new ArrayList<>(to - from);
+                        for (int i = from; i < to; i++) {
+                            items.add(toItem(dataset.item(i), categories));
+                        }
+                        transactionTemplate.executeWithoutResult(status -> itemRepository.saveAll(items));
+                        int done = savedChunks.incrementAndGet();
+                        if (done % 10 == 0) {
+                            // Emit progress every 10 chunks to monitor the insert phase without flooding logs
+                            logger.info("{} lots d'items sur {} enregistrés...", done, chunkCount);
+                        }
+                    }
+                    return null;
+                }));
             }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Item generation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Item generation interrupted", e);
         }
-        // Sauvegarder les items restants
-        if (!items.isEmpty()) {
-            itemRepository.saveAll(items);
-        }
-        logger.info("100 000 items générés avec succès.");
-        logger.info("Génération de données terminée.");
+        logger.info("{} items générés avec succès.", itemCount);
+    }
+
+    /**
+     * Maps a generated row to an entity attached to its (detached) category.
+     */
+    private static Item toItem(DatasetFactory.ItemRow row, List<Category> categories) {
+        Item item = new Item();
+        item.setSku(row.sku());
+        item.setName(row.name());
+        item.setPrice(BigDecimal.valueOf(row.priceCents(), 2));
+        item.setStock(row.stock());
+        item.setCategory(categories.get(row.categoryIndex()));
+        return item;
     }
-}
\ No newline at end of file
+}
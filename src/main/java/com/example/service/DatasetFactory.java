@@ -0,0 +1,154 @@
+package com.example.service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, thread-safe factory for synthetic categories and items.
+ * <p>
+ * Every value is derived from {@code (seed, row index)} only: each row gets its
+ * own {@link SplittableRandom} seeded from a mix of both, so the generated
+ * dataset is identical whatever the number of threads and the order in which
+ * rows are produced. Names are assembled from precomputed dictionaries, which
+ * avoids the cost (and the shared mutable state) of a Faker instance and any
+ * per-row regular expression.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class DatasetFactory {
+
+    private static final String[] DEPARTMENTS = {
+            "Alimentation", "Automobile", "Beauté", "Bébé", "Bijoux", "Bricolage", "Chaussures",
+            "Cinéma", "Informatique", "Jardin", "Jeux", "Jouets", "Livres", "Maison", "Musique",
+            "Outils", "Plein air", "Santé", "Sports", "Vêtements", "Électronique", "Épicerie" };
+
+    /**
+     * Lower-case, ASCII-only variants of {@link #DEPARTMENTS}, precomputed for category codes.
+     */
+    private static final String[] DEPARTMENT_CODES = {
+            "alimentation", "automobile", "beaute", "bebe", "bijoux", "bricolage", "chaussures",
+            "cinema", "informatique", "jardin", "jeux", "jouets", "livres", "maison", "musique",
+            "outils", "pleinair", "sante", "sports", "vetements", "electronique", "epicerie" };
+
+    private static final String[] PRODUCTS = {
+            "Chaise", "Table", "Lampe", "Clavier", "Souris", "Chapeau", "Chemise", "Montre", "Sac",
+            "Gants", "Chaussures", "Tapis", "Horloge", "Vélo", "Ordinateur", "Voiture", "Fromage",
+            "Poulet", "Saucisses", "Serviettes", "Pantalon", "Manteau", "Ballon", "Couteau" };
+
+    private static final String[] ADJECTIVES = {
+            "Ergonomique", "Rustique", "Intelligent", "Élégant", "Incroyable", "Fantastique",
+            "Pratique", "Robuste", "Léger", "Durable", "Génial", "Magnifique", "Petit", "Grand",
+            "Moderne", "Artisanal", "Sans marque", "Raffiné", "Générique", "Compact" };
+
+    private static final String[] MATERIALS = {
+            "en acier", "en bois", "en béton", "en plastique", "en coton", "en granit", "en caoutchouc",
+            "en métal", "en soie", "en laine", "en lin", "en marbre", "en fer", "en bronze",
+            "en cuivre", "en aluminium", "en papier", "en verre", "en cuir", "en céramique" };
+
+    /**
+     * Golden-ratio increment used to decorrelate consecutive row seeds.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Dataset seed.
+     */
+    private final long seed;
+
+    /**
+     * Distribution used to assign items to categories.
+     */
+    private final CategorySampler categorySampler;
+
+    /**
+     * Creates a factory.
+     *
+     * @param seed            dataset seed; the same seed always yields the same rows
+     * @param categorySampler distribution of items over categories
+     */
+    public DatasetFactory(long seed, CategorySampler categorySampler) {
+        this.seed = seed;
+        this.categorySampler = categorySampler;
+    }
+
+    /**
+     * One generated item row, independent from any persistence mechanism.
+     *
+     * @param sku           unique SKU derived from the row index
+     * @param name          product name
+     * @param priceCents    price in cents (100 to 100,000)
+     * @param stock         stock quantity (0 to 999)
+     * @param categoryIndex index of the category in generation order
+     */
+    public record ItemRow(String sku, String name, long priceCents, int stock, int categoryIndex) {
+    }
+
+    /**
+     * Returns the unique code of the category at {@code index}.
+     *
+     * @param index category index (0-based)
+     * @return the category code, at most 32 characters
+     */
+    public String categoryCode(int index) {
+        return DEPARTMENT_CODES[department(index)] + "_" + index;
+    }
+
+    /**
+     * Returns the display name of the category at {@code index}.
+     *
+     * @param index category index (0-based)
+     * @return the category name
+     */
+    public String categoryName(int index) {
+        return DEPARTMENTS[department(index)];
+    }
+
+    /**
+     * Generates the item at {@code index}.
+     * <p>
+     * SKUs are the 1-based row index zero-padded to the EAN-13 length, so they
+     * stay unique whatever the dataset size.
+     * </p>
+     *
+     * @param index item index (0-based)
+     * @return the generated row
+     */
+    public ItemRow item(long index) {
+        SplittableRandom random = rowRandom(index);
+        StringBuilder sku = new StringBuilder(13);
+        String number = Long.toString(index + 1);
+        for (int pad = number.length(); pad < 13; pad++) {
+            sku.append('0');
+        }
+        sku.append(number);
+
+        String name = PRODUCTS[random.nextInt(PRODUCTS.length)] + ' '
+                + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + ' '
+                + MATERIALS[random.nextInt(MATERIALS.length)];
+        long priceCents = random.nextLong(100, 100_001);
+        int stock = random.nextInt(1000);
+        return new ItemRow(sku.toString(), name, priceCents, stock, categorySampler.sample(random));
+    }
+
+    /**
+     * Distribution used to assign items to categories.
+     *
+     * @return the category sampler
+     */
+    public CategorySampler getCategorySampler() {
+        return categorySampler;
+    }
+
+    private int department(int index) {
+        return rowRandom(~(long) index).nextInt(DEPARTMENTS.length);
+    }
+
+    /**
+     * Returns a random generator dedicated to one row.
+     */
+    private SplittableRandom rowRandom(long index) {
+        return new SplittableRandom(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.service;
+
+import com.example.Item;
+import com.example.dto.BatchResult;
+import com.example.dto.ItemChange;
+import com.example.repository.ItemRepository;
+import com.example.config.CacheRegions;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batched writes of items ({@code PATCH} and {@code DELETE /items/batch}).
+ * <p>
+ * Each batch runs in one transaction. Changes read their items with a single
+ * {@code IN} query and are applied to the managed entities, so that each item
+ * gets its own fields and {@code updated_at}; the session JDBC batch is sized
+ * to the batch, so the flush sends every {@code UPDATE} in one round trip.
+ * Deletions are a single {@code DELETE ... RETURNING} statement
+ * ({@link ItemRepository#deleteAllByIdReturning(Long[])}), whose rows update
+ * the totals and the query cache after the commit.
+ * </p>
+ * <p>
+ * Every entry gets an outcome, in request order: invalid entries are rejected
+ * before reaching the database and unknown identifiers are reported as
+ * {@code not_found}; neither fails the rest of the batch.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@Transactional
+public class ItemBatchService {
+
+    /**
+     * Exclusive upper bound of a {@code numeric(10, 2)} price.
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("100000000");
+
+    private final ItemRepository itemRepository;
+
+    private final ItemTotals itemTotals;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor injection.
+     *
+     * @param itemRepository the item repository
+     * @param itemTotals     the cached item totals
+     * @param entityManager  the shared entity manager, to size JDBC batches and
+     *                       reach the query cache
+     */
+    public ItemBatchService(ItemRepository itemRepository, ItemTotals itemTotals, EntityManager entityManager) {
+        this.itemRepository = itemRepository;
+        this.itemTotals = itemTotals;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Applies a list of partial changes. Several changes to the same item are
+     * applied in request order.
+     *
+     * @param changes changes, in request order
+     * @return one outcome per change, in request order
+     */
+    public BatchResult updateItems(List<ItemChange> changes) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[changes.size()];
+        Map<Long, List<ItemChange>> valid = new LinkedHashMap<>();
+        for (int i = 0; i < outcomes.length; i++) {
+            ItemChange change = changes.get(i);
+            String error = validate(change);
+            if (error != null) {
+                outcomes[i] = new BatchResult.Outcome(change != null ? change.id() : null, BatchResult.INVALID, error);
+            } else {
+                valid.computeIfAbsent(change.id(), id -> new ArrayList<>()).add(change);
+            }
+        }
+
+        Map<Long, Item> updated = load(valid.keySet());
+        updated.forEach((id, item) -> valid.get(id).forEach(change -> apply(change, item)));
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] == null) {
+                Long id = changes.get(i).id();
+                outcomes[i] = new BatchResult.Outcome(id,
+                        updated.containsKey(id) ? BatchResult.UPDATED : BatchResult.NOT_FOUND, null);
+            }
+        }
+        return BatchResult.of(List.of(outcomes));
+    }
+
+    /**
+     * Deletes a list of items with one statement. The rows it returns give the
+     * category of each deleted item, for the totals.
+     *
+     * @param ids identifiers, in request order; duplicates share the outcome
+     *            of their item
+     * @return one outcome per identifier, in request order
+     */
+    public BatchResult deleteItems(List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        keys.remove(null);
+        Map<Long, Long> deleted = new HashMap<>();
+        if (!keys.isEmpty()) {
+            for (Object[] row : itemRepository.deleteAllByIdReturning(keys.toArray(Long[]::new))) {
+                Long categoryId = row[1] != null ? ((Number) row[1]).longValue() : null;
+                deleted.put(((Number) row[0]).longValue(), categoryId);
+                itemTotals.itemRemoved(categoryId);
+            }
+        }
+        if (!deleted.isEmpty()) {
+            evictItemQueriesAfterCommit();
+        }
+
+        List<BatchResult.Outcome> outcomes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (id == null) {
+                outcomes.add(new BatchResult.Outcome(null, BatchResult.INVALID, "id is required"));
+            } else {
+                outcomes.add(new BatchResult.Outcome(id,
+                        deleted.containsKey(id) ? BatchResult.DELETED : BatchResult.NOT_FOUND, null));
+            }
+        }
+        return BatchResult.of(outcomes);
+    }
+
+    /**
+     * Evicts the query cache regions reading {@code item} once the surrounding
+     * transaction commits: Hibernate only invalidates them on its own for
+     * statements it issues itself.
+     */
+    private void evictItemQueriesAfterCommit() {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictQueryRegion(CacheRegions.ITEMS_BY_CATEGORY);
+                cache.evictQueryRegion(CacheRegions.ITEM_COUNTS);
+            }
+        });
+    }
+
+    /**
+     * Reads the items of a batch with one {@code IN} query, and sizes the JDBC
+     * batch of the current session so that the flush sends all their
+     * statements at once.
+     *
+     * @param ids identifiers, without duplicates
+     * @return the items found, by identifier
+     */
+    private Map<Long, Item> load(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(ids.size());
+        return itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+    }
+
+    /**
+     * Checks a change against the column constraints of {@code item}.
+     *
+     * @return the reason of the rejection, or {@code null} if the change is
+     *         valid
+     */
+    private static String validate(ItemChange change) {
+        if (change == null || change.id() == null) {
+            return "id is required";
+        }
+        if (change.name() == null && change.price() == null && change.stock() == null) {
+            return "nothing to change";
+        }
+        if (change.name() != null && (change.name().isBlank() || change.name().length() > 128)) {
+            return "name cannot be blank (128 characters max)";
+        }
+        if (change.price() != null && (change.price().signum() < 0 || change.price().compareTo(MAX_PRICE) >= 0)) {
+            return "price must be between 0 and 99999999.99";
+        }
+        if (change.stock() != null && change.stock() < 0) {
+            return "stock cannot be negative";
+        }
+        return null;
+    }
+
+    /**
+     * Copies the non-null fields of a change onto a managed item.
+     */
+    private static void apply(ItemChange change, Item item) {
+        if (change.name() != null) {
+            item.setName(change.name());
+        }
+        if (change.price() != null) {
+            item.setPrice(change.price());
+        }
+        if (change.stock() != null) {
+            item.setStock(change.stock());
+        }
+    }
+}
@@ -79,4 +79,5 @@ echo ""
 echo "🚀 Démarrage de l'application..."
 echo ""
 
-java -jar target/benchmark-variant-a-1.0-SNAPSHOT.jar
+# Options JVM (ex. JAVA_OPTS="-Dbenchmark.server.threads=virtual" ./run.sh)
+java $JAVA_OPTS -jar target/benchmark-variant-a-1.0-SNAPSHOT.jar
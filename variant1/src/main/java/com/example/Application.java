@@ -1,9 +1,16 @@
 package com.example;
 
+import com.example.config.ConcurrencyLimitFilter;
+import com.example.config.DbExecutor;
 import com.example.config.HibernateUtil;
 import com.example.config.JerseyConfig;
+import com.example.config.JettyConfig;
 import com.example.service.DataGeneratorService;
+import com.example.service.ItemSuggestIndex;
+import com.example.service.ItemTotals;
+import jakarta.servlet.DispatcherType;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.glassfish.jersey.servlet.ServletContainer;
@@ -11,6 +18,8 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import com.example.resource.MetricsResource;
 
+import java.util.EnumSet;
+
 /**
  * Main application class for Variant A: Jersey (JAX-RS) + Hibernate.
  * <p>
@@ -20,6 +29,11 @@ import com.example.resource.MetricsResource;
  * the
  * servlet container to handle RESTful requests.
  * </p>
+ * <p>
+ * The execution model (platform or virtual threads, connector threads,
+ * concurrency limit) is selected with system properties, see
+ * {@link JettyConfig}.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -51,8 +65,14 @@ public class Application {
         // Generate test data
         DataGeneratorService.generateData();
 
-        // Create Jetty server
-        Server server = new Server(8080);
+        // Load item totals (listings no longer run COUNT(*) per request)
+        ItemTotals.getInstance().reconcile();
+
+        // Build the autocomplete index (GET /items/suggest never queries the database)
+        ItemSuggestIndex.getInstance().load();
+
+        // Create Jetty server (platform or virtual threads, see JettyConfig)
+        Server server = JettyConfig.createServer(8080);
 
         // Create servlet context
         ServletContextHandler context = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
@@ -62,20 +82,42 @@ public class Application {
         // Create Jersey servlet with JerseyConfig (which includes Prometheus)
         ServletHolder jerseyServlet = new ServletHolder(new ServletContainer(new JerseyConfig()));
         jerseyServlet.setInitOrder(0);
+        // Resources suspend their response while the DB executor works (see DbExecutor)
+        jerseyServlet.setAsyncSupported(true);
         context.addServlet(jerseyServlet, "/*");
 
+        // Bound the requests handled at once, in front of the connection pool
+        ConcurrencyLimitFilter concurrencyLimit = JettyConfig.createConcurrencyLimit();
+        if (concurrencyLimit != null) {
+            concurrencyLimit.bindTo(JerseyConfig.getPrometheusRegistry());
+            FilterHolder concurrencyLimitHolder = new FilterHolder(concurrencyLimit);
+            concurrencyLimitHolder.setAsyncSupported(true);
+            context.addFilter(concurrencyLimitHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
+        }
+        JettyConfig.bindMetrics(server, JerseyConfig.getPrometheusRegistry());
+
         try {
             server.start();
             System.out.println("============================================================");
             System.out.println("✅ Server started successfully!");
             System.out.println("🌐 Server URL: http://localhost:8080");
+            System.out.println("🧵 Execution model: " + JettyConfig.describe());
+            System.out.println("🗄️ Database work: " + DbExecutor.describe());
             System.out.println("\n📊 Available Endpoints:");
             System.out.println("   GET    http://localhost:8080/items");
             System.out.println("   GET    http://localhost:8080/items/{id}");
             System.out.println("   GET    http://localhost:8080/items?categoryId={id}");
+            System.out.println("   GET    http://localhost:8080/items?ids=1,2,3 | ?skus=a,b");
+            System.out.println("   GET    http://localhost:8080/items/search?q=");
+            System.out.println("   GET    http://localhost:8080/items/suggest?prefix=&limit=");
+            System.out.println("   GET    http://localhost:8080/items/export?format=ndjson|json");
             System.out.println("   POST   http://localhost:8080/items");
+            System.out.println("   POST   http://localhost:8080/items/bulk (application/x-ndjson)");
+            System.out.println("   POST   http://localhost:8080/items/lookup");
             System.out.println("   PUT    http://localhost:8080/items/{id}");
             System.out.println("   DELETE http://localhost:8080/items/{id}");
+            System.out.println("   PATCH  http://localhost:8080/items/batch");
+            System.out.println("   DELETE http://localhost:8080/items/batch");
             System.out.println();
             System.out.println("   GET    http://localhost:8080/categories");
             System.out.println("   GET    http://localhost:8080/categories/{id}");
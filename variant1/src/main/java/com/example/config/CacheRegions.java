@@ -0,0 +1,86 @@
+package com.example.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Regions of the Hibernate second-level cache for Variant A.
+ * <p>
+ * Each region is a Caffeine cache declared in {@code caffeine.conf}, which sets
+ * its maximum size (W-TinyLFU eviction) and its time-to-live. Query regions are
+ * also invalidated by Hibernate as soon as one of the queried tables is written
+ * through a session; the TTL only bounds memory and writes made outside
+ * Hibernate.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class CacheRegions {
+
+    /**
+     * {@code Category} entities.
+     */
+    public static final String CATEGORY = "category";
+
+    /**
+     * Category pages and their COUNT query.
+     */
+    public static final String CATEGORY_QUERIES = "category-queries";
+
+    /**
+     * Item pages filtered by category.
+     */
+    public static final String ITEMS_BY_CATEGORY = "items-by-category";
+
+    /**
+     * Item counts per category.
+     */
+    public static final String ITEM_COUNTS = "item-counts";
+
+    /**
+     * Every region, including Hibernate's default query and timestamps regions.
+     */
+    public static final List<String> ALL = List.of(CATEGORY, CATEGORY_QUERIES, ITEMS_BY_CATEGORY, ITEM_COUNTS,
+            "default-query-results-region", "default-update-timestamps-region");
+
+    /**
+     * Location of the region configuration, resolved by Caffeine from the
+     * classpath (also inside a packaged jar).
+     */
+    private static final URI CONFIG_URI = URI.create("classpath:caffeine.conf");
+
+    private CacheRegions() {
+    }
+
+    /**
+     * Creates the JCache manager backing the second-level cache.
+     *
+     * @return a Caffeine cache manager configured from {@code caffeine.conf}
+     */
+    public static CacheManager createCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CONFIG_URI, CacheRegions.class.getClassLoader());
+    }
+
+    /**
+     * Exports hit, miss, put, removal and eviction counts of every region
+     * ({@code cache_gets_total}, {@code cache_evictions_total}...).
+     *
+     * @param cacheManager cache manager of the second-level cache
+     * @param registry     registry to bind the metrics to
+     */
+    public static void bindMetrics(CacheManager cacheManager, MeterRegistry registry) {
+        for (String region : ALL) {
+            // Crée la région depuis caffeine.conf si Hibernate ne l'a pas encore ouverte
+            JCacheMetrics.monitor(registry, cacheManager.getCache(region));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servlet filter bounding the number of requests handled at once by Variant A.
+ * <p>
+ * With a platform thread pool, the pool size bounds the concurrency. With
+ * virtual threads there is no such bound: every connection gets its own thread
+ * and, under load, thousands of them would queue inside HikariCP, each failing
+ * with a 500 once the connection timeout elapses. This filter puts a fair
+ * {@link Semaphore} in front of the resources instead: excess requests wait in
+ * FIFO order, and those still waiting after the queue timeout get a
+ * {@code 503 Service Unavailable} with {@code Retry-After}, before any work is
+ * done.
+ * </p>
+ * <p>
+ * Every request takes a permit, including those served from the caches, so the
+ * limit should be a few times the connection pool size rather than equal to
+ * it. {@code /metrics} is never limited, so that scrapes keep working under
+ * overload.
+ * </p>
+ * <p>
+ * A request suspended by an asynchronous resource gives its permit back as
+ * soon as the resource method returns, together with its container thread;
+ * the database work is then bounded by the {@link DbExecutor} queue instead.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class ConcurrencyLimitFilter implements Filter {
+
+    private final int limit;
+
+    private final long queueTimeoutMillis;
+
+    private final Semaphore permits;
+
+    /**
+     * Requests waiting for a permit.
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * Requests answered 503; registered by {@link #bindTo(MeterRegistry)}.
+     */
+    private Counter rejected;
+
+    /**
+     * Creates the filter.
+     *
+     * @param limit              requests handled at once
+     * @param queueTimeoutMillis longest wait for a permit before a 503
+     */
+    public ConcurrencyLimitFilter(int limit, long queueTimeoutMillis) {
+        this.limit = limit;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.permits = new Semaphore(limit, true);
+    }
+
+    /**
+     * Publishes the limit, the requests in progress and waiting, and the
+     * rejections ({@code benchmark.server.requests.*}).
+     *
+     * @param registry the registry to publish to
+     */
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("benchmark.server.requests.limit", () -> limit)
+                .description("Requests handled at once")
+                .register(registry);
+        Gauge.builder("benchmark.server.requests.active", () -> limit - permits.availablePermits())
+                .description("Requests holding a permit")
+                .register(registry);
+        Gauge.builder("benchmark.server.requests.queued", queued::get)
+                .description("Requests waiting for a permit")
+                .register(registry);
+        rejected = Counter.builder("benchmark.server.requests.rejected")
+                .description("Requests answered 503 after the queue timeout")
+                .register(registry);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if ("/metrics".equals(((HttpServletRequest) request).getRequestURI())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+        queued.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        if (!acquired) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader("Retry-After", "1");
+            httpResponse.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.config;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Response filter completing the conditional GETs of Variant A.
+ * <p>
+ * Resources attach an {@code ETag} (and, for single entities, a
+ * {@code Last-Modified} date) to their GET responses and answer 304 Not
+ * Modified themselves, before loading anything. This filter adds
+ * {@code Cache-Control: no-cache} to every GET response carrying an
+ * {@code ETag}: clients and proxies keep the representation but revalidate it
+ * on each use, instead of serving it stale for a heuristic lifetime derived
+ * from {@code Last-Modified}.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Provider
+public class ConditionalGetFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+            return;
+        }
+        if (response.getHeaders().containsKey(HttpHeaders.ETAG)
+                && !response.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+            response.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+    }
+}
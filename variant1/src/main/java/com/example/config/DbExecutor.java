@@ -0,0 +1,296 @@
+package com.example.config;
+
+import com.example.dao.UnitOfWork;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.ConnectionCallback;
+import jakarta.ws.rs.core.Response;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor running the database work of the asynchronous resources of
+ * Variant A.
+ * <p>
+ * A resource method suspends its {@link AsyncResponse} and hands the work to
+ * {@link #submit}; the container thread goes back to Jetty at once, to accept
+ * connections and write the responses already resumed, instead of staying
+ * parked for the duration of the JDBC calls. The work runs on
+ * {@code benchmark.db.executor.threads} threads, as many as there are pooled
+ * connections by default, so no task ever waits inside HikariCP: the waiting
+ * happens in a bounded queue in front of the pool.
+ * </p>
+ * <ul>
+ * <li>a task submitted while the queue is full is not queued: its request is
+ * answered {@code 503 Service Unavailable} with {@code Retry-After} at
+ * once;</li>
+ * <li>a request still queued after {@code benchmark.db.executor.timeout-ms} is
+ * answered 503 and its task is withdrawn from the queue. A task already
+ * running is not: a write may be about to commit, and a 503 would make the
+ * client retry it. Its timeout is extended instead, and the unit of work
+ * resumes the response with its actual outcome;</li>
+ * <li>a request whose client disconnected has its task withdrawn as well.
+ * Jersey only reports disconnects the container detects, which Jetty mostly
+ * does on the next write; the timeout bounds the other cases.</li>
+ * </ul>
+ * <p>
+ * Each task runs in a {@link UnitOfWork}: one session and one connection for
+ * all the DAO calls of the request, committed before the response is written.
+ * Reads go through {@link #submitReadOnly}, whose unit loads read-only
+ * entities and never flushes.
+ * </p>
+ * <p>
+ * Running tasks are never interrupted: an interrupt in the middle of a JDBC
+ * call or of a Hibernate flush leaves the session in an unknown state. Their
+ * result is simply dropped when the response is no longer suspended.
+ * </p>
+ * <p>
+ * System properties:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.db.async} - {@code true} (default) or {@code false} to
+ * run the work on the container thread, as before</li>
+ * <li>{@code benchmark.db.executor.threads} - worker threads (default
+ * {@link HibernateUtil#POOL_SIZE})</li>
+ * <li>{@code benchmark.db.executor.queue} - tasks waiting for a worker before
+ * 503 (default 10 x threads)</li>
+ * <li>{@code benchmark.db.executor.timeout-ms} - longest time a request stays
+ * suspended before 503 (default 30000)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class DbExecutor {
+
+    /**
+     * Whether resources hand their database work to the executor.
+     */
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("benchmark.db.async", "true"));
+
+    private static final int THREADS = Integer.getInteger("benchmark.db.executor.threads", HibernateUtil.POOL_SIZE);
+
+    private static final int QUEUE = Integer.getInteger("benchmark.db.executor.queue", 10 * THREADS);
+
+    private static final long TIMEOUT_MS = Long.getLong("benchmark.db.executor.timeout-ms", 30_000L);
+
+    /**
+     * Shared instance, created on first use.
+     */
+    private static final class Holder {
+        private static final DbExecutor INSTANCE = new DbExecutor();
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Outcome counters; registered by {@link #bindTo(MeterRegistry)}.
+     */
+    private Counter rejected;
+
+    private Counter timedOut;
+
+    private Counter disconnected;
+
+    private DbExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE), runnable -> {
+                    Thread thread = new Thread(runnable, "db-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the executor
+     */
+    public static DbExecutor getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Publishes the executor metrics ({@code executor_*{name="db"}}) and the
+     * requests answered 503 or dropped
+     * ({@code benchmark.db.executor.rejected}, {@code timeouts},
+     * {@code disconnects}).
+     *
+     * @param registry the registry to publish to
+     */
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "db", Tags.empty()).bindTo(registry);
+        rejected = Counter.builder("benchmark.db.executor.rejected")
+                .description("Requests answered 503 because the executor queue was full")
+                .register(registry);
+        timedOut = Counter.builder("benchmark.db.executor.timeouts")
+                .description("Requests answered 503 after the suspend timeout")
+                .register(registry);
+        disconnected = Counter.builder("benchmark.db.executor.disconnects")
+                .description("Requests whose client disconnected while suspended")
+                .register(registry);
+    }
+
+    /**
+     * Runs the database work of a request and resumes its response with the
+     * result. An exception thrown by the work resumes the response as well, so
+     * it goes through the same exception mapping as in a synchronous method.
+     *
+     * @param async suspended response of the request
+     * @param work  database work building the response
+     */
+    public void submit(AsyncResponse async, Callable<Response> work) {
+        submit(async, work, false);
+    }
+
+    /**
+     * Same as {@link #submit(AsyncResponse, Callable)} for work that only
+     * reads (GETs and multi-gets), run in a read-only {@link UnitOfWork}.
+     *
+     * @param async suspended response of the request
+     * @param work  database work building the response, without writes
+     */
+    public void submitReadOnly(AsyncResponse async, Callable<Response> work) {
+        submit(async, work, true);
+    }
+
+    private void submit(AsyncResponse async, Callable<Response> work, boolean readOnly) {
+        if (!ENABLED) {
+            run(async, work, readOnly);
+            return;
+        }
+
+        Task task = new Task(() -> run(async, work, readOnly));
+        async.setTimeoutHandler(timedOutResponse -> {
+            if (withdraw(task)) {
+                increment(timedOut);
+                timedOutResponse.resume(unavailable());
+            } else {
+                extend(timedOutResponse);
+            }
+        });
+        async.setTimeout(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        async.register((ConnectionCallback) disconnectedResponse -> {
+            withdraw(task);
+            increment(disconnected);
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            increment(rejected);
+            async.resume(unavailable());
+        }
+    }
+
+    /**
+     * Describes the execution of the database work, for the startup log.
+     *
+     * @return a one-line summary
+     */
+    public static String describe() {
+        return ENABLED
+                ? "DB executor " + THREADS + " threads, queue " + QUEUE + ", " + TIMEOUT_MS + " ms timeout"
+                : "DB work on container threads";
+    }
+
+    /**
+     * Runs the work in a {@link UnitOfWork}, so that all its DAO calls share
+     * one session and connection, then resumes the response. The unit is
+     * committed, and its connection returned to the pool, before the response
+     * is serialized; an error response rolls it back.
+     */
+    private static void run(AsyncResponse async, Callable<Response> work, boolean readOnly) {
+        if (!async.isSuspended()) {
+            return;
+        }
+        Response response;
+        try {
+            response = readOnly ? UnitOfWork.callReadOnly(work) : UnitOfWork.call(() -> {
+                Response result = work.call();
+                if (result.getStatus() >= 400) {
+                    UnitOfWork.setRollbackOnly();
+                }
+                return result;
+            });
+        } catch (Throwable e) {
+            async.resume(e);
+            return;
+        }
+        async.resume(response);
+    }
+
+    /**
+     * Cancels a task that has not started yet and frees its queue slot; a
+     * running task is left to finish.
+     *
+     * @return {@code true} if the task was cancelled and will never run
+     */
+    private boolean withdraw(Task task) {
+        if (task.claim()) {
+            executor.remove(task);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gives a running task another timeout period to resume the response. The
+     * task may resume it meanwhile, in which case there is nothing to extend.
+     */
+    private static void extend(AsyncResponse async) {
+        try {
+            async.setTimeout(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            // déjà repris par la tâche
+        }
+    }
+
+    /**
+     * Work claimed exactly once, either by the worker that runs it or by
+     * {@link #withdraw}. A {@code FutureTask} would not do: its
+     * {@code cancel(false)} also succeeds while the task is running.
+     */
+    private static final class Task implements Runnable {
+
+        private final Runnable work;
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Task(Runnable work) {
+            this.work = work;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                work.run();
+            }
+        }
+    }
+
+    private static Response unavailable() {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE).header("Retry-After", "1").build();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
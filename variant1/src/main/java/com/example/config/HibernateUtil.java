@@ -1,10 +1,17 @@
 package com.example.config;
 
+import com.example.model.PooledSequenceGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.service.ServiceRegistry;
 
+import javax.cache.CacheManager;
+
 /**
  * Utility class for Hibernate configuration and SessionFactory management.
  * <p>
@@ -14,6 +21,15 @@ import org.hibernate.service.ServiceRegistry;
  * connection pool,
  * and registers annotated entity classes.
  * </p>
+ * <p>
+ * The second-level and query caches are backed by JCache (Caffeine); regions
+ * are described in {@link CacheRegions}. Set
+ * {@code -Dbenchmark.cache.enabled=false} to measure without them.
+ * </p>
+ * <p>
+ * The schema comes from the versioned migrations of {@code db/migration}
+ * ({@link SchemaMigrations}), applied once the SessionFactory is built.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -21,24 +37,45 @@ import org.hibernate.service.ServiceRegistry;
  */
 public class HibernateUtil {
 
+    /**
+     * JDBC batch size, aligned on the identifier allocation size so a full batch
+     * never needs more than one sequence call. Overridable with
+     * {@code -Dbenchmark.jdbc.batch_size}.
+     */
+    public static final int BATCH_SIZE = Integer.getInteger("benchmark.jdbc.batch_size", 50);
+
+    /**
+     * Maximum size of the HikariCP pool. Overridable with
+     * {@code -Dbenchmark.db.pool-size}.
+     */
+    public static final int POOL_SIZE = Integer.getInteger("benchmark.db.pool-size", 20);
+
     /**
      * Singleton instance of Hibernate SessionFactory.
      */
     private static SessionFactory sessionFactory;
 
+    /**
+     * JCache manager of the second-level cache, {@code null} when disabled.
+     */
+    private static CacheManager cacheManager;
+
     static {
         try {
             Configuration configuration = new Configuration();
 
             // Database connection settings (Docker PostgreSQL from docker-compose.yml)
             configuration.setProperty("hibernate.connection.driver_class", "org.postgresql.Driver");
-            configuration.setProperty("hibernate.connection.url", "jdbc:postgresql://localhost:5432/benchmark_db");
+            // reWriteBatchedInserts lets the driver collapse a JDBC batch into multi-row INSERTs
+            configuration.setProperty("hibernate.connection.url",
+                    "jdbc:postgresql://localhost:5432/benchmark_db?reWriteBatchedInserts=true");
             configuration.setProperty("hibernate.connection.username", "postgres");
             configuration.setProperty("hibernate.connection.password", "postgres");
 
             // Hibernate settings
             configuration.setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-            configuration.setProperty("hibernate.hbm2ddl.auto", "update");
+            // Schema from the shared migrations (SchemaMigrations), not from the entities
+            configuration.setProperty("hibernate.hbm2ddl.auto", "none");
             configuration.setProperty("hibernate.show_sql", "false");
             configuration.setProperty("hibernate.format_sql", "false");
 
@@ -46,13 +83,34 @@ public class HibernateUtil {
             configuration.setProperty("hibernate.connection.provider_class",
                     "org.hibernate.hikaricp.internal.HikariCPConnectionProvider");
             configuration.setProperty("hibernate.hikari.minimumIdle", "5");
-            configuration.setProperty("hibernate.hikari.maximumPoolSize", "20");
+            configuration.setProperty("hibernate.hikari.maximumPoolSize", String.valueOf(POOL_SIZE));
             configuration.setProperty("hibernate.hikari.idleTimeout", "300000");
 
             // Performance settings
-            configuration.setProperty("hibernate.jdbc.batch_size", "20");
+            configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE));
             configuration.setProperty("hibernate.order_inserts", "true");
             configuration.setProperty("hibernate.order_updates", "true");
+            // Multi-gets: IN lists padded to the next power of two, so a few statements cover every list size
+            configuration.setProperty("hibernate.query.in_clause_parameter_padding", "true");
+
+            // Second-level and query caches (JCache / Caffeine, regions in caffeine.conf)
+            if (Boolean.parseBoolean(System.getProperty("benchmark.cache.enabled", "true"))) {
+                cacheManager = CacheRegions.createCacheManager();
+                configuration.setProperty("hibernate.cache.use_second_level_cache", "true");
+                configuration.setProperty("hibernate.cache.use_query_cache", "true");
+                configuration.setProperty("hibernate.cache.region.factory_class", "jcache");
+                configuration.getProperties().put("hibernate.javax.cache.cache_manager", cacheManager);
+            } else {
+                configuration.setProperty("hibernate.cache.use_second_level_cache", "false");
+                configuration.setProperty("hibernate.cache.use_query_cache", "false");
+            }
+
+            // Identifier generation (pooled-lo sequences, see PooledSequenceGenerator)
+            configuration.setProperty(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING,
+                    System.getProperty(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING,
+                            String.valueOf(PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE)));
+            configuration.setProperty(PooledSequenceGenerator.OPTIMIZER_SETTING,
+                    System.getProperty(PooledSequenceGenerator.OPTIMIZER_SETTING, "pooled-lo"));
 
             // Register annotated classes
             configuration.addAnnotatedClass(com.example.model.Category.class);
@@ -63,6 +121,7 @@ public class HibernateUtil {
                     .build();
 
             sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+            SchemaMigrations.apply(sessionFactory);
 
             System.out.println("✅ Hibernate SessionFactory initialized successfully");
 
@@ -81,6 +140,29 @@ public class HibernateUtil {
         return sessionFactory;
     }
 
+    /**
+     * Provides access to the JCache manager of the second-level cache.
+     * 
+     * @return the cache manager, or {@code null} if caching is disabled
+     */
+    public static CacheManager getCacheManager() {
+        return cacheManager;
+    }
+
+    /**
+     * Publishes the HikariCP pool metrics ({@code hikaricp_connections_active},
+     * {@code _pending}, {@code _acquire}, ...) to a registry.
+     * 
+     * @param registry the registry to publish to
+     */
+    public static void bindPoolMetrics(MeterRegistry registry) {
+        HikariDataSource dataSource = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(ConnectionProvider.class)
+                .unwrap(HikariDataSource.class);
+        dataSource.setMetricRegistry(registry);
+    }
+
     /**
      * Shuts down Hibernate by closing the SessionFactory and all active
      * connections.
@@ -90,5 +172,8 @@ public class HibernateUtil {
         if (sessionFactory != null) {
             sessionFactory.close();
         }
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
     }
 }
@@ -1,10 +1,18 @@
 package com.example.config;
 
+import com.example.dao.CategoryDAO;
+import com.example.dao.ItemDAO;
 import com.example.resource.CategoryResource;
 import com.example.resource.ItemResource;
 import com.example.resource.MetricsResource;
+import com.example.service.CategoryService;
+import com.example.service.ItemCache;
+import com.example.service.ItemIngestService;
+import com.example.service.ItemService;
+import com.example.service.PageCache;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import jakarta.inject.Singleton;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 
@@ -15,6 +23,11 @@ import org.glassfish.jersey.internal.inject.AbstractBinder;
  * configure JSON serialization with Jackson, and integrate Prometheus
  * monitoring for performance metrics.
  * </p>
+ * <p>
+ * Resources are created per request, but the services and DAOs they receive
+ * are HK2 singletons: they hold no request state, the session of a request
+ * being carried by its {@link com.example.dao.UnitOfWork}.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -44,14 +57,38 @@ public class JerseyConfig extends ResourceConfig {
             new io.micrometer.core.instrument.binder.system.ProcessorMetrics().bindTo(prometheusRegistry);
             new io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics().bindTo(prometheusRegistry);
 
+            // Item lookup cache statistics (hit ratio, load time, evictions)
+            ItemCache.getInstance().bindTo(prometheusRegistry);
+
+            // Serialized page cache statistics (hit ratio, size, evictions)
+            PageCache.getInstance().bindTo(prometheusRegistry);
+
+            // Connection pool statistics (active, idle, pending, acquire time)
+            HibernateUtil.bindPoolMetrics(prometheusRegistry);
+
+            // Executor of the asynchronous resources (active, queued, rejected)
+            DbExecutor.getInstance().bindTo(prometheusRegistry);
+
+            // Second-level cache statistics (hits, misses, evictions per region)
+            if (HibernateUtil.getCacheManager() != null) {
+                CacheRegions.bindMetrics(HibernateUtil.getCacheManager(), prometheusRegistry);
+            }
+
             System.out.println("✅ Prometheus registry created with JVM metrics");
         }
 
-        // Register HK2 binder to inject PrometheusMeterRegistry
+        // Register HK2 binder to inject PrometheusMeterRegistry and the shared services
         register(new AbstractBinder() {
             @Override
             protected void configure() {
                 bind(prometheusRegistry).to(PrometheusMeterRegistry.class);
+                bind(PageCache.getInstance()).to(PageCache.class);
+                bind(DbExecutor.getInstance()).to(DbExecutor.class);
+                bindAsContract(ItemDAO.class).in(Singleton.class);
+                bindAsContract(CategoryDAO.class).in(Singleton.class);
+                bindAsContract(ItemService.class).in(Singleton.class);
+                bindAsContract(CategoryService.class).in(Singleton.class);
+                bindAsContract(ItemIngestService.class).in(Singleton.class);
             }
         });
 
@@ -63,6 +100,9 @@ public class JerseyConfig extends ResourceConfig {
         // Register Jackson for JSON
         register(org.glassfish.jersey.jackson.JacksonFeature.class);
 
+        // Cache-Control on responses carrying validators (conditional GET)
+        register(ConditionalGetFilter.class);
+
         System.out.println("✅ Jersey configuration initialized with Prometheus metrics");
         System.out.println("   Registered resources: CategoryResource, ItemResource, MetricsResource");
     }
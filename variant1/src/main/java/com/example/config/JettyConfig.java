@@ -0,0 +1,126 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jetty.JettyServerThreadPoolMetrics;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * Execution model of the embedded Jetty server of Variant A.
+ * <p>
+ * By default requests run on Jetty's {@link QueuedThreadPool}: at most
+ * {@code benchmark.server.max-threads} platform threads, each blocked for the
+ * duration of its JDBC calls, which caps the concurrency of the READ-heavy
+ * load steps. With {@code -Dbenchmark.server.threads=virtual}, Jetty hands
+ * every blocking task (servlet and Jersey processing) to a new virtual thread
+ * instead; the pool only keeps the acceptor and selector threads. The
+ * concurrency is then bounded by a {@link ConcurrencyLimitFilter} sized on the
+ * connection pool rather than by threads.
+ * </p>
+ * <p>
+ * System properties:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.server.threads} - {@code platform} (default) or
+ * {@code virtual}</li>
+ * <li>{@code benchmark.server.max-threads} / {@code min-threads} - size of the
+ * platform thread pool (default 200 / 8)</li>
+ * <li>{@code benchmark.server.acceptors} / {@code selectors} - acceptor and
+ * selector threads of the connector (default -1, chosen by Jetty from the
+ * number of cores)</li>
+ * <li>{@code benchmark.server.max-concurrency} - requests handled at once, 0
+ * for no limit (default 0 with platform threads, 4 x
+ * {@link HibernateUtil#POOL_SIZE} with virtual threads)</li>
+ * <li>{@code benchmark.server.queue-timeout-ms} - longest wait of a request
+ * over the limit before a 503 (default 10000)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class JettyConfig {
+
+    /**
+     * Whether requests run on virtual threads.
+     */
+    public static final boolean VIRTUAL_THREADS = "virtual"
+            .equalsIgnoreCase(System.getProperty("benchmark.server.threads", "platform"));
+
+    private static final int MAX_THREADS = Integer.getInteger("benchmark.server.max-threads", 200);
+
+    private static final int MIN_THREADS = Integer.getInteger("benchmark.server.min-threads", 8);
+
+    private static final int ACCEPTORS = Integer.getInteger("benchmark.server.acceptors", -1);
+
+    private static final int SELECTORS = Integer.getInteger("benchmark.server.selectors", -1);
+
+    private static final int MAX_CONCURRENCY = Integer.getInteger("benchmark.server.max-concurrency",
+            VIRTUAL_THREADS ? 4 * HibernateUtil.POOL_SIZE : 0);
+
+    private static final long QUEUE_TIMEOUT_MS = Long.getLong("benchmark.server.queue-timeout-ms", 10_000L);
+
+    private JettyConfig() {
+    }
+
+    /**
+     * Creates the server and its HTTP connector, not started.
+     *
+     * @param port HTTP port
+     * @return the server, without handler
+     * @throws IllegalStateException if virtual threads are requested on a JVM
+     *                               without them
+     */
+    public static Server createServer(int port) {
+        QueuedThreadPool threadPool = new QueuedThreadPool(MAX_THREADS, MIN_THREADS);
+        threadPool.setName("jetty");
+        if (VIRTUAL_THREADS) {
+            if (!VirtualThreads.areSupported()) {
+                throw new IllegalStateException("benchmark.server.threads=virtual requires Java 21+");
+            }
+            threadPool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+        }
+
+        Server server = new Server(threadPool);
+        ServerConnector connector = new ServerConnector(server, ACCEPTORS, SELECTORS);
+        connector.setPort(port);
+        server.addConnector(connector);
+        return server;
+    }
+
+    /**
+     * Creates the request limiter, if any.
+     *
+     * @return the filter, or {@code null} when
+     *         {@code benchmark.server.max-concurrency} is 0
+     */
+    public static ConcurrencyLimitFilter createConcurrencyLimit() {
+        return MAX_CONCURRENCY > 0 ? new ConcurrencyLimitFilter(MAX_CONCURRENCY, QUEUE_TIMEOUT_MS) : null;
+    }
+
+    /**
+     * Publishes the thread pool metrics ({@code jetty_threads_*}) of a server.
+     *
+     * @param server   the server
+     * @param registry the registry to publish to
+     */
+    public static void bindMetrics(Server server, MeterRegistry registry) {
+        new JettyServerThreadPoolMetrics(server.getThreadPool(), Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * Describes the execution model, for the startup log.
+     *
+     * @return a one-line summary
+     */
+    public static String describe() {
+        String threads = VIRTUAL_THREADS ? "virtual threads" : "platform threads (max " + MAX_THREADS + ")";
+        String limit = MAX_CONCURRENCY > 0
+                ? MAX_CONCURRENCY + " concurrent requests, " + QUEUE_TIMEOUT_MS + " ms queue timeout"
+                : "no concurrency limit";
+        return threads + ", " + limit + ", DB pool " + HibernateUtil.POOL_SIZE;
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.config;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies the versioned schema migrations shared by all variants
+ * ({@code db/migration} at the root of the repository, copied to the
+ * classpath by the build).
+ * <p>
+ * Hibernate no longer creates or updates the schema
+ * ({@code hibernate.hbm2ddl.auto=none}): {@code update} read the metadata of
+ * every table, column, sequence and index at each startup, and could not
+ * declare the indexes the queries need.
+ * </p>
+ * <p>
+ * Applied versions are recorded in {@value #HISTORY_TABLE}. Each pending
+ * migration runs once, in version order, in its own transaction together with
+ * its history row: a statement that fails rolls the migration back and stops
+ * the startup, rather than leaving the service running without the columns or
+ * indexes its queries rely on. On a database migrated before the history
+ * existed, the scripts run once more; they are idempotent
+ * ({@code IF NOT EXISTS}).
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class SchemaMigrations {
+
+    /**
+     * Table of the applied versions, shared with {@code Database.initSchema}
+     * of Variant F.
+     */
+    static final String HISTORY_TABLE = "schema_history";
+
+    /**
+     * Migrations, in version order.
+     */
+    private static final List<String> MIGRATIONS = List.of(
+            "V1__schema.sql",
+            "V2__hot_query_indexes.sql",
+            "V3__item_stock_index.sql",
+            "V4__item_full_text_search.sql");
+
+    private SchemaMigrations() {
+    }
+
+    /**
+     * Runs the pending migrations on a connection of the pool.
+     *
+     * @param sessionFactory the session factory, built without schema
+     *                       generation
+     * @throws IllegalStateException if a migration fails; it is rolled back
+     */
+    static void apply(SessionFactory sessionFactory) {
+        List<String> applied = new ArrayList<>();
+        try (Session session = sessionFactory.openSession()) {
+            session.doWork(connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                            + "version integer NOT NULL PRIMARY KEY, "
+                            + "script varchar(255) NOT NULL, "
+                            + "installed_on timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+                    Set<Integer> installed = installedVersions(statement);
+                    connection.setAutoCommit(false);
+                    for (String migration : MIGRATIONS) {
+                        if (!installed.contains(version(migration))) {
+                            migrate(connection, statement, migration);
+                            applied.add(migration);
+                        }
+                    }
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            });
+        }
+        System.out.println("✅ Schema migrations: " + (applied.isEmpty() ? "up to date"
+                : "applied " + String.join(", ", applied)));
+    }
+
+    private static Set<Integer> installedVersions(Statement statement) throws SQLException {
+        Set<Integer> versions = new HashSet<>();
+        try (ResultSet rs = statement.executeQuery("SELECT version FROM " + HISTORY_TABLE)) {
+            while (rs.next()) {
+                versions.add(rs.getInt(1));
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Runs one migration and records it, in a single transaction.
+     */
+    private static void migrate(Connection connection, Statement statement, String migration) {
+        String sql = null;
+        try {
+            for (String next : statements(read(migration))) {
+                sql = next;
+                statement.execute(sql);
+            }
+            sql = null;
+            try (PreparedStatement history = connection.prepareStatement(
+                    "INSERT INTO " + HISTORY_TABLE + " (version, script) VALUES (?, ?)")) {
+                history.setInt(1, version(migration));
+                history.setString(2, migration);
+                history.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollback) {
+                e.addSuppressed(rollback);
+            }
+            throw new IllegalStateException("Migration " + migration + " failed"
+                    + (sql == null ? "" : " on: " + sql.strip()), e);
+        }
+    }
+
+    private static int version(String migration) {
+        return Integer.parseInt(migration.substring(1, migration.indexOf("__")));
+    }
+
+    /**
+     * Splits a script into statements on the semicolons that are outside
+     * string literals, quoted identifiers, dollar-quoted bodies and comments.
+     * Comments are dropped.
+     */
+    private static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < script.length()) {
+            char c = script.charAt(i);
+            int end;
+            if (c == '-' && script.startsWith("--", i)) {
+                end = script.indexOf('\n', i);
+                i = end < 0 ? script.length() : end;
+                continue;
+            } else if (c == '/' && script.startsWith("/*", i)) {
+                end = script.indexOf("*/", i + 2);
+                i = end < 0 ? script.length() : end + 2;
+                current.append(' ');
+                continue;
+            } else if (c == '\'' || c == '"') {
+                end = i + 1;
+                while (end < script.length()) {
+                    if (script.charAt(end) == c) {
+                        if (end + 1 < script.length() && script.charAt(end + 1) == c) {
+                            end += 2; // quote doublée
+                            continue;
+                        }
+                        break;
+                    }
+                    end++;
+                }
+                end = Math.min(end + 1, script.length());
+            } else if (c == '$' && dollarTag(script, i) != null) {
+                String tag = dollarTag(script, i);
+                end = script.indexOf(tag, i + tag.length());
+                end = end < 0 ? script.length() : end + tag.length();
+            } else if (c == ';') {
+                add(statements, current);
+                i++;
+                continue;
+            } else {
+                end = i + 1;
+            }
+            current.append(script, i, end);
+            i = end;
+        }
+        add(statements, current);
+        return statements;
+    }
+
+    /**
+     * Returns the {@code $tag$} opening a dollar-quoted body at an offset, or
+     * {@code null}.
+     */
+    private static String dollarTag(String script, int offset) {
+        int end = offset + 1;
+        while (end < script.length() && (Character.isLetterOrDigit(script.charAt(end)) || script.charAt(end) == '_')) {
+            end++;
+        }
+        if (end < script.length() && script.charAt(end) == '$'
+                && (end == offset + 1 || !Character.isDigit(script.charAt(offset + 1)))) {
+            return script.substring(offset, end + 1);
+        }
+        return null;
+    }
+
+    private static void add(List<String> statements, StringBuilder current) {
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().strip());
+        }
+        current.setLength(0);
+    }
+
+    private static String read(String migration) {
+        try (InputStream in = SchemaMigrations.class.getResourceAsStream("/db/migration/" + migration)) {
+            if (in == null) {
+                throw new IllegalStateException(migration + " not found on the classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(migration + " not readable", e);
+        }
+    }
+}
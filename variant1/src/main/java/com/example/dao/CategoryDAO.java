@@ -1,6 +1,8 @@
 package com.example.dao;
 
+import com.example.config.CacheRegions;
 import com.example.config.HibernateUtil;
+import com.example.dto.RowVersion;
 import com.example.model.Category;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
@@ -16,6 +18,11 @@ import java.util.Optional;
  * It manually manages Hibernate sessions and transactions, which is typical
  * in a JAX-RS (Jersey) + Hibernate implementation without Spring Data.
  * </p>
+ * <p>
+ * Except {@link #saveAll(List)}, methods run in the request's
+ * {@link UnitOfWork} when there is one, and open a session of their own
+ * otherwise.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -30,24 +37,18 @@ public class CategoryDAO {
      * @return the persisted category with generated ID
      */
     public Category save(Category category) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+        return UnitOfWork.write(session -> {
             session.persist(category);
-            transaction.commit();
             return category;
-        } catch (Exception e) {
-            if (transaction != null)
-                transaction.rollback();
-            throw e;
-        }
+        });
     }
 
     /**
      * Saves a list of categories using batch processing for performance.
      * <p>
-     * Sessions are flushed and cleared every 20 entities to optimize memory usage
-     * during large imports.
+     * Sessions are flushed and cleared every {@link HibernateUtil#BATCH_SIZE}
+     * entities to optimize memory usage during large imports. Since identifiers
+     * come from a pooled sequence, each flush is sent as a single JDBC batch.
      * </p>
      * 
      * @param categories the list of categories to save
@@ -59,7 +60,7 @@ public class CategoryDAO {
             int count = 0;
             for (Category category : categories) {
                 session.persist(category);
-                if (++count % 20 == 0) {
+                if (++count % HibernateUtil.BATCH_SIZE == 0) {
                     session.flush();
                     session.clear();
                 }
@@ -79,26 +80,53 @@ public class CategoryDAO {
      * @return an Optional containing the category if found, empty otherwise
      */
     public Optional<Category> findById(Long id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        return UnitOfWork.read(session -> {
             Category category = session.get(Category.class, id);
             return Optional.ofNullable(category);
-        }
+        });
     }
 
     /**
-     * Retrieves a page of categories.
+     * Retrieves a page of categories, in identifier order.
+     * <p>
+     * The result is kept in the query cache ({@link CacheRegions#CATEGORY_QUERIES})
+     * until a category is written.
+     * </p>
      * 
      * @param page the page number (0-indexed)
      * @param size the number of categories per page
      * @return a list of categories for the requested page
      */
     public List<Category> findAll(int page, int size) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Category> query = session.createQuery("FROM Category", Category.class);
+        return UnitOfWork.read(session -> {
+            Query<Category> query = session.createQuery("FROM Category c ORDER BY c.id", Category.class);
             query.setFirstResult(page * size);
             query.setMaxResults(size);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.CATEGORY_QUERIES);
             return query.list();
-        }
+        });
+    }
+
+    /**
+     * Reads the versions of the categories of {@link #findAll(int, int)}, through
+     * the same query cache region.
+     * 
+     * @param page the page number (0-indexed)
+     * @param size the number of categories per page
+     * @return the category versions of the page, in identifier order
+     */
+    public List<RowVersion> findVersions(int page, int size) {
+        return UnitOfWork.read(session -> {
+            Query<RowVersion> query = session.createQuery(
+                    "SELECT new com.example.dto.RowVersion(c.id, c.updatedAt) FROM Category c ORDER BY c.id",
+                    RowVersion.class);
+            query.setFirstResult(page * size);
+            query.setMaxResults(size);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.CATEGORY_QUERIES);
+            return query.list();
+        });
     }
 
     /**
@@ -107,10 +135,12 @@ public class CategoryDAO {
      * @return the total category count
      */
     public long count() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        return UnitOfWork.read(session -> {
             Query<Long> query = session.createQuery("SELECT COUNT(c) FROM Category c", Long.class);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.CATEGORY_QUERIES);
             return query.uniqueResult();
-        }
+        });
     }
 
     /**
@@ -120,17 +150,7 @@ public class CategoryDAO {
      * @return the updated and merged category instance
      */
     public Category update(Category category) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            Category updated = session.merge(category);
-            transaction.commit();
-            return updated;
-        } catch (Exception e) {
-            if (transaction != null)
-                transaction.rollback();
-            throw e;
-        }
+        return UnitOfWork.write(session -> session.merge(category));
     }
 
     /**
@@ -139,19 +159,13 @@ public class CategoryDAO {
      * @param id the unique identifier of the category to delete
      */
     public void delete(Long id) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+        UnitOfWork.write(session -> {
             Category category = session.get(Category.class, id);
             if (category != null) {
                 session.remove(category);
             }
-            transaction.commit();
-        } catch (Exception e) {
-            if (transaction != null)
-                transaction.rollback();
-            throw e;
-        }
+            return category;
+        });
     }
 
     /**
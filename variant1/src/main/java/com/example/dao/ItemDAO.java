@@ -1,13 +1,39 @@
 package com.example.dao;
 
+import com.example.config.CacheRegions;
 import com.example.config.HibernateUtil;
+import com.example.dto.ItemFilter;
+import com.example.dto.ItemLabel;
+import com.example.dto.RowVersion;
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
 import com.example.model.Item;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Cache;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
+import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object (DAO) for Item entity using native Hibernate API.
@@ -17,6 +43,28 @@ import java.util.Optional;
  * by category. It optimizes performance by using JOIN FETCH to avoid N+1 query
  * problems and batch processing for mass insertions.
  * </p>
+ * <p>
+ * Category-filtered pages and per-category counts go through the query cache
+ * (see {@link CacheRegions}); any item written through Hibernate invalidates
+ * them.
+ * </p>
+ * <p>
+ * Searches ({@link #search(Long, ItemFilter, int, int)}) are built with the
+ * Criteria API from the filters actually given, so each combination yields a
+ * plain SQL statement that the database can resolve on one index.
+ * </p>
+ * <p>
+ * The full-text search ({@link #fullTextSearch(String, SearchCursor, int)})
+ * is a native query: {@code tsvector} matching, ranking and highlighting have
+ * no HQL equivalent.
+ * </p>
+ * <p>
+ * Reads and writes run in the request's {@link UnitOfWork} when there
+ * is one. Bulk inserts ({@link #saveAll(List)}, {@link #insertAll(List)}) and
+ * the scans ({@link #streamAll(Consumer)}, {@link #streamLabels(Consumer)})
+ * always use a session of their own: they commit per chunk or hold a cursor
+ * open while the rows are handled.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -24,6 +72,35 @@ import java.util.Optional;
  */
 public class ItemDAO {
 
+    /**
+     * Full-text search. The inner query finds the matching items through the
+     * GIN index on {@code search_vector}, ranks them and keeps the first
+     * {@code :limit} after the cursor ({@code %s}); the outer query reads
+     * those items and highlights them, so {@code ts_headline}, which parses
+     * the whole text again, only runs for the rows returned.
+     */
+    private static final String FULL_TEXT_SEARCH = "SELECT i.id, i.sku, i.name, i.description, i.price, i.stock, "
+            + "i.updated_at, i.category_id, hit.rank, "
+            + "ts_headline('english', i.name, hit.tsq, "
+            + "'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS name_highlight, "
+            + "ts_headline('english', coalesce(i.description, ''), hit.tsq, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') "
+            + "AS description_highlight "
+            + "FROM (SELECT id, ts_rank(search_vector, tsq) AS rank, tsq "
+            + "FROM item, websearch_to_tsquery('english', :q) tsq "
+            + "WHERE search_vector @@ tsq%s "
+            + "ORDER BY rank DESC, id DESC LIMIT :limit) hit "
+            + "JOIN item i ON i.id = hit.id "
+            + "ORDER BY hit.rank DESC, hit.id DESC";
+
+    private static final String AFTER_CURSOR = " AND (ts_rank(search_vector, tsq), id) < (:afterRank, :afterId)";
+
+    /**
+     * Rows fetched per round trip by {@link #streamAll(Consumer)}
+     * ({@code -Dbenchmark.export.fetch-size}, default 1000).
+     */
+    private static final int EXPORT_FETCH_SIZE = Integer.getInteger("benchmark.export.fetch-size", 1000);
+
     /**
      * Persists a new item in the database.
      * 
@@ -31,24 +108,19 @@ public class ItemDAO {
      * @return the persisted item with generated ID
      */
     public Item save(Item item) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+        return UnitOfWork.write(session -> {
             session.persist(item);
-            transaction.commit();
             return item;
-        } catch (Exception e) {
-            if (transaction != null)
-                transaction.rollback();
-            throw e;
-        }
+        });
     }
 
     /**
      * Saves a list of items using batch processing for performance.
      * <p>
-     * Sessions are flushed and cleared every 20 entities to optimize memory usage
-     * during large imports (benchmark data generation).
+     * Sessions are flushed and cleared every {@link HibernateUtil#BATCH_SIZE}
+     * entities to optimize memory usage during large imports (benchmark data
+     * generation). Since identifiers come from a pooled sequence, each flush is
+     * sent as a single JDBC batch.
      * </p>
      * 
      * @param items the list of items to save
@@ -60,7 +132,7 @@ public class ItemDAO {
             int count = 0;
             for (Item item : items) {
                 session.persist(item);
-                if (++count % 20 == 0) {
+                if (++count % HibernateUtil.BATCH_SIZE == 0) {
                     session.flush();
                     session.clear();
                 }
@@ -73,6 +145,38 @@ public class ItemDAO {
         }
     }
 
+    /**
+     * Inserts new items in a single transaction, as JDBC batches of
+     * {@link HibernateUtil#BATCH_SIZE} rows.
+     * <p>
+     * Unlike {@link #saveAll(List)}, a failure is rolled back while the session
+     * is still open, so the caller gets the original exception (a constraint
+     * violation, typically) and nothing of the list is written.
+     * </p>
+     *
+     * @param items new items; their category may be a detached instance
+     * @throws RuntimeException if any item cannot be inserted
+     */
+    public void insertAll(List<Item> items) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                int count = 0;
+                for (Item item : items) {
+                    session.persist(item);
+                    if (++count % HibernateUtil.BATCH_SIZE == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+
     /**
      * Finds an item by its primary key.
      * 
@@ -80,10 +184,40 @@ public class ItemDAO {
      * @return an Optional containing the item if found, empty otherwise
      */
     public Optional<Item> findById(Long id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        return UnitOfWork.read(session -> {
             Item item = session.get(Item.class, id);
             return Optional.ofNullable(item);
-        }
+        });
+    }
+
+    /**
+     * Finds several items by primary key in a single query, with their
+     * category fetched in the same SELECT.
+     *
+     * @param ids the identifiers to look up
+     * @return the items found, in no particular order
+     */
+    public List<Item> findAllById(Collection<Long> ids) {
+        return UnitOfWork.read(session -> {
+            return session.createQuery("SELECT i FROM Item i JOIN FETCH i.category WHERE i.id IN :ids", Item.class)
+                    .setParameter("ids", ids)
+                    .list();
+        });
+    }
+
+    /**
+     * Finds several items by SKU in a single query, with their category
+     * fetched in the same SELECT.
+     *
+     * @param skus the SKUs to look up
+     * @return the items found, in no particular order
+     */
+    public List<Item> findAllBySku(Collection<String> skus) {
+        return UnitOfWork.read(session -> {
+            return session.createQuery("SELECT i FROM Item i JOIN FETCH i.category WHERE i.sku IN :skus", Item.class)
+                    .setParameter("skus", skus)
+                    .list();
+        });
     }
 
     /**
@@ -94,12 +228,30 @@ public class ItemDAO {
      * @return a list of items for the requested page
      */
     public List<Item> findAll(int page, int size) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Item> query = session.createQuery("FROM Item", Item.class);
-            query.setFirstResult(page * size);
-            query.setMaxResults(size);
+        return findRange(page * size, size);
+    }
+
+    /**
+     * Retrieves a range of items, in identifier order so that a given page
+     * always holds the same rows (see {@link #findVersionRange(int, int)}).
+     * <p>
+     * The query has no cache region, so it runs on a {@link StatelessSession}:
+     * the rows are materialized without entering a persistence context. The
+     * filtered variants keep a regular session, which alone can use the query
+     * cache.
+     * </p>
+     * 
+     * @param offset number of items to skip
+     * @param limit  maximum number of items to return
+     * @return the items of the range
+     */
+    public List<Item> findRange(int offset, int limit) {
+        return UnitOfWork.readStateless(session -> {
+            Query<Item> query = session.createQuery("FROM Item i ORDER BY i.id", Item.class);
+            query.setFirstResult(offset);
+            query.setMaxResults(limit);
             return query.list();
-        }
+        });
     }
 
     /**
@@ -112,27 +264,342 @@ public class ItemDAO {
      * @return a list of items belonging to the category
      */
     public List<Item> findByCategoryId(Long categoryId, int page, int size) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        return findRangeByCategoryId(categoryId, page * size, size);
+    }
+
+    /**
+     * Retrieves a range of the items of a category with JOIN FETCH, in
+     * identifier order.
+     * 
+     * @param categoryId the category ID to filter by
+     * @param offset     number of items to skip
+     * @param limit      maximum number of items to return
+     * @return the items of the range
+     */
+    public List<Item> findRangeByCategoryId(Long categoryId, int offset, int limit) {
+        return UnitOfWork.read(session -> {
             Query<Item> query = session.createQuery(
-                    "SELECT i FROM Item i JOIN FETCH i.category WHERE i.category.id = :categoryId",
+                    "SELECT i FROM Item i JOIN FETCH i.category WHERE i.category.id = :categoryId ORDER BY i.id",
                     Item.class);
             query.setParameter("categoryId", categoryId);
-            query.setFirstResult(page * size);
-            query.setMaxResults(size);
+            query.setFirstResult(offset);
+            query.setMaxResults(limit);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.ITEMS_BY_CATEGORY);
             return query.list();
+        });
+    }
+
+    /**
+     * Reads every item, in identifier order, through a server-side cursor.
+     * <p>
+     * The query runs in a {@link StatelessSession}: rows are neither kept in a
+     * persistence context nor put in the second-level cache, and the JDBC
+     * driver fetches them {@link #EXPORT_FETCH_SIZE} at a time inside a
+     * read-only transaction (PostgreSQL only honors the fetch size outside
+     * auto-commit). Memory use therefore does not depend on the row count.
+     * The session stays open until {@code action} has seen the last row.
+     * </p>
+     * 
+     * @param action called once per item, in identifier order; the items are
+     *               detached and their category is not loaded
+     * @return the number of items read
+     */
+    public long streamAll(Consumer<? super Item> action) {
+        return scroll("FROM Item i ORDER BY i.id", Item.class, action);
+    }
+
+    /**
+     * Reads the identifier, name and SKU of every item, in no particular
+     * order, through a server-side cursor (see {@link #streamAll(Consumer)}).
+     * 
+     * @param action called once per item
+     * @return the number of items read
+     */
+    public long streamLabels(Consumer<? super ItemLabel> action) {
+        return scroll("SELECT new com.example.dto.ItemLabel(i.id, i.name, i.sku) FROM Item i", ItemLabel.class,
+                action);
+    }
+
+    /**
+     * Runs a query on a stateless session and hands its rows to
+     * {@code action} as the driver fetches them.
+     */
+    private static <T> long scroll(String hql, Class<T> type, Consumer<? super T> action) {
+        try (StatelessSession session = HibernateUtil.getSessionFactory().openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try (ScrollableResults<T> rows = session.createQuery(hql, type)
+                    .setFetchSize(EXPORT_FETCH_SIZE)
+                    .setReadOnly(true)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                long count = 0;
+                while (rows.next()) {
+                    action.accept(rows.get());
+                    count++;
+                }
+                transaction.commit();
+                return count;
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
         }
     }
 
+    /**
+     * Reads the version of an item without loading the entity.
+     * 
+     * @param id the unique identifier
+     * @return the item version, or empty if the item does not exist
+     */
+    public Optional<RowVersion> findVersionById(Long id) {
+        return UnitOfWork.read(session -> {
+            return session.createQuery(
+                    "SELECT new com.example.dto.RowVersion(i.id, i.updatedAt) FROM Item i WHERE i.id = :id",
+                    RowVersion.class)
+                    .setParameter("id", id)
+                    .uniqueResultOptional();
+        });
+    }
+
+    /**
+     * Reads the versions of the items of {@link #findRange(int, int)}: the same
+     * rows, but only their identifier and update time.
+     * 
+     * @param offset number of items to skip
+     * @param limit  maximum number of versions to return
+     * @return the item versions of the range, in identifier order
+     */
+    public List<RowVersion> findVersionRange(int offset, int limit) {
+        return UnitOfWork.read(session -> {
+            Query<RowVersion> query = session.createQuery(
+                    "SELECT new com.example.dto.RowVersion(i.id, i.updatedAt) FROM Item i ORDER BY i.id",
+                    RowVersion.class);
+            query.setFirstResult(offset);
+            query.setMaxResults(limit);
+            return query.list();
+        });
+    }
+
+    /**
+     * Reads the versions of the items of
+     * {@link #findRangeByCategoryId(Long, int, int)}, through the same query
+     * cache region.
+     * 
+     * @param categoryId the category ID to filter by
+     * @param offset     number of items to skip
+     * @param limit      maximum number of versions to return
+     * @return the item versions of the range, in identifier order
+     */
+    public List<RowVersion> findVersionRangeByCategoryId(Long categoryId, int offset, int limit) {
+        return UnitOfWork.read(session -> {
+            Query<RowVersion> query = session.createQuery(
+                    "SELECT new com.example.dto.RowVersion(i.id, i.updatedAt) FROM Item i "
+                            + "WHERE i.category.id = :categoryId ORDER BY i.id",
+                    RowVersion.class);
+            query.setParameter("categoryId", categoryId);
+            query.setFirstResult(offset);
+            query.setMaxResults(limit);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.ITEMS_BY_CATEGORY);
+            return query.list();
+        });
+    }
+
+    /**
+     * Retrieves the items following a given identifier (keyset pagination).
+     * <p>
+     * The seek predicate {@code id > :afterId} is resolved on the primary key
+     * index, so deep pages cost the same as the first one, unlike
+     * {@link #findAll(int, int)} whose OFFSET makes the database scan and
+     * discard every preceding row. Like {@link #findRange(int, int)}, it runs
+     * on a {@link StatelessSession}.
+     * </p>
+     * 
+     * @param afterId identifier of the last item already returned (0 for the
+     *                first page)
+     * @param limit   maximum number of items to return
+     * @return items with an identifier greater than {@code afterId}, ordered by
+     *         identifier
+     */
+    public List<Item> findAllAfter(long afterId, int limit) {
+        return UnitOfWork.readStateless(session -> {
+            Query<Item> query = session.createQuery(
+                    "FROM Item i WHERE i.id > :afterId ORDER BY i.id", Item.class);
+            query.setParameter("afterId", afterId);
+            query.setMaxResults(limit);
+            return query.list();
+        });
+    }
+
+    /**
+     * Retrieves the items of a category following a given identifier (keyset
+     * pagination on {@code (category_id, id)}), with JOIN FETCH to prevent N+1
+     * issues.
+     * 
+     * @param categoryId the category ID to filter by
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param limit      maximum number of items to return
+     * @return items of the category with an identifier greater than
+     *         {@code afterId}, ordered by identifier
+     */
+    public List<Item> findByCategoryIdAfter(Long categoryId, long afterId, int limit) {
+        return UnitOfWork.read(session -> {
+            Query<Item> query = session.createQuery(
+                    "SELECT i FROM Item i JOIN FETCH i.category "
+                            + "WHERE i.category.id = :categoryId AND i.id > :afterId ORDER BY i.id",
+                    Item.class);
+            query.setParameter("categoryId", categoryId);
+            query.setParameter("afterId", afterId);
+            query.setMaxResults(limit);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.ITEMS_BY_CATEGORY);
+            return query.list();
+        });
+    }
+
+    /**
+     * Searches items matching a filter, in the filter's sort order then by
+     * identifier in the same direction (OFFSET pagination).
+     * <p>
+     * With a sort, the database walks the {@code (price, id)},
+     * {@code (stock, id)} or {@code (updated_at, id)} index from one end and
+     * stops after {@code offset + limit} matching rows: a top-K read instead of
+     * a sort of every matching row. Runs on a {@link StatelessSession}; search
+     * results are not cached.
+     * </p>
+     * 
+     * @param categoryId optional category filter
+     * @param filter     filters and sort order
+     * @param offset     number of items to skip
+     * @param limit      maximum number of items to return
+     * @return the matching items of the range
+     */
+    public List<Item> search(Long categoryId, ItemFilter filter, int offset, int limit) {
+        return UnitOfWork.readStateless(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Item> criteria = cb.createQuery(Item.class);
+            Root<Item> item = criteria.from(Item.class);
+            criteria.where(predicates(cb, item, categoryId, filter).toArray(Predicate[]::new));
+            Path<Long> id = item.get("id");
+            if (filter.isSorted()) {
+                Path<?> field = item.get(filter.sortField());
+                criteria.orderBy(filter.descending()
+                        ? List.of(cb.desc(field), cb.desc(id))
+                        : List.of(cb.asc(field), cb.asc(id)));
+            } else {
+                criteria.orderBy(cb.asc(id));
+            }
+            return session.createQuery(criteria)
+                    .setFirstResult(offset)
+                    .setMaxResults(limit)
+                    .list();
+        });
+    }
+
+    /**
+     * Searches the items matching a filter that follow a given identifier
+     * (keyset pagination, identifier order; the filter must not be sorted).
+     * 
+     * @param categoryId optional category filter
+     * @param filter     filters, without sort
+     * @param afterId    identifier of the last item already returned (0 for
+     *                   the first page)
+     * @param limit      maximum number of items to return
+     * @return matching items with an identifier greater than {@code afterId},
+     *         ordered by identifier
+     */
+    public List<Item> searchAfter(Long categoryId, ItemFilter filter, long afterId, int limit) {
+        return UnitOfWork.readStateless(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Item> criteria = cb.createQuery(Item.class);
+            Root<Item> item = criteria.from(Item.class);
+            List<Predicate> where = predicates(cb, item, categoryId, filter);
+            where.add(cb.gt(item.get("id"), afterId));
+            criteria.where(where.toArray(Predicate[]::new));
+            criteria.orderBy(cb.asc(item.get("id")));
+            return session.createQuery(criteria)
+                    .setMaxResults(limit)
+                    .list();
+        });
+    }
+
+    /**
+     * Searches items whose name or description match a web-style query
+     * ({@code websearch_to_tsquery}: words, {@code "quoted phrases"},
+     * {@code or}, {@code -excluded}), most relevant first, then by identifier
+     * descending (keyset pagination).
+     * <p>
+     * Matching goes through the GIN index on the generated
+     * {@code search_vector} column; every matching item is ranked, and only the
+     * page returned is read and highlighted. Runs on a
+     * {@link StatelessSession}; search results are not cached.
+     * </p>
+     * 
+     * @param text  the query, as typed by the user
+     * @param after position of the last hit already returned, or {@code null}
+     *              for the first page
+     * @param limit maximum number of hits to return
+     * @return the hits, most relevant first
+     */
+    public List<SearchHit> fullTextSearch(String text, SearchCursor after, int limit) {
+        return UnitOfWork.readStateless(session -> {
+            NativeQuery<Object[]> query = session.createNativeQuery(
+                    FULL_TEXT_SEARCH.formatted(after != null ? AFTER_CURSOR : ""), Item.SEARCH_HIT_MAPPING,
+                    Object[].class);
+            query.setParameter("q", text);
+            query.setParameter("limit", limit);
+            if (after != null) {
+                query.setParameter("afterRank", after.rank());
+                query.setParameter("afterId", after.id());
+            }
+            List<SearchHit> hits = new ArrayList<>(limit);
+            for (Object[] row : query.list()) {
+                hits.add(new SearchHit((Item) row[0], (Float) row[1], (String) row[2], (String) row[3]));
+            }
+            return hits;
+        });
+    }
+
+    /**
+     * Builds one predicate per filter given; the category filter compares the
+     * foreign key column, without a join.
+     */
+    private static List<Predicate> predicates(CriteriaBuilder cb, Root<Item> item, Long categoryId,
+            ItemFilter filter) {
+        List<Predicate> where = new ArrayList<>();
+        if (categoryId != null) {
+            where.add(cb.equal(item.get("category").get("id"), categoryId));
+        }
+        Path<BigDecimal> price = item.get("price");
+        if (filter.minPrice() != null) {
+            where.add(cb.greaterThanOrEqualTo(price, filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            where.add(cb.lessThanOrEqualTo(price, filter.maxPrice()));
+        }
+        if (filter.inStock() != null) {
+            Path<Integer> stock = item.get("stock");
+            where.add(filter.inStock() ? cb.gt(stock, 0) : cb.equal(stock, 0));
+        }
+        if (filter.updatedAfter() != null) {
+            Path<LocalDateTime> updatedAt = item.get("updatedAt");
+            where.add(cb.greaterThan(updatedAt, filter.updatedAfter()));
+        }
+        return where;
+    }
+
     /**
      * Counts the total number of items in the database.
      * 
      * @return the total item count
      */
     public long count() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        return UnitOfWork.read(session -> {
             Query<Long> query = session.createQuery("SELECT COUNT(i) FROM Item i", Long.class);
             return query.uniqueResult();
-        }
+        });
     }
 
     /**
@@ -142,13 +609,53 @@ public class ItemDAO {
      * @return the count of items in this category
      */
     public long countByCategoryId(Long categoryId) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        return UnitOfWork.read(session -> {
             Query<Long> query = session.createQuery(
                     "SELECT COUNT(i) FROM Item i WHERE i.category.id = :categoryId",
                     Long.class);
             query.setParameter("categoryId", categoryId);
+            query.setCacheable(true);
+            query.setCacheRegion(CacheRegions.ITEM_COUNTS);
             return query.uniqueResult();
-        }
+        });
+    }
+
+    /**
+     * Counts items per category in a single GROUP BY query (one scan of the
+     * item table).
+     * 
+     * @return item count by category ID; categories without items are absent
+     */
+    public Map<Long, Long> countGroupByCategory() {
+        return UnitOfWork.read(session -> {
+            List<Object[]> rows = session.createQuery(
+                    "SELECT i.category.id, COUNT(i) FROM Item i GROUP BY i.category.id", Object[].class)
+                    .list();
+            Map<Long, Long> counts = new HashMap<>(rows.size() * 2);
+            for (Object[] row : rows) {
+                counts.put((Long) row[0], (Long) row[1]);
+            }
+            return counts;
+        });
+    }
+
+    /**
+     * Returns the planner's estimate of the item row count
+     * ({@code pg_class.reltuples}), maintained by VACUUM and ANALYZE.
+     * <p>
+     * This is a catalog lookup, whatever the table size, but the value lags
+     * behind recent writes.
+     * </p>
+     * 
+     * @return the estimated row count, or -1 if the table was never analyzed
+     */
+    public long estimateCount() {
+        return UnitOfWork.read(session -> {
+            Long estimate = session.createNativeQuery(
+                    "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('item' AS regclass)",
+                    Long.class).uniqueResult();
+            return estimate != null ? estimate : -1L;
+        });
     }
 
     /**
@@ -158,17 +665,7 @@ public class ItemDAO {
      * @return the updated and merged item instance
      */
     public Item update(Item item) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            Item updated = session.merge(item);
-            transaction.commit();
-            return updated;
-        } catch (Exception e) {
-            if (transaction != null)
-                transaction.rollback();
-            throw e;
-        }
+        return UnitOfWork.write(session -> session.merge(item));
     }
 
     /**
@@ -177,19 +674,79 @@ public class ItemDAO {
      * @param id the unique identifier of the item to delete
      */
     public void delete(Long id) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+        UnitOfWork.write(session -> {
             Item item = session.get(Item.class, id);
             if (item != null) {
                 session.remove(item);
             }
-            transaction.commit();
-        } catch (Exception e) {
-            if (transaction != null)
-                transaction.rollback();
-            throw e;
+            return item;
+        });
+    }
+
+    /**
+     * Updates several items in one transaction: one {@code IN} query reads
+     * them, then every {@code UPDATE ... WHERE id = ?} is sent in a single JDBC
+     * batch when the call flushes.
+     *
+     * @param ids    identifiers of the items to update
+     * @param update applied to each item found, inside the transaction
+     * @return the updated items; identifiers without item are absent
+     */
+    public List<Item> updateAll(Collection<Long> ids, Consumer<? super Item> update) {
+        return UnitOfWork.write(session -> {
+            Integer batchSize = session.getJdbcBatchSize();
+            session.setJdbcBatchSize(Math.max(ids.size(), 1));
+            try {
+                List<Item> items = session.createQuery("FROM Item i WHERE i.id IN :ids", Item.class)
+                        .setParameter("ids", ids)
+                        .list();
+                items.forEach(update);
+                session.flush();
+                return items;
+            } finally {
+                session.setJdbcBatchSize(batchSize);
+            }
+        });
+    }
+
+    /**
+     * Deletes several items in one statement,
+     * {@code DELETE FROM item WHERE id = ANY(?) RETURNING id, category_id}:
+     * one round trip whatever the number of items, and no entity loaded.
+     * <p>
+     * The statement bypasses Hibernate, which therefore does not invalidate
+     * the query cache regions reading {@code item}
+     * ({@link CacheRegions#ITEMS_BY_CATEGORY}, {@link CacheRegions#ITEM_COUNTS}):
+     * they are evicted once the deletion commits. {@code Item} itself is not
+     * in the second-level cache.
+     * </p>
+     *
+     * @param ids identifiers of the items to delete
+     * @return the category identifier of each deleted item, by item
+     *         identifier; identifiers without item are absent
+     */
+    public Map<Long, Long> deleteAll(Collection<Long> ids) {
+        Map<Long, Long> deleted = UnitOfWork.write(session -> session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM item WHERE id = ANY(?) RETURNING id, category_id")) {
+                statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                Map<Long, Long> categoryIds = new LinkedHashMap<>(ids.size() * 2);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        categoryIds.put(rs.getLong(1), rs.getLong(2));
+                    }
+                }
+                return categoryIds;
+            }
+        }));
+        if (!deleted.isEmpty()) {
+            UnitOfWork.afterCommit(() -> {
+                Cache cache = HibernateUtil.getSessionFactory().getCache();
+                cache.evictQueryRegion(CacheRegions.ITEMS_BY_CATEGORY);
+                cache.evictQueryRegion(CacheRegions.ITEM_COUNTS);
+            });
         }
+        return deleted;
     }
 
     /**
@@ -0,0 +1,280 @@
+package com.example.dao;
+
+import com.example.config.HibernateUtil;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * One Hibernate {@link Session} shared by every DAO call of a request
+ * (Variant A).
+ * <p>
+ * Without it, each DAO method opens its own session and borrows a pooled
+ * connection: {@code GET /categories/{id}/items} alone checked out three
+ * (category, page, count). Inside {@link #call(Callable)}, the DAOs run on
+ * the session of the unit instead, opened on first use and holding one
+ * connection until the unit ends; reads served by the second-level cache never
+ * acquire it.
+ * </p>
+ * <ul>
+ * <li>reads run in auto-commit, as before;</li>
+ * <li>the first write begins a transaction, which ends with the unit: each
+ * write is flushed at once, so constraint violations still surface in the
+ * DAO call, and committed when the work returns, or rolled back if it throws
+ * or calls {@link #setRollbackOnly()};</li>
+ * <li>work registered with {@link #afterCommit(Runnable)} (cache
+ * invalidations) runs only once the commit succeeded, so that no other
+ * request can reload the previous values into a cache after it was
+ * invalidated.</li>
+ * </ul>
+ * <p>
+ * A read-only unit ({@link #callReadOnly(Callable)}, used for GETs) opens its
+ * session with read-only entities and manual flushing: Hibernate neither
+ * keeps a snapshot of each loaded entity nor dirty-checks them, and a write
+ * fails at once. Queries without cache regions can also run on a
+ * {@link StatelessSession} sharing the unit's connection, which skips the
+ * persistence context entirely ({@link #readStateless(Function)}).
+ * </p>
+ * <p>
+ * Outside a unit (data generation, totals reconciliation, export, bulk
+ * ingest), DAO methods keep opening a session of their own per call.
+ * Entities returned inside a unit stay attached to its session until it ends;
+ * they are detached afterwards, like those returned outside a unit.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class UnitOfWork {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final boolean readOnly;
+
+    private Session session;
+
+    private Transaction transaction;
+
+    private boolean rollbackOnly;
+
+    private List<Runnable> afterCommit;
+
+    private UnitOfWork(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Runs work in a new unit of work bound to the calling thread, then
+     * commits it.
+     *
+     * @param work the work, calling DAOs
+     * @param <T>  result type
+     * @return the result of the work
+     * @throws Exception the exception of the work, once the unit is rolled
+     *                   back
+     */
+    public static <T> T call(Callable<T> work) throws Exception {
+        return run(new UnitOfWork(false), work);
+    }
+
+    /**
+     * Runs work that only reads in a new read-only unit of work bound to the
+     * calling thread.
+     *
+     * @param work the work, calling DAO read methods only
+     * @param <T>  result type
+     * @return the result of the work
+     * @throws Exception the exception of the work
+     */
+    public static <T> T callReadOnly(Callable<T> work) throws Exception {
+        return run(new UnitOfWork(true), work);
+    }
+
+    private static <T> T run(UnitOfWork unit, Callable<T> work) throws Exception {
+        UnitOfWork previous = CURRENT.get();
+        CURRENT.set(unit);
+        try {
+            T result = work.call();
+            unit.commit();
+            return result;
+        } catch (Exception | Error e) {
+            unit.rollback();
+            throw e;
+        } finally {
+            unit.close();
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Marks the current unit so that it ends with a rollback; for work that
+     * turns a failed write into an error response instead of throwing.
+     * Without a unit, does nothing.
+     */
+    public static void setRollbackOnly() {
+        UnitOfWork unit = CURRENT.get();
+        if (unit != null) {
+            unit.rollbackOnly = true;
+        }
+    }
+
+    /**
+     * Runs an action once the current unit has committed, or at once without
+     * a unit (the write it follows is then already committed). Dropped if the
+     * unit rolls back.
+     *
+     * @param action action to run after the commit
+     */
+    public static void afterCommit(Runnable action) {
+        UnitOfWork unit = CURRENT.get();
+        if (unit == null) {
+            action.run();
+            return;
+        }
+        if (unit.afterCommit == null) {
+            unit.afterCommit = new ArrayList<>();
+        }
+        unit.afterCommit.add(action);
+    }
+
+    /**
+     * Runs read-only work on the session of the current unit, or on a session
+     * of its own without a unit.
+     *
+     * @param work the work
+     * @param <T>  result type
+     * @return the result of the work
+     */
+    static <T> T read(Function<Session, T> work) {
+        UnitOfWork unit = CURRENT.get();
+        if (unit != null) {
+            return work.apply(unit.session());
+        }
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return work.apply(session);
+        }
+    }
+
+    /**
+     * Runs read-only work on a stateless session: entities are neither kept
+     * in a persistence context nor looked up in the second-level cache. Inside
+     * a unit, the stateless session runs on the unit's connection.
+     *
+     * @param work the work
+     * @param <T>  result type
+     * @return the result of the work
+     */
+    static <T> T readStateless(Function<StatelessSession, T> work) {
+        UnitOfWork unit = CURRENT.get();
+        if (unit != null) {
+            return unit.session().doReturningWork(connection -> {
+                try (StatelessSession session = HibernateUtil.getSessionFactory().withStatelessOptions()
+                        .connection(connection)
+                        .openStatelessSession()) {
+                    return work.apply(session);
+                }
+            });
+        }
+        try (StatelessSession session = HibernateUtil.getSessionFactory().openStatelessSession()) {
+            return work.apply(session);
+        }
+    }
+
+    /**
+     * Runs writing work in the transaction of the current unit and flushes it,
+     * or in a transaction of its own, committed at once, without a unit.
+     *
+     * @param work the work
+     * @param <T>  result type
+     * @return the result of the work
+     * @throws IllegalStateException in a read-only unit
+     */
+    static <T> T write(Function<Session, T> work) {
+        UnitOfWork unit = CURRENT.get();
+        if (unit != null) {
+            if (unit.readOnly) {
+                throw new IllegalStateException("Write in a read-only unit of work");
+            }
+            Session session = unit.session();
+            if (unit.transaction == null) {
+                unit.transaction = session.beginTransaction();
+            }
+            try {
+                T result = work.apply(session);
+                session.flush();
+                return result;
+            } catch (RuntimeException e) {
+                unit.rollbackOnly = true;
+                throw e;
+            }
+        }
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                T result = work.apply(session);
+                transaction.commit();
+                return result;
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Opens the session on first use. It keeps its connection from the first
+     * statement to {@link #close()}, across statements and transactions.
+     */
+    private Session session() {
+        if (session == null) {
+            session = HibernateUtil.getSessionFactory().withOptions()
+                    .connectionHandlingMode(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_HOLD)
+                    .openSession();
+            if (readOnly) {
+                session.setDefaultReadOnly(true);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+            }
+        }
+        return session;
+    }
+
+    private void commit() {
+        if (rollbackOnly) {
+            rollback();
+            return;
+        }
+        if (transaction != null) {
+            transaction.commit();
+            transaction = null;
+        }
+        if (afterCommit != null) {
+            afterCommit.forEach(Runnable::run);
+        }
+    }
+
+    private void rollback() {
+        afterCommit = null;
+        if (transaction != null && transaction.isActive()) {
+            transaction.rollback();
+        }
+        transaction = null;
+    }
+
+    private void close() {
+        if (session != null) {
+            session.close();
+        }
+    }
+}
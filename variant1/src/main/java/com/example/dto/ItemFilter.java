@@ -0,0 +1,122 @@
+package com.example.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Filters and sort order of an item search ({@code GET /items?minPrice=
+ * &maxPrice=&inStock=&updatedAfter=&sort=}), combined with the optional
+ * category filter.
+ * <p>
+ * Every sort is on an indexed column and ends with the identifier in the
+ * same direction ({@code ORDER BY price DESC, id DESC}), which matches the
+ * {@code (price, id)}, {@code (stock, id)} and {@code (updated_at, id)}
+ * indexes: the database reads the first rows of the index instead of sorting
+ * every matching row, and pages are stable.
+ * </p>
+ *
+ * @param minPrice     lowest price, inclusive, or {@code null}
+ * @param maxPrice     highest price, inclusive, or {@code null}
+ * @param inStock      {@code true} for items in stock, {@code false} for
+ *                     items out of stock, {@code null} for both
+ * @param updatedAfter only items updated strictly after this time, or
+ *                     {@code null}
+ * @param sortField    {@code price}, {@code stock} or {@code updatedAt}, or
+ *                     {@code null} for identifier order
+ * @param descending   whether the sort is descending
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemFilter(BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock, LocalDateTime updatedAfter,
+        String sortField, boolean descending) {
+
+    /**
+     * Sortable attributes of {@code Item}.
+     */
+    private static final Set<String> SORT_FIELDS = Set.of("price", "stock", "updatedAt");
+
+    /**
+     * Parses the query parameters of a search; absent parameters are
+     * {@code null}.
+     *
+     * @param minPrice     decimal price
+     * @param maxPrice     decimal price
+     * @param inStock      {@code true} or {@code false}
+     * @param updatedAfter ISO-8601 local date-time, e.g.
+     *                     {@code 2025-01-31T12:00:00}
+     * @param sort         {@code field} or {@code field,asc|desc}
+     * @return the filter
+     * @throws IllegalArgumentException if a parameter is malformed
+     */
+    public static ItemFilter parse(String minPrice, String maxPrice, String inStock, String updatedAfter,
+            String sort) {
+        BigDecimal min = decimal(minPrice);
+        BigDecimal max = decimal(maxPrice);
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("minPrice is greater than maxPrice");
+        }
+        Boolean stock = null;
+        if (inStock != null) {
+            if (!inStock.equals("true") && !inStock.equals("false")) {
+                throw new IllegalArgumentException("inStock must be true or false: " + inStock);
+            }
+            stock = Boolean.valueOf(inStock);
+        }
+        LocalDateTime after = null;
+        if (updatedAfter != null) {
+            try {
+                after = LocalDateTime.parse(updatedAfter);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid updatedAfter: " + updatedAfter, e);
+            }
+        }
+
+        String field = null;
+        boolean descending = false;
+        if (sort != null) {
+            String[] parts = sort.split(",", -1);
+            field = parts[0].trim();
+            String direction = parts.length > 1 ? parts[1].trim() : "asc";
+            if (parts.length > 2 || !SORT_FIELDS.contains(field)
+                    || !(direction.equals("asc") || direction.equals("desc"))) {
+                throw new IllegalArgumentException("Invalid sort: " + sort);
+            }
+            descending = direction.equals("desc");
+        }
+        return new ItemFilter(min, max, stock, after, field, descending);
+    }
+
+    /**
+     * Tells whether the search has neither filter nor sort, i.e. is a plain
+     * listing.
+     *
+     * @return {@code true} if nothing is set
+     */
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && inStock == null && updatedAfter == null && !isSorted();
+    }
+
+    /**
+     * Tells whether the results are sorted on another attribute than the
+     * identifier.
+     *
+     * @return {@code true} if a sort field is set
+     */
+    public boolean isSorted() {
+        return sortField != null;
+    }
+
+    private static BigDecimal decimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid price: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the results of a full-text search ({@code GET /items/search}),
+ * which are ordered by relevance then identifier, both descending.
+ * <p>
+ * The next page resumes right after the last hit returned:
+ * {@code WHERE (rank, id) < (:rank, :id)}. The rank is the exact
+ * {@code real} value PostgreSQL returned, so the comparison neither skips nor
+ * repeats ties; it is handed to clients as an opaque token, like the
+ * identifier cursors of {@link CursorPage}.
+ * </p>
+ *
+ * @param rank relevance of the last hit returned
+ * @param id   identifier of the last hit returned
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record SearchCursor(float rank, long id) {
+
+    /**
+     * Encodes the position as an opaque cursor.
+     *
+     * @return URL-safe cursor token
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rank + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a cursor received as {@code ?after=}. An empty cursor starts from
+     * the first page.
+     *
+     * @param cursor cursor token, possibly empty
+     * @return the position to resume after, or {@code null} for the first page
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            float rank = Float.parseFloat(value.substring(0, separator));
+            long id = Long.parseLong(value.substring(separator + 1));
+            if (!Float.isFinite(rank) || id < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new SearchCursor(rank, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,6 +19,12 @@ import java.time.LocalDateTime;
  * This entity represents product items with SKU, price, and stock info.
  * It is mapped to the 'item' table and belongs to a specific Category.
  * </p>
+ * <p>
+ * The full-text search reads items with a native query; its rows are mapped
+ * to this entity, plus the relevance and highlights, by
+ * {@value #SEARCH_HIT_MAPPING}. The {@code search_vector} column is generated
+ * by the database and not mapped.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -23,16 +32,29 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "item")
+@SqlResultSetMapping(name = Item.SEARCH_HIT_MAPPING,
+        entities = @EntityResult(entityClass = Item.class),
+        columns = {
+                @ColumnResult(name = "rank", type = Float.class),
+                @ColumnResult(name = "name_highlight", type = String.class),
+                @ColumnResult(name = "description_highlight", type = String.class) })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Item {
 
+    /**
+     * Result set mapping of the full-text search rows.
+     */
+    public static final String SEARCH_HIT_MAPPING = "ItemSearchHit";
+
     /**
      * Primary key for the item.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "item_seq")
+    @GenericGenerator(name = "item_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "item_seq"))
     private Long id;
 
     /**
@@ -0,0 +1,113 @@
+package com.example.resource;
+
+import com.example.service.PageCache;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Providers;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
+
+/**
+ * Serves item pages through the {@link PageCache}.
+ * <p>
+ * A hit is answered with its stored bytes, or with 304 when the client copy
+ * matches its stored {@code ETag}: neither the database nor Jackson is
+ * involved. On a miss, a conditional request is first checked against the
+ * version probe of the page; then the page is read, serialized once by the
+ * JSON provider used for every other response, and stored with the
+ * {@code ETag} built from the rows read.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class CachedPages {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    /**
+     * Converts the stored {@code ETag} header values.
+     */
+    private static final RuntimeDelegate.HeaderDelegate<EntityTag> ETAGS = RuntimeDelegate.getInstance()
+            .createHeaderDelegate(EntityTag.class);
+
+    private CachedPages() {
+    }
+
+    /**
+     * Response body of a page read from the database.
+     * 
+     * @param entity body to serialize
+     * @param tag    ETag built from the rows read, {@code null} if the page
+     *               has no validators
+     */
+    record Body(Object entity, EntityTag tag) {
+    }
+
+    /**
+     * Serves a page.
+     * 
+     * @param cache     page cache
+     * @param key       page key, built before anything is read
+     * @param request   current request, for its preconditions
+     * @param providers JAX-RS providers, to find the JSON writer
+     * @param probe     computes the page ETag without reading the page;
+     *                  {@code null} when the request has no preconditions or
+     *                  the page has no validators
+     * @param loader    reads the page
+     * @return 200 OK with the JSON body, or 304 NOT MODIFIED
+     */
+    static Response serve(PageCache cache, PageCache.Key key, Request request, Providers providers,
+            Supplier<EntityTag> probe, Supplier<Body> loader) {
+        PageCache.CachedPage cached = cache.getIfPresent(key);
+        EntityTag tag;
+        if (cached != null) {
+            tag = cached.etag() != null ? ETAGS.fromString(cached.etag()) : null;
+        } else {
+            tag = probe != null ? probe.get() : null;
+        }
+        if (tag != null) {
+            Response notModified = Validators.evaluate(request, tag, null);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+        if (cached == null) {
+            Body body = loader.get();
+            tag = body.tag();
+            cached = new PageCache.CachedPage(serialize(providers, body.entity()),
+                    tag != null ? ETAGS.toString(tag) : null);
+            cache.put(key, cached);
+        }
+        return Response.ok(cached.body(), MediaType.APPLICATION_JSON_TYPE).tag(tag).build();
+    }
+
+    /**
+     * Serializes a body with the JSON writer registered in Jersey, so cached
+     * and uncached responses are byte for byte the same.
+     */
+    @SuppressWarnings("unchecked")
+    private static byte[] serialize(Providers providers, Object body) {
+        Class<Object> type = (Class<Object>) body.getClass();
+        MessageBodyWriter<Object> writer = providers.getMessageBodyWriter(type, type, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try {
+            writer.writeTo(body, type, type, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                    new MultivaluedHashMap<>(), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,13 +1,26 @@
 package com.example.resource;
 
+import com.example.config.DbExecutor;
+import com.example.dto.CursorPage;
+import com.example.dto.RowVersion;
 import com.example.model.Category;
 import com.example.model.Item;
 import com.example.service.CategoryService;
 import com.example.service.ItemService;
+import com.example.service.PageCache;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Providers;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +34,16 @@ import java.util.Optional;
  * paginated responses to match the structure expected by the benchmark metrics,
  * simulating a Spring Data REST-like behavior in a thin JAX-RS layer.
  * </p>
+ * <p>
+ * Single categories and OFFSET pages answer conditional GETs with 304 (see
+ * {@link Validators}). A category is its own version probe, since it comes
+ * from the second-level cache; pages are probed through a projection of their
+ * identifiers and update times.
+ * </p>
+ * <p>
+ * Every method suspends its response and runs on the {@link DbExecutor}, as in
+ * {@link ItemResource}.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -42,27 +65,82 @@ public class CategoryResource {
     private final ItemService itemService;
 
     /**
-     * Constructor initializing service layers.
+     * Serialized item pages, shared with {@link ItemResource}.
      */
-    public CategoryResource() {
-        this.categoryService = new CategoryService();
-        this.itemService = new ItemService();
+    private final PageCache pageCache;
+
+    /**
+     * Executor of the database work.
+     */
+    private final DbExecutor dbExecutor;
+
+    /**
+     * JAX-RS providers, used to serialize cached pages.
+     */
+    @Context
+    private Providers providers;
+
+    /**
+     * Constructor receiving the shared services, injected by HK2.
+     * 
+     * @param categoryService category business logic
+     * @param itemService     item business logic
+     * @param pageCache       serialized item pages
+     * @param dbExecutor      executor of the database work
+     */
+    @Inject
+    public CategoryResource(CategoryService categoryService, ItemService itemService, PageCache pageCache,
+            DbExecutor dbExecutor) {
+        this.categoryService = categoryService;
+        this.itemService = itemService;
+        this.pageCache = pageCache;
+        this.dbExecutor = dbExecutor;
     }
 
     /**
      * Retrieves a paginated list of categories.
      * 
-     * @param page page number
-     * @param size page size
-     * @return 200 OK with paginated category data
+     * @param page    page number
+     * @param size    page size
+     * @param request current request, for its preconditions
+     * @param headers request headers, to tell whether the request is
+     *                conditional
+     * @param async   resumed with 200 OK with paginated category data, or 304
+     *                NOT MODIFIED
      */
     @GET
-    public Response getAllCategories(
+    public void getAllCategories(
             @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("10") int size) {
+            @QueryParam("size") @DefaultValue("10") int size,
+            @Context Request request,
+            @Context HttpHeaders headers,
+            @Suspended AsyncResponse async) {
+        boolean conditional = Validators.isConditional(headers);
+        dbExecutor.submitReadOnly(async, () -> findCategories(page, size, request, conditional));
+    }
 
-        List<Category> categories = categoryService.getAllCategories(page, size);
+    /**
+     * Reads a page of categories unless the client copy is current.
+     * 
+     * @param page        page number
+     * @param size        page size
+     * @param request     current request, for its preconditions
+     * @param conditional whether to probe the page versions before reading it
+     * @return 200 OK with paginated category data, or 304 NOT MODIFIED
+     */
+    private Response findCategories(int page, int size, Request request, boolean conditional) {
         long total = categoryService.countCategories();
+        if (conditional) {
+            EntityTag tag = Validators.pageTag("categories", categoryService.getCategoryVersions(page, size), total);
+            Response notModified = Validators.evaluate(request, tag, null);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+
+        List<Category> categories = categoryService.getAllCategories(page, size);
+        EntityTag tag = Validators.pageTag("categories",
+                categories.stream().map(Validators::version).toList(), total);
 
         Map<String, Object> response = new HashMap<>();
         response.put("content", categories);
@@ -71,22 +149,42 @@ public class CategoryResource {
         response.put("number", page);
         response.put("size", size);
 
-        return Response.ok(response).build();
+        return Response.ok(response).tag(tag).build();
     }
 
     /**
      * Retrieves a category by ID.
      * 
-     * @param id category ID
-     * @return 200 OK or 404 NOT FOUND
+     * @param id      category ID
+     * @param request current request, for its preconditions
+     * @param async   resumed with 200 OK, 304 NOT MODIFIED or 404 NOT FOUND
      */
     @GET
     @Path("/{id}")
-    public Response getCategoryById(@PathParam("id") Long id) {
+    public void getCategoryById(@PathParam("id") Long id, @Context Request request,
+            @Suspended AsyncResponse async) {
+        dbExecutor.submitReadOnly(async, () -> findCategory(id, request));
+    }
+
+    /**
+     * Reads a category unless the client copy is current.
+     * 
+     * @param id      category ID
+     * @param request current request, for its preconditions
+     * @return 200 OK, 304 NOT MODIFIED or 404 NOT FOUND
+     */
+    private Response findCategory(Long id, Request request) {
         Optional<Category> category = categoryService.getCategoryById(id);
 
         if (category.isPresent()) {
-            return Response.ok(category.get()).build();
+            RowVersion version = Validators.version(category.get());
+            EntityTag tag = Validators.entityTag(version);
+            Date lastModified = Validators.lastModified(version);
+            Response notModified = Validators.evaluate(request, tag, lastModified);
+            if (notModified != null) {
+                return notModified;
+            }
+            return Response.ok(category.get()).tag(tag).lastModified(lastModified).build();
         } else {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
@@ -95,46 +193,101 @@ public class CategoryResource {
     /**
      * Retrieves items belonging to a specific category (sub-resource).
      * 
-     * @param id   category ID
-     * @param page page number
-     * @param size page size
-     * @return 200 OK with paginated item data, or 404 if category not found
+     * @param id        category ID
+     * @param page      page number
+     * @param size      page size
+     * @param after     optional keyset cursor; switches to keyset pagination
+     *                  when present (empty for the first page)
+     * @param withCount whether to include totals; {@code false} returns a slice
+     * @param request   current request, for its preconditions
+     * @param async     resumed with 200 OK with paginated item data, 304 if
+     *                  the client copy is current, 400 for an invalid cursor,
+     *                  or 404 if category not found
      */
     @GET
     @Path("/{id}/items")
-    public Response getItemsByCategoryId(
+    public void getItemsByCategoryId(
             @PathParam("id") Long id,
             @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("10") int size) {
+            @QueryParam("size") @DefaultValue("10") int size,
+            @QueryParam("after") String after,
+            @QueryParam("withCount") @DefaultValue("true") boolean withCount,
+            @Context Request request,
+            @Context HttpHeaders headers,
+            @Suspended AsyncResponse async) {
+        boolean conditional = Validators.isConditional(headers);
+        dbExecutor.submitReadOnly(async, () -> findItems(id, page, size, after, withCount, request, conditional));
+    }
 
+    /**
+     * Reads a page of the items of a category unless the client copy is
+     * current.
+     * 
+     * @param id          category ID
+     * @param page        page number
+     * @param size        page size
+     * @param after       optional keyset cursor
+     * @param withCount   whether to include totals
+     * @param request     current request, for its preconditions
+     * @param conditional whether to probe the page versions before reading it
+     * @return 200 OK with paginated item data, 304 if the client copy is
+     *         current, 400 for an invalid cursor, or 404 if category not found
+     */
+    private Response findItems(Long id, int page, int size, String after, boolean withCount, Request request,
+            boolean conditional) {
         Optional<Category> category = categoryService.getCategoryById(id);
         if (!category.isPresent()) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
 
-        List<Item> items = itemService.getItemsByCategoryId(id, page, size);
-        long total = itemService.countItemsByCategoryId(id);
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("content", items);
-        response.put("totalElements", total);
-        response.put("totalPages", (int) Math.ceil((double) total / size));
-        response.put("number", page);
-        response.put("size", size);
+        if (after != null) {
+            if (size < 1) {
+                return Response.status(Response.Status.BAD_REQUEST).build();
+            }
+            long afterId;
+            try {
+                afterId = CursorPage.decode(after);
+            } catch (IllegalArgumentException e) {
+                return Response.status(Response.Status.BAD_REQUEST).build();
+            }
+            PageCache.Key key = pageCache.key("items", id, 0, after, size, false);
+            return CachedPages.serve(pageCache, key, request, providers, null,
+                    () -> new CachedPages.Body(CursorPage.of(itemService.getItemsByCategoryIdAfter(id, afterId, size),
+                            size, Item::getId), null));
+        }
 
-        return Response.ok(response).build();
+        // Même clé que GET /items?categoryId= : les deux URL partagent les pages en cache
+        PageCache.Key key = pageCache.key("items", id, page, null, size, withCount);
+        return CachedPages.serve(pageCache, key, request, providers,
+                conditional
+                        ? () -> Validators.pageTag("items", itemService.getItemVersions(id, page, size, !withCount),
+                                withCount ? itemService.countItemsByCategoryId(id) : -1)
+                        : null,
+                () -> {
+                    if (!withCount) {
+                        List<Item> rows = itemService.getItemsSliceByCategoryId(id, page, size);
+                        return new CachedPages.Body(ItemResource.slice(rows, page, size),
+                                Validators.pageTag("items", Validators.versions(rows), -1));
+                    }
+                    List<Item> items = itemService.getItemsByCategoryId(id, page, size);
+                    long total = itemService.countItemsByCategoryId(id);
+                    return new CachedPages.Body(ItemResource.page(items, total, page, size),
+                            Validators.pageTag("items", Validators.versions(items), total));
+                });
     }
 
     /**
      * Creates a new category.
      * 
      * @param category category data
-     * @return 201 CREATED with the saved category
+     * @param async    resumed with 201 CREATED with the saved category
      */
     @POST
-    public Response createCategory(Category category) {
-        Category created = categoryService.createCategory(category);
-        return Response.status(Response.Status.CREATED).entity(created).build();
+    public void createCategory(Category category, @Suspended AsyncResponse async) {
+        dbExecutor.submit(async, () -> {
+            Category created = categoryService.createCategory(category);
+            return Response.status(Response.Status.CREATED).entity(created).build();
+        });
     }
 
     /**
@@ -142,33 +295,37 @@ public class CategoryResource {
      * 
      * @param id       category ID
      * @param category new category data
-     * @return 200 OK or 404 NOT FOUND
+     * @param async    resumed with 200 OK or 404 NOT FOUND
      */
     @PUT
     @Path("/{id}")
-    public Response updateCategory(@PathParam("id") Long id, Category category) {
-        try {
-            Category updated = categoryService.updateCategory(id, category);
-            return Response.ok(updated).build();
-        } catch (RuntimeException e) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
+    public void updateCategory(@PathParam("id") Long id, Category category, @Suspended AsyncResponse async) {
+        dbExecutor.submit(async, () -> {
+            try {
+                Category updated = categoryService.updateCategory(id, category);
+                return Response.ok(updated).build();
+            } catch (RuntimeException e) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+        });
     }
 
     /**
      * Deletes a category.
      * 
-     * @param id category ID
-     * @return 204 NO CONTENT or 404 NOT FOUND
+     * @param id    category ID
+     * @param async resumed with 204 NO CONTENT or 404 NOT FOUND
      */
     @DELETE
     @Path("/{id}")
-    public Response deleteCategory(@PathParam("id") Long id) {
-        try {
-            categoryService.deleteCategory(id);
-            return Response.noContent().build();
-        } catch (RuntimeException e) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
+    public void deleteCategory(@PathParam("id") Long id, @Suspended AsyncResponse async) {
+        dbExecutor.submit(async, () -> {
+            try {
+                categoryService.deleteCategory(id);
+                return Response.noContent().build();
+            } catch (RuntimeException e) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+        });
     }
 }
@@ -0,0 +1,117 @@
+package com.example.resource;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Providers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes the rows of an export to the response stream as they are read.
+ * <p>
+ * One Jackson generator serves the whole response, in one of two formats:
+ * NDJSON (one JSON object per line, readable line by line by the client) or a
+ * single JSON array. Nothing but the generator buffer is held in memory,
+ * whatever the number of rows.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class ExportWriter implements Closeable {
+
+    /**
+     * Newline-delimited JSON.
+     */
+    static final MediaType NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
+    /**
+     * Mapper used when no {@code ContextResolver<ObjectMapper>} is registered,
+     * configured like the one of Jersey's Jackson provider.
+     */
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+    private final JsonGenerator generator;
+
+    private final boolean array;
+
+    /**
+     * Starts an export.
+     *
+     * @param providers JAX-RS providers, to find the mapper used for every
+     *                  other JSON response
+     * @param output    response stream, left open
+     * @param array     {@code true} for a JSON array, {@code false} for NDJSON
+     * @throws IOException if the stream cannot be written
+     */
+    ExportWriter(Providers providers, OutputStream output, boolean array) throws IOException {
+        this.generator = mapper(providers).createGenerator(output);
+        this.array = array;
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (array) {
+            generator.writeStartArray();
+        } else {
+            // Pas d'espace entre deux valeurs racines : chaque ligne se termine par '\n'
+            generator.setRootValueSeparator(null);
+        }
+    }
+
+    /**
+     * Returns the media type of an export format.
+     *
+     * @param format {@code ndjson} or {@code json}
+     * @return the media type, or {@code null} for an unknown format
+     */
+    static MediaType mediaType(String format) {
+        return switch (format) {
+            case "ndjson" -> NDJSON_TYPE;
+            case "json" -> MediaType.APPLICATION_JSON_TYPE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Writes one row. Output is flushed by the generator each time its buffer
+     * fills up, not after every row.
+     *
+     * @param row the row to serialize
+     * @throws UncheckedIOException if the stream cannot be written, typically
+     *                              because the client went away
+     */
+    void write(Object row) {
+        try {
+            generator.writeObject(row);
+            if (!array) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends the export and flushes what is left in the generator buffer.
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (array) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+
+    private static ObjectMapper mapper(Providers providers) {
+        ContextResolver<ObjectMapper> resolver = providers.getContextResolver(ObjectMapper.class,
+                MediaType.APPLICATION_JSON_TYPE);
+        ObjectMapper mapper = resolver != null ? resolver.getContext(Object.class) : null;
+        return mapper != null ? mapper : DEFAULT_MAPPER;
+    }
+}
@@ -1,11 +1,35 @@
 package com.example.resource;
 
+import com.example.config.DbExecutor;
+import com.example.dto.BatchResult;
+import com.example.dto.BulkReport;
+import com.example.dto.CursorPage;
+import com.example.dto.ItemChange;
+import com.example.dto.ItemFilter;
+import com.example.dto.ItemLookup;
+import com.example.dto.RowVersion;
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
 import com.example.model.Item;
+import com.example.service.ItemIngestService;
 import com.example.service.ItemService;
+import com.example.service.PageCache;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.Providers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +42,68 @@ import java.util.Optional;
  * operations and filtering by category. Responses are manually bundled into
  * maps to provide pagination metadata in the JSON output.
  * </p>
+ * <p>
+ * Listings support two modes: OFFSET pagination ({@code ?page=&size=}, with
+ * totals) and keyset pagination ({@code ?after=&size=}), whose cost does not
+ * grow with the page depth. Pass an empty {@code after} to get the first
+ * keyset page, then the returned {@code nextCursor}.
+ * </p>
+ * <p>
+ * Listings accept filters ({@code minPrice}, {@code maxPrice}, {@code inStock},
+ * {@code updatedAfter}) and a sort ({@code sort=price|stock|updatedAt,asc|desc}),
+ * combinable with {@code categoryId}. Filtered listings are slices, neither
+ * cached nor conditional; keyset pagination applies only without a sort.
+ * </p>
+ * <p>
+ * {@code GET /items/search?q=} is a full-text search on the name and
+ * description, ranked by relevance, with highlighted passages and keyset
+ * pagination ({@code after} = the returned {@code nextCursor}).
+ * </p>
+ * <p>
+ * {@code GET /items/suggest?prefix=} completes item names and SKUs from the
+ * in-memory {@code ItemSuggestIndex}; it never reaches the database and runs
+ * on the container thread.
+ * </p>
+ * <p>
+ * Page totals come from the cached {@code ItemTotals}; {@code ?withCount=false}
+ * skips them entirely and returns a slice ({@code first} / {@code last} flags
+ * instead of {@code totalElements} / {@code totalPages}).
+ * </p>
+ * <p>
+ * Single items and OFFSET pages are served with validators (see
+ * {@link Validators}) computed from a version probe that reads only
+ * identifiers and update times; a request whose {@code If-None-Match} or
+ * {@code If-Modified-Since} still matches gets a 304 without the items being
+ * loaded or serialized.
+ * </p>
+ * <p>
+ * Item pages (OFFSET and keyset) are kept serialized in the {@link PageCache}
+ * until an item write changes their version: repeated pages are written from
+ * bytes, without reading the rows nor running Jackson.
+ * </p>
+ * <p>
+ * {@code GET /items/export} streams the whole catalog in a single response,
+ * written row by row while a server-side cursor reads it.
+ * {@code POST /items/bulk} is its counterpart: an NDJSON upload inserted in
+ * bounded chunks as it is read.
+ * </p>
+ * <p>
+ * {@code GET /items?ids=1,2,3} and {@code GET /items?skus=a,b} (or
+ * {@code POST /items/lookup} for long lists) return several items in one
+ * request and one {@code IN} query, in request order, with the keys that
+ * matched nothing; lookups by identifier go through the item cache.
+ * </p>
+ * <p>
+ * {@code PATCH /items/batch} and {@code DELETE /items/batch} change or delete
+ * up to {@code benchmark.batch.max-items} items in one transaction, sent as a
+ * single JDBC batch or a single {@code DELETE}, and report an outcome per item.
+ * </p>
+ * <p>
+ * Methods that reach the database suspend their response and run on the
+ * {@link DbExecutor}, which answers 503 when its queue is full. The export
+ * and the bulk upload stay synchronous: they hold their connection while the
+ * body is written or read, which only the container thread can do.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -28,66 +114,470 @@ import java.util.Optional;
 @Consumes(MediaType.APPLICATION_JSON)
 public class ItemResource {
 
+    /**
+     * Largest key list of a multi-get ({@code -Dbenchmark.lookup.max-keys},
+     * default 1000).
+     */
+    private static final int LOOKUP_MAX_KEYS = Integer.getInteger("benchmark.lookup.max-keys", 1000);
+
+    /**
+     * Largest batch of {@code PATCH} / {@code DELETE /items/batch}
+     * ({@code -Dbenchmark.batch.max-items}, default 5000).
+     */
+    private static final int BATCH_MAX_ITEMS = Integer.getInteger("benchmark.batch.max-items", 5000);
+
+    /**
+     * Longest full-text query, in characters ({@code -Dbenchmark.search.max-length},
+     * default 200).
+     */
+    private static final int SEARCH_MAX_LENGTH = Integer.getInteger("benchmark.search.max-length", 200);
+
+    /**
+     * Largest number of suggestions ({@code -Dbenchmark.suggest.max-limit},
+     * default 50).
+     */
+    private static final int SUGGEST_MAX_LIMIT = Integer.getInteger("benchmark.suggest.max-limit", 50);
+
     /**
      * Service layer for item business logic.
      */
     private final ItemService itemService;
 
     /**
-     * Constructor initializing the item service.
+     * Bulk ingest of NDJSON uploads.
+     */
+    private final ItemIngestService itemIngestService;
+
+    /**
+     * Serialized item pages.
+     */
+    private final PageCache pageCache;
+
+    /**
+     * Executor of the database work.
+     */
+    private final DbExecutor dbExecutor;
+
+    /**
+     * JAX-RS providers, used to serialize cached pages.
      */
-    public ItemResource() {
-        this.itemService = new ItemService();
+    @Context
+    private Providers providers;
+
+    /**
+     * Constructor receiving the shared services, injected by HK2.
+     * 
+     * @param itemService       item business logic
+     * @param itemIngestService bulk ingest
+     * @param pageCache         serialized item pages
+     * @param dbExecutor        executor of the database work
+     */
+    @Inject
+    public ItemResource(ItemService itemService, ItemIngestService itemIngestService, PageCache pageCache,
+            DbExecutor dbExecutor) {
+        this.itemService = itemService;
+        this.itemIngestService = itemIngestService;
+        this.pageCache = pageCache;
+        this.dbExecutor = dbExecutor;
     }
 
     /**
      * Retrieves a paginated list of items, optionally filtered by category.
      * 
-     * @param page       page number
-     * @param size       page size
-     * @param categoryId optional category filter ID
-     * @return 200 OK with paginated result
+     * @param page         page number
+     * @param size         page size
+     * @param categoryId   optional category filter ID
+     * @param after        optional keyset cursor; switches to keyset pagination
+     *                     when present (empty for the first page)
+     * @param withCount    whether to include totals; {@code false} returns a
+     *                     slice
+     * @param ids          optional comma-separated identifiers; switches to a
+     *                     multi-get
+     * @param skus         optional comma-separated SKUs; switches to a
+     *                     multi-get
+     * @param minPrice     optional lowest price, inclusive
+     * @param maxPrice     optional highest price, inclusive
+     * @param inStock      optional {@code true} / {@code false} stock filter
+     * @param updatedAfter optional ISO-8601 local date-time; only items updated
+     *                     after it
+     * @param sort         optional {@code price}, {@code stock} or
+     *                     {@code updatedAt}, with {@code ,asc} (default) or
+     *                     {@code ,desc}
+     * @param request      current request, for its preconditions
+     * @param headers      request headers, to tell whether the request is
+     *                     conditional
+     * @param async        resumed with 200 OK with paginated result, 304 NOT
+     *                     MODIFIED if the client copy is current, or 400 BAD
+     *                     REQUEST for an invalid cursor, key list, filter or
+     *                     sort
      */
     @GET
-    public Response getAllItems(
+    public void getAllItems(
             @QueryParam("page") @DefaultValue("0") int page,
             @QueryParam("size") @DefaultValue("10") int size,
-            @QueryParam("categoryId") Long categoryId) {
+            @QueryParam("categoryId") Long categoryId,
+            @QueryParam("after") String after,
+            @QueryParam("withCount") @DefaultValue("true") boolean withCount,
+            @QueryParam("ids") String ids,
+            @QueryParam("skus") String skus,
+            @QueryParam("minPrice") String minPrice,
+            @QueryParam("maxPrice") String maxPrice,
+            @QueryParam("inStock") String inStock,
+            @QueryParam("updatedAfter") String updatedAfter,
+            @QueryParam("sort") String sort,
+            @Context Request request,
+            @Context HttpHeaders headers,
+            @Suspended AsyncResponse async) {
+
+        if (ids != null || skus != null) {
+            List<Long> idList;
+            try {
+                idList = ids != null ? split(ids).stream().map(Long::valueOf).toList() : null;
+            } catch (NumberFormatException e) {
+                async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+                return;
+            }
+            dbExecutor.submitReadOnly(async, () -> lookup(idList, skus != null ? split(skus) : null));
+            return;
+        }
+        ItemFilter filter;
+        try {
+            filter = ItemFilter.parse(minPrice, maxPrice, inStock, updatedAfter, sort);
+        } catch (IllegalArgumentException e) {
+            async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+            return;
+        }
+        if (!filter.isEmpty()) {
+            dbExecutor.submitReadOnly(async, () -> searchItems(categoryId, filter, page, size, after));
+            return;
+        }
+        if (after != null) {
+            dbExecutor.submitReadOnly(async, () -> getItemsAfter(categoryId, after, size, request));
+            return;
+        }
 
-        List<Item> items;
-        long total;
+        PageCache.Key key = pageCache.key("items", categoryId, page, null, size, withCount);
+        boolean conditional = Validators.isConditional(headers);
+        dbExecutor.submitReadOnly(async, () -> CachedPages.serve(pageCache, key, request, providers,
+                conditional
+                        ? () -> Validators.pageTag("items", itemService.getItemVersions(categoryId, page, size, !withCount),
+                                withCount ? total(categoryId) : -1)
+                        : null,
+                () -> {
+                    if (!withCount) {
+                        List<Item> rows = categoryId != null
+                                ? itemService.getItemsSliceByCategoryId(categoryId, page, size)
+                                : itemService.getItemsSlice(page, size);
+                        return new CachedPages.Body(slice(rows, page, size),
+                                Validators.pageTag("items", Validators.versions(rows), -1));
+                    }
+                    List<Item> items = categoryId != null
+                            ? itemService.getItemsByCategoryId(categoryId, page, size)
+                            : itemService.getAllItems(page, size);
+                    long total = total(categoryId);
+                    return new CachedPages.Body(page(items, total, page, size),
+                            Validators.pageTag("items", Validators.versions(items), total));
+                }));
+    }
 
-        if (categoryId != null) {
-            items = itemService.getItemsByCategoryId(categoryId, page, size);
-            total = itemService.countItemsByCategoryId(categoryId);
-        } else {
-            items = itemService.getAllItems(page, size);
-            total = itemService.countItems();
+    /**
+     * Multi-get for key lists too long for a query string.
+     * 
+     * @param lookup identifiers or SKUs, not both
+     * @param async  resumed with 200 OK with the items in request order and the
+     *               missing keys, or 400 BAD REQUEST for an empty or oversized
+     *               list
+     */
+    @POST
+    @Path("/lookup")
+    public void lookupItems(ItemLookup lookup, @Suspended AsyncResponse async) {
+        if (lookup == null) {
+            async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+            return;
         }
+        dbExecutor.submitReadOnly(async, () -> lookup(lookup.ids(), lookup.skus()));
+    }
 
+    /**
+     * Answers a multi-get by identifiers or by SKUs.
+     * 
+     * @param ids  identifiers, or {@code null}
+     * @param skus SKUs, or {@code null}
+     * @return 200 OK with the items in request order and the missing keys, or
+     *         400 BAD REQUEST unless exactly one non-empty list of at most
+     *         {@link #LOOKUP_MAX_KEYS} keys is given
+     */
+    private Response lookup(List<Long> ids, List<String> skus) {
+        boolean byId = ids != null && !ids.isEmpty();
+        boolean bySku = skus != null && !skus.isEmpty();
+        List<?> keys = byId ? ids : skus;
+        if (byId == bySku || keys.size() > LOOKUP_MAX_KEYS || keys.contains(null)) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return Response.ok(byId ? itemService.getItemsByIds(ids) : itemService.getItemsBySkus(skus)).build();
+    }
+
+    /**
+     * Splits a comma-separated query parameter, ignoring empty entries.
+     * 
+     * @param keys parameter value
+     * @return the trimmed keys
+     */
+    private static List<String> split(String keys) {
+        List<String> result = new ArrayList<>();
+        for (String key : keys.split(",")) {
+            String trimmed = key.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the item total of a listing, from the cached totals.
+     * 
+     * @param categoryId optional category filter ID
+     * @return the number of items
+     */
+    private long total(Long categoryId) {
+        return categoryId != null ? itemService.countItemsByCategoryId(categoryId) : itemService.countItems();
+    }
+
+    /**
+     * Builds a page response with totals.
+     * 
+     * @param items rows of the page
+     * @param total total number of items
+     * @param page  page number
+     * @param size  page size
+     * @return the response body
+     */
+    static Map<String, Object> page(List<Item> items, long total, int page, int size) {
         Map<String, Object> response = new HashMap<>();
         response.put("content", items);
         response.put("totalElements", total);
         response.put("totalPages", (int) Math.ceil((double) total / size));
         response.put("number", page);
         response.put("size", size);
+        return response;
+    }
 
-        return Response.ok(response).build();
+    /**
+     * Builds a page response without totals from rows fetched with one extra
+     * row; the extra row only tells whether the page is the last one.
+     * 
+     * @param rows up to {@code size + 1} rows
+     * @param page page number
+     * @param size page size
+     * @return the response body
+     */
+    static Map<String, Object> slice(List<Item> rows, int page, int size) {
+        boolean last = rows.size() <= size;
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", last ? rows : rows.subList(0, size));
+        response.put("number", page);
+        response.put("size", size);
+        response.put("first", page == 0);
+        response.put("last", last);
+        return response;
+    }
+
+    /**
+     * Builds one keyset page of items, optionally filtered by category.
+     * 
+     * @param categoryId optional category filter ID
+     * @param after      cursor received from the previous page
+     * @param size       page size
+     * @param request    current request
+     * @return 200 OK with the page and its next cursor, or 400 BAD REQUEST
+     */
+    private Response getItemsAfter(Long categoryId, String after, int size, Request request) {
+        if (size < 1) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        PageCache.Key key = pageCache.key("items", categoryId, 0, after, size, false);
+        return CachedPages.serve(pageCache, key, request, providers, null,
+                () -> new CachedPages.Body(CursorPage.of(categoryId != null
+                        ? itemService.getItemsByCategoryIdAfter(categoryId, afterId, size)
+                        : itemService.getItemsAfter(afterId, size), size, Item::getId), null));
+    }
+
+    /**
+     * Builds one page of a filtered or sorted listing: an OFFSET slice, or a
+     * keyset page when {@code after} is given and the listing is not sorted.
+     * 
+     * @param categoryId optional category filter ID
+     * @param filter     filters and sort order
+     * @param page       page number
+     * @param size       page size
+     * @param after      optional keyset cursor
+     * @return 200 OK with the page, or 400 BAD REQUEST for an invalid page, an
+     *         invalid cursor or a cursor on a sorted listing
+     */
+    private Response searchItems(Long categoryId, ItemFilter filter, int page, int size, String after) {
+        if (size < 1 || page < 0) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        if (after == null) {
+            return Response.ok(slice(itemService.searchItems(categoryId, filter, page, size), page, size)).build();
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        if (filter.isSorted()) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return Response.ok(CursorPage.of(itemService.searchItemsAfter(categoryId, filter, afterId, size), size,
+                Item::getId)).build();
+    }
+
+    /**
+     * Full-text search on the item names and descriptions, most relevant
+     * first.
+     * 
+     * @param q     the query: words, {@code "quoted phrases"}, {@code or},
+     *              {@code -excluded}
+     * @param size  page size
+     * @param after optional cursor returned by the previous page
+     * @param async resumed with 200 OK with a page of hits, or 400 BAD REQUEST
+     *              for a missing or oversized query, an invalid size or an
+     *              invalid cursor
+     */
+    @GET
+    @Path("/search")
+    public void fullTextSearch(
+            @QueryParam("q") String q,
+            @QueryParam("size") @DefaultValue("10") int size,
+            @QueryParam("after") String after,
+            @Suspended AsyncResponse async) {
+        if (q == null || q.isBlank() || q.length() > SEARCH_MAX_LENGTH || size < 1) {
+            async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+            return;
+        }
+        SearchCursor cursor;
+        try {
+            cursor = SearchCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+            return;
+        }
+        dbExecutor.submitReadOnly(async,
+                () -> Response.ok(SearchHit.page(itemService.fullTextSearch(q, cursor, size), size)).build());
+    }
+
+    /**
+     * Autocomplete: item names and SKUs starting with a prefix, without case,
+     * in alphabetical order.
+     * 
+     * @param prefix the typed prefix
+     * @param limit  maximum number of suggestions
+     * @return 200 OK with the suggestions, or 400 BAD REQUEST for a missing
+     *         prefix or a limit out of range
+     */
+    @GET
+    @Path("/suggest")
+    public Response suggestItems(
+            @QueryParam("prefix") String prefix,
+            @QueryParam("limit") @DefaultValue("10") int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > SEARCH_MAX_LENGTH
+                || limit < 1 || limit > SUGGEST_MAX_LIMIT) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return Response.ok(itemService.suggestItems(prefix, limit)).build();
+    }
+
+    /**
+     * Exports every item in identifier order, as NDJSON (default) or as one JSON
+     * array.
+     * <p>
+     * Rows are written to the response while the database cursor reads them,
+     * so heap usage stays flat whatever the catalog size; the response is sent
+     * chunked. A client that disconnects stops the export at its next write.
+     * </p>
+     * 
+     * @param format {@code ndjson} or {@code json}
+     * @return 200 OK with the streamed items, or 400 BAD REQUEST for an unknown
+     *         format
+     */
+    @GET
+    @Path("/export")
+    @Produces({ "application/x-ndjson", MediaType.APPLICATION_JSON })
+    public Response exportItems(@QueryParam("format") @DefaultValue("ndjson") String format) {
+        MediaType mediaType = ExportWriter.mediaType(format);
+        if (mediaType == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        boolean array = MediaType.APPLICATION_JSON_TYPE.equals(mediaType);
+        StreamingOutput body = output -> {
+            try (ExportWriter writer = new ExportWriter(providers, output, array)) {
+                itemService.exportItems(writer::write);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return Response.ok(body, mediaType).build();
     }
 
     /**
      * Retrieves a single item by ID.
+     * <p>
+     * A conditional request probes the item version first, and only reads the
+     * item when the client copy is outdated; any other request reads the item
+     * once and takes its validators from it.
+     * </p>
      * 
-     * @param id item ID
-     * @return 200 OK or 404 NOT FOUND
+     * @param id      item ID
+     * @param request current request, for its preconditions
+     * @param headers request headers, to tell whether the request is
+     *                conditional
+     * @param async   resumed with 200 OK, 304 NOT MODIFIED or 404 NOT FOUND
      */
     @GET
     @Path("/{id}")
-    public Response getItemById(@PathParam("id") Long id) {
+    public void getItemById(@PathParam("id") Long id, @Context Request request,
+            @Context HttpHeaders headers, @Suspended AsyncResponse async) {
+        boolean conditional = Validators.isConditional(headers);
+        dbExecutor.submitReadOnly(async, () -> findItem(id, request, conditional));
+    }
+
+    /**
+     * Reads an item unless the client copy is current.
+     * 
+     * @param id          item ID
+     * @param request     current request, for its preconditions
+     * @param conditional whether to probe the item version before reading it
+     * @return 200 OK, 304 NOT MODIFIED or 404 NOT FOUND
+     */
+    private Response findItem(Long id, Request request, boolean conditional) {
+        if (conditional) {
+            Optional<RowVersion> version = itemService.getItemVersion(id);
+            if (version.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            Response notModified = Validators.evaluate(request, Validators.entityTag(version.get()),
+                    Validators.lastModified(version.get()));
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+
         Optional<Item> item = itemService.getItemById(id);
 
         if (item.isPresent()) {
-            return Response.ok(item.get()).build();
+            RowVersion version = Validators.version(item.get());
+            return Response.ok(item.get()).tag(Validators.entityTag(version))
+                    .lastModified(Validators.lastModified(version)).build();
         } else {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
@@ -96,47 +586,113 @@ public class ItemResource {
     /**
      * Creates a new item.
      * 
-     * @param item item data
-     * @return 201 CREATED with the saved item
+     * @param item  item data
+     * @param async resumed with 201 CREATED with the saved item
+     */
+    @POST
+    public void createItem(Item item, @Suspended AsyncResponse async) {
+        dbExecutor.submit(async, () -> {
+            Item created = itemService.createItem(item);
+            return Response.status(Response.Status.CREATED).entity(created).build();
+        });
+    }
+
+    /**
+     * Creates items in bulk from an NDJSON upload, one item per line:
+     * {@code {"sku":..,"name":..,"description":..,"price":..,"stock":..,"categoryId":..}}.
+     * <p>
+     * Rejected lines (malformed JSON, invalid values, duplicate SKU) are
+     * counted and described in the report; they do not stop the ingest.
+     * </p>
+     * 
+     * @param body request body, read as it arrives
+     * @return 200 OK with the ingest report
+     * @throws IOException if the upload is interrupted
      */
     @POST
-    public Response createItem(Item item) {
-        Item created = itemService.createItem(item);
-        return Response.status(Response.Status.CREATED).entity(created).build();
+    @Path("/bulk")
+    @Consumes("application/x-ndjson")
+    public Response bulkCreateItems(InputStream body) throws IOException {
+        BulkReport report = itemIngestService.ingest(body);
+        return Response.ok(report).build();
+    }
+
+    /**
+     * Applies partial changes to several items:
+     * {@code [{"id":1,"price":9.99},{"id":2,"stock":0,"name":".."}]}.
+     * 
+     * @param changes changes, in request order
+     * @param async   resumed with 200 OK with an outcome per change
+     *                ({@code updated}, {@code not_found} or {@code invalid}),
+     *                or 400 BAD REQUEST for an empty or oversized batch
+     */
+    @PATCH
+    @Path("/batch")
+    public void updateItems(List<ItemChange> changes, @Suspended AsyncResponse async) {
+        if (changes == null || changes.isEmpty() || changes.size() > BATCH_MAX_ITEMS) {
+            async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+            return;
+        }
+        dbExecutor.submit(async, () -> Response.ok(itemService.updateItems(changes)).build());
+    }
+
+    /**
+     * Deletes several items: {@code [1,2,3]}.
+     * 
+     * @param ids   identifiers, in request order
+     * @param async resumed with 200 OK with an outcome per identifier
+     *              ({@code deleted} or {@code not_found}), or 400 BAD REQUEST
+     *              for an empty or oversized batch
+     */
+    @DELETE
+    @Path("/batch")
+    public void deleteItems(List<Long> ids, @Suspended AsyncResponse async) {
+        if (ids == null || ids.isEmpty() || ids.size() > BATCH_MAX_ITEMS) {
+            async.resume(Response.status(Response.Status.BAD_REQUEST).build());
+            return;
+        }
+        dbExecutor.submit(async, () -> {
+            BatchResult result = itemService.deleteItems(ids);
+            return Response.ok(result).build();
+        });
     }
 
     /**
      * Updates an existing item.
      * 
-     * @param id   item ID
-     * @param item new item data
-     * @return 200 OK or 404 NOT FOUND
+     * @param id    item ID
+     * @param item  new item data
+     * @param async resumed with 200 OK or 404 NOT FOUND
      */
     @PUT
     @Path("/{id}")
-    public Response updateItem(@PathParam("id") Long id, Item item) {
-        try {
-            Item updated = itemService.updateItem(id, item);
-            return Response.ok(updated).build();
-        } catch (RuntimeException e) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
+    public void updateItem(@PathParam("id") Long id, Item item, @Suspended AsyncResponse async) {
+        dbExecutor.submit(async, () -> {
+            try {
+                Item updated = itemService.updateItem(id, item);
+                return Response.ok(updated).build();
+            } catch (RuntimeException e) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+        });
     }
 
     /**
      * Deletes an item.
      * 
-     * @param id item ID
-     * @return 204 NO CONTENT or 404 NOT FOUND
+     * @param id    item ID
+     * @param async resumed with 204 NO CONTENT or 404 NOT FOUND
      */
     @DELETE
     @Path("/{id}")
-    public Response deleteItem(@PathParam("id") Long id) {
-        try {
-            itemService.deleteItem(id);
-            return Response.noContent().build();
-        } catch (RuntimeException e) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
+    public void deleteItem(@PathParam("id") Long id, @Suspended AsyncResponse async) {
+        dbExecutor.submit(async, () -> {
+            try {
+                itemService.deleteItem(id);
+                return Response.noContent().build();
+            } catch (RuntimeException e) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+        });
     }
 }
@@ -0,0 +1,171 @@
+package com.example.resource;
+
+import com.example.dto.RowVersion;
+import com.example.model.Category;
+import com.example.model.Item;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * HTTP validators ({@code ETag}, {@code Last-Modified}) built from row versions
+ * for the conditional GETs of the resources.
+ * <p>
+ * A single entity gets a strong ETag made of its identifier and update time,
+ * plus a {@code Last-Modified} date. A page gets a weak ETag digesting the
+ * versions of its rows and its total; it has no {@code Last-Modified}, since a
+ * deletion can change a page without raising its newest timestamp.
+ * </p>
+ * <p>
+ * Version probes only pay off when the client sent {@code If-None-Match} or
+ * {@code If-Modified-Since} ({@link #isConditional(HttpHeaders)}): a 304 then
+ * skips loading the rows. Any other GET loads its rows once and builds the
+ * same validators from the loaded entities.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class Validators {
+
+    private Validators() {
+    }
+
+    /**
+     * Builds the strong ETag of an entity.
+     * 
+     * @param version entity version
+     * @return the ETag, e.g. {@code "42-5f1d3a2b7c000"}
+     */
+    static EntityTag entityTag(RowVersion version) {
+        return new EntityTag(version.id() + "-" + Long.toHexString(epochMicros(version.updatedAt())));
+    }
+
+    /**
+     * Returns the {@code Last-Modified} date of an entity.
+     * 
+     * @param version entity version
+     * @return the update time, or {@code null} if it is unknown
+     */
+    static Date lastModified(RowVersion version) {
+        return version.updatedAt() != null
+                ? Date.from(version.updatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                : null;
+    }
+
+    /**
+     * Returns the version of a loaded item.
+     * 
+     * @param item item
+     * @return the item version
+     */
+    static RowVersion version(Item item) {
+        return new RowVersion(item.getId(), item.getUpdatedAt());
+    }
+
+    /**
+     * Returns the version of a loaded category.
+     * 
+     * @param category category
+     * @return the category version
+     */
+    static RowVersion version(Category category) {
+        return new RowVersion(category.getId(), category.getUpdatedAt());
+    }
+
+    /**
+     * Returns the versions of loaded items, as their version probe reads them.
+     * 
+     * @param items items, in page order
+     * @return their versions, in the same order
+     */
+    static List<RowVersion> versions(List<Item> items) {
+        return items.stream().map(Validators::version).toList();
+    }
+
+    /**
+     * Builds the weak ETag of a page.
+     * 
+     * @param kind  resource kind, so that equal versions of different tables
+     *              give different tags
+     * @param rows  versions of the page rows, in page order
+     * @param total total returned with the page, -1 for a slice
+     * @return the ETag
+     */
+    static EntityTag pageTag(String kind, List<RowVersion> rows, long total) {
+        MessageDigest digest = sha256();
+        digest.update(kind.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2);
+        for (RowVersion row : rows) {
+            buffer.clear();
+            buffer.putLong(row.id()).putLong(epochMicros(row.updatedAt()));
+            digest.update(buffer.array());
+        }
+        buffer.clear();
+        buffer.putLong(rows.size()).putLong(total);
+        digest.update(buffer.array());
+        return new EntityTag(HexFormat.of().formatHex(digest.digest(), 0, 16), true);
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} / {@code If-Modified-Since} against the
+     * current validators.
+     * 
+     * @param request      current request
+     * @param tag          current ETag
+     * @param lastModified current update time, {@code null} if unknown
+     * @return a 304 response (412 on a failed {@code If-Match}) carrying the
+     *         validators, or {@code null} if the representation must be sent
+     */
+    static Response evaluate(Request request, EntityTag tag, Date lastModified) {
+        Response.ResponseBuilder notModified = lastModified != null
+                ? request.evaluatePreconditions(lastModified, tag)
+                : request.evaluatePreconditions(tag);
+        if (notModified == null) {
+            return null;
+        }
+        return notModified.tag(tag).lastModified(lastModified).build();
+    }
+
+    /**
+     * Tells whether a request carries {@code If-None-Match} or
+     * {@code If-Modified-Since}, the only case where a version probe can save
+     * loading the rows.
+     * 
+     * @param headers request headers
+     * @return {@code true} if the request is conditional
+     */
+    static boolean isConditional(HttpHeaders headers) {
+        return headers.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null
+                || headers.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    private static long epochMicros(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Picks the category index an item is attached to, following a configurable
+ * distribution.
+ * <p>
+ * Three distributions are supported so benchmarks can reproduce realistic hot
+ * partitions instead of a flat spread:
+ * </p>
+ * <ul>
+ * <li>{@code uniform} - every category is equally likely</li>
+ * <li>{@code zipf} - the category of rank {@code k} has a weight of
+ * {@code 1 / (k + 1)^s}; rank 0 (the first category) is the hottest</li>
+ * <li>{@code hot} - a fixed fraction of items goes to the first {@code hotCount}
+ * categories, the rest is spread uniformly over the others</li>
+ * </ul>
+ * <p>
+ * Instances are immutable and can be shared between threads; all randomness
+ * comes from the caller's {@link SplittableRandom}.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class CategorySampler {
+
+    /**
+     * Number of categories to choose from.
+     */
+    private final int categoryCount;
+
+    /**
+     * Cumulative distribution for the Zipf mode, {@code null} otherwise.
+     */
+    private final double[] zipfCdf;
+
+    /**
+     * Number of hot categories in the hot mode, 0 otherwise.
+     */
+    private final int hotCount;
+
+    /**
+     * Probability of picking a hot category in the hot mode.
+     */
+    private final double hotFraction;
+
+    /**
+     * Human-readable description used in logs.
+     */
+    private final String description;
+
+    private CategorySampler(int categoryCount, double[] zipfCdf, int hotCount, double hotFraction,
+            String description) {
+        if (categoryCount <= 0) {
+            throw new IllegalArgumentException("categoryCount must be positive");
+        }
+        this.categoryCount = categoryCount;
+        this.zipfCdf = zipfCdf;
+        this.hotCount = hotCount;
+        this.hotFraction = hotFraction;
+        this.description = description;
+    }
+
+    /**
+     * Creates a sampler giving every category the same probability.
+     *
+     * @param categoryCount number of categories
+     * @return a uniform sampler
+     */
+    public static CategorySampler uniform(int categoryCount) {
+        return new CategorySampler(categoryCount, null, 0, 0, "uniform");
+    }
+
+    /**
+     * Creates a Zipf sampler. The cumulative distribution is precomputed once so
+     * sampling is a single binary search.
+     *
+     * @param categoryCount number of categories
+     * @param exponent      Zipf exponent {@code s} (0 is uniform, 1 is classic Zipf)
+     * @return a Zipf sampler
+     */
+    public static CategorySampler zipf(int categoryCount, double exponent) {
+        double[] cdf = new double[categoryCount];
+        double sum = 0;
+        for (int k = 0; k < categoryCount; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < categoryCount; k++) {
+            cdf[k] /= sum;
+        }
+        return new CategorySampler(categoryCount, cdf, 0, 0,
+                String.format(Locale.ROOT, "zipf(s=%.2f)", exponent));
+    }
+
+    /**
+     * Creates a sampler sending {@code hotFraction} of the items to the first
+     * {@code hotCount} categories.
+     *
+     * @param categoryCount number of categories
+     * @param hotCount      number of hot categories
+     * @param hotFraction   share of items going to hot categories (0..1)
+     * @return a hot-partition sampler
+     */
+    public static CategorySampler hot(int categoryCount, int hotCount, double hotFraction) {
+        int hot = Math.max(1, Math.min(hotCount, categoryCount));
+        if (hot == categoryCount) {
+            return uniform(categoryCount);
+        }
+        return new CategorySampler(categoryCount, null, hot, Math.max(0, Math.min(1, hotFraction)),
+                String.format(Locale.ROOT, "hot(%d catégories, %.0f%%)", hot, hotFraction * 100));
+    }
+
+    /**
+     * Builds a sampler from its configuration name.
+     *
+     * @param skew          {@code uniform}, {@code zipf} or {@code hot}
+     * @param categoryCount number of categories
+     * @param zipfExponent  exponent used by the Zipf mode
+     * @param hotCount      number of hot categories used by the hot mode
+     * @param hotFraction   share of items used by the hot mode
+     * @return the configured sampler
+     * @throws IllegalArgumentException if the skew name is unknown
+     */
+    public static CategorySampler of(String skew, int categoryCount, double zipfExponent, int hotCount,
+            double hotFraction) {
+        return switch (skew.toLowerCase(Locale.ROOT)) {
+            case "uniform" -> uniform(categoryCount);
+            case "zipf" -> zipf(categoryCount, zipfExponent);
+            case "hot" -> hot(categoryCount, hotCount, hotFraction);
+            default -> throw new IllegalArgumentException("Unknown category skew: " + skew);
+        };
+    }
+
+    /**
+     * Draws a category index.
+     *
+     * @param random source of randomness
+     * @return an index in {@code [0, categoryCount)}
+     */
+    public int sample(SplittableRandom random) {
+        if (zipfCdf != null) {
+            int index = Arrays.binarySearch(zipfCdf, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, categoryCount - 1);
+        }
+        if (hotCount > 0) {
+            return random.nextDouble() < hotFraction
+                    ? random.nextInt(hotCount)
+                    : random.nextInt(hotCount, categoryCount);
+        }
+        return random.nextInt(categoryCount);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.service;
 
 import com.example.dao.CategoryDAO;
+import com.example.dto.RowVersion;
 import com.example.model.Category;
+import jakarta.inject.Inject;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,10 +27,14 @@ public class CategoryService {
     private final CategoryDAO categoryDAO;
 
     /**
-     * Default constructor initializing the DAO.
+     * Creates the service; a singleton injected by HK2 (see
+     * {@code JerseyConfig}).
+     * 
+     * @param categoryDAO category data access
      */
-    public CategoryService() {
-        this.categoryDAO = new CategoryDAO();
+    @Inject
+    public CategoryService(CategoryDAO categoryDAO) {
+        this.categoryDAO = categoryDAO;
     }
 
     /**
@@ -62,6 +68,17 @@ public class CategoryService {
         return categoryDAO.findAll(page, size);
     }
 
+    /**
+     * Reads the versions of the categories of a page, for a conditional GET.
+     * 
+     * @param page page number
+     * @param size page size
+     * @return the versions of the page rows, in identifier order
+     */
+    public List<RowVersion> getCategoryVersions(int page, int size) {
+        return categoryDAO.findVersions(page, size);
+    }
+
     /**
      * Gets the total count of categories.
      * 
@@ -4,38 +4,43 @@ import com.example.dao.CategoryDAO;
 import com.example.dao.ItemDAO;
 import com.example.model.Category;
 import com.example.model.Item;
-import com.github.javafaker.Faker;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Service responsible for generating massive test data for Variant A
  * benchmarks.
  * <p>
- * This class populates the database with 2,000 categories and 100,000 items.
- * It uses JavaFaker for realistic data and implements batch processing to
- * optimize database performance and memory usage during the generation process.
+ * By default this class populates the database with 2,000 categories and
+ * 100,000 items. Rows come from a seeded {@link DatasetFactory}, so a given
+ * seed always produces the same dataset, and item batches are generated and
+ * saved concurrently by several virtual-thread workers. Sizes, seed and
+ * category skew are configurable through system properties:
  * </p>
- * 
+ * <ul>
+ * <li>{@code benchmark.seed.categories} / {@code benchmark.seed.items} - dataset size</li>
+ * <li>{@code benchmark.seed.batch} - items per save batch (default 5000)</li>
+ * <li>{@code benchmark.seed.workers} - concurrent workers (default 4, keep it
+ * below the Hikari pool size)</li>
+ * <li>{@code benchmark.seed.seed} - dataset seed (default 42)</li>
+ * <li>{@code benchmark.seed.skew} - {@code uniform}, {@code zipf} or {@code hot},
+ * tuned with {@code benchmark.seed.zipf-exponent},
+ * {@code benchmark.seed.hot-categories} and {@code benchmark.seed.hot-fraction}</li>
+ * </ul>
+ *
  * @author Halmaoui Abdellah
  * @version 1.0
  * @since 2025
  */
 public class DataGeneratorService {
 
-    /**
-     * Faker instance for generating realistic random data strings.
-     */
-    private static final Faker faker = new Faker();
-
-    /**
-     * Random generator for numeric attributes and associations.
-     */
-    private static final Random random = new Random();
-
     /**
      * Entry point for data generation.
      * Checks existing data count before starting to avoid duplicates.
@@ -56,81 +61,111 @@ public class DataGeneratorService {
             return;
         }
 
-        System.out.println("🚀 Starting data generation...");
+        int categoriesToGenerate = Integer.getInteger("benchmark.seed.categories", 2000);
+        int itemsToGenerate = Integer.getInteger("benchmark.seed.items", 100_000);
+        int batchSize = Integer.getInteger("benchmark.seed.batch", 5000);
+        int workers = Math.max(1, Integer.getInteger("benchmark.seed.workers", 4));
+        CategorySampler sampler = CategorySampler.of(
+                System.getProperty("benchmark.seed.skew", "uniform"),
+                categoriesToGenerate,
+                Double.parseDouble(System.getProperty("benchmark.seed.zipf-exponent", "1.0")),
+                Integer.getInteger("benchmark.seed.hot-categories", 20),
+                Double.parseDouble(System.getProperty("benchmark.seed.hot-fraction", "0.8")));
+        DatasetFactory dataset = new DatasetFactory(Long.getLong("benchmark.seed.seed", 42L), sampler);
+
+        System.out.println("🚀 Starting data generation (distribution: " + sampler + ")...");
         long startTime = System.currentTimeMillis();
 
-        // Generate 2000 categories
-        System.out.println("📦 Generating 2000 categories...");
-        List<Category> categories = generateCategories(2000);
+        System.out.println("📦 Generating " + categoriesToGenerate + " categories...");
+        List<Category> categories = generateCategories(dataset, categoriesToGenerate);
         categoryDAO.saveAll(categories);
         System.out.println("✅ Categories saved");
 
-        // Generate 100,000 items
-        System.out.println("📦 Generating 100,000 items...");
-        generateAndSaveItemsInBatches(itemDAO, categories, 100000, 5000);
+        System.out.println("📦 Generating " + itemsToGenerate + " items (" + workers + " workers)...");
+        generateAndSaveItemsInBatches(itemDAO, dataset, categories, itemsToGenerate, batchSize, workers);
 
         long endTime = System.currentTimeMillis();
-        System.out.println("✅ Data generation completed in " + (endTime - startTime) / 1000 + " seconds");
+        long elapsed = Math.max(1, endTime - startTime);
+        System.out.println("✅ Data generation completed in " + elapsed / 1000 + " seconds ("
+                + (categoriesToGenerate + itemsToGenerate) * 1000L / elapsed + " rows/s)");
         System.out.println("📊 Final database state:");
         System.out.println("   Categories: " + categoryDAO.count());
         System.out.println("   Items: " + itemDAO.count());
     }
 
     /**
-     * Creates a list of categories with various types.
-     * 
-     * @param count number of categories to generate
-     * @return list of generated categories
+     * Creates the list of categories.
+     *
+     * @param dataset factory providing codes and names
+     * @param count   number of categories to generate
+     * @return list of generated categories, in generation order
      */
-    private static List<Category> generateCategories(int count) {
-        List<Category> categories = new ArrayList<>();
-        String[] categoryTypes = { "Electronics", "Clothing", "Food", "Books", "Toys",
-                "Sports", "Home", "Garden", "Beauty", "Automotive" };
-
-        for (int i = 1; i <= count; i++) {
+    private static List<Category> generateCategories(DatasetFactory dataset, int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
             Category category = new Category();
-            category.setCode(categoryTypes[i % categoryTypes.length].toLowerCase() + "_" + i);
-            category.setName(categoryTypes[i % categoryTypes.length] + " Category " + i);
+            category.setCode(dataset.categoryCode(i));
+            category.setName(dataset.categoryName(i));
             categories.add(category);
-
-            if (i % 500 == 0) {
-                System.out.println("   Generated " + i + " categories...");
-            }
         }
         return categories;
     }
 
     /**
      * Generates items in batches to optimize database I/O and memory.
-     * 
+     * <p>
+     * Batches are claimed by {@code workers} virtual threads; each one builds
+     * its batch and saves it in its own session and transaction.
+     * </p>
+     *
      * @param itemDAO    DAO to use for saving
+     * @param dataset    factory providing item rows
      * @param categories list of available categories for association
      * @param totalItems total number of items to generate
      * @param batchSize  size of each save batch
+     * @param workers    number of concurrent workers
      */
-    private static void generateAndSaveItemsInBatches(ItemDAO itemDAO, List<Category> categories,
-            int totalItems, int batchSize) {
-        int batches = totalItems / batchSize;
-
-        for (int batch = 0; batch < batches; batch++) {
-            List<Item> items = new ArrayList<>();
-            int startIndex = batch * batchSize;
-
-            for (int i = 0; i < batchSize; i++) {
-                int itemNumber = startIndex + i + 1;
-                Item item = new Item();
-                item.setSku("ITEM_" + itemNumber);
-                item.setName(faker.commerce().productName() + " #" + itemNumber);
-                item.setDescription(faker.lorem().sentence(15));
-                item.setPrice(BigDecimal.valueOf(random.nextDouble() * 1000).setScale(2, BigDecimal.ROUND_HALF_UP));
-                item.setStock(random.nextInt(1000));
-                item.setCategory(categories.get(random.nextInt(categories.size())));
-                items.add(item);
+    private static void generateAndSaveItemsInBatches(ItemDAO itemDAO, DatasetFactory dataset,
+            List<Category> categories, int totalItems, int batchSize, int workers) {
+        int batches = (totalItems + batchSize - 1) / batchSize;
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicInteger savedBatches = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                tasks.add(executor.submit(() -> {
+                    int batch;
+                    while ((batch = nextBatch.getAndIncrement()) < batches) {
+                        int startIndex = batch * batchSize;
+                        int endIndex = Math.min(totalItems, startIndex + batchSize);
+                        List<Item> items = new ArrayList<>(endIndex - startIndex);
+                        for (int i = startIndex; i < endIndex; i++) {
+                            DatasetFactory.ItemRow row = dataset.item(i);
+                            Item item = new Item();
+                            item.setSku(row.sku());
+                            item.setName(row.name());
+                            item.setDescription(row.description());
+                            item.setPrice(BigDecimal.valueOf(row.priceCents(), 2));
+                            item.setStock(row.stock());
+                            item.setCategory(categories.get(row.categoryIndex()));
+                            items.add(item);
+                        }
+                        itemDAO.saveAll(items);
+                        System.out.println("   Saved batch " + savedBatches.incrementAndGet() + "/" + batches
+                                + " (items " + (startIndex + 1) + "-" + endIndex + ")");
+                    }
+                    return null;
+                }));
             }
-
-            itemDAO.saveAll(items);
-            System.out.println(
-                    "   Saved batch " + (batch + 1) + "/" + batches + " (" + ((batch + 1) * batchSize) + " items)");
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Item generation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Item generation interrupted", e);
         }
     }
 }
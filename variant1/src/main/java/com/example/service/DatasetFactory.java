@@ -0,0 +1,154 @@
+package com.example.service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, thread-safe factory for the synthetic categories and items of
+ * Variant A.
+ * <p>
+ * Every value is derived from {@code (seed, row index)} only: each row gets its
+ * own {@link SplittableRandom} seeded from a mix of both, so the generated
+ * dataset is identical whatever the number of threads and the order in which
+ * rows are produced. Names and descriptions are assembled from precomputed
+ * dictionaries instead of a shared Faker instance.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class DatasetFactory {
+
+    private static final String[] CATEGORY_TYPES = { "Electronics", "Clothing", "Food", "Books", "Toys",
+            "Sports", "Home", "Garden", "Beauty", "Automotive" };
+
+    /**
+     * Lower-case variants of {@link #CATEGORY_TYPES}, precomputed for category codes.
+     */
+    private static final String[] CATEGORY_CODES = { "electronics", "clothing", "food", "books", "toys",
+            "sports", "home", "garden", "beauty", "automotive" };
+
+    private static final String[] ADJECTIVES = {
+            "Small", "Ergonomic", "Rustic", "Intelligent", "Gorgeous", "Incredible", "Fantastic",
+            "Practical", "Sleek", "Awesome", "Enormous", "Mediocre", "Synergistic", "Heavy Duty",
+            "Lightweight", "Aerodynamic", "Durable" };
+
+    private static final String[] MATERIALS = {
+            "Steel", "Wooden", "Concrete", "Plastic", "Cotton", "Granite", "Rubber", "Leather", "Silk",
+            "Wool", "Linen", "Marble", "Iron", "Bronze", "Copper", "Aluminum", "Paper" };
+
+    private static final String[] PRODUCTS = {
+            "Chair", "Car", "Computer", "Gloves", "Pants", "Shirt", "Table", "Shoes", "Hat", "Plate",
+            "Knife", "Bottle", "Coat", "Lamp", "Keyboard", "Bag", "Bench", "Clock", "Watch", "Wallet" };
+
+    private static final String[] LOREM = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim",
+            "ad", "minim", "veniam", "quis", "nostrud", "exercitation", "ullamco", "laboris", "nisi",
+            "aliquip", "ex", "ea", "commodo", "consequat", "duis", "aute", "irure", "in",
+            "reprehenderit", "voluptate", "velit", "esse", "cillum", "fugiat", "nulla", "pariatur" };
+
+    /**
+     * Number of words in a generated description.
+     */
+    private static final int DESCRIPTION_WORDS = 15;
+
+    /**
+     * Golden-ratio increment used to decorrelate consecutive row seeds.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Dataset seed.
+     */
+    private final long seed;
+
+    /**
+     * Distribution used to assign items to categories.
+     */
+    private final CategorySampler categorySampler;
+
+    /**
+     * Creates a factory.
+     *
+     * @param seed            dataset seed; the same seed always yields the same rows
+     * @param categorySampler distribution of items over categories
+     */
+    public DatasetFactory(long seed, CategorySampler categorySampler) {
+        this.seed = seed;
+        this.categorySampler = categorySampler;
+    }
+
+    /**
+     * One generated item row, independent from any persistence mechanism.
+     *
+     * @param sku           unique SKU derived from the row index
+     * @param name          product name
+     * @param description   lorem-ipsum description
+     * @param priceCents    price in cents (0 to 99,999)
+     * @param stock         stock quantity (0 to 999)
+     * @param categoryIndex index of the category in generation order
+     */
+    public record ItemRow(String sku, String name, String description, long priceCents, int stock,
+            int categoryIndex) {
+    }
+
+    /**
+     * Returns the unique code of the category at {@code index}.
+     *
+     * @param index category index (0-based)
+     * @return the category code
+     */
+    public String categoryCode(int index) {
+        return CATEGORY_CODES[(index + 1) % CATEGORY_CODES.length] + "_" + (index + 1);
+    }
+
+    /**
+     * Returns the display name of the category at {@code index}.
+     *
+     * @param index category index (0-based)
+     * @return the category name
+     */
+    public String categoryName(int index) {
+        return CATEGORY_TYPES[(index + 1) % CATEGORY_TYPES.length] + " Category " + (index + 1);
+    }
+
+    /**
+     * Generates the item at {@code index}.
+     *
+     * @param index item index (0-based)
+     * @return the generated row
+     */
+    public ItemRow item(long index) {
+        SplittableRandom random = new SplittableRandom(seed + (index + 1) * GOLDEN_GAMMA);
+        long number = index + 1;
+        String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + ' '
+                + MATERIALS[random.nextInt(MATERIALS.length)] + ' '
+                + PRODUCTS[random.nextInt(PRODUCTS.length)] + " #" + number;
+
+        StringBuilder description = new StringBuilder(DESCRIPTION_WORDS * 8);
+        for (int w = 0; w < DESCRIPTION_WORDS; w++) {
+            String word = LOREM[random.nextInt(LOREM.length)];
+            if (w == 0) {
+                description.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                description.append(' ').append(word);
+            }
+        }
+        description.append('.');
+
+        long priceCents = random.nextLong(100_000);
+        int stock = random.nextInt(1000);
+        return new ItemRow("ITEM_" + number, name, description.toString(), priceCents, stock,
+                categorySampler.sample(random));
+    }
+
+    /**
+     * Distribution used to assign items to categories.
+     *
+     * @return the category sampler
+     */
+    public CategorySampler getCategorySampler() {
+        return categorySampler;
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.service;
+
+import com.example.dto.Suggestion;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable sorted set of {@code (text, item id)} keys, stored front-coded in
+ * a single byte array (Variant A).
+ * <p>
+ * Keys are sorted case-insensitively, then by identifier, and grouped in
+ * blocks of {@value #BLOCK_SIZE}. Each key only stores the UTF-8 bytes that
+ * differ from the previous one: sorted item names and SKUs share most of their
+ * bytes with their neighbour ({@code Rustic Steel Chair #1041},
+ * {@code Rustic Steel Chair #1042}), so a key takes a few bytes instead of a
+ * {@code String} of 60 or more. The first key of each block is stored whole,
+ * which lets a prefix lookup binary search the blocks, then decode at most
+ * one block before reaching the first match.
+ * </p>
+ * <p>
+ * Entry layout: varint shared length, varint suffix length, suffix bytes,
+ * varint item identifier.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class FrontCodedKeys {
+
+    /**
+     * Key order: text without case, then identifier.
+     */
+    static final Comparator<Suggestion> ORDER = Comparator.comparing(Suggestion::text, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(Suggestion::id);
+
+    /**
+     * Keys per block; a lookup decodes up to one block before its first match.
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * Set without keys.
+     */
+    static final FrontCodedKeys EMPTY = new FrontCodedKeys(new byte[0], new int[0], 0);
+
+    /**
+     * Front-coded entries.
+     */
+    private final byte[] data;
+
+    /**
+     * Offset in {@link #data} of the first entry of each block.
+     */
+    private final int[] blocks;
+
+    private final int size;
+
+    private FrontCodedKeys(byte[] data, int[] blocks, int size) {
+        this.data = data;
+        this.blocks = blocks;
+        this.size = size;
+    }
+
+    /**
+     * Encodes keys given in {@link #ORDER}.
+     *
+     * @param sorted keys, sorted, without duplicates
+     * @return the encoded set
+     */
+    static FrontCodedKeys of(Iterator<Suggestion> sorted) {
+        byte[] data = new byte[4096];
+        int[] blocks = new int[64];
+        int length = 0;
+        int size = 0;
+        byte[] previous = new byte[0];
+        while (sorted.hasNext()) {
+            Suggestion key = sorted.next();
+            byte[] text = key.text().getBytes(StandardCharsets.UTF_8);
+            int shared = 0;
+            if (size % BLOCK_SIZE == 0) {
+                if (size / BLOCK_SIZE == blocks.length) {
+                    blocks = Arrays.copyOf(blocks, blocks.length * 2);
+                }
+                blocks[size / BLOCK_SIZE] = length;
+            } else {
+                int max = Math.min(previous.length, text.length);
+                while (shared < max && previous[shared] == text[shared]) {
+                    shared++;
+                }
+            }
+            int suffix = text.length - shared;
+            if (length + suffix + 20 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + suffix + 20));
+            }
+            length = writeVarint(data, length, shared);
+            length = writeVarint(data, length, suffix);
+            System.arraycopy(text, shared, data, length, suffix);
+            length += suffix;
+            length = writeVarint(data, length, key.id());
+            previous = text;
+            size++;
+        }
+        return new FrontCodedKeys(Arrays.copyOf(data, length),
+                Arrays.copyOf(blocks, (size + BLOCK_SIZE - 1) / BLOCK_SIZE), size);
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the key count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the memory held by the encoded keys, arrays only.
+     *
+     * @return size in bytes
+     */
+    long bytes() {
+        return data.length + 4L * blocks.length;
+    }
+
+    /**
+     * Finds the first keys starting with a prefix, without case.
+     *
+     * @param prefix  the prefix, not empty
+     * @param limit   maximum number of keys
+     * @param skipped identifiers whose keys are left out
+     * @return up to {@code limit} keys, in {@link #ORDER}
+     */
+    List<Suggestion> find(String prefix, int limit, LongPredicate skipped) {
+        List<Suggestion> found = new ArrayList<>(Math.min(limit, 16));
+        if (size == 0) {
+            return found;
+        }
+        int low = 0;
+        int high = blocks.length - 1;
+        int start = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(new Cursor(mid).next().text(), prefix) < 0) {
+                start = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        Cursor cursor = new Cursor(start);
+        while (cursor.hasNext() && found.size() < limit) {
+            Suggestion key = cursor.next();
+            if (startsWith(key.text(), prefix)) {
+                if (!skipped.test(key.id())) {
+                    found.add(key);
+                }
+            } else if (String.CASE_INSENSITIVE_ORDER.compare(key.text(), prefix) > 0) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Iterates over every key, in {@link #ORDER}.
+     *
+     * @return an iterator decoding the keys one at a time
+     */
+    Iterator<Suggestion> iterator() {
+        return size == 0 ? new Cursor(0, 0) : new Cursor(0);
+    }
+
+    /**
+     * Tells whether a text starts with a prefix, without case, with the same
+     * case folding as {@link #ORDER}.
+     *
+     * @param text   the text
+     * @param prefix the prefix
+     * @return {@code true} if it does
+     */
+    static boolean startsWith(String text, String prefix) {
+        return text.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static int writeVarint(byte[] data, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Decodes the keys from the start of a block to the end of the set.
+     */
+    private final class Cursor implements Iterator<Suggestion> {
+
+        private int offset;
+
+        private int index;
+
+        private byte[] key = new byte[64];
+
+        Cursor(int block) {
+            this(blocks[block], block * BLOCK_SIZE);
+        }
+
+        Cursor(int offset, int index) {
+            this.offset = offset;
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public Suggestion next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int shared = (int) readVarint();
+            int suffix = (int) readVarint();
+            if (shared + suffix > key.length) {
+                key = Arrays.copyOf(key, Math.max(key.length * 2, shared + suffix));
+            }
+            System.arraycopy(data, offset, key, shared, suffix);
+            offset += suffix;
+            long id = readVarint();
+            index++;
+            return new Suggestion(id, new String(key, 0, shared + suffix, StandardCharsets.UTF_8));
+        }
+
+        private long readVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
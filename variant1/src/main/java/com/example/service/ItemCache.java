@@ -0,0 +1,182 @@
+package com.example.service;
+
+import com.example.dao.ItemDAO;
+import com.example.model.Item;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache of items by identifier for Variant A, in front of
+ * {@link ItemDAO#findById(Long)}.
+ * <p>
+ * The cache is a Caffeine cache bounded in size, whose W-TinyLFU policy keeps
+ * the frequently read items even under scans of cold ones. A miss is loaded
+ * atomically per key: concurrent requests for the same missing item wait for a
+ * single database read instead of stampeding. {@link ItemService} invalidates
+ * an item once its creation, update or deletion is committed; the
+ * expire-after-write delay only bounds staleness for writes made outside the
+ * service (bulk loads, manual SQL). Unknown identifiers are not cached.
+ * </p>
+ * <p>
+ * Multi-gets ({@link #getAll(Collection)}) load all their misses with a
+ * single {@link ItemDAO#findAllById(Collection)} query. That load is not
+ * atomic per key: each multi-get records the items invalidated while it runs,
+ * and does not cache the rows it read for them, which may predate the write.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.item-cache.maximum-size} - maximum number of items
+ * (default 10,000, 0 disables the cache)</li>
+ * <li>{@code benchmark.item-cache.expire-seconds} - expire-after-write delay
+ * (default 600)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class ItemCache implements MeterBinder {
+
+    /**
+     * Shared instance, created on first use.
+     */
+    private static final class Holder {
+        private static final ItemCache INSTANCE = new ItemCache(new ItemDAO(),
+                Long.getLong("benchmark.item-cache.maximum-size", 10_000L),
+                Duration.ofSeconds(Long.getLong("benchmark.item-cache.expire-seconds", 600L)));
+    }
+
+    /**
+     * Items by identifier. The key is boxed once here; Caffeine has no
+     * primitive-keyed variant.
+     */
+    private final LoadingCache<Long, Item> cache;
+
+    /**
+     * Multi-gets loading their misses.
+     */
+    private final Set<BulkLoad> bulkLoads = ConcurrentHashMap.newKeySet();
+
+    private final ItemDAO itemDAO;
+
+    private ItemCache(ItemDAO itemDAO, long maximumSize, Duration expireAfterWrite) {
+        this.itemDAO = itemDAO;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(id -> itemDAO.findById(id).orElse(null));
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the item cache
+     */
+    public static ItemCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns an item, loading it from the database on a miss.
+     *
+     * @param id item identifier
+     * @return the item, or empty if it does not exist
+     */
+    public Optional<Item> get(long id) {
+        return Optional.ofNullable(cache.get(id));
+    }
+
+    /**
+     * Returns several items, loading all the missing ones in one query.
+     *
+     * @param ids item identifiers
+     * @return the items found, by identifier; unknown identifiers are absent
+     */
+    public Map<Long, Item> getAll(Collection<Long> ids) {
+        Map<Long, Item> items = new HashMap<>(cache.getAllPresent(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(items.keySet());
+        if (missing.isEmpty()) {
+            return items;
+        }
+        // Inscrit avant le SELECT : toute invalidation qui peut le précéder est vue
+        BulkLoad load = new BulkLoad();
+        bulkLoads.add(load);
+        try {
+            for (Item item : itemDAO.findAllById(missing)) {
+                items.put(item.getId(), item);
+                cache.asMap().computeIfAbsent(item.getId(),
+                        id -> load.invalidated.contains(id) ? null : item);
+            }
+        } finally {
+            bulkLoads.remove(load);
+        }
+        return items;
+    }
+
+    /**
+     * Returns an item only if it is already cached, without loading it.
+     *
+     * @param id item identifier
+     * @return the cached item, or empty on a miss
+     */
+    public Optional<Item> getIfPresent(long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Removes an item after a write. A single-item load in progress completes
+     * before the removal; a multi-get loading the item meanwhile returns the
+     * row it read but does not cache it. Either way, the value read before the
+     * write is not kept.
+     *
+     * @param id item identifier
+     */
+    public void invalidate(long id) {
+        for (BulkLoad load : bulkLoads) {
+            load.invalidated.add(id);
+        }
+        cache.invalidate(id);
+    }
+
+    /**
+     * Exports the cache statistics: {@code cache_gets_total} (hits and misses),
+     * {@code cache_evictions_total}, {@code cache_load_duration_seconds},
+     * {@code cache_size} and a {@code cache_hit_ratio} gauge, all tagged
+     * {@code cache="items"}.
+     *
+     * @param registry registry to bind the metrics to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "items");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "items")
+                .description("Share of lookups served from the cache")
+                .register(registry);
+    }
+
+    /**
+     * Items invalidated while a multi-get loads its misses. Compared by
+     * identity.
+     */
+    private static final class BulkLoad {
+        final Set<Long> invalidated = ConcurrentHashMap.newKeySet();
+    }
+}
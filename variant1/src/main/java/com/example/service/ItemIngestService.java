@@ -0,0 +1,286 @@
+package com.example.service;
+
+import com.example.dao.CategoryDAO;
+import com.example.dao.ItemDAO;
+import com.example.dto.BulkItem;
+import com.example.dto.BulkReport;
+import com.example.model.Category;
+import com.example.model.Item;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bulk creation of items from an NDJSON upload, for Variant A.
+ * <p>
+ * Lines are read and parsed one at a time by Jackson, validated, and grouped
+ * into chunks of {@code benchmark.bulk.chunk-size} rows; each chunk is
+ * inserted in its own transaction, as JDBC batches
+ * ({@link ItemDAO#insertAll(List)}). The upload is only read as fast as chunks
+ * are committed, so memory is bounded by one chunk whatever the upload size,
+ * and a slow database slows the client down.
+ * </p>
+ * <p>
+ * A rejected line never stops the ingest. Invalid lines are reported before
+ * reaching the database; when a chunk fails in the database (a duplicate SKU,
+ * for instance), it is replayed one row per transaction, so only the offending
+ * rows are rejected. Totals, page versions and the suggest index are updated
+ * once per committed chunk.
+ * </p>
+ * <p>
+ * System properties:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.bulk.chunk-size} - rows per transaction (default
+ * 1000)</li>
+ * <li>{@code benchmark.bulk.max-line-bytes} - longest accepted line (default
+ * 1 MiB)</li>
+ * <li>{@code benchmark.bulk.max-errors} - rejected lines described in the
+ * report (default 100)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class ItemIngestService {
+
+    private static final int CHUNK_SIZE = Math.max(1, Integer.getInteger("benchmark.bulk.chunk-size", 1000));
+
+    private static final int MAX_LINE_BYTES = Math.max(1,
+            Integer.getInteger("benchmark.bulk.max-line-bytes", 1024 * 1024));
+
+    private static final int MAX_ERRORS = Math.max(0, Integer.getInteger("benchmark.bulk.max-errors", 100));
+
+    /**
+     * Exclusive upper bound of a {@code numeric(10, 2)} price.
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("100000000");
+
+    /**
+     * Parser of one line; rows only hold strings and numbers, so a plain
+     * mapper is enough.
+     */
+    private static final ObjectReader ROW_READER = new ObjectMapper().readerFor(BulkItem.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    private final ItemDAO itemDAO;
+
+    private final CategoryDAO categoryDAO;
+
+    private final ItemTotals totals;
+
+    private final ItemCache itemCache;
+
+    private final PageCache pageCache;
+
+    private final ItemSuggestIndex suggestIndex;
+
+    /**
+     * Creates the service; a singleton injected by HK2 (see
+     * {@code JerseyConfig}).
+     * 
+     * @param itemDAO     item data access
+     * @param categoryDAO category data access
+     */
+    @Inject
+    public ItemIngestService(ItemDAO itemDAO, CategoryDAO categoryDAO) {
+        this.itemDAO = itemDAO;
+        this.categoryDAO = categoryDAO;
+        this.totals = ItemTotals.getInstance();
+        this.itemCache = ItemCache.getInstance();
+        this.pageCache = PageCache.getInstance();
+        this.suggestIndex = ItemSuggestIndex.getInstance();
+    }
+
+    /**
+     * Creates the items of an NDJSON stream, one JSON object per line.
+     *
+     * @param body the upload, read up to its end
+     * @return counts of the lines read, inserted and rejected, with the first
+     *         rejections
+     * @throws IOException if the upload cannot be read; chunks already
+     *                     committed are kept
+     */
+    public BulkReport ingest(InputStream body) throws IOException {
+        Progress progress = new Progress();
+        NdjsonLineReader lines = new NdjsonLineReader(body, MAX_LINE_BYTES);
+        Map<Long, Optional<Category>> categories = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        while (lines.next()) {
+            progress.received++;
+            long line = lines.lineNumber();
+            if (lines.oversized()) {
+                progress.reject(line, null, "Line longer than " + MAX_LINE_BYTES + " bytes");
+                continue;
+            }
+            BulkItem item;
+            try {
+                item = ROW_READER.readValue(lines.line(), 0, lines.length());
+            } catch (JsonProcessingException e) {
+                progress.reject(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            String error = validate(item);
+            if (error == null) {
+                // Une lecture (ou un accès au cache de second niveau) par catégorie et par import
+                Optional<Category> category = categories.computeIfAbsent(item.categoryId(), categoryDAO::findById);
+                if (category.isEmpty()) {
+                    error = "Unknown category " + item.categoryId();
+                } else {
+                    chunk.add(new Row(line, item, category.get()));
+                }
+            }
+            if (error != null) {
+                progress.reject(line, item != null ? item.sku() : null, error);
+                continue;
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                write(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, progress);
+        }
+        return new BulkReport(progress.received, progress.created, progress.failed, progress.errors);
+    }
+
+    /**
+     * Checks a row against the column constraints of {@code item}.
+     *
+     * @return the reason of the rejection, or {@code null} if the row is valid
+     */
+    private static String validate(BulkItem item) {
+        if (item == null) {
+            return "Empty row";
+        }
+        if (item.sku() == null || item.sku().isBlank() || item.sku().length() > 64) {
+            return "sku is required (64 characters max)";
+        }
+        if (item.name() == null || item.name().isBlank() || item.name().length() > 128) {
+            return "name is required (128 characters max)";
+        }
+        if (item.price() == null || item.price().signum() < 0 || item.price().compareTo(MAX_PRICE) >= 0) {
+            return "price is required, between 0 and 99999999.99";
+        }
+        if (item.stock() == null || item.stock() < 0) {
+            return "stock is required and cannot be negative";
+        }
+        if (item.categoryId() == null) {
+            return "categoryId is required";
+        }
+        return null;
+    }
+
+    /**
+     * Inserts a chunk in one transaction; if it fails, replays it one row per
+     * transaction to reject only the offending rows.
+     */
+    private void write(List<Row> chunk, Progress progress) {
+        try {
+            inserted(insert(chunk), progress);
+        } catch (RuntimeException chunkFailure) {
+            for (Row row : chunk) {
+                try {
+                    inserted(insert(List.of(row)), progress);
+                } catch (RuntimeException e) {
+                    progress.reject(row.line(), row.item().sku(), rootMessage(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Persists rows as new items in one transaction.
+     *
+     * @return the committed items
+     */
+    private List<Item> insert(List<Row> rows) {
+        List<Item> items = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            BulkItem source = row.item();
+            Item item = new Item();
+            item.setSku(source.sku());
+            item.setName(source.name());
+            item.setDescription(source.description());
+            item.setPrice(source.price());
+            item.setStock(source.stock());
+            item.setCategory(row.category());
+            items.add(item);
+        }
+        itemDAO.insertAll(items);
+        return items;
+    }
+
+    /**
+     * Brings totals, item cache, page versions and the suggest index up to
+     * date after a commit.
+     */
+    private void inserted(List<Item> items, Progress progress) {
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (Item item : items) {
+            Long categoryId = item.getCategory().getId();
+            itemCache.invalidate(item.getId());
+            totals.itemAdded(categoryId);
+            suggestIndex.itemAdded(item.getId(), item.getName(), item.getSku());
+            categoryIds.add(categoryId);
+        }
+        pageCache.itemsChanged(categoryIds.toArray(new Long[0]));
+        progress.created += items.size();
+    }
+
+    /**
+     * Returns the message of the deepest cause, usually the one of the JDBC
+     * driver.
+     */
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    /**
+     * A valid row waiting in the current chunk, with its category.
+     */
+    private record Row(long line, BulkItem item, Category category) {
+    }
+
+    /**
+     * Counters of one ingest.
+     */
+    private static final class Progress {
+
+        private long received;
+
+        private long created;
+
+        private long failed;
+
+        private final List<BulkReport.RowError> errors = new ArrayList<>();
+
+        private void reject(long line, String sku, String message) {
+            failed++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new BulkReport.RowError(line, sku, message));
+            }
+        }
+    }
+}
@@ -1,10 +1,33 @@
 package com.example.service;
 
 import com.example.dao.ItemDAO;
+import com.example.dao.UnitOfWork;
+import com.example.dto.BatchResult;
+import com.example.dto.ItemChange;
+import com.example.dto.ItemFilter;
+import com.example.dto.ItemLabel;
+import com.example.dto.LookupResult;
+import com.example.dto.RowVersion;
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
+import com.example.dto.Suggestion;
+import com.example.model.Category;
 import com.example.model.Item;
+import jakarta.inject.Inject;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Item business logic (Variant A).
@@ -12,6 +35,21 @@ import java.util.Optional;
  * This service manages item operations including CRUD actions and
  * category-based filtering. It uses the ItemDAO for database interactions.
  * </p>
+ * <p>
+ * Totals are served from {@link ItemTotals} instead of a COUNT query per
+ * request; every create, update and delete goes through this service to keep
+ * them current. Single-item lookups are served by the {@link ItemCache}, which
+ * this service invalidates after each write; each write also bumps the
+ * versions of the {@link PageCache}, retiring the serialized pages it may
+ * have changed. Names and SKUs written are recorded in the
+ * {@link ItemSuggestIndex}, which answers autocomplete lookups without the
+ * database.
+ * </p>
+ * <p>
+ * Inside a {@link UnitOfWork}, those updates are deferred until the unit has
+ * committed: a concurrent request reading before the commit would otherwise
+ * put the previous values back in the caches.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -19,16 +57,49 @@ import java.util.Optional;
  */
 public class ItemService {
 
+    /**
+     * Exclusive upper bound of a {@code numeric(10, 2)} price.
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("100000000");
+
     /**
      * DAO instance for item data operations.
      */
     private final ItemDAO itemDAO;
 
     /**
-     * Default constructor initializing the DAO.
+     * Cached item totals.
+     */
+    private final ItemTotals totals;
+
+    /**
+     * Read-through cache of items by identifier.
+     */
+    private final ItemCache itemCache;
+
+    /**
+     * Serialized item pages.
+     */
+    private final PageCache pageCache;
+
+    /**
+     * Prefix index of the item names and SKUs.
+     */
+    private final ItemSuggestIndex suggestIndex;
+
+    /**
+     * Creates the service; a singleton injected by HK2 (see
+     * {@code JerseyConfig}).
+     * 
+     * @param itemDAO item data access
      */
-    public ItemService() {
-        this.itemDAO = new ItemDAO();
+    @Inject
+    public ItemService(ItemDAO itemDAO) {
+        this.itemDAO = itemDAO;
+        this.totals = ItemTotals.getInstance();
+        this.itemCache = ItemCache.getInstance();
+        this.pageCache = PageCache.getInstance();
+        this.suggestIndex = ItemSuggestIndex.getInstance();
     }
 
     /**
@@ -38,17 +109,88 @@ public class ItemService {
      * @return the saved item
      */
     public Item createItem(Item item) {
-        return itemDAO.save(item);
+        Item saved = itemDAO.save(item);
+        Long categoryId = categoryIdOf(saved);
+        UnitOfWork.afterCommit(() -> {
+            itemCache.invalidate(saved.getId());
+            totals.itemAdded(categoryId);
+            pageCache.itemsChanged(categoryId);
+            suggestIndex.itemAdded(saved.getId(), saved.getName(), saved.getSku());
+        });
+        return saved;
     }
 
     /**
-     * Retrieves an item by its unique ID.
+     * Retrieves an item by its unique ID, through the item cache.
+     * <p>
+     * The returned instance is shared with other requests and must not be
+     * modified.
+     * </p>
      * 
      * @param id primary key
      * @return Optional containing the item
      */
     public Optional<Item> getItemById(Long id) {
-        return itemDAO.findById(id);
+        return itemCache.get(id);
+    }
+
+    /**
+     * Retrieves several items by ID, through the item cache: cached items are
+     * served from memory and all the others are read by a single query.
+     * 
+     * @param ids identifiers, duplicates allowed
+     * @return the items in request order, with the unknown identifiers
+     */
+    public LookupResult<Item, Long> getItemsByIds(List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        return LookupResult.of(keys, itemCache.getAll(keys));
+    }
+
+    /**
+     * Retrieves several items by SKU with a single query.
+     * 
+     * @param skus SKUs, duplicates allowed
+     * @return the items in request order, with the unknown SKUs
+     */
+    public LookupResult<Item, String> getItemsBySkus(List<String> skus) {
+        Set<String> keys = new LinkedHashSet<>(skus);
+        Map<String, Item> found = itemDAO.findAllBySku(keys).stream()
+                .collect(Collectors.toMap(Item::getSku, Function.identity()));
+        return LookupResult.of(keys, found);
+    }
+
+    /**
+     * Reads the version of an item for a conditional GET: from the item cache
+     * when the item is already there, otherwise with a projection query that
+     * does not load the entity.
+     * 
+     * @param id primary key
+     * @return the item version, or empty if the item does not exist
+     */
+    public Optional<RowVersion> getItemVersion(Long id) {
+        Optional<Item> cached = itemCache.getIfPresent(id);
+        if (cached.isPresent()) {
+            return Optional.of(new RowVersion(id, cached.get().getUpdatedAt()));
+        }
+        return itemDAO.findVersionById(id);
+    }
+
+    /**
+     * Reads the versions of the rows of an OFFSET page, as returned by
+     * {@link #getAllItems(int, int)} or {@link #getItemsSlice(int, int)} (and
+     * their category-filtered counterparts).
+     * 
+     * @param categoryId optional category filter, {@code null} for all items
+     * @param page       page index
+     * @param size       page size
+     * @param slice      whether the page is a slice, fetched with one extra row
+     * @return the versions of the page rows, in identifier order
+     */
+    public List<RowVersion> getItemVersions(Long categoryId, int page, int size, boolean slice) {
+        int limit = slice ? size + 1 : size;
+        return categoryId != null
+                ? itemDAO.findVersionRangeByCategoryId(categoryId, page * size, limit)
+                : itemDAO.findVersionRange(page * size, limit);
     }
 
     /**
@@ -75,22 +217,142 @@ public class ItemService {
     }
 
     /**
-     * Gets the total count of items in the database.
+     * Retrieves one keyset page of items.
+     * <p>
+     * One extra row is fetched so the caller can tell whether a next page exists
+     * without running a COUNT query.
+     * </p>
+     * 
+     * @param afterId identifier of the last item already returned (0 for the
+     *                first page)
+     * @param size    page size
+     * @return up to {@code size + 1} items ordered by identifier
+     */
+    public List<Item> getItemsAfter(long afterId, int size) {
+        return itemDAO.findAllAfter(afterId, size + 1);
+    }
+
+    /**
+     * Retrieves one keyset page of the items of a category.
+     * 
+     * @param categoryId category identifier
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param size       page size
+     * @return up to {@code size + 1} items of the category ordered by identifier
+     */
+    public List<Item> getItemsByCategoryIdAfter(Long categoryId, long afterId, int size) {
+        return itemDAO.findByCategoryIdAfter(categoryId, afterId, size + 1);
+    }
+
+    /**
+     * Retrieves a page of items without its total (slice mode). One extra row is
+     * fetched so the caller can tell whether a next page exists.
+     * 
+     * @param page page index
+     * @param size page size
+     * @return up to {@code size + 1} items
+     */
+    public List<Item> getItemsSlice(int page, int size) {
+        return itemDAO.findRange(page * size, size + 1);
+    }
+
+    /**
+     * Retrieves a page of the items of a category without its total (slice
+     * mode).
+     * 
+     * @param categoryId category identifier
+     * @param page       page index
+     * @param size       page size
+     * @return up to {@code size + 1} items of the category
+     */
+    public List<Item> getItemsSliceByCategoryId(Long categoryId, int page, int size) {
+        return itemDAO.findRangeByCategoryId(categoryId, page * size, size + 1);
+    }
+
+    /**
+     * Searches a page of items matching a filter, in its sort order, without
+     * total (slice mode). One extra row is fetched so the caller can tell
+     * whether a next page exists.
+     * 
+     * @param categoryId optional category filter
+     * @param filter     filters and sort order
+     * @param page       page index
+     * @param size       page size
+     * @return up to {@code size + 1} matching items
+     */
+    public List<Item> searchItems(Long categoryId, ItemFilter filter, int page, int size) {
+        return itemDAO.search(categoryId, filter, page * size, size + 1);
+    }
+
+    /**
+     * Searches one keyset page of the items matching an unsorted filter.
+     * 
+     * @param categoryId optional category filter
+     * @param filter     filters, without sort
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param size       page size
+     * @return up to {@code size + 1} matching items ordered by identifier
+     */
+    public List<Item> searchItemsAfter(Long categoryId, ItemFilter filter, long afterId, int size) {
+        return itemDAO.searchAfter(categoryId, filter, afterId, size + 1);
+    }
+
+    /**
+     * Searches one page of the items matching a full-text query, most
+     * relevant first.
+     * 
+     * @param text  the query, as typed by the user
+     * @param after position of the last hit already returned, or {@code null}
+     *              for the first page
+     * @param size  page size
+     * @return up to {@code size + 1} hits
+     */
+    public List<SearchHit> fullTextSearch(String text, SearchCursor after, int size) {
+        return itemDAO.fullTextSearch(text, after, size + 1);
+    }
+
+    /**
+     * Suggests item names and SKUs starting with a prefix, from the in-memory
+     * {@link ItemSuggestIndex}, without querying the database.
+     * 
+     * @param prefix the typed prefix, not empty
+     * @param limit  maximum number of suggestions
+     * @return up to {@code limit} suggestions, in alphabetical order
+     */
+    public List<Suggestion> suggestItems(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Reads the whole catalog for an export, one item at a time, without
+     * holding it in memory.
+     * 
+     * @param action called once per item, in identifier order
+     * @return the number of items exported
+     */
+    public long exportItems(Consumer<? super Item> action) {
+        return itemDAO.streamAll(action);
+    }
+
+    /**
+     * Gets the total count of items, from the cached totals.
      * 
      * @return total count
      */
     public long countItems() {
-        return itemDAO.count();
+        return totals.total();
     }
 
     /**
-     * Counts items belonging to a specific category.
+     * Counts items belonging to a specific category, from the cached totals.
      * 
      * @param categoryId category identifier
      * @return count of items in the category
      */
     public long countItemsByCategoryId(Long categoryId) {
-        return itemDAO.countByCategoryId(categoryId);
+        return totals.totalForCategory(categoryId);
     }
 
     /**
@@ -102,11 +364,25 @@ public class ItemService {
      * @throws RuntimeException if item is not found
      */
     public Item updateItem(Long id, Item item) {
-        if (!itemDAO.existsById(id)) {
-            throw new RuntimeException("Item not found with id: " + id);
-        }
+        Item existing = itemDAO.findById(id)
+                .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
+        Long previousCategoryId = categoryIdOf(existing);
+        boolean renamed = !Objects.equals(existing.getName(), item.getName())
+                || !Objects.equals(existing.getSku(), item.getSku());
         item.setId(id);
-        return itemDAO.update(item);
+        Item updated = itemDAO.update(item);
+        Long categoryId = categoryIdOf(updated);
+        String name = updated.getName();
+        String sku = updated.getSku();
+        UnitOfWork.afterCommit(() -> {
+            itemCache.invalidate(id);
+            totals.itemMoved(previousCategoryId, categoryId);
+            pageCache.itemsChanged(previousCategoryId, categoryId);
+            if (renamed) {
+                suggestIndex.itemChanged(id, name, sku);
+            }
+        });
+        return updated;
     }
 
     /**
@@ -116,9 +392,165 @@ public class ItemService {
      * @throws RuntimeException if item is not found
      */
     public void deleteItem(Long id) {
-        if (!itemDAO.existsById(id)) {
-            throw new RuntimeException("Item not found with id: " + id);
-        }
+        Item existing = itemDAO.findById(id)
+                .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
         itemDAO.delete(id);
+        Long categoryId = categoryIdOf(existing);
+        UnitOfWork.afterCommit(() -> {
+            itemCache.invalidate(id);
+            totals.itemRemoved(categoryId);
+            pageCache.itemsChanged(categoryId);
+            suggestIndex.itemRemoved(id);
+        });
+    }
+
+    /**
+     * Applies a list of partial changes in one transaction and one JDBC batch
+     * (see {@link ItemDAO#updateAll(java.util.Collection, Consumer)}). Invalid
+     * entries are reported and skipped; several changes to the same item are
+     * applied in request order.
+     * 
+     * @param changes changes, in request order
+     * @return one outcome per change, in request order
+     */
+    public BatchResult updateItems(List<ItemChange> changes) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[changes.size()];
+        Map<Long, List<ItemChange>> valid = new LinkedHashMap<>();
+        for (int i = 0; i < outcomes.length; i++) {
+            ItemChange change = changes.get(i);
+            String error = validate(change);
+            if (error != null) {
+                outcomes[i] = new BatchResult.Outcome(change != null ? change.id() : null, BatchResult.INVALID, error);
+            } else {
+                valid.computeIfAbsent(change.id(), id -> new ArrayList<>()).add(change);
+            }
+        }
+
+        List<Item> updated = valid.isEmpty() ? List.of()
+                : itemDAO.updateAll(valid.keySet(), item -> valid.get(item.getId()).forEach(c -> apply(c, item)));
+        Map<Long, Item> updatedById = byId(updated);
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] == null) {
+                Long id = changes.get(i).id();
+                outcomes[i] = new BatchResult.Outcome(id,
+                        updatedById.containsKey(id) ? BatchResult.UPDATED : BatchResult.NOT_FOUND, null);
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            List<Long> ids = new ArrayList<>(updated.size());
+            List<Long> categoryIds = new ArrayList<>(updated.size());
+            List<ItemLabel> renamed = new ArrayList<>();
+            for (Item item : updated) {
+                ids.add(item.getId());
+                categoryIds.add(categoryIdOf(item));
+                if (valid.get(item.getId()).stream().anyMatch(change -> change.name() != null)) {
+                    renamed.add(new ItemLabel(item.getId(), item.getName(), item.getSku()));
+                }
+            }
+            UnitOfWork.afterCommit(() -> {
+                ids.forEach(itemCache::invalidate);
+                pageCache.itemsChanged(categoryIds.toArray(new Long[0]));
+                renamed.forEach(label -> suggestIndex.itemChanged(label.id(), label.name(), label.sku()));
+            });
+        }
+        return BatchResult.of(List.of(outcomes));
+    }
+
+    /**
+     * Deletes a list of items in one transaction and one statement (see
+     * {@link ItemDAO#deleteAll(java.util.Collection)}).
+     * 
+     * @param ids identifiers, in request order; duplicates share the outcome
+     *            of their item
+     * @return one outcome per identifier, in request order
+     */
+    public BatchResult deleteItems(List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        keys.remove(null);
+        Map<Long, Long> deleted = keys.isEmpty() ? Map.of() : itemDAO.deleteAll(keys);
+
+        List<BatchResult.Outcome> outcomes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (id == null) {
+                outcomes.add(new BatchResult.Outcome(null, BatchResult.INVALID, "id is required"));
+            } else {
+                outcomes.add(new BatchResult.Outcome(id,
+                        deleted.containsKey(id) ? BatchResult.DELETED : BatchResult.NOT_FOUND, null));
+            }
+        }
+
+        if (!deleted.isEmpty()) {
+            List<Long> deletedIds = new ArrayList<>(deleted.keySet());
+            List<Long> categoryIds = new ArrayList<>(deleted.values());
+            UnitOfWork.afterCommit(() -> {
+                deletedIds.forEach(itemCache::invalidate);
+                categoryIds.forEach(totals::itemRemoved);
+                deletedIds.forEach(suggestIndex::itemRemoved);
+                pageCache.itemsChanged(categoryIds.toArray(new Long[0]));
+            });
+        }
+        return BatchResult.of(outcomes);
+    }
+
+    /**
+     * Checks a change against the column constraints of {@code item}.
+     *
+     * @return the reason of the rejection, or {@code null} if the change is
+     *         valid
+     */
+    private static String validate(ItemChange change) {
+        if (change == null || change.id() == null) {
+            return "id is required";
+        }
+        if (change.name() == null && change.description() == null && change.price() == null
+                && change.stock() == null) {
+            return "nothing to change";
+        }
+        if (change.name() != null && (change.name().isBlank() || change.name().length() > 128)) {
+            return "name cannot be blank (128 characters max)";
+        }
+        if (change.price() != null && (change.price().signum() < 0 || change.price().compareTo(MAX_PRICE) >= 0)) {
+            return "price must be between 0 and 99999999.99";
+        }
+        if (change.stock() != null && change.stock() < 0) {
+            return "stock cannot be negative";
+        }
+        return null;
+    }
+
+    /**
+     * Copies the non-null fields of a change onto a managed item.
+     */
+    private static void apply(ItemChange change, Item item) {
+        if (change.name() != null) {
+            item.setName(change.name());
+        }
+        if (change.description() != null) {
+            item.setDescription(change.description());
+        }
+        if (change.price() != null) {
+            item.setPrice(change.price());
+        }
+        if (change.stock() != null) {
+            item.setStock(change.stock());
+        }
+    }
+
+    private static Map<Long, Item> byId(List<Item> items) {
+        Map<Long, Item> map = new HashMap<>();
+        for (Item item : items) {
+            map.put(item.getId(), item);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the category identifier of an item without initializing a lazy
+     * category proxy.
+     */
+    private static Long categoryIdOf(Item item) {
+        Category category = item.getCategory();
+        return category != null ? category.getId() : null;
     }
 }
@@ -0,0 +1,445 @@
+package com.example.service;
+
+import com.example.dao.ItemDAO;
+import com.example.dto.ItemLabel;
+import com.example.dto.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory prefix index of the item names and SKUs, serving
+ * {@code GET /items/suggest} without querying the database (Variant A).
+ * <p>
+ * A typeahead sends one request per keystroke; answered with
+ * {@code WHERE name ILIKE 'abc%'}, each would borrow a connection and, without
+ * a dedicated index, read the whole item table. Here a lookup is a binary
+ * search in a {@link FrontCodedKeys} array followed by the decoding of a few
+ * keys: microseconds, a few MB per million items.
+ * </p>
+ * <p>
+ * The front-coded array is immutable. Writes recorded by {@link ItemService}
+ * and {@link ItemIngestService} once committed go to a small delta (keys
+ * added, items removed) that lookups merge with it. Past
+ * {@code benchmark.suggest.compact-threshold} changes, the delta is frozen and
+ * merged into a new array on a background thread, while a fresh delta takes
+ * the following writes; nothing is read from the database again. Writes made
+ * outside the services (manual SQL) are only seen after a restart.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.suggest.compact-threshold} - changes kept in the delta
+ * before it is merged (default 10000)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class ItemSuggestIndex {
+
+    /**
+     * Keys sorted in memory at a time by the initial scan (see
+     * {@link ScanRuns}).
+     */
+    private static final int RUN_KEYS = 65_536;
+
+    /**
+     * Shared instance, created on first use.
+     */
+    private static final class Holder {
+        private static final ItemSuggestIndex INSTANCE = new ItemSuggestIndex(new ItemDAO(),
+                Integer.getInteger("benchmark.suggest.compact-threshold", 10_000));
+    }
+
+    /**
+     * Keys added and items removed since the last merge. Removals hide the
+     * keys of older layers only, so an updated item is both removed and added.
+     */
+    private record Delta(NavigableSet<Suggestion> added, Set<Long> removed) {
+
+        static Delta create() {
+            return new Delta(new ConcurrentSkipListSet<>(FrontCodedKeys.ORDER), ConcurrentHashMap.newKeySet());
+        }
+
+        int changes() {
+            return added.size() + removed.size();
+        }
+    }
+
+    /**
+     * Layers of the index, oldest first: the merged keys, the delta being
+     * merged into them ({@code null} outside a merge), the delta taking the
+     * writes.
+     */
+    private record State(FrontCodedKeys keys, Delta merging, Delta active) {
+    }
+
+    /**
+     * DAO used for the initial scan.
+     */
+    private final ItemDAO itemDAO;
+
+    /**
+     * Delta size triggering a merge.
+     */
+    private final int compactThreshold;
+
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-suggest-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Current layers; replaced, never modified, except for the active delta.
+     */
+    private volatile State state = new State(FrontCodedKeys.EMPTY, null, Delta.create());
+
+    /**
+     * Whether {@link #load()} installed the scanned keys; no merge runs
+     * before, guarded by {@code this}.
+     */
+    private boolean loaded;
+
+    private ItemSuggestIndex(ItemDAO itemDAO, int compactThreshold) {
+        this.itemDAO = itemDAO;
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the suggest index
+     */
+    public static ItemSuggestIndex getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Builds the index from one streaming scan of the item names and SKUs,
+     * sorted in bounded runs merged at the end.
+     * <p>
+     * Writes recorded during the scan stay in the active delta, so none is
+     * lost; a key both scanned and recorded is returned once. Merges wait for
+     * the scan: a delta merged into the empty array before it would be
+     * replaced by the scanned keys, and lost.
+     * </p>
+     */
+    public void load() {
+        long start = System.nanoTime();
+        ScanRuns runs = new ScanRuns();
+        long items = itemDAO.streamLabels(runs);
+        FrontCodedKeys scanned = runs.merge();
+        synchronized (this) {
+            state = new State(scanned, null, state.active());
+            loaded = true;
+        }
+        System.out.printf("✅ Suggest index loaded: %d keys for %d items, %.1f MB in %d ms%n", scanned.size(), items,
+                scanned.bytes() / 1048576.0, (System.nanoTime() - start) / 1_000_000);
+        compactIfNeeded();
+    }
+
+    /**
+     * Returns the first names and SKUs starting with a prefix, without case,
+     * in alphabetical order.
+     *
+     * @param prefix the typed prefix, not empty
+     * @param limit  maximum number of suggestions
+     * @return up to {@code limit} suggestions
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        State current = state;
+        Delta merging = current.merging();
+        Delta active = current.active();
+        LongPredicate changedSinceMerge = id -> active.removed().contains(id);
+        List<Suggestion> found = current.keys().find(prefix, limit, merging == null ? changedSinceMerge
+                : id -> changedSinceMerge.test(id) || merging.removed().contains(id));
+        if (merging != null) {
+            find(merging.added(), prefix, limit, changedSinceMerge, found);
+        }
+        find(active.added(), prefix, limit, id -> false, found);
+
+        found.sort(FrontCodedKeys.ORDER);
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, found.size()));
+        distinct(found.iterator()).forEachRemaining(suggestion -> {
+            if (suggestions.size() < limit) {
+                suggestions.add(suggestion);
+            }
+        });
+        return suggestions;
+    }
+
+    /**
+     * Records the creation of an item.
+     *
+     * @param id   identifier of the new item
+     * @param name its name
+     * @param sku  its SKU
+     */
+    public void itemAdded(long id, String name, String sku) {
+        synchronized (this) {
+            add(state.active(), id, name, sku);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Records a change of the name or SKU of an item.
+     *
+     * @param id   identifier of the item
+     * @param name its new name
+     * @param sku  its new SKU
+     */
+    public void itemChanged(long id, String name, String sku) {
+        synchronized (this) {
+            Delta active = remove(id);
+            add(active, id, name, sku);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Records the deletion of an item.
+     *
+     * @param id identifier of the deleted item
+     */
+    public void itemRemoved(long id) {
+        synchronized (this) {
+            remove(id);
+        }
+        compactIfNeeded();
+    }
+
+    private static void add(Delta delta, long id, String name, String sku) {
+        if (name != null) {
+            delta.added().add(new Suggestion(id, name));
+        }
+        if (sku != null) {
+            delta.added().add(new Suggestion(id, sku));
+        }
+    }
+
+    private Delta remove(long id) {
+        Delta active = state.active();
+        active.removed().add(id);
+        active.added().removeIf(suggestion -> suggestion.id() == id);
+        return active;
+    }
+
+    /**
+     * Freezes the active delta and merges it on the compactor thread once it
+     * holds enough changes, unless a merge is already running or the keys
+     * are not loaded yet.
+     */
+    private void compactIfNeeded() {
+        State frozen;
+        synchronized (this) {
+            State current = state;
+            if (!loaded || current.merging() != null || current.active().changes() < compactThreshold) {
+                return;
+            }
+            frozen = new State(current.keys(), current.active(), Delta.create());
+            state = frozen;
+        }
+        compactor.execute(() -> compact(frozen));
+    }
+
+    /**
+     * Merges a frozen delta into a new key array. A failed merge leaves the
+     * layers as they are: lookups stay correct, only further merges stop.
+     */
+    private void compact(State frozen) {
+        long start = System.nanoTime();
+        Delta merging = frozen.merging();
+        FrontCodedKeys merged;
+        try {
+            Iterator<Suggestion> kept = filter(frozen.keys().iterator(), merging.removed());
+            merged = FrontCodedKeys.of(distinct(mergeSorted(kept, merging.added().iterator())));
+        } catch (RuntimeException e) {
+            System.err.println("❌ Suggest index merge failed: " + e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            state = new State(merged, null, state.active());
+        }
+        System.out.printf("🔄 Suggest index merged %d changes: %d keys in %d ms%n", merging.changes(),
+                merged.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void find(NavigableSet<Suggestion> keys, String prefix, int limit, LongPredicate skipped,
+            List<Suggestion> found) {
+        int count = 0;
+        for (Suggestion key : keys.tailSet(new Suggestion(Long.MIN_VALUE, prefix), true)) {
+            if (!FrontCodedKeys.startsWith(key.text(), prefix) || count == limit) {
+                break;
+            }
+            if (!skipped.test(key.id())) {
+                found.add(key);
+                count++;
+            }
+        }
+    }
+
+    private static Iterator<Suggestion> filter(Iterator<Suggestion> keys, Set<Long> removed) {
+        return new Iterator<>() {
+            private Suggestion next = advance();
+
+            private Suggestion advance() {
+                while (keys.hasNext()) {
+                    Suggestion key = keys.next();
+                    if (!removed.contains(key.id())) {
+                        return key;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Suggestion next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Suggestion key = next;
+                next = advance();
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Merges two iterators sorted in {@link FrontCodedKeys#ORDER}.
+     */
+    private static Iterator<Suggestion> mergeSorted(Iterator<Suggestion> left, Iterator<Suggestion> right) {
+        return new Iterator<>() {
+            private Suggestion nextLeft = left.hasNext() ? left.next() : null;
+
+            private Suggestion nextRight = right.hasNext() ? right.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextLeft != null || nextRight != null;
+            }
+
+            @Override
+            public Suggestion next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Suggestion key;
+                if (nextRight == null || nextLeft != null && FrontCodedKeys.ORDER.compare(nextLeft, nextRight) <= 0) {
+                    key = nextLeft;
+                    nextLeft = left.hasNext() ? left.next() : null;
+                } else {
+                    key = nextRight;
+                    nextRight = right.hasNext() ? right.next() : null;
+                }
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Merges key sets pairwise, as a balanced tree of
+     * {@link #mergeSorted(Iterator, Iterator)}.
+     */
+    private static Iterator<Suggestion> mergeSorted(List<FrontCodedKeys> runs) {
+        if (runs.size() == 1) {
+            return runs.get(0).iterator();
+        }
+        int half = runs.size() / 2;
+        return mergeSorted(mergeSorted(runs.subList(0, half)), mergeSorted(runs.subList(half, runs.size())));
+    }
+
+    /**
+     * Drops consecutive duplicates of a sorted iterator.
+     */
+    private static Iterator<Suggestion> distinct(Iterator<Suggestion> sorted) {
+        return new Iterator<>() {
+            private Suggestion previous;
+
+            private Suggestion next = advance();
+
+            private Suggestion advance() {
+                while (sorted.hasNext()) {
+                    Suggestion key = sorted.next();
+                    if (!key.equals(previous)) {
+                        previous = key;
+                        return key;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Suggestion next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Suggestion key = next;
+                next = advance();
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Keys of the initial scan, sorted and encoded in runs of
+     * {@value #RUN_KEYS} keys as they arrive: only the current run is held as
+     * {@code String}s, the full key set only ever exists front-coded.
+     */
+    private static final class ScanRuns implements Consumer<ItemLabel> {
+
+        private final List<FrontCodedKeys> runs = new ArrayList<>();
+
+        private final List<Suggestion> run = new ArrayList<>(RUN_KEYS);
+
+        private long items;
+
+        @Override
+        public void accept(ItemLabel label) {
+            run.add(new Suggestion(label.id(), label.name()));
+            run.add(new Suggestion(label.id(), label.sku()));
+            items++;
+            if (run.size() >= RUN_KEYS) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            run.sort(FrontCodedKeys.ORDER);
+            runs.add(FrontCodedKeys.of(distinct(run.iterator())));
+            run.clear();
+        }
+
+        /**
+         * Merges the runs into the final key set.
+         */
+        FrontCodedKeys merge() {
+            flush();
+            return FrontCodedKeys.of(distinct(mergeSorted(runs)));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.service;
+
+import com.example.dao.ItemDAO;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory item totals for Variant A, so paginated listings do not run a
+ * {@code COUNT(*)} per request.
+ * <p>
+ * The global count and one counter per category are {@link LongAdder}s, whose
+ * internal cells are striped across threads: concurrent creations and
+ * deletions update them without contention. {@link ItemService} updates them
+ * on every create, update and delete; a background task reconciles them with
+ * the database periodically, which also absorbs writes made outside the
+ * service (bulk loads, manual SQL). Totals are therefore eventually consistent.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.totals.reconcile-seconds} - reconciliation period
+ * (default 30)</li>
+ * <li>{@code benchmark.totals.estimate} - when {@code true}, the global total
+ * is reconciled from {@code pg_class.reltuples} (a catalog lookup) instead of a
+ * GROUP BY scan, and per-category counters are dropped and reloaded with an
+ * exact count on next access</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class ItemTotals {
+
+    /**
+     * Shared instance, created on first use.
+     */
+    private static final class Holder {
+        private static final ItemTotals INSTANCE = new ItemTotals(new ItemDAO(),
+                Long.getLong("benchmark.totals.reconcile-seconds", 30L),
+                Boolean.getBoolean("benchmark.totals.estimate"));
+    }
+
+    /**
+     * DAO used for reconciliation and lazy loading.
+     */
+    private final ItemDAO itemDAO;
+
+    /**
+     * Whether the global total comes from the planner estimate.
+     */
+    private final boolean estimate;
+
+    /**
+     * Global item count.
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Item count per category ID. In exact mode a missing category has no
+     * items; in estimate mode it has not been loaded yet.
+     */
+    private final Map<Long, LongAdder> byCategory = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the counters were initialized from the database.
+     */
+    private volatile boolean loaded;
+
+    private ItemTotals(ItemDAO itemDAO, long reconcileSeconds, boolean estimate) {
+        this.itemDAO = itemDAO;
+        this.estimate = estimate;
+        if (reconcileSeconds > 0) {
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "item-totals-reconciler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileSeconds, reconcileSeconds,
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the item totals
+     */
+    public static ItemTotals getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the total number of items.
+     *
+     * @return the global item count
+     */
+    public long total() {
+        ensureLoaded();
+        return Math.max(0, total.sum());
+    }
+
+    /**
+     * Returns the number of items of a category.
+     *
+     * @param categoryId category identifier
+     * @return the item count of the category
+     */
+    public long totalForCategory(Long categoryId) {
+        ensureLoaded();
+        LongAdder counter = byCategory.get(categoryId);
+        if (counter == null && estimate) {
+            // COUNT hors du verrou de la map ; catégorie vide ou inconnue : pas de compteur
+            long count = itemDAO.countByCategoryId(categoryId);
+            if (count == 0) {
+                return 0;
+            }
+            LongAdder created = counterOf(count);
+            LongAdder existing = byCategory.putIfAbsent(categoryId, created);
+            counter = existing != null ? existing : created;
+        }
+        return counter != null ? Math.max(0, counter.sum()) : 0;
+    }
+
+    /**
+     * Records the creation of an item.
+     *
+     * @param categoryId category of the new item, may be {@code null}
+     */
+    public void itemAdded(Long categoryId) {
+        total.increment();
+        LongAdder counter = categoryCounter(categoryId);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Records the deletion of an item.
+     *
+     * @param categoryId category of the deleted item, may be {@code null}
+     */
+    public void itemRemoved(Long categoryId) {
+        total.decrement();
+        LongAdder counter = categoryCounter(categoryId);
+        if (counter != null) {
+            counter.decrement();
+        }
+    }
+
+    /**
+     * Records an item moving from one category to another.
+     *
+     * @param fromCategoryId previous category, may be {@code null}
+     * @param toCategoryId   new category, may be {@code null}
+     */
+    public void itemMoved(Long fromCategoryId, Long toCategoryId) {
+        if (fromCategoryId != null && fromCategoryId.equals(toCategoryId)) {
+            return;
+        }
+        LongAdder from = categoryCounter(fromCategoryId);
+        if (from != null) {
+            from.decrement();
+        }
+        LongAdder to = categoryCounter(toCategoryId);
+        if (to != null) {
+            to.increment();
+        }
+    }
+
+    /**
+     * Reloads the counters from the database.
+     * <p>
+     * Counters are read before the query and then moved by the difference
+     * between the database count and that reading, rather than replaced: the
+     * updates recorded while the query runs are kept. A write committing
+     * between the reading and the query snapshot is counted twice, until the
+     * next reconciliation.
+     * </p>
+     */
+    public synchronized void reconcile() {
+        long drift;
+        long before = total.sum();
+        if (estimate) {
+            long estimated = itemDAO.estimateCount();
+            drift = adjust(total, before, estimated >= 0 ? estimated : itemDAO.count());
+            byCategory.clear();
+        } else {
+            Map<Long, Long> readings = new HashMap<>(byCategory.size() * 2);
+            byCategory.forEach((categoryId, counter) -> readings.put(categoryId, counter.sum()));
+            Map<Long, Long> counts = itemDAO.countGroupByCategory();
+            long sum = 0;
+            for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+                sum += entry.getValue();
+                adjust(byCategory.computeIfAbsent(entry.getKey(), id -> new LongAdder()),
+                        readings.getOrDefault(entry.getKey(), 0L), entry.getValue());
+            }
+            byCategory.forEach((categoryId, counter) -> {
+                if (!counts.containsKey(categoryId)) {
+                    adjust(counter, readings.getOrDefault(categoryId, 0L), 0);
+                }
+            });
+            drift = adjust(total, before, sum);
+        }
+        if (loaded && drift != 0) {
+            System.out.println("🔄 Item totals reconciled: " + total.sum() + " items (drift " + drift + ")");
+        }
+        loaded = true;
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            System.err.println("❌ Item totals reconciliation failed: " + e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the counter to update for a category: always present in exact
+     * mode, only once loaded in estimate mode.
+     */
+    private LongAdder categoryCounter(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return estimate ? byCategory.get(categoryId) : byCategory.computeIfAbsent(categoryId, id -> new LongAdder());
+    }
+
+    private static LongAdder counterOf(long value) {
+        LongAdder counter = new LongAdder();
+        counter.add(value);
+        return counter;
+    }
+
+    /**
+     * Corrects a counter read as {@code before} prior to the query that
+     * returned {@code actual}, keeping the updates made since the reading, and
+     * returns the correction applied.
+     */
+    private static long adjust(LongAdder counter, long before, long actual) {
+        long drift = actual - before;
+        counter.add(drift);
+        return drift;
+    }
+}
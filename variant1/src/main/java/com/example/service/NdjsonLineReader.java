@@ -0,0 +1,162 @@
+package com.example.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads an NDJSON body one line at a time, with bounded memory.
+ * <p>
+ * The stream is pulled through a fixed read buffer only as fast as lines are
+ * consumed, so a slow consumer slows the upload down instead of letting it
+ * pile up in memory. A line longer than the configured limit is skipped up to
+ * its end and reported as {@linkplain #oversized() oversized}: one huge line
+ * cannot exhaust the heap either. Blank lines are skipped but still counted,
+ * so line numbers match the uploaded file.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class NdjsonLineReader {
+
+    private final InputStream input;
+
+    private final int maxLineBytes;
+
+    /**
+     * Bytes read from the stream and not consumed yet.
+     */
+    private final byte[] buffer = new byte[64 * 1024];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Current line, without its terminator; grows up to {@code maxLineBytes}.
+     */
+    private byte[] line = new byte[1024];
+
+    private int length;
+
+    private boolean oversized;
+
+    private long lineNumber;
+
+    /**
+     * @param input        request body, read up to its end
+     * @param maxLineBytes longest accepted line, in bytes
+     */
+    NdjsonLineReader(InputStream input, int maxLineBytes) {
+        this.input = input;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * Moves to the next non-blank line.
+     *
+     * @return {@code false} at the end of the stream
+     * @throws IOException if the stream cannot be read
+     */
+    boolean next() throws IOException {
+        while (readLine()) {
+            if (oversized || !isBlank()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the buffer holding the current line, valid until the next call
+     *         to {@link #next()}
+     */
+    byte[] line() {
+        return line;
+    }
+
+    /**
+     * @return length of the current line in {@link #line()}
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return whether the current line exceeded the limit; its content is then
+     *         truncated and must not be parsed
+     */
+    boolean oversized() {
+        return oversized;
+    }
+
+    /**
+     * @return number of the current line, starting at 1
+     */
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    private boolean readLine() throws IOException {
+        length = 0;
+        oversized = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                break;
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position - start);
+            if (position < limit) {
+                position++; // saute le '\n'
+                break;
+            }
+        }
+        if (!read) {
+            return false;
+        }
+        lineNumber++;
+        if (!oversized && length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return true;
+    }
+
+    private boolean fill() throws IOException {
+        int count = input.read(buffer);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    private void append(int from, int count) {
+        if (oversized || count == 0) {
+            return;
+        }
+        if (length + count > maxLineBytes) {
+            oversized = true;
+            return;
+        }
+        if (length + count > line.length) {
+            line = Arrays.copyOf(line, Math.min(maxLineBytes, Math.max(line.length * 2, length + count)));
+        }
+        System.arraycopy(buffer, from, line, length, count);
+        length += count;
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < length; i++) {
+            byte b = line[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of serialized item pages for Variant A.
+ * <p>
+ * Most item pages are identical between two writes, yet each request reads
+ * the rows again and runs Jackson over them. This cache keeps the JSON body of
+ * a page as bytes, so a hit is written to the response as is. Each key carries
+ * the version of the item set the page was read from: the global version for
+ * unfiltered pages, the version of the category for filtered ones.
+ * {@link ItemService} bumps these versions after each committed write, so later
+ * lookups build a new key and never see the stale body, which is left to the
+ * size-based eviction. The expire-after-write delay bounds staleness for
+ * writes made outside the service and for reconciled totals.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.page-cache.max-bytes} - maximum total size of the
+ * cached bodies (default 64 MiB, 0 disables the cache)</li>
+ * <li>{@code benchmark.page-cache.expire-seconds} - expire-after-write delay
+ * (default 60)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class PageCache implements MeterBinder {
+
+    /**
+     * Identifies a cached page.
+     *
+     * @param endpoint   endpoint producing the page
+     * @param categoryId category filter, {@code null} for all items
+     * @param page       OFFSET page index, 0 for keyset pages
+     * @param cursor     keyset cursor, {@code null} for OFFSET pages
+     * @param size       page size
+     * @param withCount  whether the page carries totals
+     * @param version    version of the items the page was read from
+     */
+    public record Key(String endpoint, Long categoryId, int page, String cursor, int size, boolean withCount,
+            long version) {
+    }
+
+    /**
+     * A serialized page.
+     *
+     * @param body JSON body
+     * @param etag {@code ETag} header value of the page, {@code null} if it has
+     *             none
+     */
+    public record CachedPage(byte[] body, String etag) {
+    }
+
+    /**
+     * Shared instance, created on first use.
+     */
+    private static final class Holder {
+        private static final PageCache INSTANCE = new PageCache(
+                Long.getLong("benchmark.page-cache.max-bytes", 64L * 1024 * 1024),
+                Duration.ofSeconds(Long.getLong("benchmark.page-cache.expire-seconds", 60L)));
+    }
+
+    /**
+     * Serialized pages.
+     */
+    private final Cache<Key, CachedPage> cache;
+
+    /**
+     * Version of the whole item set, bumped by every item write.
+     */
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    /**
+     * Version of the items of each category, bumped by the writes touching the
+     * category. Created by the first such write only: a category never written
+     * is at version 0, so the {@code categoryId} of a request never adds an
+     * entry.
+     */
+    private final Map<Long, AtomicLong> categoryVersions = new ConcurrentHashMap<>();
+
+    private PageCache(long maxBytes, Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, CachedPage page) -> page.body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the page cache
+     */
+    public static PageCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Builds the key of a page at the current version of its items.
+     * <p>
+     * The key must be built before the page is read: a write committed while
+     * the page is being read then bumps the version, and the body stored under
+     * this key is never served again.
+     * </p>
+     *
+     * @param endpoint   endpoint producing the page
+     * @param categoryId category filter, {@code null} for all items
+     * @param page       OFFSET page index, 0 for keyset pages
+     * @param cursor     keyset cursor, {@code null} for OFFSET pages
+     * @param size       page size
+     * @param withCount  whether the page carries totals
+     * @return the page key
+     */
+    public Key key(String endpoint, Long categoryId, int page, String cursor, int size, boolean withCount) {
+        long version;
+        if (categoryId == null) {
+            version = globalVersion.get();
+        } else {
+            AtomicLong categoryVersion = categoryVersions.get(categoryId);
+            version = categoryVersion != null ? categoryVersion.get() : 0;
+        }
+        return new Key(endpoint, categoryId, page, cursor, size, withCount, version);
+    }
+
+    /**
+     * Returns a cached page.
+     *
+     * @param key page key
+     * @return the page, or {@code null} on a miss
+     */
+    public CachedPage getIfPresent(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Stores a serialized page.
+     * <p>
+     * Misses are filled by the caller rather than by a cache loader, so that a
+     * miss can still be answered with 304 by the version probe, without reading
+     * the page.
+     * </p>
+     *
+     * @param key  page key, built before the page was read
+     * @param page serialized page
+     */
+    public void put(Key key, CachedPage page) {
+        cache.put(key, page);
+    }
+
+    /**
+     * Records a committed write of items, making the cached pages of the whole
+     * item set and of the given categories unreachable.
+     *
+     * @param categoryIds categories whose items changed; {@code null} entries
+     *                    are ignored
+     */
+    public void itemsChanged(Long... categoryIds) {
+        globalVersion.incrementAndGet();
+        for (Long categoryId : categoryIds) {
+            if (categoryId != null) {
+                categoryVersions.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Exports the cache statistics ({@code cache_gets_total},
+     * {@code cache_evictions_total}, {@code cache_size}...) and a
+     * {@code cache_hit_ratio} gauge, all tagged {@code cache="pages"}.
+     *
+     * @param registry registry to bind the metrics to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "pages");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "pages")
+                .description("Share of lookups served from the cache")
+                .register(registry);
+    }
+}
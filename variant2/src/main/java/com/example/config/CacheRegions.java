@@ -0,0 +1,48 @@
+package com.example.config;
+
+import java.util.List;
+
+/**
+ * Regions of the Hibernate second-level cache for Variant C.
+ * <p>
+ * Each region is a Caffeine cache declared in {@code caffeine.conf}, which sets
+ * its maximum size (W-TinyLFU eviction) and its time-to-live. Query regions are
+ * also invalidated by Hibernate as soon as one of the queried tables is written
+ * through JPA; the TTL only bounds memory and writes made outside Hibernate.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class CacheRegions {
+
+    /**
+     * {@code Category} entities.
+     */
+    public static final String CATEGORY = "category";
+
+    /**
+     * Category pages and their COUNT query.
+     */
+    public static final String CATEGORY_QUERIES = "category-queries";
+
+    /**
+     * Item pages filtered by category.
+     */
+    public static final String ITEMS_BY_CATEGORY = "items-by-category";
+
+    /**
+     * Item counts per category.
+     */
+    public static final String ITEM_COUNTS = "item-counts";
+
+    /**
+     * Every region, including Hibernate's default query and timestamps regions.
+     */
+    public static final List<String> ALL = List.of(CATEGORY, CATEGORY_QUERIES, ITEMS_BY_CATEGORY, ITEM_COUNTS,
+            "default-query-results-region", "default-update-timestamps-region");
+
+    private CacheRegions() {
+    }
+}
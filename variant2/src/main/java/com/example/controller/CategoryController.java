@@ -1,13 +1,19 @@
 package com.example.controller;
 
+import com.example.dto.CursorPage;
+import com.example.dto.RowVersion;
 import com.example.model.Category;
 import com.example.model.Item;
 import com.example.service.CategoryService;
 import com.example.service.ItemService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
 
 /**
  * REST Controller for managing Categories in Variant C (Spring MVC).
@@ -15,6 +21,12 @@ import org.springframework.web.bind.annotation.*;
  * Provides endpoints for Category CRUD operations and sub-resource
  * navigation to items.
  * </p>
+ * <p>
+ * Single categories and OFFSET pages answer conditional GETs with 304 (see
+ * {@link Validators}). A category is its own version probe, since it comes
+ * from the second-level cache; pages are probed through a projection of their
+ * identifiers and update times.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -48,45 +60,114 @@ public class CategoryController {
     /**
      * Paginated retrieval of all categories.
      * 
-     * @param page index
-     * @param size size
-     * @return 200 OK with page
+     * @param page    index
+     * @param size    size
+     * @param request current request, for its preconditions
+     * @return 200 OK with page, or 304 NOT MODIFIED
      */
     @GetMapping
     public ResponseEntity<Page<Category>> getAllCategories(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(categoryService.getAllCategories(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest request) {
+        boolean conditional = Validators.isConditional(request);
+        if (conditional) {
+            Page<RowVersion> versions = categoryService.getCategoryVersions(page, size);
+            if (Validators.notModified(request,
+                    Validators.pageTag("categories", versions, versions.getTotalElements()), -1)) {
+                return null;
+            }
+        }
+        Page<Category> categories = categoryService.getAllCategories(page, size);
+        if (!conditional) {
+            Validators.addValidators(request, Validators.pageTag("categories",
+                    categories.map(Validators::version), categories.getTotalElements()), -1);
+        }
+        return ResponseEntity.ok(categories);
     }
 
     /**
      * Single category retrieval.
      * 
-     * @param id key
-     * @return 200 OK
+     * @param id      key
+     * @param request current request, for its preconditions
+     * @return 200 OK, or 304 NOT MODIFIED
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
-        return ResponseEntity.ok(categoryService.getCategoryById(id));
+    public ResponseEntity<Category> getCategoryById(@PathVariable Long id, ServletWebRequest request) {
+        Category category = categoryService.getCategoryById(id);
+        RowVersion version = Validators.version(category);
+        if (Validators.notModified(request, Validators.entityTag(version), Validators.lastModified(version))) {
+            return null;
+        }
+        return ResponseEntity.ok(category);
     }
 
     /**
      * Items belonging to a category.
      * 
-     * @param id   category ID
-     * @param page index
-     * @param size size
-     * @return paginated items
+     * @param id        category ID
+     * @param page      index
+     * @param size      size
+     * @param withCount whether to include totals; {@code false} returns a slice
+     * @param request   current request, for its preconditions
+     * @return paginated items, or 304 NOT MODIFIED
      */
     @GetMapping("/{id}/items")
-    public ResponseEntity<Page<Item>> getItemsByCategoryId(
+    public ResponseEntity<Slice<Item>> getItemsByCategoryId(
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<Item> items = itemService.getItemsByCategoryId(id, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            ServletWebRequest request) {
+        boolean conditional = Validators.isConditional(request);
+        if (conditional) {
+            long total = withCount ? itemService.countItemsByCategoryId(id) : -1;
+            if (Validators.notModified(request,
+                    Validators.pageTag("items", itemService.getItemVersions(id, page, size), total), -1)) {
+                return null;
+            }
+        }
+        Slice<Item> items = withCount
+                ? itemService.getItemsByCategoryId(id, page, size)
+                : itemService.getItemsSliceByCategoryId(id, page, size);
+        if (!conditional) {
+            Validators.addValidators(request, Validators.itemPageTag(items), -1);
+        }
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * Keyset-paginated items of a category.
+     * 
+     * @param id    category ID
+     * @param after cursor of the previous page, empty for the first one
+     * @param size  size
+     * @return 200 OK with the page and its next cursor, 400 for an invalid
+     *         cursor, or 404 if the category does not exist (checked on the
+     *         first page only)
+     */
+    @GetMapping(value = "/{id}/items", params = "after")
+    public ResponseEntity<CursorPage<Item>> getItemsByCategoryIdAfter(
+            @PathVariable Long id,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (afterId == 0 && !categoryService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        List<Item> items = itemService.getItemsByCategoryIdAfter(id, afterId, size);
+        return ResponseEntity.ok(CursorPage.of(items, size, Item::getId));
+    }
+
     /**
      * Resource creation.
      * 
@@ -0,0 +1,101 @@
+package com.example.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes the rows of an export to the response stream as they are read.
+ * <p>
+ * One Jackson generator, created from the application {@link ObjectMapper},
+ * serves the whole response in one of two formats: NDJSON (one JSON object per
+ * line) or a single JSON array. Nothing but the generator buffer is held in
+ * memory, whatever the number of rows.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class ExportWriter implements Closeable {
+
+    /**
+     * Newline-delimited JSON.
+     */
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final JsonGenerator generator;
+
+    private final boolean array;
+
+    /**
+     * Starts an export.
+     *
+     * @param objectMapper mapper used for every other JSON response
+     * @param output       response stream, left open
+     * @param array        {@code true} for a JSON array, {@code false} for NDJSON
+     * @throws IOException if the stream cannot be written
+     */
+    ExportWriter(ObjectMapper objectMapper, OutputStream output, boolean array) throws IOException {
+        this.generator = objectMapper.createGenerator(output);
+        this.array = array;
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (array) {
+            generator.writeStartArray();
+        } else {
+            // Pas d'espace entre deux valeurs racines : chaque ligne se termine par '\n'
+            generator.setRootValueSeparator(null);
+        }
+    }
+
+    /**
+     * Returns the media type of an export format.
+     *
+     * @param format {@code ndjson} or {@code json}
+     * @return the media type, or {@code null} for an unknown format
+     */
+    static MediaType mediaType(String format) {
+        return switch (format) {
+            case "ndjson" -> NDJSON;
+            case "json" -> MediaType.APPLICATION_JSON;
+            default -> null;
+        };
+    }
+
+    /**
+     * Writes one row. Output is flushed by the generator each time its buffer
+     * fills up, not after every row.
+     *
+     * @param row the row to serialize
+     * @throws UncheckedIOException if the stream cannot be written, typically
+     *                              because the client went away
+     */
+    void write(Object row) {
+        try {
+            generator.writeObject(row);
+            if (!array) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends the export and flushes what is left in the generator buffer.
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (array) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+}
@@ -1,11 +1,34 @@
 package com.example.controller;
 
+import com.example.dto.BatchResult;
+import com.example.dto.BulkReport;
+import com.example.dto.CursorPage;
+import com.example.dto.ItemChange;
+import com.example.dto.ItemFilter;
+import com.example.dto.ItemLookup;
+import com.example.dto.LookupResult;
+import com.example.dto.RowVersion;
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
+import com.example.dto.Suggestion;
 import com.example.model.Item;
+import com.example.service.ItemIngestService;
 import com.example.service.ItemService;
-import org.springframework.data.domain.Page;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for managing Items in Variant C (Spring MVC).
@@ -13,6 +36,51 @@ import org.springframework.web.bind.annotation.*;
  * Exposes endpoints for Item management including list, search by category,
  * and individual detail access.
  * </p>
+ * <p>
+ * Listings are OFFSET-paginated by default ({@code ?page=&size=}); passing
+ * {@code ?after=} switches to keyset pagination, whose cost does not grow with
+ * the page depth (empty cursor for the first page, then {@code nextCursor}).
+ * Page totals come from the cached {@code ItemTotals}; {@code ?withCount=false}
+ * returns a slice without them.
+ * </p>
+ * <p>
+ * Both modes accept the filters and sort of {@link ItemFilter}
+ * ({@code ?minPrice=&maxPrice=&inStock=&updatedAfter=&sort=price,desc}),
+ * combinable with {@code categoryId}; filtered listings are slices, without
+ * conditional GET, and keyset pagination applies only without a sort.
+ * </p>
+ * <p>
+ * {@code GET /items/search?q=} is a full-text search on the name and
+ * description, ranked by relevance, with highlighted passages and keyset
+ * pagination ({@code after} = the returned {@code nextCursor}).
+ * </p>
+ * <p>
+ * {@code GET /items/suggest?prefix=} completes item names and SKUs from the
+ * in-memory {@code ItemSuggestIndex}; it never reaches the database.
+ * </p>
+ * <p>
+ * Single items and OFFSET pages answer conditional GETs: their validators
+ * (see {@link Validators}) come from a version probe, and a matching
+ * {@code If-None-Match} / {@code If-Modified-Since} gets a 304 before any item
+ * is loaded or serialized.
+ * </p>
+ * <p>
+ * {@code GET /items/export} streams the whole catalog in a single response,
+ * written row by row while a server-side cursor reads it.
+ * {@code POST /items/bulk} is its counterpart: an NDJSON upload inserted in
+ * bounded chunks as it is read.
+ * </p>
+ * <p>
+ * {@code GET /items?ids=1,2,3} and {@code GET /items?skus=a,b} (or
+ * {@code POST /items/lookup} for long lists) return several items in one
+ * request and one {@code IN} query, in request order, with the keys that
+ * matched nothing; lookups by identifier go through the item cache.
+ * </p>
+ * <p>
+ * {@code PATCH /items/batch} and {@code DELETE /items/batch} change or delete
+ * up to {@code benchmark.batch.max-items} items in one transaction, sent as a
+ * single JDBC batch, and report an outcome per item.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -27,13 +95,59 @@ public class ItemController {
      */
     private final ItemService itemService;
 
+    /**
+     * JSON mapper of the application, for exports.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Bulk ingest dependency.
+     */
+    private final ItemIngestService itemIngestService;
+
+    /**
+     * Largest key list of a multi-get.
+     */
+    private final int lookupMaxKeys;
+
+    /**
+     * Largest batch of {@code PATCH} / {@code DELETE /items/batch}.
+     */
+    private final int batchMaxItems;
+
+    /**
+     * Longest full-text query, in characters.
+     */
+    private final int searchMaxLength;
+
+    /**
+     * Largest number of suggestions.
+     */
+    private final int suggestMaxLimit;
+
     /**
      * Constructor injection.
      * 
-     * @param itemService the service layer
+     * @param itemService       the service layer
+     * @param objectMapper      the application JSON mapper
+     * @param itemIngestService the bulk ingest service
+     * @param lookupMaxKeys     largest key list of a multi-get
+     * @param batchMaxItems     largest batched write
+     * @param searchMaxLength   longest full-text query
+     * @param suggestMaxLimit   largest number of suggestions
      */
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService, ObjectMapper objectMapper, ItemIngestService itemIngestService,
+            @Value("${benchmark.lookup.max-keys:1000}") int lookupMaxKeys,
+            @Value("${benchmark.batch.max-items:5000}") int batchMaxItems,
+            @Value("${benchmark.search.max-length:200}") int searchMaxLength,
+            @Value("${benchmark.suggest.max-limit:50}") int suggestMaxLimit) {
         this.itemService = itemService;
+        this.objectMapper = objectMapper;
+        this.itemIngestService = itemIngestService;
+        this.lookupMaxKeys = lookupMaxKeys;
+        this.batchMaxItems = batchMaxItems;
+        this.searchMaxLength = searchMaxLength;
+        this.suggestMaxLimit = suggestMaxLimit;
     }
 
     /**
@@ -42,32 +156,263 @@ public class ItemController {
      * @param page       index
      * @param size       size
      * @param categoryId optional category filter
-     * @return 200 OK with list
+     * @param withCount  whether to include totals; {@code false} returns a
+     *                   slice
+     * @param filter     optional filters and sort; any of them switches to a
+     *                   search, returned as a slice
+     * @param request    current request, for its preconditions
+     * @return 200 OK with list, 304 NOT MODIFIED, or 400 for an invalid filter
+     *         or sort
      */
     @GetMapping
-    public ResponseEntity<Page<Item>> getAllItems(
+    public ResponseEntity<Slice<Item>> getAllItems(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long categoryId) {
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            ItemFilter filter,
+            ServletWebRequest request) {
+
+        if (!filter.isEmpty()) {
+            try {
+                return ResponseEntity.ok(itemService.searchItems(categoryId, filter, page, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        boolean conditional = Validators.isConditional(request);
+        if (conditional) {
+            long total = -1;
+            if (withCount) {
+                total = categoryId != null ? itemService.countItemsByCategoryId(categoryId) : itemService.countItems();
+            }
+            String etag = Validators.pageTag("items", itemService.getItemVersions(categoryId, page, size), total);
+            if (Validators.notModified(request, etag, -1)) {
+                return null;
+            }
+        }
 
-        Page<Item> items;
+        Slice<Item> items;
         if (categoryId != null) {
-            items = itemService.getItemsByCategoryId(categoryId, page, size);
+            items = withCount
+                    ? itemService.getItemsByCategoryId(categoryId, page, size)
+                    : itemService.getItemsSliceByCategoryId(categoryId, page, size);
         } else {
-            items = itemService.getAllItems(page, size);
+            items = withCount
+                    ? itemService.getAllItems(page, size)
+                    : itemService.getAllItemsSlice(page, size);
+        }
+        if (!conditional) {
+            Validators.addValidators(request, Validators.itemPageTag(items), -1);
         }
         return ResponseEntity.ok(items);
     }
 
     /**
-     * Detail retrieval.
+     * Keyset-paginated listing with optional category filtering.
      * 
-     * @param id unique key
-     * @return 200 OK
+     * @param after      cursor of the previous page, empty for the first one
+     * @param size       size
+     * @param categoryId optional category filter
+     * @param filter     optional filters, without sort
+     * @return 200 OK with the page and its next cursor, 400 for an invalid
+     *         cursor or filter, or a sort
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<Item>> getItemsAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId,
+            ItemFilter filter) {
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!filter.isEmpty()) {
+            if (filter.isSorted()) {
+                return ResponseEntity.badRequest().build();
+            }
+            Slice<Item> items;
+            try {
+                items = itemService.searchItemsAfter(categoryId, filter, afterId, size);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            List<Item> content = items.getContent();
+            return ResponseEntity.ok(new CursorPage<>(content, size,
+                    items.hasNext() ? CursorPage.encode(content.get(content.size() - 1).getId()) : null));
+        }
+
+        List<Item> items = categoryId != null
+                ? itemService.getItemsByCategoryIdAfter(categoryId, afterId, size)
+                : itemService.getItemsAfter(afterId, size);
+        return ResponseEntity.ok(CursorPage.of(items, size, Item::getId));
+    }
+
+    /**
+     * Multi-get by identifiers: {@code ?ids=1,2,3}.
+     * 
+     * @param ids  identifiers, comma-separated
+     * @param skus must be absent
+     * @return 200 OK with the items in request order and the missing
+     *         identifiers, or 400 for an empty or oversized list
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<LookupResult<Item, Long>> getItemsByIds(@RequestParam List<Long> ids,
+            @RequestParam(required = false) List<String> skus) {
+        if (skus != null || !validKeys(ids)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemService.getItemsByIds(ids));
+    }
+
+    /**
+     * Multi-get by SKUs: {@code ?skus=a,b}.
+     * 
+     * @param skus SKUs, comma-separated
+     * @return 200 OK with the items in request order and the missing SKUs, or
+     *         400 for an empty or oversized list
+     */
+    @GetMapping(params = { "skus", "!ids" })
+    public ResponseEntity<LookupResult<Item, String>> getItemsBySkus(@RequestParam List<String> skus) {
+        if (!validKeys(skus)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemService.getItemsBySkus(skus));
+    }
+
+    /**
+     * Multi-get for key lists too long for a query string.
+     * 
+     * @param lookup identifiers or SKUs, not both
+     * @return 200 OK with the items in request order and the missing keys, or
+     *         400 for an empty or oversized list
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<LookupResult<Item, ?>> lookupItems(@RequestBody ItemLookup lookup) {
+        boolean byId = lookup.ids() != null;
+        if (byId == (lookup.skus() != null) || !validKeys(byId ? lookup.ids() : lookup.skus())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(byId ? itemService.getItemsByIds(lookup.ids())
+                : itemService.getItemsBySkus(lookup.skus()));
+    }
+
+    /**
+     * Checks the key list of a multi-get: not empty, at most
+     * {@code benchmark.lookup.max-keys} keys, no null key.
+     */
+    private boolean validKeys(List<?> keys) {
+        return !keys.isEmpty() && keys.size() <= lookupMaxKeys && !keys.contains(null);
+    }
+
+    /**
+     * Full-text search on the item names and descriptions, most relevant
+     * first.
+     * 
+     * @param q     the query: words, {@code "quoted phrases"}, {@code or},
+     *              {@code -excluded}
+     * @param size  page size
+     * @param after optional cursor returned by the previous page
+     * @return 200 OK with a page of hits, or 400 for a missing or oversized
+     *         query, an invalid size or an invalid cursor
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<SearchHit>> fullTextSearch(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
+        if (q == null || q.isBlank() || q.length() > searchMaxLength || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        SearchCursor cursor;
+        try {
+            cursor = SearchCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(SearchHit.page(itemService.fullTextSearch(q, cursor, size), size));
+    }
+
+    /**
+     * Autocomplete: item names and SKUs starting with a prefix, without case,
+     * in alphabetical order.
+     * 
+     * @param prefix the typed prefix
+     * @param limit  maximum number of suggestions
+     * @return 200 OK with the suggestions, or 400 for a missing prefix or a
+     *         limit out of range
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggestItems(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > searchMaxLength
+                || limit < 1 || limit > suggestMaxLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemService.suggestItems(prefix, limit));
+    }
+
+    /**
+     * Exports every item in identifier order, as NDJSON (default) or as one JSON
+     * array.
+     * <p>
+     * The body is written on an MVC async thread while the database cursor
+     * reads the rows, so heap usage stays flat whatever the catalog size. A
+     * client that disconnects stops the export at its next write.
+     * </p>
+     * 
+     * @param format {@code ndjson} or {@code json}
+     * @return 200 OK with the streamed items, or 400 for an unknown format
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(defaultValue = "ndjson") String format) {
+        MediaType mediaType = ExportWriter.mediaType(format);
+        if (mediaType == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean array = MediaType.APPLICATION_JSON.equals(mediaType);
+        StreamingResponseBody body = output -> {
+            try (ExportWriter writer = new ExportWriter(objectMapper, output, array)) {
+                itemService.exportItems(writer::write);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+
+    /**
+     * Detail retrieval. For a conditional request the item version is probed
+     * first, and the item itself is only read when the client copy is missing
+     * or outdated; otherwise the validators come from the item read.
+     * 
+     * @param id      unique key
+     * @param request current request, for its preconditions
+     * @return 200 OK, or 304 NOT MODIFIED
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Item> getItemById(@PathVariable Long id) {
-        return ResponseEntity.ok(itemService.getItemById(id));
+    public ResponseEntity<Item> getItemById(@PathVariable Long id, ServletWebRequest request) {
+        if (Validators.isConditional(request)) {
+            Optional<RowVersion> version = itemService.getItemVersion(id);
+            if (version.isPresent() && Validators.notModified(request, Validators.entityTag(version.get()),
+                    Validators.lastModified(version.get()))) {
+                return null;
+            }
+            return ResponseEntity.ok(itemService.getItemById(id));
+        }
+        Item item = itemService.getItemById(id);
+        RowVersion version = Validators.version(item);
+        Validators.addValidators(request, Validators.entityTag(version), Validators.lastModified(version));
+        return ResponseEntity.ok(item);
     }
 
     /**
@@ -82,6 +427,23 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Bulk creation from an NDJSON upload, one item per line:
+     * {@code {"sku":..,"name":..,"description":..,"price":..,"stock":..,"categoryId":..}}.
+     * <p>
+     * Rejected lines (malformed JSON, invalid values, duplicate SKU) are
+     * counted and described in the report; they do not stop the ingest.
+     * </p>
+     * 
+     * @param body the request body, read as it arrives
+     * @return 200 OK with the ingest report
+     * @throws IOException if the upload is interrupted
+     */
+    @PostMapping(path = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkReport> bulkCreateItems(InputStream body) throws IOException {
+        return ResponseEntity.ok(itemIngestService.ingest(body));
+    }
+
     /**
      * Selective update.
      * 
@@ -96,6 +458,39 @@ public class ItemController {
         return ResponseEntity.ok(itemService.updateItem(id, item));
     }
 
+    /**
+     * Applies partial changes to several items:
+     * {@code [{"id":1,"price":9.99},{"id":2,"stock":0,"name":".."}]}.
+     * 
+     * @param changes changes, in request order
+     * @return 200 OK with an outcome per change ({@code updated},
+     *         {@code not_found} or {@code invalid}), or 400 BAD REQUEST for an
+     *         empty or oversized batch
+     */
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResult> updateItems(@RequestBody List<ItemChange> changes) {
+        if (changes.isEmpty() || changes.size() > batchMaxItems) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemService.updateItems(changes));
+    }
+
+    /**
+     * Deletes several items: {@code [1,2,3]}.
+     * 
+     * @param ids identifiers, in request order
+     * @return 200 OK with an outcome per identifier ({@code deleted} or
+     *         {@code not_found}), or 400 BAD REQUEST for an empty or oversized
+     *         batch
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResult> deleteItems(@RequestBody List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > batchMaxItems) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemService.deleteItems(ids));
+    }
+
     /**
      * Logical removal.
      * 
@@ -0,0 +1,19 @@
+package com.example.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One entry of {@code PATCH /items/batch}: the item to change and the fields
+ * to overwrite. Fields left {@code null} keep their current value.
+ *
+ * @param id          identifier of the item to change
+ * @param name        new name
+ * @param description new description
+ * @param price       new unit price
+ * @param stock       new quantity in stock
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemChange(Long id, String name, String description, BigDecimal price, Integer stock) {
+}
@@ -0,0 +1,88 @@
+package com.example.dto;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Filters and sort order of an item search ({@code GET /items?minPrice=
+ * &maxPrice=&inStock=&updatedAfter=&sort=}), bound from the query string and
+ * combined with the optional category filter.
+ * <p>
+ * Every sort is on an indexed column and ends with the identifier in the
+ * same direction ({@code ORDER BY price DESC, id DESC}), which matches the
+ * {@code (price, id)}, {@code (stock, id)} and {@code (updated_at, id)}
+ * indexes: the database reads the first rows of the index instead of sorting
+ * every matching row, and pages are stable.
+ * </p>
+ *
+ * @param minPrice     lowest price, inclusive, or {@code null}
+ * @param maxPrice     highest price, inclusive, or {@code null}
+ * @param inStock      {@code true} for items in stock, {@code false} for
+ *                     items out of stock, {@code null} for both
+ * @param updatedAfter only items updated strictly after this ISO-8601 local
+ *                     date-time, or {@code null}
+ * @param sort         {@code price}, {@code stock} or {@code updatedAt},
+ *                     optionally followed by {@code ,asc} or {@code ,desc};
+ *                     {@code null} for identifier order
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemFilter(BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter, String sort) {
+
+    /**
+     * Sortable attributes of {@code Item}.
+     */
+    private static final Set<String> SORT_FIELDS = Set.of("price", "stock", "updatedAt");
+
+    /**
+     * Tells whether the search has neither filter nor sort, i.e. is a plain
+     * listing.
+     *
+     * @return {@code true} if nothing is set
+     */
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && inStock == null && updatedAfter == null && sort == null;
+    }
+
+    /**
+     * Tells whether the results are sorted on another attribute than the
+     * identifier.
+     *
+     * @return {@code true} if a sort is set
+     */
+    public boolean isSorted() {
+        return sort != null;
+    }
+
+    /**
+     * Returns the sort order of the results, ending with the identifier.
+     *
+     * @return the sort order
+     * @throws IllegalArgumentException if {@code sort} is malformed, or if
+     *                                  {@code minPrice} is greater than
+     *                                  {@code maxPrice}
+     */
+    public Sort toSort() {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice is greater than maxPrice");
+        }
+        if (sort == null) {
+            return Sort.by("id");
+        }
+        String[] parts = sort.split(",", -1);
+        String field = parts[0].trim();
+        String direction = parts.length > 1 ? parts[1].trim() : "asc";
+        if (parts.length > 2 || !SORT_FIELDS.contains(field)
+                || !(direction.equals("asc") || direction.equals("desc"))) {
+            throw new IllegalArgumentException("Invalid sort: " + sort);
+        }
+        Sort.Direction order = Sort.Direction.fromString(direction);
+        return Sort.by(order, field, "id");
+    }
+}
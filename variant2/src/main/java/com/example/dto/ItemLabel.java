@@ -0,0 +1,15 @@
+package com.example.dto;
+
+/**
+ * Identifier, name and SKU of an item: the columns read to build the
+ * autocomplete index, without the rest of the row.
+ *
+ * @param id   identifier
+ * @param name item name
+ * @param sku  item SKU
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemLabel(Long id, String name, String sku) {
+}
@@ -0,0 +1,16 @@
+package com.example.dto;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /items/lookup}, the multi-get for key lists too long
+ * for a query string. Exactly one of the two lists is expected.
+ *
+ * @param ids  item identifiers
+ * @param skus item SKUs
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemLookup(List<Long> ids, List<String> skus) {
+}
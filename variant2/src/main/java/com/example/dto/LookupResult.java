@@ -0,0 +1,45 @@
+package com.example.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answer of a multi-get: the rows found for a list of keys, in the order the
+ * keys were requested, and the keys that matched nothing.
+ *
+ * @param items   rows found, in request order
+ * @param missing requested keys without a row, in request order
+ * @param <T>     row type
+ * @param <K>     key type (identifier or SKU)
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record LookupResult<T, K>(List<T> items, List<K> missing) {
+
+    /**
+     * Orders the rows read by a single {@code IN} query as the keys were
+     * requested.
+     *
+     * @param keys  requested keys, without duplicates
+     * @param found rows read, by key, in any order
+     * @param <T>   row type
+     * @param <K>   key type
+     * @return the rows in request order, with the missing keys
+     */
+    public static <T, K> LookupResult<T, K> of(Collection<K> keys, Map<K, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            T item = found.get(key);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(key);
+            }
+        }
+        return new LookupResult<>(items, missing);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dto;
+
+import com.example.model.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One result of a full-text search ({@code GET /items/search?q=}): the item,
+ * its relevance and the highlighted passages that matched.
+ * <p>
+ * Highlights are plain text, as stored, with the matching words wrapped in
+ * {@code <mark>...</mark>}; clients escape the rest before rendering them as
+ * HTML.
+ * </p>
+ *
+ * @param item                 the matching item
+ * @param rank                 relevance ({@code ts_rank}), name matches
+ *                             weighing more than description matches
+ * @param nameHighlight        the name, matching words marked
+ * @param descriptionHighlight up to two fragments of the description around
+ *                             the matching words, or an empty string
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record SearchHit(Item item, float rank, String nameHighlight, String descriptionHighlight) {
+
+    /**
+     * Builds a page from a search that fetched up to {@code size + 1} hits;
+     * the extra hit only signals that a next page exists and is dropped.
+     *
+     * @param hits hits fetched with a limit of {@code size + 1}
+     * @param size requested page size
+     * @return the page, whose next cursor is a {@link SearchCursor}
+     */
+    public static CursorPage<SearchHit> page(List<SearchHit> hits, int size) {
+        if (hits.size() <= size) {
+            return new CursorPage<>(hits, size, null);
+        }
+        List<SearchHit> content = new ArrayList<>(hits.subList(0, size));
+        SearchHit last = content.get(size - 1);
+        return new CursorPage<>(content, size, new SearchCursor(last.rank(), last.item().getId()).encode());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.dto;
+
+/**
+ * One autocomplete suggestion of {@code GET /items/suggest}: an item name or
+ * SKU starting with the typed prefix, and the item it belongs to.
+ *
+ * @param id   identifier of the item
+ * @param text the item name or SKU, as stored
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record Suggestion(long id, String text) {
+}
@@ -1,11 +1,17 @@
 package com.example.model;
 
+import com.example.config.CacheRegions;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +23,11 @@ import java.util.List;
  * This entity defines the structure for product categories. It uses standard
  * JPA annotations for mapping to the SQL database.
  * </p>
+ * <p>
+ * Categories are kept in the second-level cache ({@link CacheRegions#CATEGORY}),
+ * so loading a category by identifier no longer reaches PostgreSQL once it has
+ * been read.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -27,13 +38,17 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY)
 public class Category {
 
     /**
      * Unique identifier for the category.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "category_seq")
+    @GenericGenerator(name = "category_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "category_seq"))
     private Long id;
 
     /**
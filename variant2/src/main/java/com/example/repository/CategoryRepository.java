@@ -1,7 +1,15 @@
 package com.example.repository;
 
+import com.example.config.CacheRegions;
+import com.example.dto.RowVersion;
 import com.example.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,4 +24,35 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Retrieves a page of categories through the query cache: the page and its
+     * COUNT are answered from {@link CacheRegions#CATEGORY_QUERIES} until a
+     * category is written.
+     *
+     * @param pageable pagination information
+     * @return a page of categories
+     */
+    @Override
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES) },
+            forCounting = true)
+    Page<Category> findAll(Pageable pageable);
+
+    /**
+     * Versions of the categories of {@link #findAll(Pageable)} for the same
+     * pageable, with the same cached COUNT: the version probe of conditional
+     * GETs on category pages.
+     *
+     * @param pageable pagination information
+     * @return a page of category versions
+     */
+    @Query(value = "SELECT new com.example.dto.RowVersion(c.id, c.updatedAt) FROM Category c",
+            countQuery = "SELECT COUNT(c) FROM Category c")
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES) },
+            forCounting = true)
+    Page<RowVersion> findVersionsBy(Pageable pageable);
+}
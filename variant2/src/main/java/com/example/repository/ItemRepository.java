@@ -1,12 +1,25 @@
 package com.example.repository;
 
+import com.example.config.CacheRegions;
+import com.example.dto.ItemLabel;
+import com.example.dto.RowVersion;
 import com.example.model.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.Optional;
 
 /**
  * Data access interface for Item entities in Variant C.
@@ -16,13 +29,50 @@ import org.springframework.stereotype.Repository;
  * implementing JOIN FETCH to prevent N+1 select issues during performance
  * benchmarks.
  * </p>
+ * <p>
+ * Category-filtered pages and per-category counts go through the Hibernate
+ * query cache (see {@link CacheRegions}); any item written through JPA
+ * invalidates them.
+ * </p>
+ * <p>
+ * The {@link RowVersion} queries are the version probes of conditional GETs:
+ * they read the identifiers and update times of the rows a page or lookup
+ * would return, without loading the entities.
+ * </p>
+ * <p>
+ * Filtered and sorted searches are {@link ItemSpecifications} run by the
+ * {@link ItemSearchRepository} fragment, as slices without {@code COUNT}.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
  * @since 2025
  */
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemSearchRepository {
+
+    /**
+     * Rows fetched per round trip by {@link #streamAll()}.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Finds several items by identifier in one query, with their category.
+     * 
+     * @param ids identifiers to look up
+     * @return the items found, in no particular order
+     */
+    @Query("SELECT i FROM Item i JOIN FETCH i.category WHERE i.id IN :ids")
+    List<Item> findAllWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds several items by SKU in one query, with their category.
+     * 
+     * @param skus SKUs to look up
+     * @return the items found, in no particular order
+     */
+    @Query("SELECT i FROM Item i JOIN FETCH i.category WHERE i.sku IN :skus")
+    List<Item> findAllWithCategoryBySkuIn(@Param("skus") Collection<String> skus);
 
     /**
      * Finds items by category with eager loading of the category object.
@@ -36,8 +86,137 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
      */
     // Query with JOIN FETCH to avoid N+1 problem
     @Query("SELECT i FROM Item i JOIN FETCH i.category WHERE i.category.id = :categoryId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
     Page<Item> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 
+    /**
+     * Page of all items without a COUNT query: Spring Data fetches one extra row
+     * to tell whether a next page exists.
+     * 
+     * @param pageable pagination info
+     * @return slice of items
+     */
+    @Query("SELECT i FROM Item i")
+    Slice<Item> findSliceBy(Pageable pageable);
+
+    /**
+     * Page of the items of a category without a COUNT query.
+     * 
+     * @param categoryId filter criteria
+     * @param pageable   pagination info
+     * @return slice of items
+     */
+    @Query("SELECT i FROM Item i JOIN FETCH i.category WHERE i.category.id = :categoryId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    Slice<Item> findSliceByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * Version of one item, read without loading the entity.
+     * 
+     * @param id identifier
+     * @return the item version, empty if the item does not exist
+     */
+    @Query("SELECT new com.example.dto.RowVersion(i.id, i.updatedAt) FROM Item i WHERE i.id = :id")
+    Optional<RowVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Versions of the rows of {@link #findSliceBy(Pageable)} for the same
+     * pageable.
+     * 
+     * @param pageable pagination info
+     * @return slice of item versions
+     */
+    @Query("SELECT new com.example.dto.RowVersion(i.id, i.updatedAt) FROM Item i")
+    Slice<RowVersion> findVersionsBy(Pageable pageable);
+
+    /**
+     * Versions of the rows of {@link #findSliceByCategoryId(Long, Pageable)},
+     * through the same query cache region.
+     * 
+     * @param categoryId filter criteria
+     * @param pageable   pagination info
+     * @return slice of item versions
+     */
+    @Query("SELECT new com.example.dto.RowVersion(i.id, i.updatedAt) FROM Item i WHERE i.category.id = :categoryId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    Slice<RowVersion> findVersionsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * Keyset page of all items: the items following {@code afterId} in
+     * identifier order.
+     * <p>
+     * Resolved on the primary key index, so the cost does not depend on how deep
+     * the page is. Only the page size of {@code limit} is used and no COUNT query
+     * is issued.
+     * </p>
+     * 
+     * @param afterId identifier of the last item already returned (0 for the
+     *                first page)
+     * @param limit   maximum number of rows
+     * @return items ordered by identifier
+     */
+    @Query("SELECT i FROM Item i WHERE i.id > :afterId ORDER BY i.id")
+    List<Item> findAllAfter(@Param("afterId") long afterId, Pageable limit);
+
+    /**
+     * Keyset page of the items of a category, seeking on
+     * {@code (category_id, id)}.
+     * 
+     * @param categoryId filter criteria
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param limit      maximum number of rows
+     * @return items of the category ordered by identifier
+     */
+    @Query("SELECT i FROM Item i JOIN FETCH i.category "
+            + "WHERE i.category.id = :categoryId AND i.id > :afterId ORDER BY i.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    List<Item> findByCategoryIdAfter(@Param("categoryId") Long categoryId, @Param("afterId") long afterId,
+            Pageable limit);
+
+    /**
+     * Every item in identifier order, read through a server-side cursor that
+     * fetches {@value #EXPORT_FETCH_SIZE} rows per round trip instead of
+     * materializing the result list. The entities are loaded read-only (no
+     * dirty-checking snapshot). The stream must be consumed and closed inside a
+     * transaction, which PostgreSQL also requires to honor the fetch size.
+     * 
+     * @return stream of all items, to be closed by the caller
+     */
+    @Query("SELECT i FROM Item i ORDER BY i.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<Item> streamAll();
+
+    /**
+     * Identifier, name and SKU of every item, in no particular order, read
+     * through a server-side cursor like {@link #streamAll()}: the only columns
+     * the autocomplete index needs. Must be consumed inside a transaction.
+     * 
+     * @return stream of the item labels, to be closed by the caller
+     */
+    @Query("SELECT new com.example.dto.ItemLabel(i.id, i.name, i.sku) FROM Item i")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ItemLabel> streamLabels();
+
+    /**
+     * Deletes several items with a single statement, without loading them.
+     * The identifiers are bound as one array, so every batch size shares the
+     * same prepared statement. Hibernate does not see the rows go: the caller
+     * evicts the query cache regions reading {@code item} after the commit.
+     * 
+     * @param ids identifiers of the items to delete
+     * @return rows of {@code [id, categoryId]} of the items actually deleted
+     */
+    @Transactional
+    @Query(value = "DELETE FROM item WHERE id = ANY(CAST(:ids AS bigint[])) RETURNING id, category_id",
+            nativeQuery = true)
+    List<Object[]> deleteAllByIdReturning(@Param("ids") Long[] ids);
+
     /**
      * Total count of items in a specific category.
      * 
@@ -45,5 +224,26 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
      * @return item count
      */
     // Count items by category
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEM_COUNTS) })
     long countByCategoryId(Long categoryId);
-}
\ No newline at end of file
+
+    /**
+     * Item count of every category in a single GROUP BY query, used to
+     * reconcile the cached totals.
+     * 
+     * @return rows of {@code [categoryId, count]}
+     */
+    @Query("SELECT i.category.id, COUNT(i) FROM Item i GROUP BY i.category.id")
+    List<Object[]> countGroupByCategory();
+
+    /**
+     * Planner estimate of the item row count ({@code pg_class.reltuples}),
+     * maintained by VACUUM and ANALYZE: a catalog lookup whatever the table size.
+     * 
+     * @return the estimated row count, -1 if the table was never analyzed
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('item' AS regclass)",
+            nativeQuery = true)
+    Long estimateCount();
+}
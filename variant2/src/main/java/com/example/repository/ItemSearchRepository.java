@@ -0,0 +1,55 @@
+package com.example.repository;
+
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
+import com.example.model.Item;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Search fragment of {@link ItemRepository}: specification queries returning
+ * slices, and the full-text search.
+ * <p>
+ * {@code JpaSpecificationExecutor.findAll(Specification, Pageable)} always
+ * runs a {@code COUNT} over every matching row to build its page; a slice
+ * fetches one extra row instead.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public interface ItemSearchRepository {
+
+    /**
+     * Reads one slice of the items matching a specification, in the order of
+     * the pageable.
+     *
+     * @param spec     conditions
+     * @param pageable offset, size and sort order
+     * @return the slice, without total
+     */
+    Slice<Item> findSlice(Specification<Item> spec, Pageable pageable);
+
+    /**
+     * Searches items whose name or description match a web-style query
+     * ({@code websearch_to_tsquery}: words, {@code "quoted phrases"},
+     * {@code or}, {@code -excluded}), most relevant first, then by identifier
+     * descending (keyset pagination).
+     * <p>
+     * Matching goes through the GIN index on the generated
+     * {@code search_vector} column; every matching item is ranked, and only the
+     * page returned is read and highlighted.
+     * </p>
+     *
+     * @param text  the query, as typed by the user
+     * @param after position of the last hit already returned, or {@code null}
+     *              for the first page
+     * @param limit maximum number of hits to return
+     * @return the hits, most relevant first
+     */
+    List<SearchHit> fullTextSearch(String text, SearchCursor after, int limit);
+}
@@ -0,0 +1,98 @@
+package com.example.repository;
+
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
+import com.example.model.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link ItemSearchRepository}, picked up by
+ * Spring Data through its {@code Impl} suffix. The full-text search is a
+ * native query: {@code tsvector} matching, ranking and highlighting have no
+ * JPQL equivalent.
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+class ItemSearchRepositoryImpl implements ItemSearchRepository {
+
+    /**
+     * Full-text search. The inner query finds the matching items through the
+     * GIN index on {@code search_vector}, ranks them and keeps the first
+     * {@code :limit} after the cursor ({@code %s}); the outer query reads
+     * those items and highlights them, so {@code ts_headline}, which parses
+     * the whole text again, only runs for the rows returned.
+     */
+    private static final String FULL_TEXT_SEARCH = "SELECT i.id, i.sku, i.name, i.description, i.price, i.stock, "
+            + "i.updated_at, i.category_id, hit.rank, "
+            + "ts_headline('english', i.name, hit.tsq, "
+            + "'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS name_highlight, "
+            + "ts_headline('english', coalesce(i.description, ''), hit.tsq, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') "
+            + "AS description_highlight "
+            + "FROM (SELECT id, ts_rank(search_vector, tsq) AS rank, tsq "
+            + "FROM item, websearch_to_tsquery('english', :q) tsq "
+            + "WHERE search_vector @@ tsq%s "
+            + "ORDER BY rank DESC, id DESC LIMIT :limit) hit "
+            + "JOIN item i ON i.id = hit.id "
+            + "ORDER BY hit.rank DESC, hit.id DESC";
+
+    private static final String AFTER_CURSOR = " AND (ts_rank(search_vector, tsq), id) < (:afterRank, :afterId)";
+
+    private final EntityManager entityManager;
+
+    ItemSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<Item> findSlice(Specification<Item> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Item> criteria = cb.createQuery(Item.class);
+        Root<Item> item = criteria.from(Item.class);
+        Predicate where = spec.toPredicate(item, criteria, cb);
+        if (where != null) {
+            criteria.where(where);
+        }
+        criteria.orderBy(QueryUtils.toOrders(pageable.getSort(), item, cb));
+
+        List<Item> rows = entityManager.createQuery(criteria)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<SearchHit> fullTextSearch(String text, SearchCursor after, int limit) {
+        Query query = entityManager.createNativeQuery(
+                FULL_TEXT_SEARCH.formatted(after != null ? AFTER_CURSOR : ""), Item.SEARCH_HIT_MAPPING);
+        query.setParameter("q", text);
+        query.setParameter("limit", limit);
+        if (after != null) {
+            query.setParameter("afterRank", after.rank());
+            query.setParameter("afterId", after.id());
+        }
+        List<SearchHit> hits = new ArrayList<>(limit);
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            hits.add(new SearchHit((Item) columns[0], (Float) columns[1], (String) columns[2], (String) columns[3]));
+        }
+        return hits;
+    }
+}
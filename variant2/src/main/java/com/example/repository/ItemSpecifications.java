@@ -0,0 +1,114 @@
+package com.example.repository;
+
+import com.example.dto.ItemFilter;
+import com.example.model.Item;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * {@link Specification}s of the item search in Variant C.
+ * <p>
+ * {@link #matching(Long, ItemFilter)} only combines the filters actually
+ * given, so each combination yields a plain SQL statement that the database
+ * can resolve on one index. The category filter compares the foreign key
+ * column, without a join.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class ItemSpecifications {
+
+    private ItemSpecifications() {
+    }
+
+    /**
+     * Items matching every filter given.
+     *
+     * @param categoryId optional category filter
+     * @param filter     filters; its sort is ignored
+     * @return the combined specification
+     */
+    public static Specification<Item> matching(Long categoryId, ItemFilter filter) {
+        Specification<Item> spec = Specification.where(null);
+        if (categoryId != null) {
+            spec = spec.and(inCategory(categoryId));
+        }
+        if (filter.minPrice() != null) {
+            spec = spec.and(priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            spec = spec.and(priceAtMost(filter.maxPrice()));
+        }
+        if (filter.inStock() != null) {
+            spec = spec.and(inStock(filter.inStock()));
+        }
+        if (filter.updatedAfter() != null) {
+            spec = spec.and(updatedAfter(filter.updatedAfter()));
+        }
+        return spec;
+    }
+
+    /**
+     * Items of a category.
+     *
+     * @param categoryId category identifier
+     * @return the specification
+     */
+    public static Specification<Item> inCategory(Long categoryId) {
+        return (item, query, cb) -> cb.equal(item.get("category").get("id"), categoryId);
+    }
+
+    /**
+     * Items priced at least a given price.
+     *
+     * @param price lowest price, inclusive
+     * @return the specification
+     */
+    public static Specification<Item> priceAtLeast(BigDecimal price) {
+        return (item, query, cb) -> cb.greaterThanOrEqualTo(item.get("price"), price);
+    }
+
+    /**
+     * Items priced at most a given price.
+     *
+     * @param price highest price, inclusive
+     * @return the specification
+     */
+    public static Specification<Item> priceAtMost(BigDecimal price) {
+        return (item, query, cb) -> cb.lessThanOrEqualTo(item.get("price"), price);
+    }
+
+    /**
+     * Items in stock ({@code stock > 0}) or out of stock ({@code stock = 0}).
+     *
+     * @param inStock which of the two
+     * @return the specification
+     */
+    public static Specification<Item> inStock(boolean inStock) {
+        return (item, query, cb) -> inStock ? cb.gt(item.get("stock"), 0) : cb.equal(item.get("stock"), 0);
+    }
+
+    /**
+     * Items updated strictly after a given time.
+     *
+     * @param time lower bound, exclusive
+     * @return the specification
+     */
+    public static Specification<Item> updatedAfter(LocalDateTime time) {
+        return (item, query, cb) -> cb.greaterThan(item.get("updatedAt"), time);
+    }
+
+    /**
+     * Items following a given identifier (keyset pagination).
+     *
+     * @param afterId identifier of the last item already returned
+     * @return the specification
+     */
+    public static Specification<Item> idAfter(long afterId) {
+        return (item, query, cb) -> cb.gt(item.get("id"), afterId);
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.service;
 
+import com.example.dto.RowVersion;
 import com.example.model.Category;
 import com.example.repository.CategoryRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,15 +15,25 @@ import org.springframework.transaction.annotation.Transactional;
  * This class provides transactional methods to manage categories
  * through the {@link CategoryRepository}.
  * </p>
+ * <p>
+ * Reads run in read-only transactions (no snapshot, no flush, read-only
+ * connection); create, update and delete declare their own read-write
+ * transaction.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
  * @since 2025
  */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class CategoryService {
 
+    /**
+     * Order of category pages.
+     */
+    private static final Sort BY_ID = Sort.by("id");
+
     /**
      * Repository dependency.
      */
@@ -37,14 +49,26 @@ public class CategoryService {
     }
 
     /**
-     * Retrieves all categories with pagination.
+     * Retrieves all categories with pagination, in identifier order.
      * 
      * @param page index
      * @param size page size
      * @return paginated categories
      */
     public Page<Category> getAllCategories(int page, int size) {
-        return categoryRepository.findAll(PageRequest.of(page, size));
+        return categoryRepository.findAll(PageRequest.of(page, size, BY_ID));
+    }
+
+    /**
+     * Reads the versions of the categories of a page, with its total, for a
+     * conditional GET.
+     * 
+     * @param page index
+     * @param size page size
+     * @return page of category versions
+     */
+    public Page<RowVersion> getCategoryVersions(int page, int size) {
+        return categoryRepository.findVersionsBy(PageRequest.of(page, size, BY_ID));
     }
 
     /**
@@ -59,12 +83,23 @@ public class CategoryService {
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
     }
 
+    /**
+     * Tells whether a category exists, without loading it.
+     * 
+     * @param id category ID
+     * @return {@code true} if it exists
+     */
+    public boolean existsById(Long id) {
+        return categoryRepository.existsById(id);
+    }
+
     /**
      * Persists a new category.
      * 
      * @param category data to save
      * @return saved entity
      */
+    @Transactional
     public Category createCategory(Category category) {
         return categoryRepository.save(category);
     }
@@ -76,6 +111,7 @@ public class CategoryService {
      * @param category updated data
      * @return updated entity
      */
+    @Transactional
     public Category updateCategory(Long id, Category category) {
         Category existing = getCategoryById(id);
         existing.setCode(category.getCode());
@@ -88,6 +124,7 @@ public class CategoryService {
      * 
      * @param id identifier to delete
      */
+    @Transactional
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
     }
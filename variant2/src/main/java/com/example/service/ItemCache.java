@@ -0,0 +1,195 @@
+package com.example.service;
+
+import com.example.model.Item;
+import com.example.repository.ItemRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache of items by identifier for Variant C, in front of
+ * {@link ItemRepository#findById(Object)}.
+ * <p>
+ * The cache is a Caffeine cache bounded in size, whose W-TinyLFU policy keeps
+ * the frequently read items even under scans of cold ones. A miss is loaded
+ * atomically per key: concurrent requests for the same missing item wait for a
+ * single database read instead of stampeding. {@link ItemService} invalidates
+ * an item once the transaction creating, updating or deleting it commits; the
+ * expire-after-write delay only bounds staleness for writes made outside the
+ * service. Unknown identifiers are not cached.
+ * </p>
+ * <p>
+ * Multi-gets ({@link #getAll(Collection)}) load all their misses with a
+ * single {@link ItemRepository#findAllWithCategoryByIdIn(Collection)} query.
+ * That load is not atomic per key: each multi-get records the items
+ * invalidated while it runs, and does not cache the rows it read for them,
+ * which may predate the write.
+ * </p>
+ * <p>
+ * Settings:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.item-cache.maximum-size} - maximum number of items
+ * (default 10,000, 0 disables the cache)</li>
+ * <li>{@code benchmark.item-cache.expire-after-write} - expire-after-write delay
+ * (default {@code PT10M})</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class ItemCache implements MeterBinder {
+
+    /**
+     * Items by identifier. The key is boxed once here; Caffeine has no
+     * primitive-keyed variant.
+     */
+    private final LoadingCache<Long, Item> cache;
+
+    /**
+     * Multi-gets loading their misses.
+     */
+    private final Set<BulkLoad> bulkLoads = ConcurrentHashMap.newKeySet();
+
+    private final ItemRepository itemRepository;
+
+    public ItemCache(ItemRepository itemRepository,
+            @Value("${benchmark.item-cache.maximum-size:10000}") long maximumSize,
+            @Value("${benchmark.item-cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.itemRepository = itemRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(id -> itemRepository.findById(id).orElse(null));
+    }
+
+    /**
+     * Returns an item, loading it from the database on a miss.
+     * <p>
+     * The returned instance is shared with other requests and must not be
+     * modified.
+     * </p>
+     *
+     * @param id item identifier
+     * @return the item, or empty if it does not exist
+     */
+    public Optional<Item> get(long id) {
+        return Optional.ofNullable(cache.get(id));
+    }
+
+    /**
+     * Returns several items, loading all the missing ones in one query. The
+     * returned instances are shared and must not be modified.
+     *
+     * @param ids item identifiers
+     * @return the items found, by identifier; unknown identifiers are absent
+     */
+    public Map<Long, Item> getAll(Collection<Long> ids) {
+        Map<Long, Item> items = new HashMap<>(cache.getAllPresent(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(items.keySet());
+        if (missing.isEmpty()) {
+            return items;
+        }
+        // Inscrit avant le SELECT : toute invalidation qui peut le précéder est vue
+        BulkLoad load = new BulkLoad();
+        bulkLoads.add(load);
+        try {
+            for (Item item : itemRepository.findAllWithCategoryByIdIn(missing)) {
+                items.put(item.getId(), item);
+                cache.asMap().computeIfAbsent(item.getId(),
+                        id -> load.invalidated.contains(id) ? null : item);
+            }
+        } finally {
+            bulkLoads.remove(load);
+        }
+        return items;
+    }
+
+    /**
+     * Returns an item only if it is already cached, without loading it.
+     *
+     * @param id item identifier
+     * @return the cached item, or empty on a miss
+     */
+    public Optional<Item> getIfPresent(long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Removes an item once the surrounding transaction commits, or immediately
+     * when there is none. A single-item load in progress completes before the
+     * removal; a multi-get loading the item meanwhile returns the row it read
+     * but does not cache it. Either way, the value read before the commit is
+     * not kept.
+     *
+     * @param id item identifier
+     */
+    public void invalidate(long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        } else {
+            evict(id);
+        }
+    }
+
+    /**
+     * Records the removal in the multi-gets in progress, then removes the
+     * item; a single-item load in progress completes first.
+     */
+    private void evict(long id) {
+        for (BulkLoad load : bulkLoads) {
+            load.invalidated.add(id);
+        }
+        cache.invalidate(id);
+    }
+
+    /**
+     * Exports the cache statistics: {@code cache_gets_total} (hits and misses),
+     * {@code cache_evictions_total}, {@code cache_load_duration_seconds},
+     * {@code cache_size} and a {@code cache_hit_ratio} gauge, all tagged
+     * {@code cache="items"}.
+     *
+     * @param registry registry to bind the metrics to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "items");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "items")
+                .description("Share of lookups served from the cache")
+                .register(registry);
+    }
+
+    /**
+     * Items invalidated while a multi-get loads its misses. Compared by
+     * identity.
+     */
+    private static final class BulkLoad {
+        final Set<Long> invalidated = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.service;
+
+import com.example.dto.BulkItem;
+import com.example.dto.BulkReport;
+import com.example.model.Category;
+import com.example.model.Item;
+import com.example.repository.CategoryRepository;
+import com.example.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk creation of items from an NDJSON upload, for Variant C.
+ * <p>
+ * Lines are read and parsed one at a time by Jackson, validated, and grouped
+ * into chunks of {@code benchmark.bulk.chunk-size} rows; each chunk is
+ * inserted in its own transaction, as JDBC batches. The upload is only read as
+ * fast as chunks are committed, so memory is bounded by one chunk whatever the
+ * upload size, and a slow database slows the client down.
+ * </p>
+ * <p>
+ * A rejected line never stops the ingest. Invalid lines are reported before
+ * reaching the database; when a chunk fails in the database (a duplicate SKU,
+ * for instance), it is rolled back and replayed one row per transaction, so
+ * only the offending rows are rejected.
+ * </p>
+ * <p>
+ * Settings:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.bulk.chunk-size} - rows per transaction (default
+ * 1000)</li>
+ * <li>{@code benchmark.bulk.max-line-bytes} - longest accepted line (default
+ * 1 MiB)</li>
+ * <li>{@code benchmark.bulk.max-errors} - rejected lines described in the
+ * report (default 100)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class ItemIngestService {
+
+    /**
+     * Exclusive upper bound of a {@code numeric(10, 2)} price.
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("100000000");
+
+    private final ItemRepository itemRepository;
+
+    private final CategoryRepository categoryRepository;
+
+    private final ItemTotals itemTotals;
+
+    private final ItemSuggestIndex suggestIndex;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Transaction of one chunk, or of one row when a chunk is replayed.
+     */
+    private final TransactionTemplate transaction;
+
+    /**
+     * Parser of one line.
+     */
+    private final ObjectReader rowReader;
+
+    private final int chunkSize;
+
+    private final int maxLineBytes;
+
+    private final int maxErrors;
+
+    /**
+     * Constructor injection.
+     *
+     * @param itemRepository     the item repository
+     * @param categoryRepository the category repository, to check categories
+     * @param itemTotals         the cached item totals
+     * @param suggestIndex       the autocomplete index
+     * @param entityManager      the shared entity manager
+     * @param transactionManager the JPA transaction manager
+     * @param objectMapper       the application JSON mapper
+     * @param chunkSize          rows per transaction
+     * @param maxLineBytes       longest accepted line
+     * @param maxErrors          rejected lines described in the report
+     */
+    public ItemIngestService(ItemRepository itemRepository, CategoryRepository categoryRepository,
+            ItemTotals itemTotals, ItemSuggestIndex suggestIndex, EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${benchmark.bulk.chunk-size:1000}") int chunkSize,
+            @Value("${benchmark.bulk.max-line-bytes:1048576}") int maxLineBytes,
+            @Value("${benchmark.bulk.max-errors:100}") int maxErrors) {
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.itemTotals = itemTotals;
+        this.suggestIndex = suggestIndex;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.rowReader = objectMapper.readerFor(BulkItem.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxLineBytes = Math.max(1, maxLineBytes);
+        this.maxErrors = Math.max(0, maxErrors);
+    }
+
+    /**
+     * Creates the items of an NDJSON stream, one JSON object per line.
+     *
+     * @param body the upload, read up to its end
+     * @return counts of the lines read, inserted and rejected, with the first
+     *         rejections
+     * @throws IOException if the upload cannot be read; chunks already
+     *                     committed are kept
+     */
+    public BulkReport ingest(InputStream body) throws IOException {
+        Progress progress = new Progress();
+        NdjsonLineReader lines = new NdjsonLineReader(body, maxLineBytes);
+        Map<Long, Boolean> knownCategories = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        while (lines.next()) {
+            progress.received++;
+            long line = lines.lineNumber();
+            if (lines.oversized()) {
+                progress.reject(line, null, "Line longer than " + maxLineBytes + " bytes");
+                continue;
+            }
+            BulkItem item;
+            try {
+                item = rowReader.readValue(lines.line(), 0, lines.length());
+            } catch (JsonProcessingException e) {
+                progress.reject(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            String error = validate(item, knownCategories);
+            if (error != null) {
+                progress.reject(line, item != null ? item.sku() : null, error);
+                continue;
+            }
+            chunk.add(new Row(line, item));
+            if (chunk.size() == chunkSize) {
+                write(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, progress);
+        }
+        return new BulkReport(progress.received, progress.created, progress.failed, progress.errors);
+    }
+
+    /**
+     * Checks a row against the column constraints of {@code item}.
+     *
+     * @return the reason of the rejection, or {@code null} if the row is valid
+     */
+    private String validate(BulkItem item, Map<Long, Boolean> knownCategories) {
+        if (item == null) {
+            return "Empty row";
+        }
+        if (item.sku() == null || item.sku().isBlank() || item.sku().length() > 64) {
+            return "sku is required (64 characters max)";
+        }
+        if (item.name() == null || item.name().isBlank() || item.name().length() > 128) {
+            return "name is required (128 characters max)";
+        }
+        if (item.price() == null || item.price().signum() < 0 || item.price().compareTo(MAX_PRICE) >= 0) {
+            return "price is required, between 0 and 99999999.99";
+        }
+        if (item.stock() == null || item.stock() < 0) {
+            return "stock is required and cannot be negative";
+        }
+        if (item.categoryId() == null) {
+            return "categoryId is required";
+        }
+        // Une requête (ou un accès au cache de second niveau) par catégorie et par import
+        if (!knownCategories.computeIfAbsent(item.categoryId(), id -> categoryRepository.findById(id).isPresent())) {
+            return "Unknown category " + item.categoryId();
+        }
+        return null;
+    }
+
+    /**
+     * Inserts a chunk in one transaction; if it fails, replays it one row per
+     * transaction to reject only the offending rows.
+     */
+    private void write(List<Row> chunk, Progress progress) {
+        try {
+            transaction.executeWithoutResult(status -> insert(chunk));
+            progress.created += chunk.size();
+        } catch (RuntimeException chunkFailure) {
+            for (Row row : chunk) {
+                try {
+                    transaction.executeWithoutResult(status -> insert(List.of(row)));
+                    progress.created++;
+                } catch (RuntimeException e) {
+                    progress.reject(row.line(), row.item().sku(),
+                            NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Persists rows as new items, flushed as JDBC batches, then empties the
+     * persistence context so that it never holds more than one chunk.
+     */
+    private void insert(List<Row> rows) {
+        List<Item> items = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            BulkItem source = row.item();
+            Item item = new Item();
+            item.setSku(source.sku());
+            item.setName(source.name());
+            item.setDescription(source.description());
+            item.setPrice(source.price());
+            item.setStock(source.stock());
+            item.setCategory(entityManager.getReference(Category.class, source.categoryId()));
+            items.add(item);
+            itemTotals.itemAdded(source.categoryId());
+        }
+        itemRepository.saveAll(items);
+        items.forEach(item -> suggestIndex.itemAdded(item.getId(), item.getName(), item.getSku()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * A valid row waiting in the current chunk.
+     */
+    private record Row(long line, BulkItem item) {
+    }
+
+    /**
+     * Counters of one ingest.
+     */
+    private final class Progress {
+
+        private long received;
+
+        private long created;
+
+        private long failed;
+
+        private final List<BulkReport.RowError> errors = new ArrayList<>();
+
+        private void reject(long line, String sku, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new BulkReport.RowError(line, sku, message));
+            }
+        }
+    }
+}
@@ -1,11 +1,47 @@
 package com.example.service;
 
+import com.example.config.CacheRegions;
+import com.example.dto.BatchResult;
+import com.example.dto.ItemChange;
+import com.example.dto.ItemFilter;
+import com.example.dto.LookupResult;
+import com.example.dto.RowVersion;
+import com.example.dto.SearchCursor;
+import com.example.dto.SearchHit;
+import com.example.dto.Suggestion;
+import com.example.model.Category;
 import com.example.model.Item;
 import com.example.repository.ItemRepository;
+import com.example.repository.ItemSpecifications;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for Item business logic in Variant C.
@@ -13,52 +49,196 @@ import org.springframework.transaction.annotation.Transactional;
  * This class provides transactional methods to manage items and their
  * associations with categories using the {@link ItemRepository}.
  * </p>
+ * <p>
+ * Pages are fetched as slices (no COUNT query) and completed with the cached
+ * {@link ItemTotals}, which every create, update and delete keeps current.
+ * Single-item lookups are served by the {@link ItemCache}, invalidated by the
+ * same writes once they commit. Names and SKUs written are recorded in the
+ * {@link ItemSuggestIndex}, which answers autocomplete lookups without the
+ * database.
+ * </p>
+ * <p>
+ * OFFSET pages are ordered by identifier, so that a page always holds the same
+ * rows and its version probe ({@link #getItemVersions(Long, int, int)}) reads
+ * exactly those rows.
+ * </p>
+ * <p>
+ * Batched changes ({@link #updateItems(List)}) read their items with one
+ * {@code IN} query and flush every {@code UPDATE} as a single JDBC batch;
+ * batched deletions ({@link #deleteItems(List)}) are a single
+ * {@code DELETE ... RETURNING} statement.
+ * </p>
+ * <p>
+ * Transactions are read-only unless a method writes: Spring then marks the
+ * JDBC connection read-only ({@code Connection.setReadOnly}) and the Hibernate
+ * session default read-only with flush mode {@code MANUAL}, so loaded entities
+ * keep no snapshot and are never dirty-checked. Writing methods are annotated
+ * {@code @Transactional} on their own.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
  * @since 2025
  */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class ItemService {
 
+    /**
+     * Order of OFFSET pages.
+     */
+    private static final Sort BY_ID = Sort.by("id");
+
+    /**
+     * Exclusive upper bound of a {@code numeric(10, 2)} price.
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("100000000");
+
     /**
      * Repository dependency.
      */
     private final ItemRepository itemRepository;
 
+    /**
+     * Cached item totals.
+     */
+    private final ItemTotals itemTotals;
+
+    /**
+     * Read-through cache of items by identifier.
+     */
+    private final ItemCache itemCache;
+
+    /**
+     * Prefix index of the item names and SKUs.
+     */
+    private final ItemSuggestIndex suggestIndex;
+
+    /**
+     * Shared entity manager, to detach exported items, size JDBC batches and
+     * reach the query cache.
+     */
+    private final EntityManager entityManager;
+
     /**
      * Constructor injection.
      * 
      * @param itemRepository the repository to use
+     * @param itemTotals     the cached item totals
+     * @param itemCache      the item lookup cache
+     * @param suggestIndex   the autocomplete index
+     * @param entityManager  the shared entity manager
      */
-    public ItemService(ItemRepository itemRepository) {
+    public ItemService(ItemRepository itemRepository, ItemTotals itemTotals, ItemCache itemCache,
+            ItemSuggestIndex suggestIndex, EntityManager entityManager) {
         this.itemRepository = itemRepository;
+        this.itemTotals = itemTotals;
+        this.itemCache = itemCache;
+        this.suggestIndex = suggestIndex;
+        this.entityManager = entityManager;
     }
 
     /**
-     * Retrieves all items with pagination.
+     * Retrieves all items with pagination; the total comes from the cached
+     * totals.
      * 
      * @param page index
      * @param size capacity
      * @return paginated list
      */
     public Page<Item> getAllItems(int page, int size) {
-        return itemRepository.findAll(PageRequest.of(page, size));
+        Slice<Item> slice = itemRepository.findSliceBy(PageRequest.of(page, size, BY_ID));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), itemTotals.total());
     }
 
     /**
-     * Finds a single item by ID.
+     * Retrieves all items with pagination, without any total.
+     * 
+     * @param page index
+     * @param size capacity
+     * @return slice of items
+     */
+    public Slice<Item> getAllItemsSlice(int page, int size) {
+        return itemRepository.findSliceBy(PageRequest.of(page, size, BY_ID));
+    }
+
+    /**
+     * Finds a single item by ID, through the item cache.
+     * <p>
+     * Runs without a transaction of its own, so a cache hit does not borrow a
+     * database connection. The returned instance is shared with other requests
+     * and must not be modified.
+     * </p>
      * 
      * @param id identifier
      * @return the found item
      * @throws RuntimeException if missing
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Item getItemById(Long id) {
-        return itemRepository.findById(id)
+        return itemCache.get(id)
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
     }
 
+    /**
+     * Finds several items by ID, through the item cache: cached items are
+     * served from memory and all the others are read by a single query.
+     * 
+     * @param ids identifiers, duplicates allowed
+     * @return the items in request order, with the unknown identifiers
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LookupResult<Item, Long> getItemsByIds(List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        return LookupResult.of(keys, itemCache.getAll(keys));
+    }
+
+    /**
+     * Finds several items by SKU with a single query.
+     * 
+     * @param skus SKUs, duplicates allowed
+     * @return the items in request order, with the unknown SKUs
+     */
+    public LookupResult<Item, String> getItemsBySkus(List<String> skus) {
+        Set<String> keys = new LinkedHashSet<>(skus);
+        Map<String, Item> found = itemRepository.findAllWithCategoryBySkuIn(keys).stream()
+                .collect(Collectors.toMap(Item::getSku, Function.identity()));
+        return LookupResult.of(keys, found);
+    }
+
+    /**
+     * Reads the version of an item for a conditional GET: from the item cache
+     * when the item is already there, otherwise with a projection query that
+     * does not load the entity.
+     * 
+     * @param id identifier
+     * @return the item version, empty if the item does not exist
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<RowVersion> getItemVersion(Long id) {
+        Optional<Item> cached = itemCache.getIfPresent(id);
+        if (cached.isPresent()) {
+            return Optional.of(new RowVersion(id, cached.get().getUpdatedAt()));
+        }
+        return itemRepository.findVersionById(id);
+    }
+
+    /**
+     * Reads the versions of the rows of an OFFSET page, as returned by the
+     * page and slice methods of this service.
+     * 
+     * @param categoryId optional category filter, {@code null} for all items
+     * @param page       index
+     * @param size       capacity
+     * @return slice of the row versions of the page
+     */
+    public Slice<RowVersion> getItemVersions(Long categoryId, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, BY_ID);
+        return categoryId != null
+                ? itemRepository.findVersionsByCategoryId(categoryId, pageable)
+                : itemRepository.findVersionsBy(pageable);
+    }
+
     /**
      * Retrieves items belonging to a specific category.
      * 
@@ -68,17 +248,136 @@ public class ItemService {
      * @return paginated results
      */
     public Page<Item> getItemsByCategoryId(Long categoryId, int page, int size) {
-        return itemRepository.findByCategoryId(categoryId, PageRequest.of(page, size));
+        Slice<Item> slice = itemRepository.findSliceByCategoryId(categoryId, PageRequest.of(page, size, BY_ID));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), itemTotals.totalForCategory(categoryId));
+    }
+
+    /**
+     * Retrieves items belonging to a specific category, without any total.
+     * 
+     * @param categoryId filter criteria
+     * @param page       index
+     * @param size       capacity
+     * @return slice of items
+     */
+    public Slice<Item> getItemsSliceByCategoryId(Long categoryId, int page, int size) {
+        return itemRepository.findSliceByCategoryId(categoryId, PageRequest.of(page, size, BY_ID));
+    }
+
+    /**
+     * Searches a page of items matching a filter, in its sort order, without
+     * total.
+     * 
+     * @param categoryId optional category filter
+     * @param filter     filters and sort order
+     * @param page       index
+     * @param size       capacity
+     * @return slice of matching items
+     * @throws IllegalArgumentException if the sort is invalid
+     */
+    public Slice<Item> searchItems(Long categoryId, ItemFilter filter, int page, int size) {
+        return itemRepository.findSlice(ItemSpecifications.matching(categoryId, filter),
+                PageRequest.of(page, size, filter.toSort()));
+    }
+
+    /**
+     * Searches one keyset page of the items matching an unsorted filter.
+     * 
+     * @param categoryId optional category filter
+     * @param filter     filters, without sort
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param size       page size
+     * @return slice of matching items ordered by identifier
+     * @throws IllegalArgumentException if the filter is invalid
+     */
+    public Slice<Item> searchItemsAfter(Long categoryId, ItemFilter filter, long afterId, int size) {
+        return itemRepository.findSlice(
+                ItemSpecifications.matching(categoryId, filter).and(ItemSpecifications.idAfter(afterId)),
+                PageRequest.of(0, size, filter.toSort()));
+    }
+
+    /**
+     * Searches one page of the items matching a full-text query, most
+     * relevant first.
+     * 
+     * @param text  the query, as typed by the user
+     * @param after position of the last hit already returned, or {@code null}
+     *              for the first page
+     * @param size  page size
+     * @return up to {@code size + 1} hits
+     */
+    public List<SearchHit> fullTextSearch(String text, SearchCursor after, int size) {
+        return itemRepository.fullTextSearch(text, after, size + 1);
+    }
+
+    /**
+     * Retrieves one keyset page of items. One extra row is fetched so the caller
+     * can tell whether a next page exists without a COUNT query.
+     * 
+     * @param afterId identifier of the last item already returned (0 for the
+     *                first page)
+     * @param size    page size
+     * @return up to {@code size + 1} items ordered by identifier
+     */
+    public List<Item> getItemsAfter(long afterId, int size) {
+        return itemRepository.findAllAfter(afterId, PageRequest.ofSize(size + 1));
     }
 
     /**
-     * Counts items in a category.
+     * Retrieves one keyset page of the items of a category.
+     * 
+     * @param categoryId filter criteria
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param size       page size
+     * @return up to {@code size + 1} items of the category ordered by identifier
+     */
+    public List<Item> getItemsByCategoryIdAfter(Long categoryId, long afterId, int size) {
+        return itemRepository.findByCategoryIdAfter(categoryId, afterId, PageRequest.ofSize(size + 1));
+    }
+
+    /**
+     * Suggests item names and SKUs starting with a prefix, from the in-memory
+     * {@link ItemSuggestIndex}, without querying the database.
+     * 
+     * @param prefix the typed prefix, not empty
+     * @param limit  maximum number of suggestions
+     * @return up to {@code limit} suggestions, in alphabetical order
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Suggestion> suggestItems(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Reads the whole catalog for an export, one item at a time.
+     * <p>
+     * Items come from a database cursor and are detached once handed to
+     * {@code action}, so the persistence context stays empty and memory use
+     * does not grow with the catalog. The transaction, and its connection, last
+     * until the last item has been handled.
+     * </p>
+     * 
+     * @param action called once per item, in identifier order
+     */
+    public void exportItems(Consumer<? super Item> action) {
+        try (Stream<Item> items = itemRepository.streamAll()) {
+            items.forEach(item -> {
+                action.accept(item);
+                entityManager.detach(item);
+            });
+        }
+    }
+
+    /**
+     * Counts items in a category, from the cached totals.
      * 
      * @param categoryId filter
      * @return item count
      */
     public long countItemsByCategoryId(Long categoryId) {
-        return itemRepository.countByCategoryId(categoryId);
+        return itemTotals.totalForCategory(categoryId);
     }
 
     /**
@@ -87,8 +386,13 @@ public class ItemService {
      * @param item data
      * @return saved entity
      */
+    @Transactional
     public Item createItem(Item item) {
-        return itemRepository.save(item);
+        Item saved = itemRepository.save(item);
+        itemCache.invalidate(saved.getId());
+        itemTotals.itemAdded(categoryIdOf(saved));
+        suggestIndex.itemAdded(saved.getId(), saved.getName(), saved.getSku());
+        return saved;
     }
 
     /**
@@ -98,14 +402,22 @@ public class ItemService {
      * @param item updated values
      * @return persist result
      */
+    @Transactional
     public Item updateItem(Long id, Item item) {
-        Item existing = getItemById(id);
+        Item existing = itemRepository.findById(id) // jamais l'instance partagée du cache
+                .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
+        Long previousCategoryId = categoryIdOf(existing);
+        if (!Objects.equals(existing.getName(), item.getName()) || !Objects.equals(existing.getSku(), item.getSku())) {
+            suggestIndex.itemChanged(id, item.getName(), item.getSku());
+        }
         existing.setSku(item.getSku());
         existing.setName(item.getName());
         existing.setDescription(item.getDescription());
         existing.setPrice(item.getPrice());
         existing.setStock(item.getStock());
         existing.setCategory(item.getCategory());
+        itemTotals.itemMoved(previousCategoryId, categoryIdOf(existing));
+        itemCache.invalidate(id);
         return itemRepository.save(existing);
     }
 
@@ -114,16 +426,191 @@ public class ItemService {
      * 
      * @param id key to remove
      */
+    @Transactional
     public void deleteItem(Long id) {
-        itemRepository.deleteById(id);
+        itemRepository.findById(id).ifPresent(item -> {
+            itemRepository.delete(item);
+            itemCache.invalidate(id);
+            itemTotals.itemRemoved(categoryIdOf(item));
+            suggestIndex.itemRemoved(id);
+        });
     }
 
     /**
-     * Total system-wide item count.
+     * Applies a list of partial changes in one transaction. Items are read with
+     * one {@code IN} query and their {@code UPDATE}s are flushed as a single
+     * JDBC batch. Invalid entries are reported and skipped; several changes to
+     * the same item are applied in request order.
+     * 
+     * @param changes changes, in request order
+     * @return one outcome per change, in request order
+     */
+    @Transactional
+    public BatchResult updateItems(List<ItemChange> changes) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[changes.size()];
+        Map<Long, List<ItemChange>> valid = new LinkedHashMap<>();
+        for (int i = 0; i < outcomes.length; i++) {
+            ItemChange change = changes.get(i);
+            String error = validate(change);
+            if (error != null) {
+                outcomes[i] = new BatchResult.Outcome(change != null ? change.id() : null, BatchResult.INVALID, error);
+            } else {
+                valid.computeIfAbsent(change.id(), id -> new ArrayList<>()).add(change);
+            }
+        }
+
+        Map<Long, Item> updated = loadForBatch(valid.keySet());
+        updated.forEach((id, item) -> {
+            valid.get(id).forEach(change -> apply(change, item));
+            itemCache.invalidate(id);
+            if (valid.get(id).stream().anyMatch(change -> change.name() != null)) {
+                suggestIndex.itemChanged(id, item.getName(), item.getSku());
+            }
+        });
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] == null) {
+                Long id = changes.get(i).id();
+                outcomes[i] = new BatchResult.Outcome(id,
+                        updated.containsKey(id) ? BatchResult.UPDATED : BatchResult.NOT_FOUND, null);
+            }
+        }
+        return BatchResult.of(List.of(outcomes));
+    }
+
+    /**
+     * Deletes a list of items in one transaction, with one
+     * {@code DELETE ... RETURNING} statement. The rows it returns drive the
+     * after-commit invalidations: item cache, totals, autocomplete index and
+     * the query cache regions reading {@code item}.
+     * 
+     * @param ids identifiers, in request order; duplicates share the outcome
+     *            of their item
+     * @return one outcome per identifier, in request order
+     */
+    @Transactional
+    public BatchResult deleteItems(List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        keys.remove(null);
+        Set<Long> deleted = new HashSet<>();
+        if (!keys.isEmpty()) {
+            for (Object[] row : itemRepository.deleteAllByIdReturning(keys.toArray(Long[]::new))) {
+                long id = ((Number) row[0]).longValue();
+                deleted.add(id);
+                itemCache.invalidate(id);
+                itemTotals.itemRemoved(row[1] != null ? ((Number) row[1]).longValue() : null);
+                suggestIndex.itemRemoved(id);
+            }
+        }
+        if (!deleted.isEmpty()) {
+            evictItemQueriesAfterCommit();
+        }
+
+        List<BatchResult.Outcome> outcomes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (id == null) {
+                outcomes.add(new BatchResult.Outcome(null, BatchResult.INVALID, "id is required"));
+            } else {
+                outcomes.add(new BatchResult.Outcome(id,
+                        deleted.contains(id) ? BatchResult.DELETED : BatchResult.NOT_FOUND, null));
+            }
+        }
+        return BatchResult.of(outcomes);
+    }
+
+    /**
+     * Evicts the query cache regions reading {@code item} once the surrounding
+     * transaction commits: Hibernate only invalidates them on its own for
+     * statements it issues itself.
+     */
+    private void evictItemQueriesAfterCommit() {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictQueryRegion(CacheRegions.ITEMS_BY_CATEGORY);
+                cache.evictQueryRegion(CacheRegions.ITEM_COUNTS);
+            }
+        });
+    }
+
+    /**
+     * Reads the items of a batched change with one {@code IN} query, and sizes
+     * the JDBC batch of the current session so that the flush sends all their
+     * statements at once.
+     * 
+     * @param ids identifiers, without duplicates
+     * @return the items found, by identifier
+     */
+    private Map<Long, Item> loadForBatch(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(ids.size());
+        return itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+    }
+
+    /**
+     * Checks a change against the column constraints of {@code item}.
+     *
+     * @return the reason of the rejection, or {@code null} if the change is
+     *         valid
+     */
+    private static String validate(ItemChange change) {
+        if (change == null || change.id() == null) {
+            return "id is required";
+        }
+        if (change.name() == null && change.description() == null && change.price() == null
+                && change.stock() == null) {
+            return "nothing to change";
+        }
+        if (change.name() != null && (change.name().isBlank() || change.name().length() > 128)) {
+            return "name cannot be blank (128 characters max)";
+        }
+        if (change.price() != null && (change.price().signum() < 0 || change.price().compareTo(MAX_PRICE) >= 0)) {
+            return "price must be between 0 and 99999999.99";
+        }
+        if (change.stock() != null && change.stock() < 0) {
+            return "stock cannot be negative";
+        }
+        return null;
+    }
+
+    /**
+     * Copies the non-null fields of a change onto a managed item.
+     */
+    private static void apply(ItemChange change, Item item) {
+        if (change.name() != null) {
+            item.setName(change.name());
+        }
+        if (change.description() != null) {
+            item.setDescription(change.description());
+        }
+        if (change.price() != null) {
+            item.setPrice(change.price());
+        }
+        if (change.stock() != null) {
+            item.setStock(change.stock());
+        }
+    }
+
+    /**
+     * Total system-wide item count, from the cached totals.
      * 
      * @return count
      */
     public long countItems() {
-        return itemRepository.count();
+        return itemTotals.total();
+    }
+
+    /**
+     * Category identifier of an item, read without initializing a lazy proxy.
+     * 
+     * @param item the item
+     * @return the category ID, or {@code null}
+     */
+    private static Long categoryIdOf(Item item) {
+        Category category = item.getCategory();
+        return category != null ? category.getId() : null;
     }
 }
\ No newline at end of file
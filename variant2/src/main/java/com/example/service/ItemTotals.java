@@ -0,0 +1,281 @@
+package com.example.service;
+
+import com.example.repository.ItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory item totals for Variant C, so paginated listings do not run a
+ * {@code COUNT(*)} per request.
+ * <p>
+ * The global count and one counter per category are {@link LongAdder}s, whose
+ * internal cells are striped across threads: concurrent creations and
+ * deletions update them without contention. {@link ItemService} records every
+ * create, update and delete once its transaction commits, and a scheduled task
+ * reconciles the counters with the database, which also absorbs writes made
+ * outside the service. Totals are therefore eventually consistent.
+ * </p>
+ * <p>
+ * Settings:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.totals.reconcile-interval} - reconciliation period
+ * (default {@code PT30S})</li>
+ * <li>{@code benchmark.totals.estimate} - when {@code true}, the global total
+ * is reconciled from {@code pg_class.reltuples} (a catalog lookup) instead of a
+ * GROUP BY scan, and per-category counters are dropped and reloaded with an
+ * exact count on next access</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class ItemTotals {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemTotals.class);
+
+    /**
+     * Repository used for reconciliation and lazy loading.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Whether the global total comes from the planner estimate.
+     */
+    private final boolean estimate;
+
+    /**
+     * Global item count.
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Item count per category ID. In exact mode a missing category has no
+     * items; in estimate mode it has not been loaded yet.
+     */
+    private final Map<Long, LongAdder> byCategory = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the counters were initialized from the database.
+     */
+    private volatile boolean loaded;
+
+    /**
+     * Constructor injection.
+     *
+     * @param itemRepository the item repository
+     * @param estimate       whether to reconcile the global total from the
+     *                       planner estimate
+     */
+    public ItemTotals(ItemRepository itemRepository,
+            @Value("${benchmark.totals.estimate:false}") boolean estimate) {
+        this.itemRepository = itemRepository;
+        this.estimate = estimate;
+    }
+
+    /**
+     * Returns the total number of items.
+     *
+     * @return the global item count
+     */
+    public long total() {
+        ensureLoaded();
+        return Math.max(0, total.sum());
+    }
+
+    /**
+     * Returns the number of items of a category.
+     *
+     * @param categoryId category identifier
+     * @return the item count of the category
+     */
+    public long totalForCategory(Long categoryId) {
+        ensureLoaded();
+        LongAdder counter = byCategory.get(categoryId);
+        if (counter == null && estimate) {
+            // COUNT hors du verrou de la map ; catégorie vide ou inconnue : pas de compteur
+            long count = itemRepository.countByCategoryId(categoryId);
+            if (count == 0) {
+                return 0;
+            }
+            LongAdder created = counterOf(count);
+            LongAdder existing = byCategory.putIfAbsent(categoryId, created);
+            counter = existing != null ? existing : created;
+        }
+        return counter != null ? Math.max(0, counter.sum()) : 0;
+    }
+
+    /**
+     * Records the creation of an item once the current transaction commits.
+     *
+     * @param categoryId category of the new item, may be {@code null}
+     */
+    public void itemAdded(Long categoryId) {
+        afterCommit(() -> {
+            total.increment();
+            LongAdder counter = categoryCounter(categoryId);
+            if (counter != null) {
+                counter.increment();
+            }
+        });
+    }
+
+    /**
+     * Records the deletion of an item once the current transaction commits.
+     *
+     * @param categoryId category of the deleted item, may be {@code null}
+     */
+    public void itemRemoved(Long categoryId) {
+        afterCommit(() -> {
+            total.decrement();
+            LongAdder counter = categoryCounter(categoryId);
+            if (counter != null) {
+                counter.decrement();
+            }
+        });
+    }
+
+    /**
+     * Records an item moving from one category to another once the current
+     * transaction commits.
+     *
+     * @param fromCategoryId previous category, may be {@code null}
+     * @param toCategoryId   new category, may be {@code null}
+     */
+    public void itemMoved(Long fromCategoryId, Long toCategoryId) {
+        if (fromCategoryId != null && fromCategoryId.equals(toCategoryId)) {
+            return;
+        }
+        afterCommit(() -> {
+            LongAdder from = categoryCounter(fromCategoryId);
+            if (from != null) {
+                from.decrement();
+            }
+            LongAdder to = categoryCounter(toCategoryId);
+            if (to != null) {
+                to.increment();
+            }
+        });
+    }
+
+    /**
+     * Reloads the counters from the database.
+     * <p>
+     * Counters are read before the query and then moved by the difference
+     * between the database count and that reading, rather than replaced: the
+     * updates recorded while the query runs are kept. A write committing
+     * between the reading and the query snapshot is counted twice, until the
+     * next reconciliation.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${benchmark.totals.reconcile-interval:PT30S}",
+            fixedDelayString = "${benchmark.totals.reconcile-interval:PT30S}")
+    public synchronized void reconcile() {
+        long drift;
+        long before = total.sum();
+        if (estimate) {
+            Long estimated = itemRepository.estimateCount();
+            drift = adjust(total, before, estimated != null && estimated >= 0 ? estimated : itemRepository.count());
+            byCategory.clear();
+        } else {
+            Map<Long, Long> readings = new HashMap<>(byCategory.size() * 2);
+            byCategory.forEach((categoryId, counter) -> readings.put(categoryId, counter.sum()));
+            Map<Long, Long> counts = countGroupByCategory();
+            long sum = 0;
+            for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+                sum += entry.getValue();
+                if (entry.getKey() != null) {
+                    adjust(byCategory.computeIfAbsent(entry.getKey(), id -> new LongAdder()),
+                            readings.getOrDefault(entry.getKey(), 0L), entry.getValue());
+                }
+            }
+            byCategory.forEach((categoryId, counter) -> {
+                if (!counts.containsKey(categoryId)) {
+                    adjust(counter, readings.getOrDefault(categoryId, 0L), 0);
+                }
+            });
+            drift = adjust(total, before, sum);
+        }
+        if (loaded && drift != 0) {
+            logger.info("Item totals reconciled: {} items (drift {})", total.sum(), drift);
+        }
+        loaded = true;
+    }
+
+    private Map<Long, Long> countGroupByCategory() {
+        List<Object[]> rows = itemRepository.countGroupByCategory();
+        Map<Long, Long> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a counter update after the surrounding transaction commits, or
+     * immediately when there is none, so rolled back writes are not counted.
+     */
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Returns the counter to update for a category: always present in exact
+     * mode, only once loaded in estimate mode.
+     */
+    private LongAdder categoryCounter(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return estimate ? byCategory.get(categoryId) : byCategory.computeIfAbsent(categoryId, id -> new LongAdder());
+    }
+
+    private static LongAdder counterOf(long value) {
+        LongAdder counter = new LongAdder();
+        counter.add(value);
+        return counter;
+    }
+
+    /**
+     * Corrects a counter read as {@code before} prior to the query that
+     * returned {@code actual}, keeping the updates made since the reading, and
+     * returns the correction applied.
+     */
+    private static long adjust(LongAdder counter, long before, long actual) {
+        long drift = actual - before;
+        counter.add(drift);
+        return drift;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.controller;
+
+import com.example.dto.BulkReport;
+import com.example.service.ItemIngestService;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk creation of items for Variant D.
+ * <p>
+ * Spring Data REST creates one item per {@code POST /items}. Here,
+ * {@code POST /items/bulk} takes an NDJSON upload, one item per line, and
+ * inserts it in bounded chunks as it is read (see {@link ItemIngestService}).
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@RepositoryRestController
+public class BulkItemController {
+
+    /**
+     * Bulk ingest service.
+     */
+    private final ItemIngestService itemIngestService;
+
+    /**
+     * Constructor injection.
+     *
+     * @param itemIngestService the bulk ingest service
+     */
+    public BulkItemController(ItemIngestService itemIngestService) {
+        this.itemIngestService = itemIngestService;
+    }
+
+    /**
+     * Creates the items of an NDJSON upload, one item per line:
+     * {@code {"sku":..,"name":..,"description":..,"price":..,"stock":..,"categoryId":..}}.
+     * <p>
+     * Rejected lines (malformed JSON, invalid values, duplicate SKU) are
+     * counted and described in the report; they do not stop the ingest.
+     * </p>
+     *
+     * @param body the request body, read as it arrives
+     * @return 200 OK with the ingest report
+     * @throws IOException if the upload is interrupted
+     */
+    @PostMapping(path = "/items/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkReport> bulkCreateItems(InputStream body) throws IOException {
+        return ResponseEntity.ok(itemIngestService.ingest(body));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.controller;
+
+import com.example.model.Item;
+import com.example.repository.ItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Streaming export of the item catalog for Variant D.
+ * <p>
+ * Spring Data REST only exposes paginated collections, so reading every item
+ * takes one request per page. {@code GET /items/export} returns them all in a
+ * single response, as NDJSON (default) or as one JSON array, written row by
+ * row while a server-side cursor reads them: heap usage stays flat whatever the
+ * catalog size.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@RepositoryRestController
+public class ExportItemController {
+
+    /**
+     * Item repository.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Shared entity manager, to detach exported items.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Read-only transaction around the cursor.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * JSON mapper of the application.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor injection.
+     * 
+     * @param itemRepository     the item repository
+     * @param entityManager      the shared entity manager
+     * @param transactionManager the JPA transaction manager
+     * @param objectMapper       the application JSON mapper
+     */
+    public ExportItemController(ItemRepository itemRepository, EntityManager entityManager,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.itemRepository = itemRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exports every item in identifier order.
+     * <p>
+     * The body is written on an MVC async thread, inside a read-only
+     * transaction that holds one connection until the last row. Items are
+     * detached once written, so the persistence context stays empty. A client
+     * that disconnects stops the export at its next write.
+     * </p>
+     * 
+     * @param format {@code ndjson} or {@code json}
+     * @return 200 OK with the streamed items, or 400 for an unknown format
+     */
+    @GetMapping("/items/export")
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(defaultValue = "ndjson") String format) {
+        MediaType mediaType = ExportWriter.mediaType(format);
+        if (mediaType == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean array = MediaType.APPLICATION_JSON.equals(mediaType);
+        StreamingResponseBody body = output -> {
+            try (ExportWriter writer = new ExportWriter(objectMapper, output, array)) {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Item> items = itemRepository.streamAll()) {
+                        items.forEach(item -> {
+                            writer.write(item);
+                            entityManager.detach(item);
+                        });
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+}
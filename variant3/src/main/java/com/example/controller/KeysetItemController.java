@@ -0,0 +1,105 @@
+package com.example.controller;
+
+import com.example.dto.CursorPage;
+import com.example.model.Item;
+import com.example.repository.ItemRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * Keyset pagination for the item collections of Variant D.
+ * <p>
+ * Spring Data REST only paginates with OFFSET, whose cost grows with the page
+ * number. This controller overrides the generated {@code /items} and
+ * {@code /categories/{id}/items} resources only when an {@code ?after=} cursor
+ * is passed (empty for the first page); every other request keeps being served
+ * by the generated HATEOAS endpoints. Page sizes follow the Spring Data REST
+ * defaults and limits.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@RepositoryRestController
+public class KeysetItemController {
+
+    /**
+     * Item repository.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Spring Data REST settings (default and maximum page sizes).
+     */
+    private final RepositoryRestConfiguration restConfiguration;
+
+    /**
+     * Constructor injection.
+     * 
+     * @param itemRepository    the item repository
+     * @param restConfiguration the Spring Data REST configuration
+     */
+    public KeysetItemController(ItemRepository itemRepository, RepositoryRestConfiguration restConfiguration) {
+        this.itemRepository = itemRepository;
+        this.restConfiguration = restConfiguration;
+    }
+
+    /**
+     * Keyset page of all items.
+     * 
+     * @param after cursor of the previous page, empty for the first one
+     * @param size  optional page size
+     * @return 200 OK with the page and its next cursor, 400 for an invalid cursor
+     */
+    @GetMapping(path = "/items", params = "after")
+    public ResponseEntity<CursorPage<Item>> getItemsAfter(
+            @RequestParam String after,
+            @RequestParam(required = false) Integer size) {
+        return page(after, size, null);
+    }
+
+    /**
+     * Keyset page of the items of a category.
+     * 
+     * @param id    category ID
+     * @param after cursor of the previous page, empty for the first one
+     * @param size  optional page size
+     * @return 200 OK with the page and its next cursor, 400 for an invalid cursor
+     */
+    @GetMapping(path = "/categories/{id}/items", params = "after")
+    public ResponseEntity<CursorPage<Item>> getItemsByCategoryIdAfter(
+            @PathVariable Long id,
+            @RequestParam String after,
+            @RequestParam(required = false) Integer size) {
+        return page(after, size, id);
+    }
+
+    private ResponseEntity<CursorPage<Item>> page(String after, Integer size, Long categoryId) {
+        int pageSize = size != null
+                ? Math.min(size, restConfiguration.getMaxPageSize())
+                : restConfiguration.getDefaultPageSize();
+        if (pageSize < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        long afterId;
+        try {
+            afterId = CursorPage.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Item> items = categoryId != null
+                ? itemRepository.findByCategoryIdAfter(categoryId, afterId, limit)
+                : itemRepository.findAllAfter(afterId, limit);
+        return ResponseEntity.ok(CursorPage.of(items, pageSize, Item::getId));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk ingest ({@code POST /items/bulk}).
+ * <p>
+ * Rejected lines do not stop the ingest: each one is counted in
+ * {@code failed} and described in {@code errors}, which only keeps the first
+ * ones so the report stays small whatever the upload size.
+ * </p>
+ *
+ * @param received non-blank lines read
+ * @param created  items inserted
+ * @param failed   lines rejected
+ * @param errors   first rejected lines, in input order
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record BulkReport(long received, long created, long failed, List<RowError> errors) {
+
+    /**
+     * A rejected line.
+     *
+     * @param line    line number in the upload, starting at 1
+     * @param sku     SKU of the row, {@code null} if it could not be read
+     * @param message reason of the rejection
+     */
+    public record RowError(long line, String sku, String message) {
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.repository;
 
+import com.example.config.CacheRegions;
 import com.example.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 /**
@@ -17,4 +23,19 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
  */
 @RepositoryRestResource(path = "categories", collectionResourceRel = "categories")
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /**
+     * Retrieves a page of categories through the query cache: the page and its
+     * COUNT are answered from {@link CacheRegions#CATEGORY_QUERIES} until a
+     * category is written.
+     *
+     * @param pageable pagination information
+     * @return a page of categories
+     */
+    @Override
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES) },
+            forCounting = true)
+    Page<Category> findAll(Pageable pageable);
 }
\ No newline at end of file
@@ -1,20 +1,35 @@
 package com.example.repository;
 
+import com.example.config.CacheRegions;
 import com.example.model.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Automated REST repository for Item entities in Variant D.
  * <p>
  * Automatically exposes REST endpoints for Item management.
  * Includes custom HATEOAS search resources for category filtering.
  * </p>
+ * <p>
+ * The keyset queries are not exported as search resources: they back the
+ * {@code ?after=} mode served by {@code KeysetItemController}.
+ * </p>
+ * <p>
+ * Category-filtered pages go through the Hibernate query cache (see
+ * {@link CacheRegions}); any item written through JPA invalidates them.
+ * </p>
  * 
  * @author Halmaoui Abdellah
  * @version 1.0
@@ -23,6 +38,11 @@ import org.springframework.data.rest.core.annotation.RestResource;
 @RepositoryRestResource(path = "items", collectionResourceRel = "items")
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    /**
+     * Rows fetched per round trip by {@link #streamAll()}.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
     /**
      * Custom search endpoint to filter items by category with JOIN FETCH.
      * <p>
@@ -36,5 +56,52 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     // Query with JOIN FETCH to avoid N+1 problem
     @RestResource(path = "by-category", rel = "by-category")
     @Query("SELECT i FROM Item i JOIN FETCH i.category WHERE i.category.id = :categoryId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
     Page<Item> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of all items: the items following {@code afterId} in
+     * identifier order, resolved on the primary key index whatever the depth.
+     * 
+     * @param afterId identifier of the last item already returned (0 for the
+     *                first page)
+     * @param limit   maximum number of rows
+     * @return items ordered by identifier
+     */
+    @RestResource(exported = false)
+    @Query("SELECT i FROM Item i WHERE i.id > :afterId ORDER BY i.id")
+    List<Item> findAllAfter(@Param("afterId") long afterId, Pageable limit);
+
+    /**
+     * Keyset page of the items of a category, seeking on
+     * {@code (category_id, id)}.
+     * 
+     * @param categoryId filter criteria
+     * @param afterId    identifier of the last item already returned (0 for the
+     *                   first page)
+     * @param limit      maximum number of rows
+     * @return items of the category ordered by identifier
+     */
+    @RestResource(exported = false)
+    @Query("SELECT i FROM Item i WHERE i.category.id = :categoryId AND i.id > :afterId ORDER BY i.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ITEMS_BY_CATEGORY) })
+    List<Item> findByCategoryIdAfter(@Param("categoryId") Long categoryId, @Param("afterId") long afterId,
+            Pageable limit);
+
+    /**
+     * Every item in identifier order, read through a server-side cursor that
+     * fetches {@value #EXPORT_FETCH_SIZE} rows per round trip instead of
+     * materializing the result list. The entities are loaded read-only (no
+     * dirty-checking snapshot). The stream must be consumed and closed inside a
+     * transaction, which PostgreSQL also requires to honor the fetch size.
+     * 
+     * @return stream of all items, to be closed by the caller
+     */
+    @RestResource(exported = false)
+    @Query("SELECT i FROM Item i ORDER BY i.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<Item> streamAll();
+}
@@ -0,0 +1,34 @@
+package com.example;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main application class for Variant E: Spring WebFlux + R2DBC.
+ * <p>
+ * The only non-blocking variant: requests are served by Reactor Netty's event
+ * loops and the database is reached through the R2DBC PostgreSQL driver and
+ * its reactive pool (r2dbc-pool), so no thread is held while a query runs. It
+ * shows how a reactive stack behaves under the same loads as the
+ * thread-per-request variants.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootApplication
+public class Application {
+
+    /**
+     * Bootstraps the Variant E Spring Boot application.
+     * 
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        System.out.println("🚀 Starting Variant E - Spring WebFlux + R2DBC Application");
+        System.out.println("============================================================");
+        SpringApplication.run(Application.class, args);
+        System.out.println("✅ Variant E started successfully on http://localhost:8083");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.config;
+
+import com.example.model.Category;
+import com.example.model.Item;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Identifier and timestamp generation for Variant E.
+ * <p>
+ * The tables are shared with the Hibernate variants, whose identifiers come
+ * from the {@code item_seq} / {@code category_seq} sequences in pooled-lo mode
+ * (increment 50): each {@code nextval} is the low bound of a block owned by
+ * its caller. Here every insert takes one {@code nextval} and uses its low
+ * bound, so identifiers never collide with the blocks of the other variants.
+ * {@code updated_at}, maintained by {@code @UpdateTimestamp} elsewhere, is set
+ * on every save.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+public class EntityCallbacks {
+
+    /**
+     * Assigns an identifier to new items and stamps every saved item.
+     * 
+     * @param databaseClient the reactive SQL client
+     * @return the callback
+     */
+    @Bean
+    public BeforeConvertCallback<Item> itemBeforeConvert(DatabaseClient databaseClient) {
+        return (item, table) -> {
+            item.setUpdatedAt(LocalDateTime.now());
+            if (item.getId() != null) {
+                return Mono.just(item);
+            }
+            return nextValue(databaseClient, "item_seq").map(id -> {
+                item.setId(id);
+                return item;
+            });
+        };
+    }
+
+    /**
+     * Assigns an identifier to new categories and stamps every saved category.
+     * 
+     * @param databaseClient the reactive SQL client
+     * @return the callback
+     */
+    @Bean
+    public BeforeConvertCallback<Category> categoryBeforeConvert(DatabaseClient databaseClient) {
+        return (category, table) -> {
+            category.setUpdatedAt(LocalDateTime.now());
+            if (category.getId() != null) {
+                return Mono.just(category);
+            }
+            return nextValue(databaseClient, "category_seq").map(id -> {
+                category.setId(id);
+                return category;
+            });
+        };
+    }
+
+    private static Mono<Long> nextValue(DatabaseClient databaseClient, String sequence) {
+        return databaseClient.sql("SELECT nextval('" + sequence + "')")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.controller;
+
+import com.example.model.Category;
+import com.example.model.Item;
+import com.example.service.CategoryService;
+import com.example.service.ItemService;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller for managing Categories in Variant E (Spring WebFlux).
+ * <p>
+ * Provides endpoints for Category CRUD operations and sub-resource
+ * navigation to items, with the same paths and JSON as the other variants.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/categories")
+public class CategoryController {
+
+    /**
+     * Category service layer.
+     */
+    private final CategoryService categoryService;
+
+    /**
+     * Item service layer for sub-resource access.
+     */
+    private final ItemService itemService;
+
+    /**
+     * Constructor injection.
+     * 
+     * @param categoryService the category service
+     * @param itemService     the item service
+     */
+    public CategoryController(CategoryService categoryService, ItemService itemService) {
+        this.categoryService = categoryService;
+        this.itemService = itemService;
+    }
+
+    /**
+     * Paginated retrieval of all categories.
+     * 
+     * @param page index
+     * @param size size
+     * @return 200 OK with page
+     */
+    @GetMapping
+    public Mono<Page<Category>> getAllCategories(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return categoryService.getAllCategories(page, size);
+    }
+
+    /**
+     * Single category retrieval.
+     * 
+     * @param id key
+     * @return 200 OK, or 404 NOT FOUND
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Category>> getCategoryById(@PathVariable Long id) {
+        return categoryService.getCategoryById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Items belonging to a category.
+     * 
+     * @param id   category ID
+     * @param page index
+     * @param size size
+     * @return paginated items
+     */
+    @GetMapping("/{id}/items")
+    public Mono<Page<Item>> getItemsByCategoryId(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return itemService.getItemsByCategoryId(id, page, size);
+    }
+
+    /**
+     * Resource creation.
+     * 
+     * @param category data
+     * @return 201 CREATED
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Category>> createCategory(@RequestBody Category category) {
+        return categoryService.createCategory(category)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    /**
+     * Resource update.
+     * 
+     * @param id       key
+     * @param category new data
+     * @return 200 OK, or 404 NOT FOUND
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Category>> updateCategory(@PathVariable Long id, @RequestBody Category category) {
+        return categoryService.updateCategory(id, category)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Resource deletion, with the items of the category.
+     * 
+     * @param id key
+     * @return 204 NO CONTENT
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCategory(@PathVariable Long id) {
+        return categoryService.deleteCategory(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.controller;
+
+import com.example.model.Item;
+import com.example.service.ItemService;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller for managing Items in Variant E (Spring WebFlux).
+ * <p>
+ * Same contract as the other variants ({@code GET /items?page=&size=},
+ * {@code ?categoryId=}, {@code GET/PUT/DELETE /items/{id}},
+ * {@code POST /items}), served by annotated handlers that return publishers:
+ * the Netty event loop is never blocked, and a handful of threads serve every
+ * connection.
+ * </p>
+ * <p>
+ * Listings requested with {@code Accept: application/x-ndjson} are streamed
+ * one item per line as rows arrive, with the client's demand propagated down
+ * to the database (backpressure), and without any total.
+ * {@code GET /items/export} streams the whole catalog the same way.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/items")
+public class ItemController {
+
+    /**
+     * Business logic dependency.
+     */
+    private final ItemService itemService;
+
+    /**
+     * Constructor injection.
+     * 
+     * @param itemService the service layer
+     */
+    public ItemController(ItemService itemService) {
+        this.itemService = itemService;
+    }
+
+    /**
+     * List all items with optional category filtering.
+     * 
+     * @param page       index
+     * @param size       size
+     * @param categoryId optional category filter
+     * @return 200 OK with the page
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Page<Item>> getAllItems(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId) {
+        return categoryId != null
+                ? itemService.getItemsByCategoryId(categoryId, page, size)
+                : itemService.getAllItems(page, size);
+    }
+
+    /**
+     * Streams the items of a page, one JSON object per line.
+     * 
+     * @param page index
+     * @param size size
+     * @return the items, written as they are read
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Item> streamItems(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return itemService.streamItems(page, size);
+    }
+
+    /**
+     * Streams the whole catalog, one JSON object per line.
+     * 
+     * @return every item, written as it is read
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Item> exportItems() {
+        return itemService.streamCatalog();
+    }
+
+    /**
+     * Detail view.
+     * 
+     * @param id key
+     * @return 200 OK, or 404 NOT FOUND
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Item>> getItemById(@PathVariable Long id) {
+        return itemService.getItemById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Resource creation.
+     * 
+     * @param item data
+     * @return 201 CREATED
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Item>> createItem(@RequestBody Item item) {
+        return itemService.createItem(item)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    /**
+     * Full update.
+     * 
+     * @param id   key
+     * @param item new properties
+     * @return 200 OK, or 404 NOT FOUND
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Item>> updateItem(@PathVariable Long id, @RequestBody Item item) {
+        return itemService.updateItem(id, item)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Removal.
+     * 
+     * @param id key to delete
+     * @return 204 NO CONTENT
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteItem(@PathVariable Long id) {
+        return itemService.deleteItem(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a Category in Variant E (Spring WebFlux + R2DBC).
+ * <p>
+ * Same table and JSON shape as in the other variants; items are reached
+ * through {@code /categories/{id}/items}, never through the entity.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Table("category")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Category {
+
+    /**
+     * Unique identifier for the category, taken from {@code category_seq} on
+     * insert (see {@link com.example.config.EntityCallbacks}).
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Unique business code for the category.
+     */
+    private String code;
+
+    /**
+     * Category display name.
+     */
+    private String name;
+
+    /**
+     * Timestamp for the last database update, set on every save.
+     */
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
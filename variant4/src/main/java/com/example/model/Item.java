@@ -0,0 +1,93 @@
+package com.example.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an Item in Variant E (Spring WebFlux + R2DBC).
+ * <p>
+ * R2DBC has no object graph: the category is held by its identifier, read
+ * from the request body but left out of the JSON output, as in the other
+ * variants. Requests may give it as {@code "categoryId": 12} or, like the
+ * JMeter payloads written for Spring Data REST, as
+ * {@code "category": "/categories/12"}.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Table("item")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Item {
+
+    /**
+     * Unique identifier for the item, taken from {@code item_seq} on insert
+     * (see {@link com.example.config.EntityCallbacks}).
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Unique Stock Keeping Unit (SKU) identifying the item.
+     */
+    private String sku;
+
+    /**
+     * Name of the product.
+     */
+    private String name;
+
+    /**
+     * Multi-line product description.
+     */
+    private String description;
+
+    /**
+     * Selling price of the item.
+     */
+    private BigDecimal price;
+
+    /**
+     * Available stock quantity.
+     */
+    private Integer stock;
+
+    /**
+     * Last update timestamp, set on every save.
+     */
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Identifier of the category this item belongs to; accepted in requests,
+     * excluded from responses.
+     */
+    @Column("category_id")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private Long categoryId;
+
+    /**
+     * Sets the category from its resource path ({@code /categories/12}), the
+     * form used by Spring Data REST clients.
+     * 
+     * @param uri path or URL of the category
+     */
+    @JsonSetter("category")
+    public void setCategoryUri(String uri) {
+        if (uri != null) {
+            categoryId = Long.valueOf(uri.substring(uri.lastIndexOf('/') + 1));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.repository;
+
+import com.example.model.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository for {@link Category} in Variant E.
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface CategoryRepository extends R2dbcRepository<Category, Long> {
+
+    /**
+     * Reads one page of categories.
+     * 
+     * @param pageable page and sort
+     * @return the categories of the page
+     */
+    Flux<Category> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,61 @@
+package com.example.repository;
+
+import com.example.model.Item;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for {@link Item} in Variant E.
+ * <p>
+ * Queries return {@link Flux} / {@link Mono} publishers: rows are emitted as
+ * the driver decodes them, and no thread waits on the database.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface ItemRepository extends R2dbcRepository<Item, Long> {
+
+    /**
+     * Reads one page of items.
+     * 
+     * @param pageable page and sort
+     * @return the items of the page
+     */
+    Flux<Item> findAllBy(Pageable pageable);
+
+    /**
+     * Reads one page of the items of a category.
+     * 
+     * @param categoryId category filter
+     * @param pageable   page and sort
+     * @return the items of the page
+     */
+    Flux<Item> findByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * Counts the items of a category.
+     * 
+     * @param categoryId category filter
+     * @return the item count
+     */
+    Mono<Long> countByCategoryId(Long categoryId);
+
+    /**
+     * Deletes the items of a category, before the category itself (no
+     * cascading without an ORM).
+     * 
+     * @param categoryId category of the items
+     * @return the number of deleted items
+     */
+    @Modifying
+    @Query("DELETE FROM item WHERE category_id = :categoryId")
+    Mono<Long> deleteByCategoryId(Long categoryId);
+}
@@ -0,0 +1,111 @@
+package com.example.service;
+
+import com.example.model.Category;
+import com.example.repository.CategoryRepository;
+import com.example.repository.ItemRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service class for Category business logic in Variant E.
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class CategoryService {
+
+    /**
+     * Order of category pages.
+     */
+    private static final Sort BY_ID = Sort.by("id");
+
+    /**
+     * Repository dependency.
+     */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * Item repository, to delete the items of a category.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Constructor injection.
+     * 
+     * @param categoryRepository the repository to use
+     * @param itemRepository     the item repository
+     */
+    public CategoryService(CategoryRepository categoryRepository, ItemRepository itemRepository) {
+        this.categoryRepository = categoryRepository;
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * Retrieves all categories with pagination, in identifier order.
+     * 
+     * @param page index
+     * @param size page size
+     * @return paginated categories
+     */
+    public Mono<Page<Category>> getAllCategories(int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, BY_ID);
+        return Mono.zip(categoryRepository.findAllBy(pageable).collectList(), categoryRepository.count())
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Fetches a single category.
+     * 
+     * @param id category ID
+     * @return the category, or empty if missing
+     */
+    public Mono<Category> getCategoryById(Long id) {
+        return categoryRepository.findById(id);
+    }
+
+    /**
+     * Persists a new category.
+     * 
+     * @param category data to save
+     * @return saved entity
+     */
+    @Transactional
+    public Mono<Category> createCategory(Category category) {
+        category.setId(null);
+        return categoryRepository.save(category);
+    }
+
+    /**
+     * Updates an existing category.
+     * 
+     * @param id       primary key
+     * @param category updated data
+     * @return the updated category, or empty if missing
+     */
+    @Transactional
+    public Mono<Category> updateCategory(Long id, Category category) {
+        return categoryRepository.findById(id).flatMap(existing -> {
+            existing.setCode(category.getCode());
+            existing.setName(category.getName());
+            return categoryRepository.save(existing);
+        });
+    }
+
+    /**
+     * Removes a category and its items, in one transaction.
+     * 
+     * @param id identifier to delete
+     * @return completion signal
+     */
+    @Transactional
+    public Mono<Void> deleteCategory(Long id) {
+        return itemRepository.deleteByCategoryId(id).then(categoryRepository.deleteById(id));
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.service;
+
+import com.example.model.Item;
+import com.example.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service class for Item business logic in Variant E.
+ * <p>
+ * Nothing here blocks: every method returns a publisher that runs its queries
+ * on the R2DBC connection pool when subscribed. A page runs its row query and
+ * its count concurrently, on two connections, and completes when both have
+ * answered. Writes are transactional through the reactive transaction manager.
+ * </p>
+ * <p>
+ * The streaming methods ({@link #streamItems(int, int)},
+ * {@link #streamCatalog()}) emit rows as they arrive and are driven by the
+ * subscriber's demand: the driver fetches {@code benchmark.stream.fetch-size}
+ * rows per round trip and only asks for more once the HTTP response has
+ * consumed them, so a slow client slows the query down instead of filling the
+ * heap.
+ * </p>
+ * 
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class ItemService {
+
+    /**
+     * Order of OFFSET pages.
+     */
+    private static final Sort BY_ID = Sort.by("id");
+
+    /**
+     * Repository dependency.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Entity template, for the streamed catalog.
+     */
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * Rows fetched per round trip by the streaming queries.
+     */
+    private final int fetchSize;
+
+    /**
+     * Constructor injection.
+     * 
+     * @param itemRepository the repository to use
+     * @param template       the R2DBC entity template
+     * @param fetchSize      rows fetched per round trip when streaming
+     */
+    public ItemService(ItemRepository itemRepository, R2dbcEntityTemplate template,
+            @Value("${benchmark.stream.fetch-size:500}") int fetchSize) {
+        this.itemRepository = itemRepository;
+        this.template = template;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Retrieves all items with pagination.
+     * 
+     * @param page index
+     * @param size capacity
+     * @return paginated list
+     */
+    public Mono<Page<Item>> getAllItems(int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, BY_ID);
+        return Mono.zip(itemRepository.findAllBy(pageable).collectList(), itemRepository.count())
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Retrieves items belonging to a specific category.
+     * 
+     * @param categoryId filter criteria
+     * @param page       index
+     * @param size       capacity
+     * @return paginated results
+     */
+    public Mono<Page<Item>> getItemsByCategoryId(Long categoryId, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, BY_ID);
+        return Mono.zip(itemRepository.findByCategoryId(categoryId, pageable).collectList(),
+                itemRepository.countByCategoryId(categoryId))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Streams the items of an OFFSET page, without any total.
+     * 
+     * @param page index
+     * @param size capacity
+     * @return the items, in identifier order
+     */
+    public Flux<Item> streamItems(int page, int size) {
+        return itemRepository.findAllBy(PageRequest.of(page, size, BY_ID));
+    }
+
+    /**
+     * Streams the whole catalog, in identifier order, as fast as the
+     * subscriber consumes it.
+     * 
+     * @return every item
+     */
+    public Flux<Item> streamCatalog() {
+        return template.getDatabaseClient()
+                .sql("SELECT id, sku, name, description, price, stock, updated_at, category_id "
+                        + "FROM item ORDER BY id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map((row, metadata) -> template.getConverter().read(Item.class, row, metadata))
+                .all();
+    }
+
+    /**
+     * Finds a single item by ID.
+     * 
+     * @param id identifier
+     * @return the item, or empty if missing
+     */
+    public Mono<Item> getItemById(Long id) {
+        return itemRepository.findById(id);
+    }
+
+    /**
+     * Persists a new item.
+     * 
+     * @param item data
+     * @return saved entity
+     */
+    @Transactional
+    public Mono<Item> createItem(Item item) {
+        item.setId(null);
+        return itemRepository.save(item);
+    }
+
+    /**
+     * Updates an existing item.
+     * 
+     * @param id   key
+     * @param item updated values
+     * @return the updated item, or empty if missing
+     */
+    @Transactional
+    public Mono<Item> updateItem(Long id, Item item) {
+        return itemRepository.findById(id).flatMap(existing -> {
+            existing.setSku(item.getSku());
+            existing.setName(item.getName());
+            existing.setDescription(item.getDescription());
+            existing.setPrice(item.getPrice());
+            existing.setStock(item.getStock());
+            if (item.getCategoryId() != null) {
+                existing.setCategoryId(item.getCategoryId());
+            }
+            return itemRepository.save(existing);
+        });
+    }
+
+    /**
+     * Deletes an item from storage.
+     * 
+     * @param id key to remove
+     * @return completion signal
+     */
+    @Transactional
+    public Mono<Void> deleteItem(Long id) {
+        return itemRepository.deleteById(id);
+    }
+}
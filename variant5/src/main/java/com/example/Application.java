@@ -0,0 +1,106 @@
+package com.example;
+
+import com.example.config.Database;
+import com.example.config.ServerConfig;
+import com.example.dao.CategoryDAO;
+import com.example.dao.ItemDAO;
+import com.example.http.Router;
+import com.example.resource.CategoryResource;
+import com.example.resource.ItemResource;
+import com.example.resource.MetricsResource;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import java.io.IOException;
+
+/**
+ * Main application class for Variant F: JDK HttpServer + JDBC, without any
+ * framework.
+ * <p>
+ * This variant is the floor of the comparison: same endpoints and same
+ * database as the others, but served by {@code com.sun.net.httpserver} on
+ * virtual threads, with hand-written prepared statements over HikariCP and a
+ * hand-written streaming JSON writer. The gap between its latency and CPU and
+ * those of another variant is the cost of that variant's framework layers
+ * (JAX-RS/HK2, Spring MVC, Spring Data, Hibernate, Jackson).
+ * </p>
+ * <p>
+ * The objects are wired by hand here; there is no container, no reflection and
+ * no classpath scanning. Settings are system properties, see
+ * {@link ServerConfig} and {@link Database}.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class Application {
+
+    /**
+     * Main entry point for the Variant F application.
+     *
+     * @param args command-line arguments (not used)
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("🚀 Starting Variant F - JDK HttpServer + JDBC (no framework)");
+        System.out.println("============================================================");
+
+        // Prometheus registry with JVM metrics, as in Variant A
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        new ClassLoaderMetrics().bindTo(registry);
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmGcMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+
+        // Connection pool and schema
+        HikariDataSource dataSource = Database.createDataSource(registry);
+        Database.initSchema(dataSource);
+
+        // Routes
+        ItemDAO itemDAO = new ItemDAO(dataSource);
+        Router router = new Router(registry, ServerConfig.createConcurrencyLimit(registry));
+        new ItemResource(itemDAO, ServerConfig.FETCH_SIZE).register(router);
+        new CategoryResource(new CategoryDAO(dataSource), itemDAO).register(router);
+        new MetricsResource(registry).register(router);
+
+        HttpServer server = ServerConfig.createServer(router);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            dataSource.close();
+        }));
+        server.start();
+
+        String url = "http://localhost:" + ServerConfig.PORT;
+        System.out.println("============================================================");
+        System.out.println("✅ Server started successfully!");
+        System.out.println("🌐 Server URL: " + url);
+        System.out.println("🧵 Execution model: " + ServerConfig.describe());
+        System.out.println("\n📊 Available Endpoints:");
+        System.out.println("   GET    " + url + "/items");
+        System.out.println("   GET    " + url + "/items/{id}");
+        System.out.println("   GET    " + url + "/items?categoryId={id}");
+        System.out.println("   GET    " + url + "/items/export?format=ndjson|json");
+        System.out.println("   POST   " + url + "/items");
+        System.out.println("   PUT    " + url + "/items/{id}");
+        System.out.println("   DELETE " + url + "/items/{id}");
+        System.out.println();
+        System.out.println("   GET    " + url + "/categories");
+        System.out.println("   GET    " + url + "/categories/{id}");
+        System.out.println("   GET    " + url + "/categories/{id}/items");
+        System.out.println("   POST   " + url + "/categories");
+        System.out.println("   PUT    " + url + "/categories/{id}");
+        System.out.println("   DELETE " + url + "/categories/{id}");
+        System.out.println();
+        System.out.println("   GET    " + url + "/metrics");
+        System.out.println("============================================================");
+    }
+}
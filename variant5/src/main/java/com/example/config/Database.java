@@ -0,0 +1,247 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Connection pool of Variant F: a bare {@link HikariDataSource}, configured
+ * with system properties.
+ * <ul>
+ * <li>{@code benchmark.db.url} - JDBC URL (default: the Docker PostgreSQL of
+ * {@code docker-compose.yml})</li>
+ * <li>{@code benchmark.db.username} / {@code password} - credentials (default
+ * {@code postgres} / {@code postgres})</li>
+ * <li>{@code benchmark.db.pool-size} - maximum pool size (default 20, as in
+ * the other variants)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class Database {
+
+    /**
+     * Maximum size of the HikariCP pool.
+     */
+    public static final int POOL_SIZE = Integer.getInteger("benchmark.db.pool-size", 20);
+
+    private Database() {
+    }
+
+    /**
+     * Opens the pool and publishes its metrics ({@code hikaricp_connections_*}).
+     *
+     * @param registry the registry to publish to
+     * @return the data source
+     */
+    public static HikariDataSource createDataSource(MeterRegistry registry) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/benchmark_db"));
+        config.setUsername(System.getProperty("benchmark.db.username", "postgres"));
+        config.setPassword(System.getProperty("benchmark.db.password", "postgres"));
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(5);
+        config.setConnectionTimeout(30_000);
+        config.setIdleTimeout(300_000);
+        config.setPoolName("HikariPool-F");
+        config.setMetricRegistry(registry);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Table of the applied migration versions, shared with
+     * {@code SchemaMigrations} of Variant A.
+     */
+    private static final String HISTORY_TABLE = "schema_history";
+
+    /**
+     * Migrations of {@code db/migration}, shared by all variants, in version
+     * order.
+     */
+    private static final List<String> MIGRATIONS = List.of(
+            "V1__schema.sql",
+            "V2__hot_query_indexes.sql",
+            "V3__item_stock_index.sql",
+            "V4__item_full_text_search.sql");
+
+    /**
+     * Applies the pending versioned schema migrations shared by all variants:
+     * tables, sequences and the indexes of the hot queries. Applied versions
+     * are recorded in {@value #HISTORY_TABLE}; each pending migration runs
+     * once, in its own transaction with its history row, and a failure rolls
+     * it back and stops the startup.
+     *
+     * @param dataSource the pool
+     * @throws IllegalStateException if a migration fails
+     */
+    public static void initSchema(HikariDataSource dataSource) {
+        List<String> applied = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                    + "version integer NOT NULL PRIMARY KEY, "
+                    + "script varchar(255) NOT NULL, "
+                    + "installed_on timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            Set<Integer> installed = installedVersions(statement);
+            connection.setAutoCommit(false);
+            try {
+                for (String migration : MIGRATIONS) {
+                    if (!installed.contains(version(migration))) {
+                        migrate(connection, statement, migration);
+                        applied.add(migration);
+                    }
+                }
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database not reachable", e);
+        }
+        System.out.println("✅ Schema migrations: " + (applied.isEmpty() ? "up to date"
+                : "applied " + String.join(", ", applied)));
+    }
+
+    private static Set<Integer> installedVersions(Statement statement) throws SQLException {
+        Set<Integer> versions = new HashSet<>();
+        try (ResultSet rs = statement.executeQuery("SELECT version FROM " + HISTORY_TABLE)) {
+            while (rs.next()) {
+                versions.add(rs.getInt(1));
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Runs one migration and records it, in a single transaction.
+     */
+    private static void migrate(Connection connection, Statement statement, String migration) {
+        String sql = null;
+        try {
+            for (String next : statements(read(migration))) {
+                sql = next;
+                statement.execute(sql);
+            }
+            sql = null;
+            try (PreparedStatement history = connection.prepareStatement(
+                    "INSERT INTO " + HISTORY_TABLE + " (version, script) VALUES (?, ?)")) {
+                history.setInt(1, version(migration));
+                history.setString(2, migration);
+                history.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollback) {
+                e.addSuppressed(rollback);
+            }
+            throw new IllegalStateException("Migration " + migration + " failed"
+                    + (sql == null ? "" : " on: " + sql.strip()), e);
+        }
+    }
+
+    private static int version(String migration) {
+        return Integer.parseInt(migration.substring(1, migration.indexOf("__")));
+    }
+
+    /**
+     * Splits a script into statements on the semicolons that are outside
+     * string literals, quoted identifiers, dollar-quoted bodies and comments.
+     * Comments are dropped.
+     */
+    private static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < script.length()) {
+            char c = script.charAt(i);
+            int end;
+            if (c == '-' && script.startsWith("--", i)) {
+                end = script.indexOf('\n', i);
+                i = end < 0 ? script.length() : end;
+                continue;
+            } else if (c == '/' && script.startsWith("/*", i)) {
+                end = script.indexOf("*/", i + 2);
+                i = end < 0 ? script.length() : end + 2;
+                current.append(' ');
+                continue;
+            } else if (c == '\'' || c == '"') {
+                end = i + 1;
+                while (end < script.length()) {
+                    if (script.charAt(end) == c) {
+                        if (end + 1 < script.length() && script.charAt(end + 1) == c) {
+                            end += 2; // quote doublée
+                            continue;
+                        }
+                        break;
+                    }
+                    end++;
+                }
+                end = Math.min(end + 1, script.length());
+            } else if (c == '$' && dollarTag(script, i) != null) {
+                String tag = dollarTag(script, i);
+                end = script.indexOf(tag, i + tag.length());
+                end = end < 0 ? script.length() : end + tag.length();
+            } else if (c == ';') {
+                add(statements, current);
+                i++;
+                continue;
+            } else {
+                end = i + 1;
+            }
+            current.append(script, i, end);
+            i = end;
+        }
+        add(statements, current);
+        return statements;
+    }
+
+    /**
+     * Returns the {@code $tag$} opening a dollar-quoted body at an offset, or
+     * {@code null}.
+     */
+    private static String dollarTag(String script, int offset) {
+        int end = offset + 1;
+        while (end < script.length() && (Character.isLetterOrDigit(script.charAt(end)) || script.charAt(end) == '_')) {
+            end++;
+        }
+        if (end < script.length() && script.charAt(end) == '$'
+                && (end == offset + 1 || !Character.isDigit(script.charAt(offset + 1)))) {
+            return script.substring(offset, end + 1);
+        }
+        return null;
+    }
+
+    private static void add(List<String> statements, StringBuilder current) {
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().strip());
+        }
+        current.setLength(0);
+    }
+
+    private static String read(String migration) {
+        try (InputStream in = Database.class.getResourceAsStream("/db/migration/" + migration)) {
+            if (in == null) {
+                throw new IllegalStateException(migration + " not found on the classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(migration + " not readable", e);
+        }
+    }
+}
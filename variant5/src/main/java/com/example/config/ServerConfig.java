@@ -0,0 +1,105 @@
+package com.example.config;
+
+import com.example.http.ConcurrencyLimit;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP server of Variant F: the {@link HttpServer} of the JDK, one virtual
+ * thread per request.
+ * <p>
+ * The server's dispatcher thread accepts connections and parses request
+ * headers; each exchange is then handed to a new virtual thread, which runs
+ * the handler and its blocking JDBC calls. The concurrency is bounded by a
+ * {@link ConcurrencyLimit} sized on the connection pool, as in the virtual
+ * thread mode of Variant A.
+ * </p>
+ * <p>
+ * System properties:
+ * </p>
+ * <ul>
+ * <li>{@code benchmark.server.port} - HTTP port (default 8084)</li>
+ * <li>{@code benchmark.server.backlog} - pending connections queued by the
+ * kernel (default 1024)</li>
+ * <li>{@code benchmark.server.max-concurrency} - requests handled at once, 0
+ * for no limit (default 4 x {@link Database#POOL_SIZE})</li>
+ * <li>{@code benchmark.server.queue-timeout-ms} - longest wait of a request
+ * over the limit before a 503 (default 10000)</li>
+ * <li>{@code benchmark.stream.fetch-size} - rows per round trip of
+ * {@code GET /items/export} (default 500)</li>
+ * </ul>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class ServerConfig {
+
+    /**
+     * HTTP port.
+     */
+    public static final int PORT = Integer.getInteger("benchmark.server.port", 8084);
+
+    /**
+     * Rows per round trip of the export cursor.
+     */
+    public static final int FETCH_SIZE = Integer.getInteger("benchmark.stream.fetch-size", 500);
+
+    private static final int BACKLOG = Integer.getInteger("benchmark.server.backlog", 1024);
+
+    private static final int MAX_CONCURRENCY = Integer.getInteger("benchmark.server.max-concurrency",
+            4 * Database.POOL_SIZE);
+
+    private static final long QUEUE_TIMEOUT_MS = Long.getLong("benchmark.server.queue-timeout-ms", 10_000L);
+
+    private ServerConfig() {
+    }
+
+    /**
+     * Creates the server, not started.
+     *
+     * @param handler the handler of every request
+     * @return the server
+     * @throws IOException if the port cannot be bound
+     */
+    public static HttpServer createServer(HttpHandler handler) throws IOException {
+        // Small responses on keep-alive connections: do not let Nagle's algorithm hold them
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress(PORT), BACKLOG);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", handler);
+        return server;
+    }
+
+    /**
+     * Creates the request limiter, if any.
+     *
+     * @param registry the registry to publish its metrics to
+     * @return the limiter, or {@code null} when
+     *         {@code benchmark.server.max-concurrency} is 0
+     */
+    public static ConcurrencyLimit createConcurrencyLimit(MeterRegistry registry) {
+        return MAX_CONCURRENCY > 0 ? new ConcurrencyLimit(MAX_CONCURRENCY, QUEUE_TIMEOUT_MS, registry) : null;
+    }
+
+    /**
+     * Describes the execution model, for the startup log.
+     *
+     * @return a one-line summary
+     */
+    public static String describe() {
+        String limit = MAX_CONCURRENCY > 0
+                ? MAX_CONCURRENCY + " concurrent requests, " + QUEUE_TIMEOUT_MS + " ms queue timeout"
+                : "no concurrency limit";
+        return "virtual threads, " + limit + ", DB pool " + Database.POOL_SIZE;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.dao;
+
+import com.example.model.Category;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access for categories in Variant F: hand-written prepared statements on
+ * the pool, one connection per method.
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class CategoryDAO {
+
+    private static final String COLUMNS = "id, code, name, updated_at";
+
+    private static final String SELECT_PAGE = "SELECT " + COLUMNS + " FROM category ORDER BY id LIMIT ? OFFSET ?";
+
+    private static final String COUNT = "SELECT count(*) FROM category";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM category WHERE id = ?";
+
+    private static final String INSERT = "INSERT INTO category (" + COLUMNS + ") VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE category SET code = ?, name = ?, updated_at = ? WHERE id = ?";
+
+    private static final String DELETE_ITEMS = "DELETE FROM item WHERE category_id = ?";
+
+    private static final String DELETE = "DELETE FROM category WHERE id = ?";
+
+    private final DataSource dataSource;
+
+    private final IdAllocator ids = new IdAllocator("category_seq");
+
+    /**
+     * Creates the DAO.
+     *
+     * @param dataSource the pool
+     */
+    public CategoryDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Reads an OFFSET page, in identifier order.
+     *
+     * @param page page index
+     * @param size page size
+     * @return the categories of the page
+     * @throws SQLException if the query fails
+     */
+    public List<Category> findPage(int page, int size) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT_PAGE)) {
+            statement.setInt(1, size);
+            statement.setLong(2, (long) page * size);
+            List<Category> categories = new ArrayList<>(size);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    categories.add(map(rs));
+                }
+            }
+            return categories;
+        }
+    }
+
+    /**
+     * Counts the categories.
+     *
+     * @return the number of categories
+     * @throws SQLException if the query fails
+     */
+    public long count() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(COUNT);
+                ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Reads a category.
+     *
+     * @param id primary key
+     * @return the category, or empty if missing
+     * @throws SQLException if the query fails
+     */
+    public Optional<Category> findById(long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(map(rs)) : Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Inserts a new category.
+     *
+     * @param category values; id and timestamp are ignored
+     * @return the category as stored
+     * @throws SQLException if the insert fails (duplicate code)
+     */
+    public Category insert(Category category) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            Category stored = new Category(ids.next(connection), category.code(), category.name(),
+                    now());
+            statement.setLong(1, stored.id());
+            statement.setString(2, stored.code());
+            statement.setString(3, stored.name());
+            statement.setObject(4, stored.updatedAt());
+            statement.executeUpdate();
+            return stored;
+        }
+    }
+
+    /**
+     * Replaces the values of a category.
+     *
+     * @param id       primary key
+     * @param category new values
+     * @return the category as stored, or empty if missing
+     * @throws SQLException if the update fails
+     */
+    public Optional<Category> update(long id, Category category) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+            LocalDateTime now = now();
+            statement.setString(1, category.code());
+            statement.setString(2, category.name());
+            statement.setObject(3, now);
+            statement.setLong(4, id);
+            if (statement.executeUpdate() == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new Category(id, category.code(), category.name(), now));
+        }
+    }
+
+    /**
+     * Deletes a category and its items, in one transaction.
+     *
+     * @param id primary key
+     * @return {@code false} if it did not exist
+     * @throws SQLException if the delete fails
+     */
+    public boolean delete(long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement items = connection.prepareStatement(DELETE_ITEMS);
+                    PreparedStatement category = connection.prepareStatement(DELETE)) {
+                items.setLong(1, id);
+                items.executeUpdate();
+                category.setLong(1, id);
+                boolean deleted = category.executeUpdate() > 0;
+                connection.commit();
+                return deleted;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Current time at the precision of a {@code timestamp(6)} column, so that
+     * the values returned equal those read back later.
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Category map(ResultSet rs) throws SQLException {
+        return new Category(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getObject(4, LocalDateTime.class));
+    }
+}
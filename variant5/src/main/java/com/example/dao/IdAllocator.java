@@ -0,0 +1,74 @@
+package com.example.dao;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Identifiers taken from a PostgreSQL sequence by blocks, like the
+ * {@code pooled-lo} optimizer of Hibernate in Variant A.
+ * <p>
+ * {@code nextval} returns the low bound of a block of {@value #BLOCK_SIZE}
+ * identifiers (the {@code INCREMENT BY} of {@code item_seq} and
+ * {@code category_seq}), handed out one by one before the next call: one round
+ * trip per 50 inserts, and no collision with the other variants sharing the
+ * database. A {@link ReentrantLock} rather than {@code synchronized} guards the
+ * block, so that a virtual thread waiting for the sequence does not pin its
+ * carrier.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class IdAllocator {
+
+    /**
+     * Identifiers per block; must match the {@code INCREMENT BY} of the
+     * sequence.
+     */
+    public static final int BLOCK_SIZE = 50;
+
+    private final String nextvalSql;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+
+    private long limit;
+
+    /**
+     * Creates an allocator; no block is reserved before the first call.
+     *
+     * @param sequence sequence name
+     */
+    public IdAllocator(String sequence) {
+        this.nextvalSql = "SELECT nextval('" + sequence + "')";
+    }
+
+    /**
+     * Returns the next identifier, reserving a new block if needed.
+     *
+     * @param connection connection to call the sequence on
+     * @return a fresh identifier
+     * @throws SQLException if the sequence call fails
+     */
+    public long next(Connection connection) throws SQLException {
+        lock.lock();
+        try {
+            if (next == limit) {
+                try (Statement statement = connection.createStatement();
+                        ResultSet rs = statement.executeQuery(nextvalSql)) {
+                    rs.next();
+                    next = rs.getLong(1);
+                    limit = next + BLOCK_SIZE;
+                }
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
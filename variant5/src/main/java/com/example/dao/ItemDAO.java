@@ -0,0 +1,270 @@
+package com.example.dao;
+
+import com.example.model.Item;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access for items in Variant F: hand-written prepared statements on the
+ * pool, one connection per method, rows mapped by column index.
+ * <p>
+ * Every method borrows a connection for as little as it needs and gives it
+ * back before the response is written, except {@link #streamAll}, which holds
+ * it for the whole export.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class ItemDAO {
+
+    /**
+     * Receives the rows of a streamed query, one at a time.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * Handles one row.
+         *
+         * @param item the row
+         * @throws IOException if writing the row to the client fails
+         */
+        void accept(Item item) throws IOException;
+    }
+
+    private static final String COLUMNS = "id, sku, name, description, price, stock, updated_at, category_id";
+
+    private static final String SELECT_PAGE = "SELECT " + COLUMNS + " FROM item ORDER BY id LIMIT ? OFFSET ?";
+
+    private static final String SELECT_PAGE_BY_CATEGORY = "SELECT " + COLUMNS
+            + " FROM item WHERE category_id = ? ORDER BY id LIMIT ? OFFSET ?";
+
+    private static final String COUNT = "SELECT count(*) FROM item";
+
+    private static final String COUNT_BY_CATEGORY = "SELECT count(*) FROM item WHERE category_id = ?";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM item WHERE id = ?";
+
+    private static final String SELECT_ALL = "SELECT " + COLUMNS + " FROM item ORDER BY id";
+
+    private static final String INSERT = "INSERT INTO item (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE item SET sku = ?, name = ?, description = ?, price = ?, stock = ?,"
+            + " updated_at = ?, category_id = COALESCE(?, category_id) WHERE id = ?";
+
+    private static final String DELETE = "DELETE FROM item WHERE id = ?";
+
+    private final DataSource dataSource;
+
+    private final IdAllocator ids = new IdAllocator("item_seq");
+
+    /**
+     * Creates the DAO.
+     *
+     * @param dataSource the pool
+     */
+    public ItemDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Reads an OFFSET page, in identifier order.
+     *
+     * @param categoryId optional category filter
+     * @param page       page index
+     * @param size       page size
+     * @return the items of the page
+     * @throws SQLException if the query fails
+     */
+    public List<Item> findPage(Long categoryId, int page, int size) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(
+                        categoryId != null ? SELECT_PAGE_BY_CATEGORY : SELECT_PAGE)) {
+            int index = 1;
+            if (categoryId != null) {
+                statement.setLong(index++, categoryId);
+            }
+            statement.setInt(index++, size);
+            statement.setLong(index, (long) page * size);
+            List<Item> items = new ArrayList<>(size);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    items.add(map(rs));
+                }
+            }
+            return items;
+        }
+    }
+
+    /**
+     * Counts the items, of a category or in total.
+     *
+     * @param categoryId optional category filter
+     * @return the number of items
+     * @throws SQLException if the query fails
+     */
+    public long count(Long categoryId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(
+                        categoryId != null ? COUNT_BY_CATEGORY : COUNT)) {
+            if (categoryId != null) {
+                statement.setLong(1, categoryId);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Reads an item.
+     *
+     * @param id primary key
+     * @return the item, or empty if missing
+     * @throws SQLException if the query fails
+     */
+    public Optional<Item> findById(long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return findById(connection, id);
+        }
+    }
+
+    /**
+     * Reads every item in identifier order through a server-side cursor,
+     * {@code fetchSize} rows per round trip, in a read-only transaction (the
+     * PostgreSQL driver only uses a cursor outside auto-commit). Memory stays
+     * flat whatever the number of rows.
+     *
+     * @param fetchSize rows per round trip
+     * @param handler   receives each row
+     * @throws SQLException if the query fails
+     * @throws IOException  if the handler fails
+     */
+    public void streamAll(int fetchSize, RowHandler handler) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_ALL)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        handler.accept(map(rs));
+                    }
+                }
+            } finally {
+                // Nothing to commit: ending the transaction closes the cursor
+                connection.rollback();
+                connection.setReadOnly(false);
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Inserts a new item.
+     *
+     * @param item values; id and timestamp are ignored
+     * @return the item as stored
+     * @throws SQLException if the insert fails (duplicate SKU, unknown
+     *                      category)
+     */
+    public Item insert(Item item) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            Item stored = new Item(ids.next(connection), item.sku(), item.name(), item.description(),
+                    item.price(), item.stock(), now(), item.categoryId());
+            statement.setLong(1, stored.id());
+            statement.setString(2, stored.sku());
+            statement.setString(3, stored.name());
+            statement.setString(4, stored.description());
+            statement.setBigDecimal(5, stored.price());
+            statement.setInt(6, stored.stock());
+            statement.setObject(7, stored.updatedAt());
+            statement.setLong(8, stored.categoryId());
+            statement.executeUpdate();
+            return stored;
+        }
+    }
+
+    /**
+     * Replaces the values of an item; its category is kept when
+     * {@code item.categoryId()} is {@code null}.
+     *
+     * @param id   primary key
+     * @param item new values
+     * @return the item as stored, or empty if missing
+     * @throws SQLException if the update fails
+     */
+    public Optional<Item> update(long id, Item item) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+            statement.setString(1, item.sku());
+            statement.setString(2, item.name());
+            statement.setString(3, item.description());
+            statement.setBigDecimal(4, item.price());
+            statement.setInt(5, item.stock());
+            statement.setObject(6, now());
+            if (item.categoryId() != null) {
+                statement.setLong(7, item.categoryId());
+            } else {
+                statement.setNull(7, Types.BIGINT);
+            }
+            statement.setLong(8, id);
+            if (statement.executeUpdate() == 0) {
+                return Optional.empty();
+            }
+            return findById(connection, id);
+        }
+    }
+
+    /**
+     * Deletes an item.
+     *
+     * @param id primary key
+     * @return {@code false} if it did not exist
+     * @throws SQLException if the delete fails
+     */
+    public boolean delete(long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(DELETE)) {
+            statement.setLong(1, id);
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private static Optional<Item> findById(Connection connection, long id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(map(rs)) : Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Current time at the precision of a {@code timestamp(6)} column, so that
+     * the values returned equal those read back later.
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Item map(ResultSet rs) throws SQLException {
+        return new Item(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getBigDecimal(5),
+                rs.getInt(6), rs.getObject(7, LocalDateTime.class), rs.getLong(8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bound on the requests handled at once by Variant F.
+ * <p>
+ * Every request runs on its own virtual thread, so nothing but this limit
+ * stands between a load spike and the connection pool: without it, thousands
+ * of threads would queue inside HikariCP and fail with a 500 once its
+ * connection timeout elapses. Excess requests wait on a fair {@link Semaphore}
+ * in arrival order; those still waiting after the queue timeout are answered
+ * {@code 503 Service Unavailable} with {@code Retry-After}, before any work is
+ * done. Same rule, same metrics as the limiter of Variant A.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class ConcurrencyLimit {
+
+    private final int limit;
+
+    private final long queueTimeoutMillis;
+
+    private final Semaphore permits;
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Counter rejected;
+
+    /**
+     * Creates the limit and publishes its gauges
+     * ({@code benchmark.server.requests.*}).
+     *
+     * @param limit              requests handled at once
+     * @param queueTimeoutMillis longest wait for a permit before a 503
+     * @param registry           the registry to publish to
+     */
+    public ConcurrencyLimit(int limit, long queueTimeoutMillis, MeterRegistry registry) {
+        this.limit = limit;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.permits = new Semaphore(limit, true);
+        Gauge.builder("benchmark.server.requests.limit", () -> limit)
+                .description("Requests handled at once")
+                .register(registry);
+        Gauge.builder("benchmark.server.requests.active", () -> limit - permits.availablePermits())
+                .description("Requests holding a permit")
+                .register(registry);
+        Gauge.builder("benchmark.server.requests.queued", queued::get)
+                .description("Requests waiting for a permit")
+                .register(registry);
+        rejected = Counter.builder("benchmark.server.requests.rejected")
+                .description("Requests answered 503 after the queue timeout")
+                .register(registry);
+    }
+
+    /**
+     * Waits for a permit, up to the queue timeout.
+     *
+     * @return {@code true} if the request may proceed and must call
+     *         {@link #release()}, {@code false} if it must be answered 503
+     */
+    public boolean acquire() {
+        queued.incrementAndGet();
+        try {
+            if (permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Gives back the permit of a finished request.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * @return requests handled at once
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
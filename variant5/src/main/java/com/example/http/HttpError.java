@@ -0,0 +1,63 @@
+package com.example.http;
+
+/**
+ * Ends a request with an HTTP error status, from anywhere in a handler.
+ * <p>
+ * Caught by the {@link Router}, which answers with the status and, when there
+ * is one, a {@code {"error":...}} body.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class HttpError extends RuntimeException {
+
+    private final int status;
+
+    /**
+     * Creates an error without body.
+     *
+     * @param status HTTP status
+     */
+    public HttpError(int status) {
+        this(status, null);
+    }
+
+    /**
+     * Creates an error with a message for the client.
+     *
+     * @param status  HTTP status
+     * @param message reason, sent as {@code {"error":...}}
+     */
+    public HttpError(int status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    /**
+     * Shorthand for a {@code 400 Bad Request}.
+     *
+     * @param message reason
+     * @return the error, to throw
+     */
+    public static HttpError badRequest(String message) {
+        return new HttpError(400, message);
+    }
+
+    /**
+     * Shorthand for a {@code 404 Not Found}, without body.
+     *
+     * @return the error, to throw
+     */
+    public static HttpError notFound() {
+        return new HttpError(404);
+    }
+
+    /**
+     * @return the HTTP status to answer with
+     */
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.http;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON parser of Variant F, for request bodies.
+ * <p>
+ * Recursive descent over the decoded text, producing plain values:
+ * {@link Map} for objects, {@link List} for arrays, {@link String},
+ * {@link BigDecimal} for every number, {@link Boolean} and {@code null}. The
+ * bodies accepted by the API are a few small objects; binding them to records
+ * is done by hand, field by field, in the model classes.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class JsonReader {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final String text;
+
+    private int position;
+
+    private JsonReader(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a document holding a single JSON object.
+     *
+     * @param text JSON text
+     * @return the members of the object, in document order
+     * @throws IllegalArgumentException if the text is not a JSON object
+     */
+    public static Map<String, Object> parseObject(String text) {
+        JsonReader reader = new JsonReader(text);
+        reader.skipWhitespace();
+        if (reader.peek() != '{') {
+            throw reader.error("a JSON object is expected");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> object = (Map<String, Object>) reader.readValue(0);
+        reader.skipWhitespace();
+        if (reader.position < text.length()) {
+            throw reader.error("unexpected content after the object");
+        }
+        return object;
+    }
+
+    private Object readValue(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw error("nested deeper than " + MAX_DEPTH + " levels");
+        }
+        skipWhitespace();
+        char c = peek();
+        switch (c) {
+            case '{' -> {
+                return readObject(depth);
+            }
+            case '[' -> {
+                return readArray(depth);
+            }
+            case '"' -> {
+                return readString();
+            }
+            case 't' -> {
+                expect("true");
+                return Boolean.TRUE;
+            }
+            case 'f' -> {
+                expect("false");
+                return Boolean.FALSE;
+            }
+            case 'n' -> {
+                expect("null");
+                return null;
+            }
+            default -> {
+                if (c == '-' || c >= '0' && c <= '9') {
+                    return readNumber();
+                }
+                throw error("unexpected character '" + c + "'");
+            }
+        }
+    }
+
+    private Map<String, Object> readObject(int depth) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("a member name is expected");
+            }
+            String name = readString();
+            skipWhitespace();
+            if (peek() != ':') {
+                throw error("':' is expected");
+            }
+            position++;
+            object.put(name, readValue(depth + 1));
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw error("',' or '}' is expected");
+            }
+        }
+    }
+
+    private List<Object> readArray(int depth) {
+        List<Object> array = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue(depth + 1));
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return array;
+            }
+            if (c != ',') {
+                throw error("',' or ']' is expected");
+            }
+        }
+    }
+
+    private String readString() {
+        position++;
+        StringBuilder value = null;
+        int start = position;
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return value == null ? text.substring(start, position - 1) : value.toString();
+            }
+            if (c < 0x20) {
+                throw error("control character in a string");
+            }
+            if (c == '\\') {
+                if (value == null) {
+                    value = new StringBuilder().append(text, start, position - 1);
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append(escaped);
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > text.length()) {
+                            throw error("truncated \\u escape");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(text, position, position + 4, 16));
+                        } catch (NumberFormatException e) {
+                            throw error("invalid \\u escape");
+                        }
+                        position += 4;
+                    }
+                    default -> throw error("invalid escape '\\" + escaped + "'");
+                }
+            } else if (value != null) {
+                value.append(c);
+            }
+        }
+    }
+
+    private BigDecimal readNumber() {
+        int start = position;
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        try {
+            return new BigDecimal(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error("invalid number");
+        }
+    }
+
+    private void expect(String literal) {
+        if (!text.startsWith(literal, position)) {
+            throw error("invalid literal");
+        }
+        position += literal.length();
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= text.length()) {
+            throw error("unexpected end of input");
+        }
+        return text.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Malformed JSON at offset " + position + ": " + message);
+    }
+}
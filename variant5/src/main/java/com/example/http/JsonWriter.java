@@ -0,0 +1,381 @@
+package com.example.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Streaming JSON writer of Variant F, written by hand.
+ * <p>
+ * No reflection and no object tree: callers write each token in order
+ * ({@code beginObject().name("id").value(1L)...endObject()}), and the writer
+ * encodes strings to UTF-8 directly into a fixed 8 KB buffer, which is handed
+ * to the output stream whenever it fills up. Commas and colons are placed from
+ * a small stack of nesting levels. Several top-level values may follow each
+ * other, separated by {@link #newline()}, which is all NDJSON needs.
+ * </p>
+ * <p>
+ * The writer does not check that the document is well formed (an object
+ * closed as an array, a name outside an object): that is the caller's job.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class JsonWriter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+    private static final int MAX_DEPTH = 64;
+
+    private final OutputStream out;
+
+    private final byte[] buffer = new byte[8192];
+
+    private int position;
+
+    /**
+     * Nesting level: 0 at top level.
+     */
+    private int depth;
+
+    /**
+     * Per level, whether a value was already written (a comma is due).
+     */
+    private final boolean[] started = new boolean[MAX_DEPTH + 1];
+
+    /**
+     * Whether the next value follows a name (no comma).
+     */
+    private boolean afterName;
+
+    /**
+     * Creates a writer; nothing is written to {@code out} before the buffer is
+     * full or {@link #flush()} is called.
+     *
+     * @param out destination
+     */
+    public JsonWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Opens an object.
+     *
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    /**
+     * Closes the current object.
+     *
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    /**
+     * Opens an array.
+     *
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    /**
+     * Closes the current array.
+     *
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes a member name; the next call writes its value.
+     *
+     * @param name member name
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        string(name);
+        write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string, or {@code null}.
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        string(value);
+        return this;
+    }
+
+    /**
+     * Writes an integer, digit by digit.
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter value(long value) throws IOException {
+        separate();
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return this;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+        ensure(20);
+        int end = position + digits(value);
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+        return this;
+    }
+
+    /**
+     * Writes an integer, or {@code null}.
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter value(Long value) throws IOException {
+        return value == null ? nullValue() : value(value.longValue());
+    }
+
+    /**
+     * Writes an integer, or {@code null}.
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter value(Integer value) throws IOException {
+        return value == null ? nullValue() : value(value.longValue());
+    }
+
+    /**
+     * Writes a decimal in plain notation (no exponent), or {@code null}.
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter value(BigDecimal value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        ascii(value.toPlainString());
+        return this;
+    }
+
+    /**
+     * Writes a timestamp as an ISO-8601 string, as Jackson does in the other
+     * variants.
+     *
+     * @param value timestamp, or {@code null}
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter value(LocalDateTime value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        write('"');
+        ascii(value.toString());
+        write('"');
+        return this;
+    }
+
+    /**
+     * Writes {@code null}.
+     *
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter nullValue() throws IOException {
+        separate();
+        ensure(NULL.length);
+        System.arraycopy(NULL, 0, buffer, position, NULL.length);
+        position += NULL.length;
+        return this;
+    }
+
+    /**
+     * Ends a top-level value with a line feed (NDJSON record separator).
+     *
+     * @return this writer
+     * @throws IOException if the output fails
+     */
+    public JsonWriter newline() throws IOException {
+        write('\n');
+        return this;
+    }
+
+    /**
+     * Hands the buffered bytes to the output stream and flushes it.
+     *
+     * @throws IOException if the output fails
+     */
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON nested deeper than " + MAX_DEPTH + " levels");
+        }
+        separate();
+        write(bracket);
+        started[++depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        write(bracket);
+        depth--;
+        return this;
+    }
+
+    /**
+     * Writes the comma due before a value or a name, if any.
+     */
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+        } else if (depth > 0) {
+            if (started[depth]) {
+                write(',');
+            }
+            started[depth] = true;
+        }
+    }
+
+    /**
+     * Writes a quoted, escaped string, encoded to UTF-8.
+     */
+    private void string(String s) throws IOException {
+        write('"');
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            ensure(6);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    buffer[position++] = '\\';
+                    buffer[position++] = (byte) c;
+                } else if (c >= 0x20) {
+                    buffer[position++] = (byte) c;
+                } else if (c == '\n') {
+                    buffer[position++] = '\\';
+                    buffer[position++] = 'n';
+                } else if (c == '\r') {
+                    buffer[position++] = '\\';
+                    buffer[position++] = 'r';
+                } else if (c == '\t') {
+                    buffer[position++] = '\\';
+                    buffer[position++] = 't';
+                } else {
+                    buffer[position++] = '\\';
+                    buffer[position++] = 'u';
+                    buffer[position++] = '0';
+                    buffer[position++] = '0';
+                    buffer[position++] = HEX[c >> 4];
+                    buffer[position++] = HEX[c & 0xF];
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                // Lone surrogates are not encodable: replaced by U+FFFD
+                char encoded = Character.isSurrogate(c) ? '\uFFFD' : c;
+                buffer[position++] = (byte) (0xE0 | encoded >> 12);
+                buffer[position++] = (byte) (0x80 | encoded >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | encoded & 0x3F);
+            }
+        }
+        write('"');
+    }
+
+    /**
+     * Writes characters known to be ASCII, without escaping.
+     */
+    private void ascii(String s) throws IOException {
+        int length = s.length();
+        ensure(length);
+        if (length > buffer.length) {
+            out.write(s.getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void write(char c) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) c;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.http;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One HTTP exchange as seen by the handlers of Variant F: path and query
+ * parameters, JSON body, and the ways to answer.
+ * <p>
+ * Small JSON responses are written into memory first and sent with a
+ * {@code Content-Length}, so keep-alive connections need no chunked encoding;
+ * {@link #stream(String)} is for the responses of unknown length.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class Request {
+
+    /**
+     * Largest request body accepted (1 MB).
+     */
+    private static final int MAX_BODY_BYTES = 1 << 20;
+
+    /**
+     * Writes a response body, token by token.
+     */
+    @FunctionalInterface
+    public interface JsonBody {
+
+        /**
+         * Writes the body.
+         *
+         * @param json destination
+         * @throws IOException if the output fails
+         */
+        void write(JsonWriter json) throws IOException;
+    }
+
+    private final HttpExchange exchange;
+
+    private final Map<String, String> pathParameters;
+
+    private Map<String, String> queryParameters;
+
+    Request(HttpExchange exchange, Map<String, String> pathParameters) {
+        this.exchange = exchange;
+        this.pathParameters = pathParameters;
+    }
+
+    /**
+     * Reads a numeric path parameter, such as {@code {id}}.
+     *
+     * @param name parameter name in the route template
+     * @return its value
+     * @throws HttpError 404 if it is not a number, like an unknown resource
+     */
+    public long pathLong(String name) {
+        try {
+            return Long.parseLong(pathParameters.get(name));
+        } catch (NumberFormatException e) {
+            throw HttpError.notFound();
+        }
+    }
+
+    /**
+     * Reads a query parameter.
+     *
+     * @param name parameter name
+     * @return its decoded value, or {@code null} if absent
+     */
+    public String query(String name) {
+        if (queryParameters == null) {
+            queryParameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        }
+        return queryParameters.get(name);
+    }
+
+    /**
+     * Reads an integer query parameter.
+     *
+     * @param name         parameter name
+     * @param defaultValue value when absent
+     * @param min          smallest accepted value
+     * @return its value
+     * @throws HttpError 400 if it is not a number or is below {@code min}
+     */
+    public int queryInt(String name, int defaultValue, int min) {
+        String value = query(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // answered below
+        }
+        throw HttpError.badRequest(name + " must be an integer >= " + min);
+    }
+
+    /**
+     * Reads an optional identifier query parameter.
+     *
+     * @param name parameter name
+     * @return its value, or {@code null} if absent
+     * @throws HttpError 400 if it is not a number
+     */
+    public Long queryLong(String name) {
+        String value = query(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw HttpError.badRequest(name + " must be an integer");
+        }
+    }
+
+    /**
+     * Reads and parses the request body.
+     *
+     * @return the members of the JSON object sent
+     * @throws IOException if the upload is interrupted
+     * @throws HttpError   400 if the body is not a JSON object, 413 if it is
+     *                     larger than 1 MB
+     */
+    public Map<String, Object> jsonBody() throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            throw new HttpError(413);
+        }
+        try {
+            return JsonReader.parseObject(new String(body, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw HttpError.badRequest(e.getMessage());
+        }
+    }
+
+    /**
+     * Answers with a JSON body of known length.
+     *
+     * @param status HTTP status
+     * @param body   writes the body
+     * @throws IOException if the connection fails
+     */
+    public void sendJson(int status, JsonBody body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        JsonWriter json = new JsonWriter(buffer);
+        body.write(json);
+        json.flush();
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, buffer.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            buffer.writeTo(out);
+        }
+    }
+
+    /**
+     * Answers with a status and an empty body.
+     *
+     * @param status HTTP status
+     * @throws IOException if the connection fails
+     */
+    public void sendEmpty(int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    /**
+     * Answers with a plain text body.
+     *
+     * @param status      HTTP status
+     * @param contentType media type of the text
+     * @param text        body
+     * @throws IOException if the connection fails
+     */
+    public void sendText(int status, String contentType, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Starts a {@code 200 OK} response of unknown length (chunked encoding).
+     * The caller writes to the returned writer and flushes it; the router
+     * closes the exchange.
+     *
+     * @param contentType media type of the body
+     * @return a writer on the response body
+     * @throws IOException if the connection fails
+     */
+    public JsonWriter stream(String contentType) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, 0);
+        return new JsonWriter(exchange.getResponseBody());
+    }
+
+    /**
+     * Sets a response header, before the response is sent.
+     *
+     * @param name  header name
+     * @param value header value
+     */
+    public void header(String name, String value) {
+        exchange.getResponseHeaders().set(name, value);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            try {
+                parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw HttpError.badRequest("malformed query string");
+            }
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The only {@link HttpHandler} of Variant F: matches the method and path of
+ * each exchange against the registered routes, calls the handler, turns
+ * exceptions into statuses, and times the request.
+ * <p>
+ * Routes are templates such as {@code /items/{id}}, compared segment by
+ * segment in registration order, so literal routes ({@code /items/export})
+ * must be registered before the templates they would otherwise match. A path
+ * known under another method is answered 405, an unknown path 404.
+ * </p>
+ * <p>
+ * Every request is recorded in the {@code http.server.requests} timer with the
+ * tags of Spring Boot ({@code method}, {@code uri} as the route template,
+ * {@code status}, {@code outcome}, {@code exception}) and a percentile
+ * histogram, so the Grafana panels query Variant F like the Spring variants.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public final class Router implements HttpHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(Router.class);
+
+    /**
+     * Handles a matched request.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Answers the request.
+         *
+         * @param request the exchange and its path parameters
+         * @throws Exception turned into a status by the router
+         */
+        void handle(Request request) throws Exception;
+    }
+
+    private record Route(String method, String template, String[] segments, Handler handler) {
+
+        /**
+         * Matches a path against the template.
+         *
+         * @return the path parameters, or {@code null} if the path differs
+         */
+        Map<String, String> match(String[] path) {
+            if (path.length != segments.length) {
+                return null;
+            }
+            Map<String, String> parameters = Map.of();
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.startsWith("{")) {
+                    if (parameters.isEmpty()) {
+                        parameters = new HashMap<>(4);
+                    }
+                    parameters.put(segment.substring(1, segment.length() - 1), path[i]);
+                } else if (!segment.equals(path[i])) {
+                    return null;
+                }
+            }
+            return parameters;
+        }
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+
+    private final MeterRegistry registry;
+
+    private final ConcurrencyLimit limit;
+
+    /**
+     * Creates an empty router.
+     *
+     * @param registry where request timings are recorded
+     * @param limit    bound on the requests handled at once, or {@code null}
+     *                 for none
+     */
+    public Router(MeterRegistry registry, ConcurrencyLimit limit) {
+        this.registry = registry;
+        this.limit = limit;
+    }
+
+    /**
+     * Registers a route.
+     *
+     * @param method   HTTP method
+     * @param template path, with {@code {name}} segments for parameters
+     * @param handler  handler of the matching requests
+     * @return this router
+     */
+    public Router route(String method, String template, Handler handler) {
+        routes.add(new Route(method, template, split(template), handler));
+        return this;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        String method = exchange.getRequestMethod();
+        String[] path = split(exchange.getRequestURI().getPath());
+
+        Route matched = null;
+        Map<String, String> parameters = null;
+        boolean pathKnown = false;
+        for (Route route : routes) {
+            Map<String, String> candidate = route.match(path);
+            if (candidate != null) {
+                pathKnown = true;
+                if (route.method.equals(method)) {
+                    matched = route;
+                    parameters = candidate;
+                    break;
+                }
+            }
+        }
+
+        Request request = new Request(exchange, parameters);
+        String exception = "none";
+        boolean limited = matched != null && limit != null && !matched.template.equals("/metrics");
+        try {
+            if (matched == null) {
+                request.sendEmpty(pathKnown ? 405 : 404);
+            } else if (limited && !limit.acquire()) {
+                limited = false;
+                request.header("Retry-After", "1");
+                request.sendEmpty(503);
+            } else {
+                try {
+                    matched.handler.handle(request);
+                } finally {
+                    if (limited) {
+                        limit.release();
+                    }
+                }
+            }
+        } catch (HttpError e) {
+            answer(exchange, request, e.getStatus(), e.getMessage());
+        } catch (SQLException e) {
+            exception = e.getClass().getSimpleName();
+            if (e.getSQLState() != null && e.getSQLState().startsWith("23")) {
+                // Integrity constraint: duplicate SKU or code, unknown category
+                answer(exchange, request, 409, "constraint violation (SQLState " + e.getSQLState() + ")");
+            } else {
+                logger.error("{} {} failed", method, exchange.getRequestURI(), e);
+                answer(exchange, request, 500, null);
+            }
+        } catch (Exception e) {
+            exception = e.getClass().getSimpleName();
+            if (!(e instanceof IOException)) {
+                logger.error("{} {} failed", method, exchange.getRequestURI(), e);
+            }
+            answer(exchange, request, 500, null);
+        } finally {
+            exchange.close();
+            int status = exchange.getResponseCode();
+            Timer.builder("http.server.requests")
+                    .tag("method", method)
+                    .tag("uri", matched != null ? matched.template : pathKnown ? "UNKNOWN" : "NOT_FOUND")
+                    .tag("status", Integer.toString(status))
+                    .tag("outcome", outcome(status))
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends an error status, unless the response has already started (a
+     * failed stream can only be cut short).
+     */
+    private static void answer(HttpExchange exchange, Request request, int status, String message)
+            throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+        if (message == null) {
+            request.sendEmpty(status);
+        } else {
+            request.sendJson(status, json -> json.beginObject().name("error").value(message).endObject());
+        }
+    }
+
+    private static String outcome(int status) {
+        if (status < 200) {
+            return "INFORMATIONAL";
+        }
+        if (status < 300) {
+            return "SUCCESS";
+        }
+        if (status < 400) {
+            return "REDIRECTION";
+        }
+        return status < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
+    private static String[] split(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.model;
+
+import com.example.http.HttpError;
+import com.example.http.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Category row of Variant F: a plain record, read from and written to JSON by
+ * hand.
+ *
+ * @param id        primary key, from {@code category_seq}
+ * @param code      unique business code (max 32 chars)
+ * @param name      display name (max 128 chars)
+ * @param updatedAt last update timestamp
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record Category(Long id, String code, String name, LocalDateTime updatedAt) {
+
+    /**
+     * Reads and validates the category sent in a request body.
+     *
+     * @param body parsed JSON object
+     * @return the category, without id nor timestamp
+     * @throws HttpError 400 with the first problem found
+     */
+    public static Category fromJson(Map<String, Object> body) {
+        String code = Json.string(body, "code");
+        if (code == null || code.isBlank() || code.length() > 32) {
+            throw HttpError.badRequest("code must be 1 to 32 characters");
+        }
+        String name = Json.string(body, "name");
+        if (name == null || name.isBlank() || name.length() > 128) {
+            throw HttpError.badRequest("name must be 1 to 128 characters");
+        }
+        return new Category(null, code, name, null);
+    }
+
+    /**
+     * Writes the category as a JSON object, without its items.
+     *
+     * @param json destination
+     * @throws IOException if the output fails
+     */
+    public void writeJson(JsonWriter json) throws IOException {
+        json.beginObject()
+                .name("id").value(id)
+                .name("code").value(code)
+                .name("name").value(name)
+                .name("updatedAt").value(updatedAt)
+                .endObject();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.model;
+
+import com.example.http.HttpError;
+import com.example.http.JsonWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Item row of Variant F: a plain record, read from and written to JSON by
+ * hand.
+ * <p>
+ * The JSON form is that of the other variants: the category is left out of
+ * responses, and requests give it as {@code "categoryId": 12},
+ * {@code "category": "/categories/12"} (the JMeter payloads written for Spring
+ * Data REST) or {@code "category": {"id": 12}}.
+ * </p>
+ *
+ * @param id          primary key, from {@code item_seq}
+ * @param sku         unique Stock Keeping Unit (max 64 chars)
+ * @param name        product name (max 128 chars)
+ * @param description free text, or {@code null}
+ * @param price       price, 0 to 99999999.99
+ * @param stock       stock level, not negative
+ * @param updatedAt   last update timestamp
+ * @param categoryId  owning category
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public record Item(Long id, String sku, String name, String description, BigDecimal price, Integer stock,
+        LocalDateTime updatedAt, Long categoryId) {
+
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    /**
+     * Reads and validates the item sent in a request body.
+     *
+     * @param body parsed JSON object
+     * @return the item, without id nor timestamp; {@code categoryId} may be
+     *         {@code null}
+     * @throws HttpError 400 with the first problem found
+     */
+    public static Item fromJson(Map<String, Object> body) {
+        String sku = Json.string(body, "sku");
+        if (sku == null || sku.isBlank() || sku.length() > 64) {
+            throw HttpError.badRequest("sku must be 1 to 64 characters");
+        }
+        String name = Json.string(body, "name");
+        if (name == null || name.isBlank() || name.length() > 128) {
+            throw HttpError.badRequest("name must be 1 to 128 characters");
+        }
+        BigDecimal price = Json.decimal(body, "price");
+        if (price == null) {
+            throw HttpError.badRequest("price is required");
+        }
+        if (price.signum() < 0 || price.compareTo(MAX_PRICE) > 0) {
+            throw HttpError.badRequest("price must be between 0 and 99999999.99");
+        }
+        Long stock = Json.integer(body, "stock");
+        if (stock == null) {
+            throw HttpError.badRequest("stock is required");
+        }
+        if (stock < 0 || stock > Integer.MAX_VALUE) {
+            throw HttpError.badRequest("stock cannot be negative");
+        }
+        return new Item(null, sku, name, Json.string(body, "description"), price, stock.intValue(), null,
+                categoryIdOf(body));
+    }
+
+    /**
+     * Writes the item as a JSON object, without its category.
+     *
+     * @param json destination
+     * @throws IOException if the output fails
+     */
+    public void writeJson(JsonWriter json) throws IOException {
+        json.beginObject()
+                .name("id").value(id)
+                .name("sku").value(sku)
+                .name("name").value(name)
+                .name("description").value(description)
+                .name("price").value(price)
+                .name("stock").value(stock)
+                .name("updatedAt").value(updatedAt)
+                .endObject();
+    }
+
+    private static Long categoryIdOf(Map<String, Object> body) {
+        Long categoryId = Json.integer(body, "categoryId");
+        if (categoryId != null) {
+            return categoryId;
+        }
+        Object category = body.get("category");
+        if (category instanceof Map<?, ?> object) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> members = (Map<String, Object>) object;
+            return Json.integer(members, "id");
+        }
+        if (category instanceof String uri) {
+            try {
+                return Long.valueOf(uri.substring(uri.lastIndexOf('/') + 1));
+            } catch (NumberFormatException e) {
+                throw HttpError.badRequest("category must be a /categories/{id} URI");
+            }
+        }
+        if (category != null) {
+            throw HttpError.badRequest("category must be a /categories/{id} URI");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.model;
+
+import com.example.http.HttpError;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Typed access to the members of a parsed JSON object, for the hand-written
+ * bindings of the model records.
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    /**
+     * @return the string member, or {@code null} if absent or null
+     * @throws HttpError 400 if the member is not a string
+     */
+    static String string(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        throw HttpError.badRequest(name + " must be a string");
+    }
+
+    /**
+     * @return the numeric member, or {@code null} if absent or null
+     * @throws HttpError 400 if the member is not a number
+     */
+    static BigDecimal decimal(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (value == null || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        throw HttpError.badRequest(name + " must be a number");
+    }
+
+    /**
+     * @return the integer member, or {@code null} if absent or null
+     * @throws HttpError 400 if the member is not an integer
+     */
+    static Long integer(Map<String, Object> body, String name) {
+        BigDecimal value = decimal(body, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            throw HttpError.badRequest(name + " must be an integer");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.resource;
+
+import com.example.dao.CategoryDAO;
+import com.example.dao.ItemDAO;
+import com.example.http.HttpError;
+import com.example.http.Request;
+import com.example.http.Router;
+import com.example.model.Category;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Category endpoints of Variant F: {@code GET /categories?page=&size=},
+ * {@code GET/PUT/DELETE /categories/{id}}, {@code POST /categories} and
+ * {@code GET /categories/{id}/items}.
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class CategoryResource {
+
+    private final CategoryDAO categoryDAO;
+
+    private final ItemDAO itemDAO;
+
+    /**
+     * Creates the resource.
+     *
+     * @param categoryDAO category data access
+     * @param itemDAO     item data access, for the items of a category
+     */
+    public CategoryResource(CategoryDAO categoryDAO, ItemDAO itemDAO) {
+        this.categoryDAO = categoryDAO;
+        this.itemDAO = itemDAO;
+    }
+
+    /**
+     * Registers the routes.
+     *
+     * @param router the router
+     */
+    public void register(Router router) {
+        router.route("GET", "/categories", this::getAllCategories)
+                .route("POST", "/categories", this::createCategory)
+                .route("GET", "/categories/{id}", this::getCategoryById)
+                .route("PUT", "/categories/{id}", this::updateCategory)
+                .route("DELETE", "/categories/{id}", this::deleteCategory)
+                .route("GET", "/categories/{id}/items", this::getItemsByCategory);
+    }
+
+    /**
+     * Page of categories: 200 OK, or 400 BAD REQUEST.
+     */
+    private void getAllCategories(Request request) throws SQLException, IOException {
+        int page = request.queryInt("page", 0, 0);
+        int size = request.queryInt("size", 10, 1);
+        List<Category> categories = categoryDAO.findPage(page, size);
+        long total = categoryDAO.count();
+        request.sendJson(200, json -> Pages.write(json, categories, Category::writeJson, total, page, size));
+    }
+
+    /**
+     * Detail view: 200 OK, or 404 NOT FOUND.
+     */
+    private void getCategoryById(Request request) throws SQLException, IOException {
+        Category category = categoryDAO.findById(request.pathLong("id")).orElseThrow(HttpError::notFound);
+        request.sendJson(200, category::writeJson);
+    }
+
+    /**
+     * Page of the items of a category: 200 OK, or 400 BAD REQUEST.
+     */
+    private void getItemsByCategory(Request request) throws SQLException, IOException {
+        long id = request.pathLong("id");
+        int page = request.queryInt("page", 0, 0);
+        int size = request.queryInt("size", 10, 1);
+        ItemResource.sendPage(request, itemDAO, id, page, size);
+    }
+
+    /**
+     * Creation: 201 CREATED, 400 BAD REQUEST, or 409 CONFLICT for a duplicate
+     * code.
+     */
+    private void createCategory(Request request) throws SQLException, IOException {
+        Category created = categoryDAO.insert(Category.fromJson(request.jsonBody()));
+        request.sendJson(201, created::writeJson);
+    }
+
+    /**
+     * Full update: 200 OK, 400 BAD REQUEST, 404 NOT FOUND or 409 CONFLICT.
+     */
+    private void updateCategory(Request request) throws SQLException, IOException {
+        long id = request.pathLong("id");
+        Category updated = categoryDAO.update(id, Category.fromJson(request.jsonBody()))
+                .orElseThrow(HttpError::notFound);
+        request.sendJson(200, updated::writeJson);
+    }
+
+    /**
+     * Removal, with the items of the category: 204 NO CONTENT, or 404 NOT
+     * FOUND.
+     */
+    private void deleteCategory(Request request) throws SQLException, IOException {
+        request.sendEmpty(categoryDAO.delete(request.pathLong("id")) ? 204 : 404);
+    }
+}
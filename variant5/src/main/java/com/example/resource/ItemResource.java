@@ -0,0 +1,158 @@
+package com.example.resource;
+
+import com.example.dao.ItemDAO;
+import com.example.http.HttpError;
+import com.example.http.JsonWriter;
+import com.example.http.Request;
+import com.example.http.Router;
+import com.example.model.Item;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Item endpoints of Variant F, on the same contract as the other variants:
+ * {@code GET /items?page=&size=&categoryId=}, {@code GET /items/export},
+ * {@code GET/PUT/DELETE /items/{id}} and {@code POST /items}.
+ * <p>
+ * Each handler is a direct call chain: parameters read from the exchange, one
+ * or two prepared statements, and the rows written token by token to the
+ * response. There is no binding, no validation framework and no proxy in
+ * between.
+ * </p>
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class ItemResource {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ItemDAO itemDAO;
+
+    /**
+     * Rows fetched per round trip by the export.
+     */
+    private final int fetchSize;
+
+    /**
+     * Creates the resource.
+     *
+     * @param itemDAO   data access
+     * @param fetchSize rows fetched per round trip by the export
+     */
+    public ItemResource(ItemDAO itemDAO, int fetchSize) {
+        this.itemDAO = itemDAO;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Registers the routes, the literal {@code /items/export} before
+     * {@code /items/{id}}.
+     *
+     * @param router the router
+     */
+    public void register(Router router) {
+        router.route("GET", "/items", this::getAllItems)
+                .route("POST", "/items", this::createItem)
+                .route("GET", "/items/export", this::exportItems)
+                .route("GET", "/items/{id}", this::getItemById)
+                .route("PUT", "/items/{id}", this::updateItem)
+                .route("DELETE", "/items/{id}", this::deleteItem);
+    }
+
+    /**
+     * Page of items, optionally of one category: 200 OK, or 400 BAD REQUEST
+     * for an invalid page, size or category.
+     */
+    private void getAllItems(Request request) throws SQLException, IOException {
+        int page = request.queryInt("page", 0, 0);
+        int size = request.queryInt("size", 10, 1);
+        Long categoryId = request.queryLong("categoryId");
+        sendPage(request, itemDAO, categoryId, page, size);
+    }
+
+    /**
+     * Whole catalog, {@code ?format=ndjson} (default, one object per line) or
+     * {@code ?format=json} (an array), written as the cursor advances.
+     */
+    private void exportItems(Request request) throws SQLException, IOException {
+        String format = request.query("format");
+        boolean ndjson = format == null || format.equals("ndjson");
+        if (!ndjson && !format.equals("json")) {
+            throw HttpError.badRequest("format must be ndjson or json");
+        }
+        JsonWriter json = request.stream(ndjson ? NDJSON : "application/json");
+        if (!ndjson) {
+            json.beginArray();
+        }
+        itemDAO.streamAll(fetchSize, item -> {
+            item.writeJson(json);
+            if (ndjson) {
+                json.newline();
+            }
+        });
+        if (!ndjson) {
+            json.endArray();
+        }
+        json.flush();
+    }
+
+    /**
+     * Detail view: 200 OK, or 404 NOT FOUND.
+     */
+    private void getItemById(Request request) throws SQLException, IOException {
+        Item item = itemDAO.findById(request.pathLong("id")).orElseThrow(HttpError::notFound);
+        request.sendJson(200, item::writeJson);
+    }
+
+    /**
+     * Creation: 201 CREATED with the stored item, 400 BAD REQUEST for invalid
+     * values, or 409 CONFLICT for a duplicate SKU or an unknown category.
+     */
+    private void createItem(Request request) throws SQLException, IOException {
+        Item item = Item.fromJson(request.jsonBody());
+        if (item.categoryId() == null) {
+            throw HttpError.badRequest("categoryId is required");
+        }
+        Item created = itemDAO.insert(item);
+        request.sendJson(201, created::writeJson);
+    }
+
+    /**
+     * Full update, the category being kept if none is given: 200 OK, 400 BAD
+     * REQUEST, 404 NOT FOUND or 409 CONFLICT.
+     */
+    private void updateItem(Request request) throws SQLException, IOException {
+        long id = request.pathLong("id");
+        Item updated = itemDAO.update(id, Item.fromJson(request.jsonBody())).orElseThrow(HttpError::notFound);
+        request.sendJson(200, updated::writeJson);
+    }
+
+    /**
+     * Removal: 204 NO CONTENT, or 404 NOT FOUND.
+     */
+    private void deleteItem(Request request) throws SQLException, IOException {
+        request.sendEmpty(itemDAO.delete(request.pathLong("id")) ? 204 : 404);
+    }
+
+    /**
+     * Sends a page of items: the rows, then the count.
+     *
+     * @param request    the exchange
+     * @param itemDAO    data access
+     * @param categoryId optional category filter
+     * @param page       page index
+     * @param size       page size
+     * @throws SQLException if a query fails
+     * @throws IOException  if the connection fails
+     */
+    static void sendPage(Request request, ItemDAO itemDAO, Long categoryId, int page, int size)
+            throws SQLException, IOException {
+        List<Item> items = itemDAO.findPage(categoryId, page, size);
+        long total = itemDAO.count(categoryId);
+        request.sendJson(200, json -> Pages.write(json, items, Item::writeJson, total, page, size));
+    }
+}
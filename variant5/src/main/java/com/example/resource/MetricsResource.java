@@ -0,0 +1,42 @@
+package com.example.resource;
+
+import com.example.http.Request;
+import com.example.http.Router;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import java.io.IOException;
+
+/**
+ * Prometheus scrape endpoint of Variant F, {@code GET /metrics}, as in
+ * Variant A. It is never subject to the concurrency limit.
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+public class MetricsResource {
+
+    private final PrometheusMeterRegistry registry;
+
+    /**
+     * Creates the resource.
+     *
+     * @param registry the registry to scrape
+     */
+    public MetricsResource(PrometheusMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Registers the route.
+     *
+     * @param router the router
+     */
+    public void register(Router router) {
+        router.route("GET", "/metrics", this::getMetrics);
+    }
+
+    private void getMetrics(Request request) throws IOException {
+        request.sendText(200, "text/plain; version=0.0.4; charset=utf-8", registry.scrape());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.resource;
+
+import com.example.http.JsonWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JSON form of an OFFSET page, identical to the one of Variant A:
+ * {@code {"content":[...],"totalElements":..,"totalPages":..,"number":..,"size":..}}.
+ *
+ * @author Halmaoui Abdellah
+ * @version 1.0
+ * @since 2025
+ */
+final class Pages {
+
+    /**
+     * Writes one element of the page.
+     *
+     * @param <T> element type
+     */
+    @FunctionalInterface
+    interface ElementWriter<T> {
+
+        /**
+         * Writes the element.
+         *
+         * @param element the element
+         * @param json    destination
+         * @throws IOException if the output fails
+         */
+        void write(T element, JsonWriter json) throws IOException;
+    }
+
+    private Pages() {
+    }
+
+    /**
+     * Writes a page.
+     *
+     * @param json    destination
+     * @param content elements of the page
+     * @param writer  writes one element
+     * @param total   number of elements over all pages
+     * @param page    page index
+     * @param size    page size
+     * @param <T>     element type
+     * @throws IOException if the output fails
+     */
+    static <T> void write(JsonWriter json, List<T> content, ElementWriter<T> writer, long total, int page,
+            int size) throws IOException {
+        json.beginObject().name("content").beginArray();
+        for (T element : content) {
+            writer.write(element, json);
+        }
+        json.endArray()
+                .name("totalElements").value(total)
+                .name("totalPages").value((total + size - 1) / size)
+                .name("number").value(page)
+                .name("size").value(size)
+                .endObject();
+    }
+}